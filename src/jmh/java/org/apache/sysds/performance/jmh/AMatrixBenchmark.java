@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Common shapes, sparsities, and degrees of parallelism of the MatrixBlock kernel benchmarks. All parameters can be
+ * overwritten on the JMH command line, e.g., <code>-p rows=10000 -p sparsity=0.01</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AMatrixBenchmark {
+
+	@Param({"1000", "10000"})
+	public int rows;
+
+	@Param({"1000"})
+	public int cols;
+
+	@Param({"1.0", "0.1", "0.001"})
+	public double sparsity;
+
+	@Param({"1", "-1"})
+	public int threads;
+
+	/**
+	 * Generate a uniformly distributed random matrix in [-1, 1] of the given shape and sparsity, where the sparse or
+	 * dense representation is selected according to the default format decision.
+	 * 
+	 * @param rows     number of rows
+	 * @param cols     number of columns
+	 * @param sparsity sparsity
+	 * @param seed     random seed
+	 * @return matrix block
+	 */
+	protected static MatrixBlock gen(int rows, int cols, double sparsity, long seed) {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "Uniform", seed);
+		mb.examSparsity();
+		return mb;
+	}
+
+	/**
+	 * Get the degree of parallelism, where -1 refers to all available cores.
+	 * 
+	 * @return degree of parallelism
+	 */
+	protected int getK() {
+		return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+	}
+}
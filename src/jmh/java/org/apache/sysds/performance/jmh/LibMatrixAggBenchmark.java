@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks of full, row, and column aggregates (e.g., sum, rowSums, colMaxs, rowIndexMax).
+ */
+public class LibMatrixAggBenchmark extends AMatrixBenchmark {
+
+	@Param({"uak+", "uark+", "uack+", "uamax", "uarmax", "uacmax", "uarimax", "uasqk+"})
+	public String opcode;
+
+	private MatrixBlock _a;
+	private AggregateUnaryOperator _op;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_a = gen(rows, cols, sparsity, 7);
+		_op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, getK());
+	}
+
+	@Benchmark
+	public MatrixBlock aggregate() {
+		return LibMatrixAgg.aggregateUnaryMatrix(_op, _a, null, Math.max(rows, cols), null, true);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks of matrix-matrix, matrix-row vector, matrix-column vector, and matrix-scalar cell-wise operations.
+ */
+public class LibMatrixBincellBenchmark extends AMatrixBenchmark {
+
+	@Param({"+", "*", "max", ">"})
+	public String opcode;
+
+	private MatrixBlock _a;
+	private MatrixBlock _b;
+	private MatrixBlock _rv;
+	private MatrixBlock _cv;
+	private BinaryOperator _op;
+	private ScalarOperator _sop;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_a = gen(rows, cols, sparsity, 7);
+		_b = gen(rows, cols, sparsity, 8);
+		_rv = gen(1, cols, 1.0, 9);
+		_cv = gen(rows, 1, 1.0, 10);
+		_op = InstructionUtils.parseBinaryOperator(opcode, getK());
+		_sop = InstructionUtils.parseScalarBinaryOperator(opcode, false, 0.5, getK());
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMatrix() {
+		return bincell(_a, _b);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixRowVector() {
+		return bincell(_a, _rv);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixColVector() {
+		return bincell(_a, _cv);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixScalar() {
+		return _a.scalarOperations(_sop, null);
+	}
+
+	private MatrixBlock bincell(MatrixBlock m1, MatrixBlock m2) {
+		// incl output format decision and allocation, dispatched to LibMatrixBincell
+		return m1.binaryOperations(_op, m2, null);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks of matrix-matrix, matrix-vector, vector-matrix and transpose-self matrix multiplications.
+ */
+public class LibMatrixMultBenchmark extends AMatrixBenchmark {
+	private MatrixBlock _a;
+	private MatrixBlock _b;
+	private MatrixBlock _v;
+	private MatrixBlock _w;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		_a = gen(rows, cols, sparsity, 7);
+		_b = gen(cols, cols, sparsity, 8);
+		_v = gen(cols, 1, 1.0, 9);
+		_w = gen(1, rows, 1.0, 10);
+	}
+
+	@Benchmark
+	public MatrixBlock mm() {
+		return LibMatrixMult.matrixMult(_a, _b, getK());
+	}
+
+	@Benchmark
+	public MatrixBlock mv() {
+		return LibMatrixMult.matrixMult(_a, _v, getK());
+	}
+
+	@Benchmark
+	public MatrixBlock vm() {
+		return LibMatrixMult.matrixMult(_w, _a, getK());
+	}
+
+	@Benchmark
+	public MatrixBlock tsmm() {
+		MatrixBlock ret = new MatrixBlock(cols, cols, false);
+		LibMatrixMult.matrixMultTransposeSelf(_a, ret, true, getK());
+		return ret;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.data.SparseBlockFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the sparse block formats for row-wise scans, random lookups, row-wise construction, and conversion
+ * from MCSR.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SparseBlockBenchmark {
+
+	@Param({"MCSR", "CSR", "COO", "DCSR"})
+	public SparseBlock.Type type;
+
+	@Param({"10000", "100000"})
+	public int rows;
+
+	@Param({"1000"})
+	public int cols;
+
+	@Param({"0.1", "0.01", "0.001"})
+	public double sparsity;
+
+	private static final int NUM_LOOKUPS = 1 << 16;
+
+	private SparseBlock _src;
+	private SparseBlock _sblock;
+	private int[] _ri;
+	private int[] _ci;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "Uniform", 7);
+		if(!mb.isInSparseFormat())
+			mb.denseToSparse(true);
+		_src = SparseBlockFactory.copySparseBlock(SparseBlock.Type.MCSR, mb.getSparseBlock(), true);
+		_sblock = SparseBlockFactory.copySparseBlock(type, _src, true);
+		Random rand = new Random(11);
+		_ri = new int[NUM_LOOKUPS];
+		_ci = new int[NUM_LOOKUPS];
+		for(int i = 0; i < NUM_LOOKUPS; i++) {
+			_ri[i] = rand.nextInt(rows);
+			_ci[i] = rand.nextInt(cols);
+		}
+	}
+
+	@Benchmark
+	public double scan() {
+		double sum = 0;
+		for(int r = 0; r < rows; r++) {
+			if(_sblock.isEmpty(r))
+				continue;
+			int apos = _sblock.pos(r);
+			int alen = _sblock.size(r);
+			double[] avals = _sblock.values(r);
+			for(int j = apos; j < apos + alen; j++)
+				sum += avals[j];
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void lookup(Blackhole bh) {
+		for(int i = 0; i < NUM_LOOKUPS; i++)
+			bh.consume(_sblock.get(_ri[i], _ci[i]));
+	}
+
+	@Benchmark
+	public SparseBlock append() {
+		SparseBlock ret = SparseBlockFactory.createSparseBlock(type, rows);
+		for(int r = 0; r < rows; r++) {
+			if(_src.isEmpty(r))
+				continue;
+			int apos = _src.pos(r);
+			int alen = _src.size(r);
+			int[] aix = _src.indexes(r);
+			double[] avals = _src.values(r);
+			for(int j = apos; j < apos + alen; j++)
+				ret.append(r, aix[j], avals[j]);
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public SparseBlock convert() {
+		return SparseBlockFactory.copySparseBlock(type, _src, true);
+	}
+}
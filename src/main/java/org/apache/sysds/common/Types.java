@@ -598,7 +598,7 @@ public class Types
 		BIASADD, BIASMULT, BATCH_NORM2D_TEST, CHANNEL_SUMS,
 		UPDATE_NESTEROV_X,
 		//fused operators
-		CONV2D_BIAS_ADD, RELU_MAX_POOL, RELU_MAX_POOL_BACKWARD, RELU_BACKWARD
+		CONV2D_BIAS_ADD, CONV2D_BIAS_ADD_RELU, RELU_MAX_POOL, RELU_MAX_POOL_BACKWARD, RELU_BACKWARD
 	}
 	
 	public enum OpOpDG {
@@ -650,6 +650,7 @@ public class Types
 		FEDERATED, // A federated matrix
 		PROTO,  // protocol buffer representation
 		HDF5,   // Hierarchical Data Format (HDF)
+		PARQUET, // columnar Apache Parquet representation
 		UNKNOWN;
 		
 		public boolean isIJV() {
@@ -657,7 +658,7 @@ public class Types
 		}
 		
 		public boolean isTextFormat() {
-			return this != BINARY && this != COMPRESSED;
+			return this != BINARY && this != COMPRESSED && this != PARQUET;
 		}
 		
 		public static boolean isTextFormat(String fmt) {
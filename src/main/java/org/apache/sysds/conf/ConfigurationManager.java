@@ -284,6 +284,14 @@ public class ConfigurationManager{
 		return getDMLConfig().getBooleanValue(DMLConfig.CP_PARALLEL_IO);
 	}
 
+	public static boolean isOutOfCoreEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.CP_OUT_OF_CORE);
+	}
+
+	public static boolean isMappedReadEnabled(){
+		return getDMLConfig().getBooleanValue(DMLConfig.CP_MMAP_READ);
+	}
+
 	public static boolean isBroadcastEnabled() {
 		return (getDMLConfig().getBooleanValue(DMLConfig.ASYNC_SPARK_BROADCAST)
 			|| OptimizerUtils.ASYNC_BROADCAST_SPARK);
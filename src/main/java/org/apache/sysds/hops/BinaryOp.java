@@ -434,6 +434,14 @@ public class BinaryOp extends MultiThreadedHop {
 				(op==OpOp2.MULT && HopRewriteUtils.isLiteralOfValue(right, 2d)) ? OpOp1.MULT2 : null;
 
 
+			//fused relu(bias_add(conv2d(X, W), b)) as conv2d_bias_add_relu
+			DnnOp biasAdd = (et == ExecType.CP && op == OpOp2.MAX) ?
+				DnnOp.getFusableConv2dBiasAdd(this) : null;
+			if( biasAdd != null ) {
+				setLops(biasAdd.constructConv2dBiasAddReLULops());
+				return;
+			}
+
 			Lop tmp = null;
 			if( ot != null ) {
 				tmp = new Unary(getInput(0).constructLops(), getInput(1).constructLops(),
@@ -253,7 +253,36 @@ public class DnnOp extends MultiThreadedHop {
 		return null;
 	}
 	
+	/**
+	 * Returns the input bias_add(conv2d(X, W), b) of relu, i.e., max(., 0) or max(0, .), if it is
+	 * eligible for the fused conv2d_bias_add_relu (CP only, no other consumers), otherwise null.
+	 * 
+	 * @param relu potential relu hop
+	 * @return bias_add hop or null
+	 */
+	public static DnnOp getFusableConv2dBiasAdd(Hop relu) {
+		Hop input = isInputReLU(relu);
+		if( !OptimizerUtils.ALLOW_OPERATOR_FUSION || !HopRewriteUtils.isDnn(input, OpOpDnn.BIASADD)
+			|| !isInputConv2d(input.getInput().get(0)) || input.getParent().size() > 1 )
+			return null;
+		return (input.optFindExecType() == ExecType.CP) ? (DnnOp) input : null;
+	}
+	
+	/**
+	 * Constructs the lop of the fused conv2d_bias_add_relu for a parent relu of this bias_add,
+	 * where the lop is not maintained as the lop of this hop.
+	 * 
+	 * @return fused conv2d_bias_add_relu lop
+	 */
+	public Lop constructConv2dBiasAddReLULops() {
+		return constructDnnLops(ExecType.CP, getInput(), true);
+	}
+	
 	public Lop constructDnnLops(ExecType et, List<Hop> inputs) {
+		return constructDnnLops(et, inputs, false);
+	}
+	
+	private Lop constructDnnLops(ExecType et, List<Hop> inputs, boolean fuseReLU) {
 		if(inputs.size() != getNumExpectedInputs()) 
 			throw new HopsException("Incorrect number of inputs for " + op.name());
 		
@@ -277,7 +306,7 @@ public class DnnOp extends MultiThreadedHop {
 			lopOp = OpOpDnn.RELU_MAX_POOL_BACKWARD;
 		}
 		else if(OptimizerUtils.ALLOW_OPERATOR_FUSION && op == OpOpDnn.BIASADD && isInputConv2d(inputs.get(0))) {
-			lopOp = OpOpDnn.CONV2D_BIAS_ADD;
+			lopOp = fuseReLU ? OpOpDnn.CONV2D_BIAS_ADD_RELU : OpOpDnn.CONV2D_BIAS_ADD;
 			
 			// the first lop is image 
 			lhsInputLop = inputs.get(0).getInput().get(0).constructLops();
@@ -125,6 +125,9 @@ public class DnnTransform extends Lop
 		case CONV2D_BIAS_ADD:
 			return "conv2d_bias_add";
 		
+		case CONV2D_BIAS_ADD_RELU:
+			return "conv2d_bias_add_relu";
+		
 		case BIASADD:
 			return "bias_add";
 		
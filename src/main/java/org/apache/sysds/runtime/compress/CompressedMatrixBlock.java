@@ -55,6 +55,7 @@ import org.apache.sysds.runtime.compress.lib.CLALibMerge;
 import org.apache.sysds.runtime.compress.lib.CLALibRexpand;
 import org.apache.sysds.runtime.compress.lib.CLALibScalar;
 import org.apache.sysds.runtime.compress.lib.CLALibSlice;
+import org.apache.sysds.runtime.compress.lib.CLALibSort;
 import org.apache.sysds.runtime.compress.lib.CLALibSquash;
 import org.apache.sysds.runtime.compress.lib.CLALibTSMM;
 import org.apache.sysds.runtime.compress.lib.CLALibTernaryOp;
@@ -65,6 +66,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyze
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseRow;
+import org.apache.sysds.runtime.functionobjects.SortIndex;
 import org.apache.sysds.runtime.functionobjects.SwapIndex;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
 import org.apache.sysds.runtime.instructions.cp.CM_COV_Object;
@@ -493,13 +495,18 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	public MatrixBlock append(MatrixBlock[] that, MatrixBlock ret, boolean cbind) {
 		if(cbind && that.length == 1)
 			return CLALibAppend.append(this, that[0], InfrastructureAnalyzer.getLocalParallelism());
-		else {
-			MatrixBlock left = getUncompressed("append list or r-bind not supported in compressed");
-			MatrixBlock[] thatUC = new MatrixBlock[that.length];
-			for(int i = 0; i < that.length; i++)
-				thatUC[i] = getUncompressed(that[i]);
-			return left.append(thatUC, ret, cbind);
+		else if(!cbind && that.length == 1 && that[0] instanceof CompressedMatrixBlock) {
+			// r-bind by combining column groups (w/ fallback to uncompressed)
+			MatrixBlock tmp = CLALibAppend.appendRows(this, (CompressedMatrixBlock) that[0]);
+			if(tmp != null)
+				return tmp;
 		}
+
+		MatrixBlock left = getUncompressed("append list or r-bind not supported in compressed");
+		MatrixBlock[] thatUC = new MatrixBlock[that.length];
+		for(int i = 0; i < that.length; i++)
+			thatUC[i] = getUncompressed(that[i]);
+		return left.append(thatUC, ret, cbind);
 	}
 
 	@Override
@@ -596,14 +603,20 @@ public class CompressedMatrixBlock extends MatrixBlock {
 			tmp.setNonZeros(nz);
 			return tmp;
 		}
-		else {
-			// Allow transpose to be compressed output. In general we need to have a transposed flag on
-			// the compressed matrix. https://issues.apache.org/jira/browse/SYSTEMDS-3025
-			String message = op.getClass().getSimpleName() + " -- " + op.fn.getClass().getSimpleName();
-			MatrixBlock tmp = getUncompressed(message, op.getNumThreads());
-			return tmp.reorgOperations(op, ret, startRow, startColumn, length);
+		else if(op.fn instanceof SortIndex) {
+			// sort in the compressed domain (w/ fallback to uncompressed sort)
+			final SortIndex ix = (SortIndex) op.fn;
+			MatrixBlock tmp = CLALibSort.sort(this, ix.getCols(), ix.getDecreasing(), ix.getIndexReturn(),
+				op.getNumThreads());
+			if(tmp != null)
+				return tmp;
 		}
 
+		// Allow transpose to be compressed output. In general we need to have a transposed flag on
+		// the compressed matrix. https://issues.apache.org/jira/browse/SYSTEMDS-3025
+		String message = op.getClass().getSimpleName() + " -- " + op.fn.getClass().getSimpleName();
+		MatrixBlock tmp = getUncompressed(message, op.getNumThreads());
+		return tmp.reorgOperations(op, ret, startRow, startColumn, length);
 	}
 
 	public boolean isOverlapping() {
@@ -19,6 +19,7 @@
 
 package org.apache.sysds.runtime.compress;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -44,12 +45,14 @@ import org.apache.sysds.runtime.compress.cost.MemoryCostEstimator;
 import org.apache.sysds.runtime.compress.estim.AComEst;
 import org.apache.sysds.runtime.compress.estim.ComEstFactory;
 import org.apache.sysds.runtime.compress.estim.CompressedSizeInfo;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoCache;
 import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoColGroup;
 import org.apache.sysds.runtime.compress.workload.WTreeRoot;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Timing;
+import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.CommonThreadPool;
@@ -85,6 +88,10 @@ public class CompressedMatrixBlockFactory {
 	private AComEst informationExtractor;
 	/** Compression information gathered through the sampling, used for the actual compression decided */
 	private CompressedSizeInfo compressionGroups;
+	/** Lineage of the input, used as key to reuse and cache the compression plan (null if not available) */
+	private LineageItem lineage;
+	/** Compression information of the individual columns, kept for caching the compression plan */
+	private List<CompressedSizeInfoColGroup> columnGroups;
 
 	private CompressedMatrixBlockFactory(MatrixBlock mb, int k, CompressionSettingsBuilder compSettings,
 		ACostEstimate costEstimator) {
@@ -136,6 +143,11 @@ public class CompressedMatrixBlockFactory {
 		return compress(mb, k, new CompressionSettingsBuilder(), root);
 	}
 
+	public static Pair<MatrixBlock, CompressionStatistics> compress(MatrixBlock mb, int k, WTreeRoot root,
+		LineageItem lineage) {
+		return compress(mb, k, new CompressionSettingsBuilder(), root, lineage);
+	}
+
 	public static Pair<MatrixBlock, CompressionStatistics> compress(MatrixBlock mb, int k, CostEstimatorBuilder csb) {
 		return compress(mb, k, new CompressionSettingsBuilder(), csb);
 	}
@@ -200,6 +212,23 @@ public class CompressedMatrixBlockFactory {
 	 */
 	public static Pair<MatrixBlock, CompressionStatistics> compress(MatrixBlock mb, int k,
 		CompressionSettingsBuilder compSettings, WTreeRoot root) {
+		return compress(mb, k, compSettings, root, null);
+	}
+
+	/**
+	 * The main method for compressing the input matrix, reusing the compression plan of previous compressions of the
+	 * same input or of an input it is sliced from.
+	 * 
+	 * @param mb           The matrix block to compress
+	 * @param k            The number of threads used to execute the compression
+	 * @param compSettings The Compression settings used
+	 * @param root         The root instruction compressed, and used for calculating the computation cost of the
+	 *                     compression
+	 * @param lineage      The lineage of the input, used as key of cached compression plans (can be null)
+	 * @return A pair of an possibly compressed matrix block and compression statistics.
+	 */
+	public static Pair<MatrixBlock, CompressionStatistics> compress(MatrixBlock mb, int k,
+		CompressionSettingsBuilder compSettings, WTreeRoot root, LineageItem lineage) {
 		CompressionSettings cs = compSettings.create();
 		ACostEstimate ice;
 		if(root == null)
@@ -209,6 +238,7 @@ public class CompressedMatrixBlockFactory {
 			ice = CostEstimatorFactory.create(cs, csb, mb.getNumRows(), mb.getNumColumns(), mb.getSparsity());
 		}
 		CompressedMatrixBlockFactory cmbf = new CompressedMatrixBlockFactory(mb, k, cs, ice);
+		cmbf.lineage = lineage;
 		return cmbf.compressMatrix();
 	}
 
@@ -299,7 +329,9 @@ public class CompressedMatrixBlockFactory {
 
 		// clear extra data from analysis
 		compressionGroups.clearMaps();
-		informationExtractor.clearNNZ();
+		if(informationExtractor != null)
+			informationExtractor.clearNNZ();
+		cachePlan();
 
 		transposePhase();
 		compressPhase();
@@ -312,8 +344,11 @@ public class CompressedMatrixBlockFactory {
 	}
 
 	private void classifyPhase() {
+		if(lineage != null && reusePlan())
+			return;
 		// Create the extractor for column statistics
-		informationExtractor = ComEstFactory.createEstimator(mb, compSettings, k);
+		if(informationExtractor == null)
+			informationExtractor = ComEstFactory.createEstimator(mb, compSettings, k);
 		// Compute the individual columns cost information
 		compressionGroups = informationExtractor.computeCompressedSizeInfos(k);
 
@@ -335,6 +370,8 @@ public class CompressedMatrixBlockFactory {
 		final double threshold = _stats.estimatedCostCols / scale;
 
 		if(threshold < _stats.originalCost) {
+			if(lineage != null)
+				columnGroups = new ArrayList<>(compressionGroups.getInfo());
 			if(nCols > 1)
 				coCodePhase();
 			else // LOG a short cocode phase (since there is one column we don't cocode)
@@ -356,6 +393,43 @@ public class CompressedMatrixBlockFactory {
 		}
 	}
 
+	/**
+	 * Reuse the cached compression plan of the same input, or of an input the current input is sliced from.
+	 * 
+	 * @return If a plan was reused
+	 */
+	private boolean reusePlan() {
+		informationExtractor = ComEstFactory.createEstimator(mb, compSettings, k);
+		compressionGroups = CompressedSizeInfoCache.get(lineage, informationExtractor, k);
+		if(compressionGroups == null) {
+			compressionGroups = CompressedSizeInfoCache.getSliced(lineage, informationExtractor, k);
+			if(compressionGroups == null)
+				return false;
+		}
+		else
+			lineage = null; // already cached
+
+		logPhase(); // classify
+		_stats.estimatedSizeCoCoded = compressionGroups.memoryEstimate();
+		_stats.estimatedCostCoCoded = costEstimator.getCost(compressionGroups);
+		logPhase(); // cocode
+		if(_stats.estimatedCostCoCoded > _stats.originalCost) {
+			LOG.info("Aborting with cached compression plan, because the compression looks bad");
+			compressionGroups = null;
+		}
+		return true;
+	}
+
+	private void cachePlan() {
+		if(lineage == null)
+			return;
+		if(columnGroups != null)
+			for(CompressedSizeInfoColGroup g : columnGroups)
+				g.clearMap();
+		CompressedSizeInfoCache.put(lineage, mb.getNumRows(), mb.getNumColumns(), columnGroups, compressionGroups);
+		columnGroups = null;
+	}
+
 	private void coCodePhase() {
 
 		compressionGroups = CoCoderFactory.findCoCodesByPartitioning(informationExtractor, compressionGroups, k,
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.compress.colgroup.scheme.CompressionScheme;
+import org.apache.sysds.runtime.compress.lib.CLALibAppend;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Incremental compression of a matrix that grows by appended row batches.
+ * 
+ * Each batch is encoded against the compression scheme of the current compressed matrix (growing the dictionaries of
+ * the scheme when new values are observed), and appended to the existing column groups. A full compression of all
+ * rows (with sampling and co-coding) is only performed if the batch cannot be appended in compressed form, or if the
+ * compression ratio degrades below a fraction of the ratio obtained by the last full compression.
+ */
+public class IncrementalCompressor {
+	private static final Log LOG = LogFactory.getLog(IncrementalCompressor.class.getName());
+
+	/** Fraction of the compression ratio of the last full compression, below which all rows are recompressed */
+	public static final double REPLAN_RATIO_THRESHOLD = 0.7;
+
+	private final int _k;
+	private MatrixBlock _mb;
+	private CompressionScheme _scheme;
+	private double _planRatio;
+	private int _planRows;
+	private int _numReplans;
+
+	/**
+	 * Create an incremental compressor, and compress the given initial rows.
+	 * 
+	 * @param mb The initial rows (compressed or uncompressed)
+	 * @param k  The parallelization degree
+	 */
+	public IncrementalCompressor(MatrixBlock mb, int k) {
+		_k = k;
+		_numReplans = -1;
+		if(mb instanceof CompressedMatrixBlock)
+			setPlan(mb);
+		else
+			replan(mb);
+	}
+
+	/**
+	 * Append a batch of rows.
+	 * 
+	 * @param batch The rows to append (with equal number of columns)
+	 * @return The current matrix containing all rows, compressed if possible
+	 */
+	public MatrixBlock append(MatrixBlock batch) {
+		if(batch.getNumColumns() != _mb.getNumColumns())
+			throw new DMLCompressionException("Invalid number of columns in appended batch: " + batch.getNumColumns()
+				+ " vs " + _mb.getNumColumns());
+		if(batch.getNumRows() == 0)
+			return _mb;
+
+		if(_scheme == null) {
+			// not compressible at last plan, retry full compression once the number of rows doubled
+			final MatrixBlock all = rbind(_mb, batch);
+			if(all.getNumRows() >= 2 * _planRows)
+				replan(all);
+			else
+				_mb = all;
+			return _mb;
+		}
+
+		MatrixBlock ret = null;
+		try {
+			final CompressedMatrixBlock enc = (batch instanceof CompressedMatrixBlock) ? //
+				(CompressedMatrixBlock) batch : _scheme.updateAndEncode(batch, _k);
+			ret = CLALibAppend.appendRows((CompressedMatrixBlock) _mb, enc);
+		}
+		catch(Exception e) {
+			LOG.debug("Failed to encode appended batch with existing compression scheme", e);
+		}
+
+		if(ret == null)
+			replan(rbind(_mb, batch));
+		else if(getRatio(ret) < _planRatio * REPLAN_RATIO_THRESHOLD) {
+			LOG.debug("Recompressing because of degraded compression ratio: " + getRatio(ret) + " vs " + _planRatio);
+			replan(ret);
+		}
+		else
+			_mb = ret;
+		return _mb;
+	}
+
+	/**
+	 * Get the current matrix containing all rows.
+	 * 
+	 * @return The current matrix, compressed if possible
+	 */
+	public MatrixBlock get() {
+		return _mb;
+	}
+
+	/**
+	 * Get the number of full compressions performed after the initial compression.
+	 * 
+	 * @return The number of full compressions
+	 */
+	public int getNumReplans() {
+		return _numReplans;
+	}
+
+	private void replan(MatrixBlock mb) {
+		final MatrixBlock uc = CompressedMatrixBlock.getUncompressed(mb, "incremental recompression", _k);
+		setPlan(CompressedMatrixBlockFactory.compress(uc, _k).getLeft());
+	}
+
+	private void setPlan(MatrixBlock mb) {
+		_mb = mb;
+		_planRows = mb.getNumRows();
+		_numReplans++;
+		_scheme = null;
+		if(mb instanceof CompressedMatrixBlock && !((CompressedMatrixBlock) mb).isOverlapping()) {
+			try {
+				_scheme = CompressionScheme.getScheme((CompressedMatrixBlock) mb);
+				_planRatio = getRatio(mb);
+			}
+			catch(Exception e) {
+				LOG.debug("Compression scheme not available for incremental compression", e);
+			}
+		}
+	}
+
+	private static double getRatio(MatrixBlock mb) {
+		final double uncompressedSize = MatrixBlock.estimateSizeInMemory(mb.getNumRows(), mb.getNumColumns(),
+			mb.getSparsity());
+		return uncompressedSize / mb.getInMemorySize();
+	}
+
+	private MatrixBlock rbind(MatrixBlock top, MatrixBlock bottom) {
+		final MatrixBlock a = CompressedMatrixBlock.getUncompressed(top, "incremental append", _k);
+		final MatrixBlock b = CompressedMatrixBlock.getUncompressed(bottom, "incremental append", _k);
+		return a.append(b, null, false);
+	}
+}
@@ -37,6 +37,9 @@ import org.apache.sysds.runtime.util.CommonThreadPool;
 
 public class CoCodeGreedy extends AColumnCoCoder {
 
+	/** Minimum number of remaining groups to evaluate the joins of a new group in parallel */
+	private static final int PARALLEL_COMBINE_THRESHOLD = 16;
+
 	private final MemorizerV2 mem;
 
 	protected CoCodeGreedy(AComEst sizeEstimator, ACostEstimate costEstimator, CompressionSettings cs) {
@@ -158,6 +161,8 @@ public class CoCodeGreedy extends AColumnCoCoder {
 
 					// ColIndexes combined = new ColIndexes(tmp.getColumns());
 					mem.put(selectedJ, tmp); // add back the new combination to memorizer
+					if(k > 1 && workSet.size() > PARALLEL_COMBINE_THRESHOLD)
+						parallelCombine(selectedJ, workSet, pool);
 					workSet.add(selectedJ);
 					if(selectedJ.contains(secondSelected1, secondSelected2)) {
 						secondTmp = null;
@@ -203,6 +208,28 @@ public class CoCodeGreedy extends AColumnCoCoder {
 		}
 	}
 
+	/**
+	 * Evaluate the joins of a newly combined group with all remaining groups in parallel, to memorize the candidates of
+	 * the next merging iteration.
+	 * 
+	 * @param c       The newly combined group
+	 * @param workSet The remaining groups
+	 * @param pool    The thread pool to use
+	 */
+	protected void parallelCombine(ColIndexes c, List<ColIndexes> workSet, ExecutorService pool) {
+		try {
+			final List<CombineTask> tasks = new ArrayList<>(workSet.size());
+			for(ColIndexes w : workSet)
+				tasks.add(new CombineTask(c, w));
+
+			for(Future<Object> t : pool.invokeAll(tasks))
+				t.get();
+		}
+		catch(Exception e) {
+			throw new DMLCompressionException("Failed parallel combine of new column group", e);
+		}
+	}
+
 	protected class CombineTask implements Callable<Object> {
 		private final ColIndexes _c1, _c2;
 
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.estim;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.lops.RightIndex;
+import org.apache.sysds.runtime.compress.DMLCompressionException;
+import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.lineage.LineageItem;
+import org.apache.sysds.runtime.lineage.LineageItem.LineageItemType;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * A bounded cache of compression plans, keyed by the lineage of the compressed input.
+ * 
+ * Each entry contains the co-coded compression information (the plan), and the information of each individual
+ * column. If the same input is compressed again, the plan is reused, skipping the co-coding. If a slice of a cached
+ * input is compressed, the column partitioning of the plan is projected onto the slice. Groups fully contained in a
+ * column slice reuse their estimates, while only the remaining groups are estimated again on the slice. Empty and
+ * constant groups are always estimated again, because their compression ignores the actual values of the input.
+ */
+public final class CompressedSizeInfoCache {
+	private static final Log LOG = LogFactory.getLog(CompressedSizeInfoCache.class.getName());
+
+	/** Maximum number of cached compression plans */
+	public static final int CACHE_SIZE = 32;
+
+	private static final Map<LineageItem, Plan> _plans = new LinkedHashMap<LineageItem, Plan>(16, 0.75f, true) {
+		private static final long serialVersionUID = -2351438715826193648L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<LineageItem, Plan> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private CompressedSizeInfoCache() {
+		// private constructor
+	}
+
+	/**
+	 * Cache the compression plan of an input.
+	 * 
+	 * @param key     The lineage of the compressed input
+	 * @param nRow    The number of rows of the input
+	 * @param nCol    The number of columns of the input
+	 * @param columns The information of each individual column in column order, or null if not available
+	 * @param coCoded The co-coded compression information
+	 */
+	public static void put(LineageItem key, int nRow, int nCol, List<CompressedSizeInfoColGroup> columns,
+		CompressedSizeInfo coCoded) {
+		if(key == null)
+			return;
+		final Plan p = new Plan(nRow, nCol, //
+			columns != null && columns.size() == nCol ? new ArrayList<>(columns) : null, //
+			new ArrayList<>(coCoded.getInfo()));
+		synchronized(_plans) {
+			_plans.put(key, p);
+		}
+	}
+
+	/**
+	 * Get the cached compression plan of an input with the same lineage.
+	 * 
+	 * @param key The lineage of the input
+	 * @param est The estimator of the input, used to estimate empty and constant groups again
+	 * @param k   The parallelization degree
+	 * @return The cached co-coded compression information, or null if not cached
+	 */
+	public static CompressedSizeInfo get(LineageItem key, AComEst est, int k) {
+		final Plan p = getPlan(key);
+		if(p == null || p.nRow != est.getNumRows() || p.nCol != est.getNumColumns())
+			return null;
+		return project(p, true, 0, p.nCol - 1, est, k);
+	}
+
+	/**
+	 * Get a compression plan for an input that is a slice (right indexing with literal bounds) of a cached input.
+	 * 
+	 * @param key The lineage of the sliced input
+	 * @param est The estimator of the sliced input, used to estimate groups cut by the slice
+	 * @param k   The parallelization degree
+	 * @return The projected compression plan, or null if the input is not a slice of a cached input
+	 */
+	public static CompressedSizeInfo getSliced(LineageItem key, AComEst est, int k) {
+		if(key == null || !RightIndex.OPCODE.equals(key.getOpcode()) || key.getInputs() == null ||
+			key.getInputs().length != 5)
+			return null;
+		final LineageItem[] in = key.getInputs();
+		final Plan p = getPlan(in[0]);
+		if(p == null)
+			return null;
+		final long[] bounds = new long[4];
+		for(int i = 0; i < 4; i++) {
+			final LineageItem b = in[i + 1];
+			if(b.getType() != LineageItemType.Literal)
+				return null;
+			try {
+				bounds[i] = (long) Double.parseDouble(new CPOperand(b.getData()).getName()) - 1;
+			}
+			catch(Exception e) {
+				return null;
+			}
+		}
+		final int rl = (int) bounds[0], ru = (int) bounds[1], cl = (int) bounds[2], cu = (int) bounds[3];
+		if(rl < 0 || ru >= p.nRow || cl < 0 || cu >= p.nCol || rl > ru || cl > cu ||
+			est.getNumRows() != ru - rl + 1 || est.getNumColumns() != cu - cl + 1)
+			return null;
+
+		LOG.debug("Reusing compression plan of sliced input");
+		return project(p, rl == 0 && ru == p.nRow - 1, cl, cu, est, k);
+	}
+
+	/**
+	 * Get the number of cached compression plans.
+	 * 
+	 * @return The number of plans
+	 */
+	public static int size() {
+		synchronized(_plans) {
+			return _plans.size();
+		}
+	}
+
+	/** Remove all cached compression plans. */
+	public static void clear() {
+		synchronized(_plans) {
+			_plans.clear();
+		}
+	}
+
+	private static Plan getPlan(LineageItem key) {
+		if(key == null)
+			return null;
+		synchronized(_plans) {
+			return _plans.get(key);
+		}
+	}
+
+	private static CompressedSizeInfo project(Plan p, boolean allRows, int cl, int cu, AComEst est, int k) {
+		final int nRow = est.getNumRows();
+		final List<CompressedSizeInfoColGroup> ret = new ArrayList<>();
+		final List<IColIndex> toEstimate = new ArrayList<>();
+		for(CompressedSizeInfoColGroup g : p.coCoded) {
+			final IColIndex cols = g.getColumns().slice(cl, cu + 1).ret;
+			if(cols == null)
+				continue; // group not in slice
+			else if(allRows && cols.size() == g.getColumns().size() && isReusable(g))
+				ret.add(g.withColumns(cols));
+			else if(allRows && cols.size() == 1 && p.columns != null && isReusable(p.columns.get(cols.get(0) + cl)))
+				ret.add(p.columns.get(cols.get(0) + cl).withColumns(cols));
+			else
+				toEstimate.add(cols);
+		}
+		ret.addAll(estimate(toEstimate, est, k));
+		return new CompressedSizeInfo(ret);
+	}
+
+	private static boolean isReusable(CompressedSizeInfoColGroup g) {
+		// empty and constant groups are compressed without looking at the values, and thus never reused
+		return !g.isEmpty() && !g.isConst();
+	}
+
+	private static List<CompressedSizeInfoColGroup> estimate(List<IColIndex> groups, AComEst est, int k) {
+		final List<CompressedSizeInfoColGroup> ret = new ArrayList<>(groups.size());
+		if(k <= 1 || groups.size() <= 1) {
+			for(IColIndex g : groups)
+				ret.add(est.getColGroupInfo(g));
+			return ret;
+		}
+		final ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			final List<Future<CompressedSizeInfoColGroup>> tasks = new ArrayList<>(groups.size());
+			for(IColIndex g : groups)
+				tasks.add(pool.submit(() -> est.getColGroupInfo(g)));
+			for(Future<CompressedSizeInfoColGroup> t : tasks)
+				ret.add(t.get());
+			return ret;
+		}
+		catch(Exception e) {
+			throw new DMLCompressionException("Failed parallel estimation of sliced compression plan", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class Plan {
+		private final int nRow;
+		private final int nCol;
+		private final List<CompressedSizeInfoColGroup> columns;
+		private final List<CompressedSizeInfoColGroup> coCoded;
+
+		private Plan(int nRow, int nCol, List<CompressedSizeInfoColGroup> columns,
+			List<CompressedSizeInfoColGroup> coCoded) {
+			this.nRow = nRow;
+			this.nCol = nCol;
+			this.columns = columns;
+			this.coCoded = coCoded;
+		}
+	}
+}
@@ -110,6 +110,15 @@ public class CompressedSizeInfoColGroup {
 		_map = map;
 	}
 
+	private CompressedSizeInfoColGroup(IColIndex columns, CompressedSizeInfoColGroup that) {
+		_cols = columns;
+		_facts = that._facts;
+		_minSize = that._minSize;
+		_bestCompressionType = that._bestCompressionType;
+		_sizes = that._sizes;
+		_map = null;
+	}
+
 	/**
 	 * Create empty or const.
 	 * 
@@ -287,6 +296,19 @@ public class CompressedSizeInfoColGroup {
 		_map = null;
 	}
 
+	/**
+	 * Get a copy of this information (without the map) for different column indexes, for instance the same columns at
+	 * a different position in a column slice of the input.
+	 * 
+	 * @param columns The new column indexes, with equal number of columns
+	 * @return A copy of the information with the given column indexes
+	 */
+	public CompressedSizeInfoColGroup withColumns(IColIndex columns) {
+		if(columns.size() != _cols.size())
+			throw new DMLCompressionException("Invalid number of columns: " + columns.size() + " vs " + _cols.size());
+		return new CompressedSizeInfoColGroup(columns, this);
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
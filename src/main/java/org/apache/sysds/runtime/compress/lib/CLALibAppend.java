@@ -20,17 +20,38 @@
 package org.apache.sysds.runtime.compress.lib;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
 import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.AOffsetsGroup;
+import org.apache.sysds.runtime.compress.colgroup.ASDC;
+import org.apache.sysds.runtime.compress.colgroup.ASDCZero;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCFOR;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.IContainADictionary;
+import org.apache.sysds.runtime.compress.colgroup.IContainDefaultTuple;
+import org.apache.sysds.runtime.compress.colgroup.IMapToDataGroup;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.IDictionary;
 import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
 import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.AIterator;
+import org.apache.sysds.runtime.compress.colgroup.offset.AOffset;
+import org.apache.sysds.runtime.compress.colgroup.offset.OffsetFactory;
+import org.apache.sysds.runtime.compress.utils.DblArray;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
 public final class CLALibAppend {
@@ -172,6 +193,197 @@ public final class CLALibAppend {
 		CLALibUtils.combineConstColumns(ret);
 	}
 
+	/**
+	 * Append the rows of the bottom compressed matrix below the rows of the top compressed matrix, by combining the
+	 * column groups with equal column indexes. Dictionaries are merged such that all existing dictionary entries keep
+	 * their codes (new tuples are appended at the end), and mappings and offsets are concatenated.
+	 * 
+	 * @param top    The top compressed matrix
+	 * @param bottom The bottom compressed matrix
+	 * @return The combined compressed matrix, or null if some column groups could not be combined
+	 */
+	public static CompressedMatrixBlock appendRows(CompressedMatrixBlock top, CompressedMatrixBlock bottom) {
+		if(top.getNumColumns() != bottom.getNumColumns() || top.isOverlapping() || bottom.isOverlapping())
+			return null;
+		final int nTop = top.getNumRows();
+		final int nBot = bottom.getNumRows();
+		final List<AColGroup> bottomGroups = bottom.getColGroups();
+		if(top.getColGroups().size() != bottomGroups.size())
+			return null;
+
+		final List<AColGroup> ret = new ArrayList<>(bottomGroups.size());
+		for(AColGroup a : top.getColGroups()) {
+			AColGroup b = null;
+			for(AColGroup g : bottomGroups)
+				if(g.getColIndices().equals(a.getColIndices()))
+					b = g;
+			final AColGroup c = (b != null) ? appendRows(a, b, nTop, nBot) : null;
+			if(c == null)
+				return null;
+			ret.add(c);
+		}
+
+		final long nnz = (top.getNonZeros() >= 0 && bottom.getNonZeros() >= 0) ? //
+			top.getNonZeros() + bottom.getNonZeros() : -1;
+		final CompressedMatrixBlock cmb = new CompressedMatrixBlock(nTop + nBot, top.getNumColumns(), nnz, false, ret);
+		if(nnz < 0)
+			cmb.recomputeNonZeros();
+		return cmb;
+	}
+
+	/**
+	 * Append the rows of column group b below the rows of column group a, where both groups cover the same columns.
+	 * 
+	 * @param a  The top column group
+	 * @param b  The bottom column group
+	 * @param nA The number of rows of a
+	 * @param nB The number of rows of b
+	 * @return The combined column group, or null if not supported
+	 */
+	public static AColGroup appendRows(AColGroup a, AColGroup b, int nA, int nB) {
+		if(isConstOrEmpty(a) && isConstOrEmpty(b) && Arrays.equals(constTuple(a), constTuple(b)))
+			return a; // independent of the number of rows
+		else if(isSDC(a) && isSDC(b) && Arrays.equals(defaultTuple(a), defaultTuple(b)))
+			return appendRowsSDC(a, b, nA, nB);
+		else if(isSDC(a) && isConstOrEmpty(b) && Arrays.equals(defaultTuple(a), constTuple(b)))
+			return appendRowsSDC(a, null, nA, nB);
+		else if(isDDCLike(a) && isDDCLike(b))
+			return appendRowsDDC(a, b, nA, nB);
+		else
+			return a.append(b);
+	}
+
+	private static AColGroup appendRowsDDC(AColGroup a, AColGroup b, int nA, int nB) {
+		final int nCol = a.getNumCols();
+		final double[][] ta = tuples(a, nCol);
+		final double[][] tb = tuples(b, nCol);
+		final int[] remap = new int[tb.length];
+		final double[][] union = unionTuples(ta, tb, remap);
+
+		final AMapToData ma = (a instanceof ColGroupDDC) ? ((ColGroupDDC) a).getMapToData() : null;
+		final AMapToData mb = (b instanceof ColGroupDDC) ? ((ColGroupDDC) b).getMapToData() : null;
+		final AMapToData map = MapToFactory.create(nA + nB, union.length);
+		for(int i = 0; i < nA; i++)
+			map.set(i, ma != null ? ma.getIndex(i) : 0);
+		for(int i = 0; i < nB; i++)
+			map.set(nA + i, remap[mb != null ? mb.getIndex(i) : 0]);
+
+		final IDictionary dict = (union == ta && a instanceof ColGroupDDC) ? //
+			((ColGroupDDC) a).getDictionary() : Dictionary.create(flatten(union, nCol));
+		return ColGroupDDC.create(a.getColIndices(), dict, map, null);
+	}
+
+	private static AColGroup appendRowsSDC(AColGroup a, AColGroup b, int nA, int nB) {
+		final int nCol = a.getNumCols();
+		final double[][] ta = tuples(a, nCol);
+		final double[][] tb = (b != null) ? tuples(b, nCol) : new double[0][];
+		final int[] remap = new int[tb.length];
+		final double[][] union = unionTuples(ta, tb, remap);
+
+		final AOffset oa = ((AOffsetsGroup) a).getOffsets();
+		final AOffset ob = (b != null) ? ((AOffsetsGroup) b).getOffsets() : null;
+		final int sa = numOffsets(a);
+		final int sb = (b != null) ? numOffsets(b) : 0;
+		final int[] offsets = new int[sa + sb];
+		final AMapToData map = MapToFactory.create(sa + sb, union.length);
+		extractOffsets(a, oa, offsets, map, 0, 0, null);
+		if(b != null)
+			extractOffsets(b, ob, offsets, map, sa, nA, remap);
+
+		final IDictionary dict = (union == ta) ? //
+			((IContainADictionary) a).getDictionary() : Dictionary.create(flatten(union, nCol));
+		return ColGroupSDC.create(a.getColIndices(), nA + nB, dict, defaultTuple(a),
+			OffsetFactory.createOffset(offsets), map, null);
+	}
+
+	private static void extractOffsets(AColGroup g, AOffset off, int[] offsets, AMapToData map, int pos, int shift,
+		int[] remap) {
+		final AMapToData data = (g instanceof IMapToDataGroup) ? ((IMapToDataGroup) g).getMapToData() : null;
+		final AIterator it = off.getIterator();
+		final int last = off.getOffsetToLast();
+		while(true) {
+			final int code = (data != null) ? data.getIndex(it.getDataIndex()) : 0;
+			offsets[pos] = it.value() + shift;
+			map.set(pos++, remap != null ? remap[code] : code);
+			if(it.value() >= last)
+				break;
+			it.next();
+		}
+	}
+
+	private static int numOffsets(AColGroup g) {
+		return (g instanceof ASDC) ? ((ASDC) g).getNumberOffsets() : ((ASDCZero) g).getNumberOffsets();
+	}
+
+	/**
+	 * Merge the tuples of b into the tuples of a, where existing tuples keep their position.
+	 * 
+	 * @param ta    The tuples of a
+	 * @param tb    The tuples of b
+	 * @param remap The positions of the tuples of b in the output
+	 * @return The merged tuples, or ta if b does not contain new tuples
+	 */
+	private static double[][] unionTuples(double[][] ta, double[][] tb, int[] remap) {
+		final Map<DblArray, Integer> ids = new HashMap<>();
+		for(int i = 0; i < ta.length; i++)
+			ids.putIfAbsent(new DblArray(ta[i]), i);
+		final List<double[]> added = new ArrayList<>();
+		for(int i = 0; i < tb.length; i++) {
+			Integer id = ids.get(new DblArray(tb[i]));
+			if(id == null) {
+				id = ta.length + added.size();
+				ids.put(new DblArray(tb[i]), id);
+				added.add(tb[i]);
+			}
+			remap[i] = id;
+		}
+		if(added.isEmpty())
+			return ta;
+		final double[][] ret = Arrays.copyOf(ta, ta.length + added.size());
+		for(int i = 0; i < added.size(); i++)
+			ret[ta.length + i] = added.get(i);
+		return ret;
+	}
+
+	private static double[][] tuples(AColGroup g, int nCol) {
+		if(isConstOrEmpty(g))
+			return new double[][] {constTuple(g)};
+		final IDictionary dict = ((IContainADictionary) g).getDictionary();
+		final int nVal = g.getNumValues();
+		final double[][] ret = new double[nVal][nCol];
+		for(int r = 0; r < nVal; r++)
+			for(int c = 0; c < nCol; c++)
+				ret[r][c] = dict.getValue(r, c, nCol);
+		return ret;
+	}
+
+	private static double[] flatten(double[][] tuples, int nCol) {
+		final double[] ret = new double[tuples.length * nCol];
+		for(int r = 0; r < tuples.length; r++)
+			System.arraycopy(tuples[r], 0, ret, r * nCol, nCol);
+		return ret;
+	}
+
+	private static boolean isConstOrEmpty(AColGroup g) {
+		return g instanceof ColGroupConst || g instanceof ColGroupEmpty;
+	}
+
+	private static boolean isDDCLike(AColGroup g) {
+		return g instanceof ColGroupDDC || isConstOrEmpty(g);
+	}
+
+	private static boolean isSDC(AColGroup g) {
+		return (g instanceof ASDC || g instanceof ASDCZero) && !(g instanceof ColGroupSDCFOR);
+	}
+
+	private static double[] constTuple(AColGroup g) {
+		return (g instanceof ColGroupConst) ? ((ColGroupConst) g).getValues() : new double[g.getNumCols()];
+	}
+
+	private static double[] defaultTuple(AColGroup g) {
+		return ((IContainDefaultTuple) g).getDefaultTuple();
+	}
+
 	private static MatrixBlock uc(MatrixBlock mb) {
 		// get uncompressed
 		return CompressedMatrixBlock.getUncompressed(mb, "append");
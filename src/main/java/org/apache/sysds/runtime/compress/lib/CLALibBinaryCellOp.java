@@ -20,7 +20,11 @@
 package org.apache.sysds.runtime.compress.lib;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -32,13 +36,32 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.DMLCompressionException;
 import org.apache.sysds.runtime.compress.colgroup.AColGroup;
 import org.apache.sysds.runtime.compress.colgroup.AColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.colgroup.AColGroupCompressed;
+import org.apache.sysds.runtime.compress.colgroup.AOffsetsGroup;
 import org.apache.sysds.runtime.compress.colgroup.ASDCZero;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCSingle;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCSingleZeros;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCZeros;
+import org.apache.sysds.runtime.compress.colgroup.IContainADictionary;
+import org.apache.sysds.runtime.compress.colgroup.IContainDefaultTuple;
+import org.apache.sysds.runtime.compress.colgroup.IMapToDataGroup;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.ADictionary;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.IDictionary;
 import org.apache.sysds.runtime.compress.colgroup.dictionary.MatrixBlockDictionary;
+import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
 import org.apache.sysds.runtime.compress.colgroup.offset.AIterator;
+import org.apache.sysds.runtime.compress.colgroup.offset.AOffset;
+import org.apache.sysds.runtime.compress.estim.encoding.SparseEncoding;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.functionobjects.Divide;
@@ -85,6 +108,11 @@ public final class CLALibBinaryCellOp {
 		LibMatrixBincell.isValidDimensionsBinaryExtended(m1, that);
 
 		BinaryAccessType atype = LibMatrixBincell.getBinaryAccessTypeExtended(m1, that);
+		if(that instanceof CompressedMatrixBlock && atype == BinaryAccessType.MATRIX_MATRIX) {
+			final MatrixBlock ret = binaryMMCompressed(op, m1, (CompressedMatrixBlock) that);
+			if(ret != null)
+				return ret;
+		}
 		if(that instanceof CompressedMatrixBlock && that.getInMemorySize() < m1.getInMemorySize()) {
 			MatrixBlock m1uc = CompressedMatrixBlock.getUncompressed(m1, "Decompressing left side in BinaryOps");
 			return selectProcessingBasedOnAccessType(op, (CompressedMatrixBlock) that, m1uc, result, atype, true);
@@ -103,6 +131,12 @@ public final class CLALibBinaryCellOp {
 		}
 		if(that.isEmpty())
 			throw new NotImplementedException("Not handling left empty yet");
+		if(that instanceof CompressedMatrixBlock && that.getNumRows() == m1.getNumRows() &&
+			that.getNumColumns() == m1.getNumColumns()) {
+			final MatrixBlock ret = binaryMMCompressed(op, (CompressedMatrixBlock) that, m1);
+			if(ret != null)
+				return ret;
+		}
 
 		that = CompressedMatrixBlock.getUncompressed(that, "Decompressing left side in BinaryOps");
 		LibMatrixBincell.isValidDimensionsBinaryExtended(that, m1);
@@ -450,6 +484,279 @@ public final class CLALibBinaryCellOp {
 		return nnz;
 	}
 
+	/**
+	 * Elementwise matrix-matrix operation between two compressed matrices, performed on the column groups.
+	 * 
+	 * The column groups of the two sides are aligned into partitions of columns covered by the same groups on both
+	 * sides. Pairs where one side is a constant row are processed as row vector operations, pairs with identical
+	 * mappings (common for X op f(X)) are processed directly on the dictionaries, while other pairs are combined with
+	 * CLALibCombineGroups, and processed on the combined dictionary of co-occurring tuples.
+	 * 
+	 * @param op The operator
+	 * @param m1 The left side
+	 * @param m2 The right side
+	 * @return The compressed result, or null if not supported for the given column groups
+	 */
+	private static MatrixBlock binaryMMCompressed(BinaryOperator op, CompressedMatrixBlock m1, CompressedMatrixBlock m2) {
+		if(m1.isOverlapping() || m2.isOverlapping() || !isSupportedMMCompressed(m1.getColGroups()) ||
+			!isSupportedMMCompressed(m2.getColGroups()))
+			return null;
+		final int nRow = m1.getNumRows();
+		final int nCol = m1.getNumColumns();
+		try {
+			final List<List<AColGroup>[]> parts = alignColGroups(m1.getColGroups(), m2.getColGroups(), nCol);
+			if(parts == null)
+				return null;
+			final int k = op.getNumThreads();
+			final List<AColGroup> groups = new ArrayList<>(parts.size());
+			if(k <= 1 || parts.size() <= 1)
+				for(List<AColGroup>[] p : parts)
+					groups.add(binaryAligned(op, p[0], p[1], nRow, nCol));
+			else {
+				final ExecutorService pool = CommonThreadPool.get(k);
+				try {
+					final List<Future<AColGroup>> tasks = new ArrayList<>(parts.size());
+					for(List<AColGroup>[] p : parts)
+						tasks.add(pool.submit(() -> binaryAligned(op, p[0], p[1], nRow, nCol)));
+					for(Future<AColGroup> f : tasks)
+						groups.add(f.get());
+				}
+				finally {
+					pool.shutdown();
+				}
+			}
+
+			final CompressedMatrixBlock ret = new CompressedMatrixBlock(nRow, nCol, -1, false, groups);
+			ret.recomputeNonZeros();
+			return ret;
+		}
+		catch(Exception e) {
+			LOG.debug("Falling back to decompression in compressed matrix-matrix binary operation", e);
+			return null;
+		}
+	}
+
+	private static boolean isSupportedMMCompressed(List<AColGroup> groups) {
+		for(AColGroup g : groups)
+			if(!(g instanceof ColGroupDDC || isSDC(g) || isConstOrEmpty(g)))
+				return false;
+		return true;
+	}
+
+	private static boolean isSDC(AColGroup g) {
+		return g instanceof ColGroupSDC || g instanceof ColGroupSDCZeros || g instanceof ColGroupSDCSingle ||
+			g instanceof ColGroupSDCSingleZeros;
+	}
+
+	private static boolean isConstOrEmpty(AColGroup g) {
+		return g instanceof ColGroupConst || g instanceof ColGroupEmpty;
+	}
+
+	/**
+	 * Partition the column groups of both sides into the smallest sets of groups covering the same columns.
+	 * 
+	 * @param g1   The left column groups
+	 * @param g2   The right column groups
+	 * @param nCol The number of columns
+	 * @return The left and right groups of each partition, or null if not all columns are covered by both sides
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<List<AColGroup>[]> alignColGroups(List<AColGroup> g1, List<AColGroup> g2, int nCol) {
+		final int n1 = g1.size();
+		final int[] owner = new int[nCol];
+		Arrays.fill(owner, -1);
+		for(int i = 0; i < n1; i++) {
+			final IColIndex cols = g1.get(i).getColIndices();
+			for(int j = 0; j < cols.size(); j++)
+				owner[cols.get(j)] = i;
+		}
+
+		// union find over the groups of both sides connected by shared columns
+		final int[] parent = new int[n1 + g2.size()];
+		for(int i = 0; i < parent.length; i++)
+			parent[i] = i;
+		int covered = 0;
+		for(int i = 0; i < g2.size(); i++) {
+			final IColIndex cols = g2.get(i).getColIndices();
+			for(int j = 0; j < cols.size(); j++) {
+				final int o = owner[cols.get(j)];
+				if(o < 0)
+					return null;
+				parent[find(parent, o)] = find(parent, n1 + i);
+				covered++;
+			}
+		}
+		if(covered != nCol)
+			return null;
+
+		final Map<Integer, List<AColGroup>[]> parts = new LinkedHashMap<>();
+		for(int i = 0; i < parent.length; i++) {
+			final List<AColGroup>[] p = parts.computeIfAbsent(find(parent, i),
+				x -> new List[] {new ArrayList<>(), new ArrayList<>()});
+			if(i < n1)
+				p[0].add(g1.get(i));
+			else
+				p[1].add(g2.get(i - n1));
+		}
+		return new ArrayList<>(parts.values());
+	}
+
+	private static int find(int[] parent, int i) {
+		while(parent[i] != i)
+			i = parent[i] = parent[parent[i]];
+		return i;
+	}
+
+	private static AColGroup binaryAligned(BinaryOperator op, List<AColGroup> left, List<AColGroup> right, int nRow,
+		int nCol) {
+		final AColGroup a = combineAligned(left);
+		final AColGroup b = combineAligned(right);
+		final IColIndex cols = a.getColIndices();
+		if(!cols.equals(b.getColIndices()))
+			throw new DMLCompressionException("Invalid unaligned column groups");
+		final int n = cols.size();
+
+		if(isConstOrEmpty(b)) {
+			final double[] v = expandTuple(cols, defaultTuple(b, n), nCol);
+			return a.binaryRowOpRight(op, v, op.isRowSafeRight(v));
+		}
+		else if(isConstOrEmpty(a)) {
+			final double[] v = expandTuple(cols, defaultTuple(a, n), nCol);
+			return b.binaryRowOpLeft(op, v, op.isRowSafeLeft(v));
+		}
+		else if(sameIndexStructure(a, b))
+			return binaryTuples(op.fn, a, cols, tuples(a, n), n, 0, tuples(b, n), n, 0, defaultTuple(a, n),
+				defaultTuple(b, n), nRow);
+
+		// combine with the right side shifted behind all columns, to get all co-occurring tuples of both sides.
+		// sparse encodings are combined as the second group to keep the order of columns in the combined dictionary.
+		final boolean swap = isSparseEncoded(a) && !isSparseEncoded(b);
+		final AColGroup first = swap ? b : a;
+		final AColGroup second = (swap ? a : b).copyAndSet(cols.shift(nCol));
+		final AColGroup c = CLALibCombineGroups.combine(first, second);
+		if(c.getNumCols() != 2 * n)
+			throw new DMLCompressionException("Invalid combined column group");
+		final double[] t = isConstOrEmpty(c) ? null : tuples(c, 2 * n);
+		final double[] d = defaultTuple(c, 2 * n);
+		return binaryTuples(op.fn, c, cols, t, 2 * n, swap ? n : 0, t, 2 * n, swap ? 0 : n, d, d, nRow);
+	}
+
+	/**
+	 * Combine the column groups of one side of a partition into one group.
+	 * 
+	 * @param groups The column groups
+	 * @return The combined group
+	 */
+	private static AColGroup combineAligned(List<AColGroup> groups) {
+		if(groups.size() == 1)
+			return groups.get(0);
+		final List<AColGroup> sorted = new ArrayList<>(groups);
+		sorted.sort(Comparator.comparingInt(g -> g.getColIndices().get(0)));
+		AColGroup ret = sorted.get(0);
+		for(int i = 1; i < sorted.size(); i++) {
+			final AColGroup g = sorted.get(i);
+			// the combined dictionary contains the columns of the first group followed by the second group
+			if(ret.getColIndices().get(ret.getNumCols() - 1) > g.getColIndices().get(0) ||
+				(isSparseEncoded(ret) && !isSparseEncoded(g)))
+				throw new DMLCompressionException("Unsupported combine of interleaved or sparse column groups");
+			ret = CLALibCombineGroups.combine(ret, g);
+		}
+		return ret;
+	}
+
+	private static boolean isSparseEncoded(AColGroup g) {
+		return g instanceof AColGroupCompressed && ((AColGroupCompressed) g).getEncoding() instanceof SparseEncoding;
+	}
+
+	private static boolean sameIndexStructure(AColGroup a, AColGroup b) {
+		if(a.getNumValues() != b.getNumValues())
+			return false;
+		else if(a instanceof ColGroupDDC && b instanceof ColGroupDDC)
+			return sameMap(((ColGroupDDC) a).getMapToData(), ((ColGroupDDC) b).getMapToData());
+		else if(isSDC(a) && isSDC(b)) {
+			final AOffset oa = ((AOffsetsGroup) a).getOffsets();
+			final AOffset ob = ((AOffsetsGroup) b).getOffsets();
+			if(oa != ob && !oa.equals(ob))
+				return false;
+			else if(a instanceof IMapToDataGroup && b instanceof IMapToDataGroup)
+				return sameMap(((IMapToDataGroup) a).getMapToData(), ((IMapToDataGroup) b).getMapToData());
+			else
+				return !(a instanceof IMapToDataGroup || b instanceof IMapToDataGroup);
+		}
+		return false;
+	}
+
+	private static boolean sameMap(AMapToData a, AMapToData b) {
+		return a == b || a.equals(b);
+	}
+
+	/**
+	 * Create the result column group with the index structure of the given group, and a dictionary containing the
+	 * operation applied to pairs of tuple values.
+	 * 
+	 * @param fn   The value function
+	 * @param s    The group with the index structure of the result
+	 * @param cols The column indexes of the result
+	 * @param ta   The left tuples
+	 * @param wa   The width of the left tuples
+	 * @param oa   The offset of the left values in the left tuples
+	 * @param tb   The right tuples
+	 * @param wb   The width of the right tuples
+	 * @param ob   The offset of the right values in the right tuples
+	 * @param da   The left default tuple
+	 * @param db   The right default tuple
+	 * @param nRow The number of rows
+	 * @return The result column group
+	 */
+	private static AColGroup binaryTuples(ValueFunction fn, AColGroup s, IColIndex cols, double[] ta, int wa, int oa,
+		double[] tb, int wb, int ob, double[] da, double[] db, int nRow) {
+		final int n = cols.size();
+		final double[] def = new double[n];
+		for(int j = 0; j < n; j++)
+			def[j] = fn.execute(da[oa + j], db[ob + j]);
+		if(isConstOrEmpty(s))
+			return ColGroupConst.create(cols, def);
+
+		final int nVal = s.getNumValues();
+		final double[] values = new double[nVal * n];
+		for(int r = 0; r < nVal; r++)
+			for(int j = 0; j < n; j++)
+				values[r * n + j] = fn.execute(ta[r * wa + oa + j], tb[r * wb + ob + j]);
+		final IDictionary dict = Dictionary.create(values);
+
+		if(s instanceof ColGroupDDC)
+			return ColGroupDDC.create(cols, dict, ((ColGroupDDC) s).getMapToData(), null);
+		else if(isSDC(s)) {
+			final AOffset off = ((AOffsetsGroup) s).getOffsets();
+			final AMapToData map = (s instanceof IMapToDataGroup) ? ((IMapToDataGroup) s).getMapToData() : //
+				MapToFactory.create(off.getSize(), 1);
+			return ColGroupSDC.create(cols, nRow, dict, def, off, map, null);
+		}
+		throw new NotImplementedException("Unsupported binary operation on tuples of " + s.getClass().getSimpleName());
+	}
+
+	private static double[] tuples(AColGroup g, int w) {
+		final IDictionary dict = ((IContainADictionary) g).getDictionary();
+		final int nVal = g.getNumValues();
+		final double[] ret = new double[nVal * w];
+		if(dict != null)
+			for(int r = 0; r < nVal; r++)
+				for(int c = 0; c < w; c++)
+					ret[r * w + c] = dict.getValue(r, c, w);
+		return ret;
+	}
+
+	private static double[] defaultTuple(AColGroup g, int w) {
+		return (g instanceof IContainDefaultTuple) ? ((IContainDefaultTuple) g).getDefaultTuple() : new double[w];
+	}
+
+	private static double[] expandTuple(IColIndex cols, double[] tuple, int nCol) {
+		final double[] ret = new double[nCol];
+		for(int j = 0; j < cols.size(); j++)
+			ret[cols.get(j)] = tuple[j];
+		return ret;
+	}
+
 	private static CompressedMatrixBlock morph(CompressedMatrixBlock m) {
 		final List<AColGroup> groups = m.getColGroups();
 		final boolean shouldFilter = CLALibUtils.shouldPreFilter(groups);
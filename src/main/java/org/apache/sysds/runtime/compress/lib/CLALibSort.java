@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.AOffsetsGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCSingle;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCSingleZeros;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCZeros;
+import org.apache.sysds.runtime.compress.colgroup.IContainADictionary;
+import org.apache.sysds.runtime.compress.colgroup.IContainDefaultTuple;
+import org.apache.sysds.runtime.compress.colgroup.IMapToDataGroup;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.IDictionary;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.AIterator;
+import org.apache.sysds.runtime.compress.colgroup.offset.AOffset;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Sorting (order) of compressed matrices in the compressed domain. Instead of decompressing, the distinct values of
+ * each sort column are ranked once over the dictionary of its column group, and the rows are ordered by stable
+ * counting sorts over the mapping of the column group (from the least to the most significant sort column). The
+ * result is either the sorted index vector, or a compressed matrix where all column groups are re-encoded as DDC
+ * groups over the permuted mappings with unchanged dictionaries.
+ */
+public final class CLALibSort {
+	protected static final Log LOG = LogFactory.getLog(CLALibSort.class.getName());
+
+	private CLALibSort() {
+		// private constructor
+	}
+
+	/**
+	 * Sort the rows of the compressed matrix by the given columns, where ties are kept in the original row order
+	 * (consistent with LibMatrixReorg.sort).
+	 * 
+	 * @param cmb   The compressed input matrix
+	 * @param by    The sort columns (1-based)
+	 * @param desc  If the order should be descending
+	 * @param ixret If the sorted index vector should be returned instead of the sorted matrix
+	 * @param k     The parallelization degree
+	 * @return The sorted index vector or sorted compressed matrix, or null if the column groups are not supported
+	 */
+	public static MatrixBlock sort(CompressedMatrixBlock cmb, int[] by, boolean desc, boolean ixret, int k) {
+		final int nRow = cmb.getNumRows();
+		final List<AColGroup> groups = cmb.getColGroups();
+		if(cmb.isOverlapping() || by == null || by.length == 0 || nRow <= 1)
+			return null;
+		for(int c : by)
+			if(c < 1 || c > cmb.getNumColumns())
+				return null; // error handling in the uncompressed sort
+		if(!ixret)
+			for(AColGroup g : groups)
+				if(!isSupported(g))
+					return null;
+
+		// extract dictionaries and mappings of the sort columns' groups
+		final Map<AColGroup, DictMap> maps = new IdentityHashMap<>();
+		for(int c : by) {
+			final AColGroup g = findGroup(groups, c - 1);
+			if(g == null || g instanceof ColGroupConst || g instanceof ColGroupEmpty)
+				continue;
+			else if(!isSupported(g))
+				return null;
+			else if(!maps.containsKey(g))
+				maps.put(g, extractDictMap(g, nRow));
+		}
+
+		// stable counting sorts from the least to the most significant sort column
+		int[] vix = new int[nRow];
+		int[] tix = new int[nRow];
+		for(int i = 0; i < nRow; i++)
+			vix[i] = i;
+		for(int c = by.length - 1; c >= 0; c--) {
+			final AColGroup g = findGroup(groups, by[c] - 1);
+			final DictMap dm = (g != null) ? maps.get(g) : null;
+			if(dm == null)
+				continue; // constant column, all ties
+			final int[] ranks = rankValues(dm, g.getColIndices().findIndex(by[c] - 1), g.getNumCols(), desc);
+			countingSort(vix, tix, dm.map, ranks);
+			int[] tmp = vix;
+			vix = tix;
+			tix = tmp;
+		}
+
+		if(ixret) {
+			MatrixBlock ret = new MatrixBlock(nRow, 1, false);
+			ret.allocateDenseBlock();
+			double[] c = ret.getDenseBlockValues();
+			for(int i = 0; i < nRow; i++)
+				c[i] = vix[i] + 1;
+			ret.setNonZeros(nRow);
+			return ret;
+		}
+		else
+			return new CompressedMatrixBlock(nRow, cmb.getNumColumns(), cmb.getNonZeros(), false,
+				permuteGroups(groups, maps, vix, nRow, k));
+	}
+
+	private static boolean isSupported(AColGroup g) {
+		return g instanceof ColGroupDDC || g instanceof ColGroupSDC || g instanceof ColGroupSDCSingle //
+			|| g instanceof ColGroupSDCZeros || g instanceof ColGroupSDCSingleZeros //
+			|| g instanceof ColGroupConst || g instanceof ColGroupEmpty;
+	}
+
+	private static AColGroup findGroup(List<AColGroup> groups, int col) {
+		for(AColGroup g : groups)
+			if(g.getColIndices().contains(col))
+				return g;
+		return null;
+	}
+
+	/**
+	 * Extract the dictionary and mapping of a DDC or SDC group, where for SDC groups the default tuple is appended to
+	 * the dictionary and all rows not contained in the offsets are mapped to it.
+	 * 
+	 * @param g    The column group
+	 * @param nRow The number of rows
+	 * @return The dictionary and mapping
+	 */
+	private static DictMap extractDictMap(AColGroup g, int nRow) {
+		if(g instanceof ColGroupDDC) {
+			final ColGroupDDC ddc = (ColGroupDDC) g;
+			return new DictMap(ddc.getDictionary(), ddc.getMapToData(), ddc.getNumValues());
+		}
+
+		final int nCol = g.getNumCols();
+		final int nVal = g.getNumValues();
+		final IDictionary dict = ((IContainADictionary) g).getDictionary();
+		final double[] def = ((IContainDefaultTuple) g).getDefaultTuple();
+
+		// dictionary with appended default tuple
+		final double[] values = new double[(nVal + 1) * nCol];
+		for(int r = 0; r < nVal; r++)
+			for(int c = 0; c < nCol; c++)
+				values[r * nCol + c] = dict.getValue(r, c, nCol);
+		System.arraycopy(def, 0, values, nVal * nCol, nCol);
+
+		// mapping with default code for all rows not in offsets
+		final AMapToData map = MapToFactory.create(nRow, nVal + 1);
+		map.fill(nVal);
+		final AMapToData data = (g instanceof IMapToDataGroup) ? ((IMapToDataGroup) g).getMapToData() : null;
+		final AOffset off = ((AOffsetsGroup) g).getOffsets();
+		final AIterator it = off.getIterator();
+		final int last = off.getOffsetToLast();
+		while(true) {
+			map.set(it.value(), data != null ? data.getIndex(it.getDataIndex()) : 0);
+			if(it.value() >= last)
+				break;
+			it.next();
+		}
+		return new DictMap(Dictionary.create(values), map, nVal + 1);
+	}
+
+	/**
+	 * Rank the distinct values of a column in sort order, where equal values get equal ranks and NaNs are placed
+	 * last (first if descending).
+	 * 
+	 * @param dm   The dictionary and mapping
+	 * @param cix  The column position in the group
+	 * @param nCol The number of columns in the group
+	 * @param desc If the order is descending
+	 * @return The rank for each dictionary entry
+	 */
+	private static int[] rankValues(DictMap dm, int cix, int nCol, boolean desc) {
+		final int nVal = dm.nVal;
+		final long[] keys = new long[nVal];
+		final Integer[] order = new Integer[nVal];
+		for(int r = 0; r < nVal; r++) {
+			final double v = (dm.dict != null) ? dm.dict.getValue(r, cix, nCol) : 0;
+			// flip the sign bit to get a signed order equal to the unsigned order of the sort keys
+			keys[r] = LibMatrixReorg.toSortKey(v, desc) ^ Long.MIN_VALUE;
+			order[r] = r;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+		final int[] ranks = new int[nVal];
+		for(int i = 1, rank = 0; i < nVal; i++) {
+			if(keys[order[i]] != keys[order[i - 1]])
+				rank++;
+			ranks[order[i]] = rank;
+		}
+		return ranks;
+	}
+
+	private static void countingSort(int[] vix, int[] tix, AMapToData map, int[] ranks) {
+		final int n = vix.length;
+		final int[] pos = new int[ranks.length + 1];
+		for(int i = 0; i < n; i++)
+			pos[ranks[map.getIndex(vix[i])] + 1]++;
+		for(int r = 1; r < pos.length; r++)
+			pos[r] += pos[r - 1];
+		for(int i = 0; i < n; i++)
+			tix[pos[ranks[map.getIndex(vix[i])]]++] = vix[i];
+	}
+
+	private static List<AColGroup> permuteGroups(List<AColGroup> groups, Map<AColGroup, DictMap> maps, int[] vix,
+		int nRow, int k) {
+		final List<AColGroup> ret = new ArrayList<>(groups.size());
+		if(k <= 1 || groups.size() <= 1) {
+			for(AColGroup g : groups)
+				ret.add(permuteGroup(g, maps.get(g), vix, nRow));
+			return ret;
+		}
+		final ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			final List<Future<AColGroup>> tasks = new ArrayList<>(groups.size());
+			for(AColGroup g : groups)
+				tasks.add(pool.submit(() -> permuteGroup(g, maps.get(g), vix, nRow)));
+			for(Future<AColGroup> f : tasks)
+				ret.add(f.get());
+			return ret;
+		}
+		catch(Exception e) {
+			throw new DMLRuntimeException("Failed parallel compressed sort", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static AColGroup permuteGroup(AColGroup g, DictMap dm, int[] vix, int nRow) {
+		if(g instanceof ColGroupConst || g instanceof ColGroupEmpty)
+			return g;
+		if(dm == null)
+			dm = extractDictMap(g, nRow);
+		final AMapToData ret = MapToFactory.create(nRow, dm.nVal);
+		for(int i = 0; i < nRow; i++)
+			ret.set(i, dm.map.getIndex(vix[i]));
+		return ColGroupDDC.create(g.getColIndices(), dm.dict, ret, null);
+	}
+
+	private static class DictMap {
+		private final IDictionary dict;
+		private final AMapToData map;
+		private final int nVal;
+
+		private DictMap(IDictionary dict, AMapToData map, int nVal) {
+			this.dict = dict;
+			this.map = map;
+			this.nVal = nVal;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.apache.sysds.parser.ForStatementBlock;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.Instruction;
@@ -139,6 +140,8 @@ public class ForProgramBlock extends ProgramBlock
 					ec.getLineage().createDedupPatch(this, ec);
 				
 				//execute all child blocks
+				if (CachePrefetcher.isEnabled())
+					CachePrefetcher.prefetchBlocks(_childBlocks, ec);
 				for (int i = 0; i < _childBlocks.size(); i++)
 					_childBlocks.get(i).execute(ec);
 				
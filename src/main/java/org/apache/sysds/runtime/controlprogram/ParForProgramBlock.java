@@ -63,6 +63,8 @@ import org.apache.sysds.runtime.controlprogram.parfor.DataPartitionerLocal;
 import org.apache.sysds.runtime.controlprogram.parfor.DataPartitionerRemoteSpark;
 import org.apache.sysds.runtime.controlprogram.parfor.LocalParWorker;
 import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueLockFree;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueStealing;
 import org.apache.sysds.runtime.controlprogram.parfor.ParForBody;
 import org.apache.sysds.runtime.controlprogram.parfor.RemoteDPParForSpark;
 import org.apache.sysds.runtime.controlprogram.parfor.RemoteParForJobReturn;
@@ -81,6 +83,7 @@ import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerFactoringCm
 import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerFixedsize;
 import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerNaive;
 import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerStatic;
+import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerStealing;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptTreeConverter;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptimizationWrapper;
 import org.apache.sysds.runtime.controlprogram.parfor.opt.OptimizerRuleBased;
@@ -140,6 +143,7 @@ public class ParForProgramBlock extends ForProgramBlock {
 		FACTORING,      //factoring task partitioner  
 		FACTORING_CMIN, //constrained factoring task partitioner, uses tasksize as min constraint
 		FACTORING_CMAX, //constrained factoring task partitioner, uses tasksize as max constraint
+		STEALING,       //work-stealing of iteration ranges with adaptive chunk sizes (local only)
 		UNSPECIFIED
 	}
 	
@@ -294,6 +298,7 @@ public class ParForProgramBlock extends ForProgramBlock {
 	public static final boolean USE_PB_CACHE                = false; // reuse copied program blocks whenever possible, not there can be issues related to recompile
 	public static final boolean USE_RANGE_TASKS_IF_USEFUL   = true; // use range tasks whenever size>3, false, otherwise wrong split order in remote 
 	public static final boolean USE_STREAMING_TASK_CREATION = true; // start working while still creating tasks, prevents blocking due to too small task queue
+	public static final boolean USE_LOCKFREE_TASK_QUEUE     = true; // use lock-free instead of synchronized task queue for local parfor (scalability with many workers)
 	public static final boolean ALLOW_NESTED_PARALLELISM    = true; // if not, transparently change parfor to for on program conversions (local,remote)
 	public static final boolean CONVERT_NESTED_REMOTE_PARFOR = true; //convert parfor to for in remote parfor
 	public static final boolean USE_PARALLEL_RESULT_MERGE   = false; // if result merge is run in parallel or serial 
@@ -756,7 +761,9 @@ public class ParForProgramBlock extends ForProgramBlock {
 		//restrict recompilation to thread local memory
 		setMemoryBudget();
 		
-		final LocalTaskQueue<Task> queue = new LocalTaskQueue<>();
+		final LocalTaskQueue<Task> queue = (_taskPartitioner == PTaskPartitioner.STEALING) ?
+			new LocalTaskQueueStealing(_numThreads) : USE_LOCKFREE_TASK_QUEUE ?
+			new LocalTaskQueueLockFree<>() : new LocalTaskQueue<>();
 		final Thread[] threads         = new Thread[_numThreads];
 		final LocalParWorker[] workers = new LocalParWorker[_numThreads];
 		try
@@ -809,6 +816,10 @@ public class ParForProgramBlock extends ForProgramBlock {
 			for( Thread thread : threads )
 				thread.join();
 			
+			//obtain number of on-demand created tasks of work-stealing
+			if( queue instanceof LocalTaskQueueStealing )
+				numCreatedTasks = ((LocalTaskQueueStealing)queue).getNumCreatedTasks();
+			
 			if( _monitor ) 
 				StatisticMonitor.putPFStat(_ID, Stat.PARFOR_WAIT_EXEC_T, time.stop());
 			
@@ -1311,6 +1322,10 @@ public class ParForProgramBlock extends ForProgramBlock {
 				tp = new TaskPartitionerFactoringCmax(_taskSize,_numThreads, 
 					_taskSize, _iterPredVar, from, to, incr);
 				break;	
+			case STEALING:
+				tp = new TaskPartitionerStealing(
+					_taskSize, _numThreads, _iterPredVar, from, to, incr);
+				break;
 			default:
 				throw new DMLRuntimeException("Undefined task partitioner: '"+_taskPartitioner+"'.");
 		}
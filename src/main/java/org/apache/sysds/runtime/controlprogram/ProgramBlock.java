@@ -36,6 +36,7 @@ import org.apache.sysds.parser.StatementBlock;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
@@ -196,9 +197,13 @@ public abstract class ProgramBlock implements ParseInfo {
 	}
 
 	protected void executeInstructions(ArrayList<Instruction> inst, ExecutionContext ec) {
+		boolean prefetch = CachePrefetcher.isEnabled();
 		for(int i = 0; i < inst.size(); i++) {
 			// indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
+			// async restore of evicted inputs of upcoming instructions
+			if(prefetch)
+				CachePrefetcher.prefetchInputs(inst, i, ec);
 			// execute instruction
 			executeSingleInstruction(currInst, ec);
 		}
@@ -27,6 +27,7 @@ import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.Instruction;
@@ -113,6 +114,8 @@ public class WhileProgramBlock extends ProgramBlock
 					ec.getLineage().createDedupPatch(this, ec);
 				
 				//execute all child blocks
+				if (CachePrefetcher.isEnabled())
+					CachePrefetcher.prefetchBlocks(_childBlocks, ec);
 				for (int i=0 ; i < _childBlocks.size() ; i++) {
 					_childBlocks.get(i).execute(ec);
 				}
@@ -28,22 +28,30 @@ import java.io.IOException;
 import org.apache.sysds.runtime.data.DenseBlockLDRB;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufferDataInput;
+import org.apache.sysds.runtime.util.ByteBufferDataOutput;
 import org.apache.sysds.runtime.util.LocalFileUtils;
 
 /**
  * Wrapper for WriteBuffer byte array per matrix/frame in order to
  * support matrix/frame serialization outside global lock.
  * 
+ * With off-heap caching (sysds.caching.offheap), all blocks are serialized
+ * into direct memory (dense matrix blocks in raw format via a single bulk copy),
+ * which removes the buffer pool from the heap, and is written to local files
+ * as is (without intermediate heap copies).
  */
 public class ByteBuffer
 {
 	private volatile boolean _serialized;
 	private volatile boolean _shallow;
 	private volatile boolean _matrix;
+	private volatile boolean _offHeap;
 	private final long _size;
 	
 	protected byte[]     _bdata = null; //sparse matrix
 	protected CacheBlock<?> _cdata = null; //dense matrix/frame
+	protected java.nio.ByteBuffer _odata = null; //off-heap matrix/frame
 	
 	public ByteBuffer( long size ) {
 		_size = size;
@@ -53,12 +61,22 @@ public class ByteBuffer
 	public void serializeBlock( CacheBlock<?> cb ) 
 		throws IOException
 	{	
-		_shallow = cb.isShallowSerialize(true);
+		_offHeap = CacheableData.CACHING_BUFFER_OFFHEAP;
+		_shallow = !_offHeap && cb.isShallowSerialize(true);
 		_matrix = (cb instanceof MatrixBlock);
 		
 		try
 		{
-			if( !_shallow ) //SPARSE/DENSE -> SPARSE
+			if( _offHeap ) //* -> OFF-HEAP
+			{
+				_odata = java.nio.ByteBuffer.allocateDirect((int)_size);
+				if( LocalFileUtils.isMappedFormat(cb) )
+					LocalFileUtils.writeMatrixBlockToBuffer(_odata, (MatrixBlock)cb);
+				else
+					cb.write(new ByteBufferDataOutput(_odata));
+				_odata.flip();
+			}
+			else if( !_shallow ) //SPARSE/DENSE -> SPARSE
 			{
 				//deep serialize (for compression)
 				if( CacheableData.CACHING_BUFFER_PAGECACHE )
@@ -90,7 +108,21 @@ public class ByteBuffer
 	{
 		CacheBlock<?> ret = null;
 		
-		if( !_shallow ) { //sparse matrix / string frame
+		if( _offHeap ) { //off-heap matrix/frame
+			//synchronized with freeMemory, which releases the direct memory
+			synchronized( this ) {
+				if( _odata == null )
+					throw new IOException("Off-heap buffer already released.");
+				java.nio.ByteBuffer buff = _odata.duplicate();
+				if( _matrix && LocalFileUtils.isMappedFormat(buff) )
+					ret = LocalFileUtils.readMatrixBlockFromBuffer(buff);
+				else {
+					ret = _matrix ? new MatrixBlock() : new FrameBlock();
+					ret.readFields(new ByteBufferDataInput(buff));
+				}
+			}
+		}
+		else if( !_shallow ) { //sparse matrix / string frame
 			DataInput din = _matrix ? new CacheDataInput(_bdata) :
 				new DataInputStream(new ByteArrayInputStream(_bdata));
 			ret = _matrix ? new MatrixBlock() : new FrameBlock();
@@ -106,7 +138,13 @@ public class ByteBuffer
 	public void evictBuffer( String fname ) 
 		throws IOException
 	{
-		if( !_shallow ) {
+		if( _offHeap ) {
+			//write out off-heap buffer (raw dense or serialized)
+			synchronized( this ) {
+				LocalFileUtils.writeByteBufferToLocal(fname, _odata.duplicate());
+			}
+		}
+		else if( !_shallow ) {
 			//write out byte serialized array
 			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
 		}
@@ -132,7 +170,14 @@ public class ByteBuffer
 	public void freeMemory()
 	{
 		//clear strong references to buffer/matrix
-		if( !_shallow ) {
+		if( _offHeap ) {
+			//explicitly release the direct memory (not bounded by GC)
+			synchronized( this ) {
+				LocalFileUtils.freeDirectBuffer(_odata);
+				_odata = null;
+			}
+		}
+		else if( !_shallow ) {
 			if( CacheableData.CACHING_BUFFER_PAGECACHE )
 				PageCache.putPage(_bdata);
 			_bdata = null;
@@ -165,7 +210,11 @@ public class ByteBuffer
 	 */
 	public static boolean isValidCapacity( long size, CacheBlock<?> cb )
 	{
-		if( !cb.isShallowSerialize(true) ) { //SPARSE matrix blocks
+		if( CacheableData.CACHING_BUFFER_OFFHEAP ) { //OFF-HEAP matrix / frame blocks
+			// direct byte buffers can hold at most 2GB
+			return ( size <= Integer.MAX_VALUE );
+		}
+		else if( !cb.isShallowSerialize(true) ) { //SPARSE matrix blocks
 			// since cache blocks are serialized into a byte representation
 			// the buffer buffer can hold at most 2GB in size 
 			return ( size <= DenseBlockLDRB.MAX_ALLOC );
@@ -177,4 +226,17 @@ public class ByteBuffer
 			return true;
 		}
 	}
+	
+	/**
+	 * Returns the size in bytes of the given cache block when serialized
+	 * into an off-heap buffer (raw format for dense matrix blocks).
+	 * 
+	 * @param cb cache block
+	 * @return size in bytes
+	 */
+	public static long getOffHeapSize( CacheBlock<?> cb ) {
+		return LocalFileUtils.isMappedFormat(cb) ?
+			LocalFileUtils.getMappedSize((MatrixBlock)cb) :
+			cb.getExactSerializedSize();
+	}
 }
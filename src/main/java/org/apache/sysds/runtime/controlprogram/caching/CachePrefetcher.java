@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.util.List;
+
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.controlprogram.BasicProgramBlock;
+import org.apache.sysds.runtime.controlprogram.ProgramBlock;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.BuiltinNaryCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.Data;
+import org.apache.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Lookahead over the instruction stream of a program block, which asynchronously
+ * restores evicted inputs of upcoming CP instructions on a background pool.
+ * The restored blocks are consumed by the next acquire of the respective
+ * {@link CacheableData} (see {@link CacheableData#prefetchEvicted}), which
+ * only blocks on restores that are still in flight. Restores are only issued
+ * if their estimated size can be reserved in the unified memory manager or,
+ * for the legacy buffer pool, in the local memory budget excluding pinned blocks;
+ * reservations are released once the restored block is consumed or discarded.
+ */
+public class CachePrefetcher {
+	/** Number of upcoming instructions probed for evicted inputs */
+	public static final int LOOKAHEAD = 8;
+
+	/** Memory reserved for restored but not yet consumed blocks (legacy buffer pool) */
+	private static long _reserved = 0;
+
+	private CachePrefetcher() {
+		//prevent instantiation via private constructor
+	}
+
+	public static boolean isEnabled() {
+		return CacheableData.CACHING_ASYNC_PREFETCH
+			&& CacheableData.isCachingActive();
+	}
+
+	/**
+	 * Issues asynchronous restores for the evicted inputs of the instructions
+	 * following the given position (exclusive) within the lookahead window.
+	 * 
+	 * @param inst list of instructions
+	 * @param pos  position of the current instruction, -1 for the block start
+	 * @param ec   execution context
+	 * @return number of issued restores
+	 */
+	public static int prefetchInputs(List<Instruction> inst, int pos, ExecutionContext ec) {
+		int ret = 0;
+		int end = Math.min(inst.size(), pos + 1 + LOOKAHEAD);
+		for( int i = pos + 1; i < end; i++ ) {
+			Instruction tmp = inst.get(i);
+			if( tmp instanceof ComputationCPInstruction )
+				ret += prefetchInputs(((ComputationCPInstruction) tmp).getInputs(), ec);
+			else if( tmp instanceof BuiltinNaryCPInstruction )
+				ret += prefetchInputs(((BuiltinNaryCPInstruction) tmp).getInputs(), ec);
+			else if( tmp instanceof FunctionCallCPInstruction )
+				ret += prefetchInputs(((FunctionCallCPInstruction) tmp).getInputs(), ec);
+			else if( tmp instanceof VariableCPInstruction && readsInputData((VariableCPInstruction) tmp) )
+				for( CPOperand in : ((VariableCPInstruction) tmp).getInputs() )
+					ret += prefetchInput(in, ec);
+		}
+		return ret;
+	}
+	
+	private static boolean readsInputData(VariableCPInstruction inst) {
+		//only variable instructions that read the data (not rmvar, cpvar, mvvar, etc)
+		switch( inst.getVariableOpcode() ) {
+			case CastAsScalarVariable:
+			case CastAsMatrixVariable:
+			case CastAsFrameVariable:
+			case Write:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Issues asynchronous restores for the evicted inputs of the first
+	 * instructions of a known sequence of program blocks (e.g., loop bodies)
+	 * before entering them.
+	 * 
+	 * @param pbs list of program blocks
+	 * @param ec  execution context
+	 * @return number of issued restores
+	 */
+	public static int prefetchBlocks(List<ProgramBlock> pbs, ExecutionContext ec) {
+		if( !pbs.isEmpty() && pbs.get(0) instanceof BasicProgramBlock )
+			return prefetchInputs(((BasicProgramBlock) pbs.get(0)).getInstructions(), -1, ec);
+		return 0;
+	}
+
+	/**
+	 * Reserves memory for an asynchronous restore of the given estimated size,
+	 * without evicting any cached blocks.
+	 * 
+	 * @param size estimated in-memory size of the restored block
+	 * @return true if the memory was reserved, false if the restore should be skipped
+	 */
+	public static boolean reserve(long size) {
+		if( size < 0 )
+			return false; //unknown size
+		if( OptimizerUtils.isUMMEnabled() )
+			return UnifiedMemoryManager.reservePrefetch(size);
+		synchronized( CachePrefetcher.class ) {
+			if( size > getAvailableMemory() )
+				return false;
+			_reserved += size;
+			return true;
+		}
+	}
+
+	/**
+	 * Releases memory previously reserved via {@link #reserve(long)}.
+	 * 
+	 * @param size estimated in-memory size of the restored block
+	 */
+	public static void release(long size) {
+		if( OptimizerUtils.isUMMEnabled() )
+			UnifiedMemoryManager.releasePrefetch(size);
+		else {
+			synchronized( CachePrefetcher.class ) {
+				_reserved = Math.max(_reserved - size, 0);
+			}
+		}
+	}
+
+	public static synchronized long getReservedMemory() {
+		return OptimizerUtils.isUMMEnabled() ?
+			UnifiedMemoryManager.getPrefetchSize() : _reserved;
+	}
+
+	public static synchronized long getAvailableMemory() {
+		return OptimizerUtils.isUMMEnabled() ? UnifiedMemoryManager.getUMMFree() :
+			(long)OptimizerUtils.getLocalMemBudget() - CacheableData.getPinnedSize() - _reserved;
+	}
+
+	public static synchronized void reset() {
+		_reserved = 0;
+	}
+
+	private static int prefetchInputs(CPOperand[] inputs, ExecutionContext ec) {
+		int ret = 0;
+		for( CPOperand in : inputs )
+			ret += prefetchInput(in, ec);
+		return ret;
+	}
+
+	private static int prefetchInput(CPOperand in, ExecutionContext ec) {
+		if( in == null || in.isLiteral() || in.getName() == null )
+			return 0;
+		Data dat = ec.getVariable(in.getName());
+		return (dat instanceof CacheableData && ((CacheableData<?>) dat)
+			.prefetchEvicted(CommonThreadPool.getDynamicPool())) ? 1 : 0;
+	}
+}
@@ -69,6 +69,16 @@ public class CacheStatistics
 	private static final LongAdder _ctimeAcquireM   = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeRelease    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeExport     = new LongAdder(); //in nano sec
+	
+	//async prefetch statistics caching
+	private static final LongAdder _numPrefetches   = new LongAdder();
+	private static final LongAdder _numPrefetchHits = new LongAdder(); //ready at acquire
+	private static final LongAdder _numPrefetchMiss = new LongAdder(); //sync restore
+	private static final LongAdder _numPrefetchStall= new LongAdder(); //in-flight at acquire
+	private static final LongAdder _ctimePrefetch   = new LongAdder(); //stall time in nano sec
+	
+	//out-of-core statistics (ops streamed from file)
+	private static final LongAdder _numOOCOps       = new LongAdder();
 
 	public static void reset() {
 		_numHitsMem.reset();
@@ -86,6 +96,14 @@ public class CacheStatistics
 		_ctimeAcquireM.reset();
 		_ctimeRelease.reset();
 		_ctimeExport.reset();
+		
+		_numPrefetches.reset();
+		_numPrefetchHits.reset();
+		_numPrefetchMiss.reset();
+		_numPrefetchStall.reset();
+		_ctimePrefetch.reset();
+		
+		_numOOCOps.reset();
 	}
 
 	public static void incrementMemHits() {
@@ -228,6 +246,51 @@ public class CacheStatistics
 		return _ctimeExport.longValue();
 	}
 	
+	public static void incrementPrefetches() {
+		_numPrefetches.increment();
+	}
+	
+	public static long getPrefetches() {
+		return _numPrefetches.longValue();
+	}
+	
+	public static void incrementPrefetchHits() {
+		_numPrefetchHits.increment();
+	}
+	
+	public static long getPrefetchHits() {
+		return _numPrefetchHits.longValue();
+	}
+	
+	public static void incrementPrefetchMisses() {
+		_numPrefetchMiss.increment();
+	}
+	
+	public static long getPrefetchMisses() {
+		return _numPrefetchMiss.longValue();
+	}
+	
+	public static void incrementPrefetchStalls(long delta) {
+		_numPrefetchStall.increment();
+		_ctimePrefetch.add(delta);
+	}
+	
+	public static long getPrefetchStalls() {
+		return _numPrefetchStall.longValue();
+	}
+	
+	public static long getPrefetchStallTime() {
+		return _ctimePrefetch.longValue();
+	}
+	
+	public static void incrementOOCOps() {
+		_numOOCOps.increment();
+	}
+	
+	public static long getOOCOps() {
+		return _numOOCOps.longValue();
+	}
+	
 	public static String displayHits() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numHitsMem.longValue());
@@ -268,4 +331,19 @@ public class CacheStatistics
 		
 		return sb.toString();
 	}
+	
+	public static String displayPrefetches() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numPrefetches.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchHits.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchStall.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchMiss.longValue());
+		sb.append(", ");
+		sb.append(String.format("%.3f", ((double)_ctimePrefetch.longValue())/1000000000)); //in sec
+		
+		return sb.toString();
+	}
 }
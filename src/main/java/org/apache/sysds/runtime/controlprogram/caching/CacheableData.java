@@ -24,6 +24,8 @@ import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.mutable.MutableBoolean;
@@ -36,6 +38,7 @@ import org.apache.sysds.common.Types.ExecMode;
 import org.apache.sysds.common.Types.FileFormat;
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.hops.fedplanner.FTypes.FType;
 import org.apache.sysds.runtime.DMLRuntimeException;
@@ -85,6 +88,8 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		1e-5 * InfrastructureAnalyzer.getLocalMaxMemory());       //if below threshold [in bytes]
 	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO;
 	public static final boolean CACHING_BUFFER_PAGECACHE = false;
+	public static boolean CACHING_BUFFER_OFFHEAP = false; //set during init, see sysds.caching.offheap
+	public static boolean CACHING_ASYNC_PREFETCH = false; //set during init, see sysds.caching.prefetch
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;
 	public static final String  CACHING_COUNTER_GROUP_NAME = "SystemDS Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
@@ -163,6 +168,12 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 	/** Cache for actual data, evicted by garbage collector. */
 	protected SoftReference<T> _cache = null;
 	
+	/** Pending asynchronous restore of the evicted cache block (if any) */
+	private Future<T> _prefetch = null;
+	
+	/** Memory reserved for the pending asynchronous restore */
+	private long _prefetchSize = 0;
+	
 	/** Container object that holds the actual data. */
 	protected T _data = null;
 
@@ -535,6 +546,9 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		//get object from cache
 		if( _data == null )
 			getCache();
+		if( _data == null && CACHING_ASYNC_PREFETCH && DMLScript.STATISTICS
+			&& isCached(false) && !hasValidLineage() )
+			CacheStatistics.incrementPrefetchMisses();
 
 		if (OptimizerUtils.isUMMEnabled())
 			//track and make space in the UMM
@@ -654,8 +668,9 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		if (! isAvailableToModify ())
 			throw new DMLRuntimeException("CacheableData not available to modify.");
 		
-		//clear old data
+		//clear old data (incl pending restores, which would be stale)
 		clearData();
+		cancelPrefetch();
 		
 		//cache status maintenance
 		acquire (true, false); //no need to load evicted matrix
@@ -1348,14 +1363,85 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 		if( _cache != null ) {
 			_data = _cache.get();
 		}
+		if( _data == null && _prefetch != null ) {
+			_data = getPrefetch();
+		}
 	}
 	
-	/** Clears the cache soft reference if existing. */
+	/** Clears the cache soft reference and pending restores if existing. */
 	protected void clearCache() {
 		if( _cache != null ) {
 			_cache.clear();
 			_cache = null;
 		}
+		cancelPrefetch();
+	}
+	
+	/**
+	 * Asynchronously restores the evicted cache block on the given pool,
+	 * if the block is evicted to the buffer pool or local file system and no
+	 * restore is pending yet. The restored block is consumed by the next
+	 * acquire, which only blocks if the read is still in flight.
+	 * 
+	 * @param pool executor service for background reads
+	 * @return true if a restore was issued
+	 */
+	public synchronized boolean prefetchEvicted(ExecutorService pool) {
+		if( _prefetch != null || _data != null || !isCachingActive()
+			|| !isCached(false) || hasValidLineage() )
+			return false;
+		if( _cache != null && _cache.get() != null )
+			return false; //still alive via soft reference
+		long size = OptimizerUtils.estimateSize(getDataCharacteristics());
+		if( !CachePrefetcher.reserve(size) )
+			return false; //skip restore without memory headroom
+		final String fname = getCacheFilePathAndName();
+		_prefetch = pool.submit(() -> readBlobFromCache(fname));
+		_prefetchSize = size;
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementPrefetches();
+		return true;
+	}
+	
+	public synchronized boolean isPrefetchPending() {
+		return _prefetch != null;
+	}
+	
+	private T getPrefetch() {
+		Future<T> f = _prefetch;
+		_prefetch = null;
+		releasePrefetch();
+		boolean ready = f.isDone();
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		try {
+			T ret = f.get();
+			if( DMLScript.STATISTICS ) {
+				if( ready )
+					CacheStatistics.incrementPrefetchHits();
+				else
+					CacheStatistics.incrementPrefetchStalls(System.nanoTime()-t0);
+			}
+			return ret;
+		}
+		catch(Exception ex) {
+			//fall back to the synchronous restore on acquire
+			LOG.warn("Asynchronous restore of "+getDebugName()+" failed: "+ex.getMessage());
+			return null;
+		}
+	}
+	
+	private void cancelPrefetch() {
+		if( _prefetch != null ) {
+			_prefetch.cancel(false);
+			_prefetch = null;
+			releasePrefetch();
+		}
+	}
+	
+	private void releasePrefetch() {
+		//consumed blocks are accounted as pinned by the subsequent acquire
+		CachePrefetcher.release(_prefetchSize);
+		_prefetchSize = 0;
 	}
 
 	protected void updateStatusPinned(boolean add) {
@@ -1452,6 +1538,12 @@ public abstract class CacheableData<T extends CacheBlock<?>> extends Data
 			throw new IOException(e);
 		}
 	
+		CACHING_BUFFER_OFFHEAP = ConfigurationManager.getDMLConfig()
+			.getBooleanValue(DMLConfig.CACHING_OFFHEAP);
+		CACHING_ASYNC_PREFETCH = ConfigurationManager.getDMLConfig()
+			.getBooleanValue(DMLConfig.CACHING_PREFETCH);
+		CachePrefetcher.reset();
+		
 		if (OptimizerUtils.isUMMEnabled())
 			//init unified memory manager
 			UnifiedMemoryManager.init();
@@ -88,7 +88,7 @@ public class LazyWriteBuffer {
 		}
 		else {
 			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			LocalFileUtils.writeCacheBlockToLocal(fname, cb, CacheableData.CACHING_BUFFER_OFFHEAP);
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSWrites();
 			
@@ -170,7 +170,7 @@ public class LazyWriteBuffer {
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix, CacheableData.CACHING_BUFFER_OFFHEAP);
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSHits();
 		}
@@ -221,6 +221,8 @@ public class LazyWriteBuffer {
 	}
 	
 	public static long getCacheBlockSize(CacheBlock<?> cb) {
+		if( CacheableData.CACHING_BUFFER_OFFHEAP )
+			return ByteBuffer.getOffHeapSize(cb);
 		return cb.isShallowSerialize() ?
 			cb.getInMemorySize() : cb.getExactSerializedSize();
 	}
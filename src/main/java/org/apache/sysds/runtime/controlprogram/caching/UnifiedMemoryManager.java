@@ -112,6 +112,8 @@ public class UnifiedMemoryManager
 	// Size of pinned virtual memory. This tracks the total input size
 	// This increases if the input is available in the cache.
 	private static long _pinnedVirtualMemSize = 0;
+	// Size of asynchronously restored but not yet consumed blocks (see CachePrefetcher)
+	private static long _prefetchMemSize = 0;
 
 	//---------------- OPERATION MEMORY MAINTENANCE -------------------//
 
@@ -186,6 +188,7 @@ public class UnifiedMemoryManager
 		_totCachedSize = 0;
 		_pinnedPhysicalMemSize = 0;
 		_pinnedVirtualMemSize = 0;
+		_prefetchMemSize = 0;
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.init();
 	}
@@ -201,6 +204,7 @@ public class UnifiedMemoryManager
 		_totCachedSize = 0;
 		_pinnedPhysicalMemSize = 0;
 		_pinnedVirtualMemSize = 0;
+		_prefetchMemSize = 0;
 	}
 
 	/**
@@ -248,7 +252,30 @@ public class UnifiedMemoryManager
 	// Get the available memory in UMM
 	public static long getUMMFree() {
 		synchronized(_mQueue) {
-			return _limit - (_totCachedSize + _pinnedPhysicalMemSize);
+			return _limit - (_totCachedSize + _pinnedPhysicalMemSize + _prefetchMemSize);
+		}
+	}
+
+	// Reserve space for an asynchronous restore without evicting cached entries
+	public static boolean reservePrefetch(long size) {
+		synchronized(_mQueue) {
+			if (getUMMFree() < size)
+				return false;
+			_prefetchMemSize += size;
+			return true;
+		}
+	}
+
+	// Release the space of a consumed or discarded asynchronous restore
+	public static void releasePrefetch(long size) {
+		synchronized(_mQueue) {
+			_prefetchMemSize = Math.max(_prefetchMemSize - size, 0);
+		}
+	}
+
+	public static long getPrefetchSize() {
+		synchronized(_mQueue) {
+			return _prefetchMemSize;
 		}
 	}
 
@@ -283,7 +310,7 @@ public class UnifiedMemoryManager
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix, CacheableData.CACHING_BUFFER_OFFHEAP);
 			if (DMLScript.STATISTICS)
 				CacheStatistics.incrementFSHits();
 		}
@@ -370,7 +397,7 @@ public class UnifiedMemoryManager
 		else
 		{
 			// Write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			LocalFileUtils.writeCacheBlockToLocal(fname, cb, CacheableData.CACHING_BUFFER_OFFHEAP);
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSWrites();
 			}
@@ -381,6 +408,8 @@ public class UnifiedMemoryManager
 	}
 
 	public static long getCacheBlockSize(CacheBlock<?> cb) {
+		if( CacheableData.CACHING_BUFFER_OFFHEAP )
+			return ByteBuffer.getOffHeapSize(cb);
 		return cb.isShallowSerialize() ?
 			cb.getInMemorySize() : cb.getExactSerializedSize();
 	}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * Data output that writes directly into a (pooled) netty ByteBuf. Dense and sparse blocks are written via
+ * MatrixBlockDataOutput, i.e., with bulk copies from the underlying arrays into the buffer instead of value-by-value
+ * through an ObjectOutputStream.
+ */
+public class ByteBufDataOutput extends ByteBufOutputStream implements MatrixBlockDataOutput {
+
+	public ByteBufDataOutput(ByteBuf buffer) {
+		super(buffer);
+	}
+
+	@Override
+	public void writeDoubleArray(int len, double[] varr) throws IOException {
+		final ByteBuf buff = buffer();
+		buff.ensureWritable(8 * len);
+		if(buff.nioBufferCount() == 1) {
+			// bulk copy into the buffer memory (view of heap or direct buffer)
+			final int wix = buff.writerIndex();
+			ByteBuffer bb = buff.nioBuffer(wix, 8 * len);
+			bb.asDoubleBuffer().put(varr, 0, len);
+			buff.writerIndex(wix + 8 * len);
+		}
+		else {
+			for(int i = 0; i < len; i++)
+				buff.writeDouble(varr[i]);
+		}
+	}
+
+	@Override
+	public void writeSparseRows(int rlen, SparseBlock rows) throws IOException {
+		final ByteBuf buff = buffer();
+		final int lrlen = Math.min(rows.numRows(), rlen);
+		for(int i = 0; i < lrlen; i++) {
+			if(!rows.isEmpty(i)) {
+				final int apos = rows.pos(i);
+				final int alen = rows.size(i);
+				final int[] aix = rows.indexes(i);
+				final double[] avals = rows.values(i);
+				buff.ensureWritable(4 + 12 * alen);
+				buff.writeInt(alen);
+				for(int j = apos; j < apos + alen; j++) {
+					buff.writeInt(aix[j]);
+					buff.writeDouble(avals[j]);
+				}
+			}
+			else
+				buff.writeInt(0);
+		}
+		// remaining empty rows
+		for(int i = lrlen; i < rlen; i++)
+			buff.writeInt(0);
+	}
+}
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.instructions.cp.BooleanObject;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.runtime.instructions.cp.StringObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufferDataInput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Binary wire protocol for federated requests and responses, replacing netty's ObjectEncoder/ObjectDecoder (i.e.,
+ * java serialization of the entire message).
+ * 
+ * Every message is framed as [int length][byte message type][payload]. Request headers (type, ids, lineage trace) and
+ * response headers are written as primitives, and each parameter is prefixed by a type tag. Matrix and frame blocks
+ * are written via their own binary serialization into a ByteBufDataOutput (bulk copies of the underlying arrays into
+ * the pooled buffer) and read via a ByteBufferDataInput over a view of the received frame, i.e., without an
+ * intermediate byte[]. Other objects (e.g., UDFs, exceptions) fall back to java serialization per parameter.
+ */
+public class FederatedCodec {
+	// message types
+	private static final byte MSG_REQUESTS = 1;
+	private static final byte MSG_RESPONSE = 2;
+	private static final byte MSG_OBJECT = 3;
+
+	// parameter type tags
+	private static final byte T_NULL = 0;
+	private static final byte T_MATRIX = 1;
+	private static final byte T_FRAME = 2;
+	private static final byte T_INT = 3;
+	private static final byte T_DOUBLE = 4;
+	private static final byte T_BOOLEAN = 5;
+	private static final byte T_STRINGOBJ = 6;
+	private static final byte T_STRING = 7;
+	private static final byte T_LONG = 8;
+	private static final byte T_JAVA = 127;
+
+	private FederatedCodec() {
+		// prevent instantiation via private constructor
+	}
+
+	/**
+	 * Encoder of federated requests (arrays) and responses into length-prefixed binary frames.
+	 */
+	public static class Encoder extends MessageToByteEncoder<Object> {
+		@Override
+		public boolean acceptOutboundMessage(Object msg) {
+			// pass through already encoded bytes
+			return !(msg instanceof ByteBuf);
+		}
+
+		@Override
+		protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+			final int start = out.writerIndex();
+			out.writeInt(0); // placeholder frame length
+			writeMessage(msg, new ByteBufDataOutput(out));
+			out.setInt(start, out.writerIndex() - start - 4);
+		}
+	}
+
+	/**
+	 * Decoder of length-prefixed binary frames into federated requests (arrays) and responses.
+	 */
+	public static class Decoder extends ByteToMessageDecoder {
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+			if(in.readableBytes() < 4)
+				return;
+			final int len = in.getInt(in.readerIndex());
+			if(in.readableBytes() < 4 + len)
+				return; // wait for the entire frame
+			in.skipBytes(4);
+			// view of the cumulated frame, no copy for contiguous buffers
+			ByteBuffer bb = in.nioBuffer(in.readerIndex(), len);
+			out.add(readMessage(new ByteBufferDataInput(bb)));
+			in.skipBytes(len);
+		}
+	}
+
+	public static void writeMessage(Object msg, ByteBufDataOutput out) throws IOException {
+		if(msg instanceof FederatedRequest[]) {
+			FederatedRequest[] reqs = (FederatedRequest[]) msg;
+			out.writeByte(MSG_REQUESTS);
+			out.writeInt(reqs.length);
+			for(FederatedRequest fr : reqs)
+				writeRequest(fr, out);
+		}
+		else if(msg instanceof FederatedResponse) {
+			out.writeByte(MSG_RESPONSE);
+			writeResponse((FederatedResponse) msg, out);
+		}
+		else {
+			out.writeByte(MSG_OBJECT);
+			writeJavaObject(msg, out);
+		}
+	}
+
+	public static Object readMessage(ByteBufferDataInput in) throws IOException {
+		final byte type = in.readByte();
+		switch(type) {
+			case MSG_REQUESTS:
+				FederatedRequest[] reqs = new FederatedRequest[in.readInt()];
+				for(int i = 0; i < reqs.length; i++)
+					reqs[i] = readRequest(in);
+				return reqs;
+			case MSG_RESPONSE:
+				return readResponse(in);
+			case MSG_OBJECT:
+				return readJavaObject(in);
+			default:
+				throw new DMLRuntimeException("Invalid federated message type: " + type);
+		}
+	}
+
+	private static void writeRequest(FederatedRequest fr, ByteBufDataOutput out) throws IOException {
+		out.writeByte(fr.getType().ordinal());
+		out.writeLong(fr.getID());
+		out.writeLong(fr.getTID());
+		out.writeLong(fr.getPID());
+		writeString(fr.getLineageTrace(), out);
+		out.writeInt(fr.getNumParams());
+		for(int i = 0; i < fr.getNumParams(); i++)
+			writeParam(fr.getParam(i), out);
+	}
+
+	private static FederatedRequest readRequest(ByteBufferDataInput in) throws IOException {
+		final RequestType method = RequestType.values()[in.readByte()];
+		final long id = in.readLong();
+		final long tid = in.readLong();
+		final long pid = in.readLong();
+		final String lineageTrace = readString(in);
+		final int numParams = in.readInt();
+		List<Object> data = new ArrayList<>(numParams);
+		for(int i = 0; i < numParams; i++)
+			data.add(readParam(in));
+		return new FederatedRequest(method, id, tid, pid, data, lineageTrace);
+	}
+
+	private static void writeResponse(FederatedResponse fr, ByteBufDataOutput out) throws IOException {
+		out.writeByte(fr.getStatus().ordinal());
+		final Object[] data = fr.getDataUnchecked();
+		out.writeInt(data != null ? data.length : -1);
+		if(data != null)
+			for(Object o : data)
+				writeParam(o, out);
+	}
+
+	private static FederatedResponse readResponse(ByteBufferDataInput in) throws IOException {
+		final ResponseType status = ResponseType.values()[in.readByte()];
+		final int len = in.readInt();
+		Object[] data = null;
+		if(len >= 0) {
+			data = new Object[len];
+			for(int i = 0; i < len; i++)
+				data[i] = readParam(in);
+		}
+		return new FederatedResponse(status, data);
+	}
+
+	private static void writeParam(Object o, ByteBufDataOutput out) throws IOException {
+		// note: exact class checks, as subclasses (e.g., compressed blocks)
+		// use their own java serialization
+		if(o == null)
+			out.writeByte(T_NULL);
+		else if(o.getClass() == MatrixBlock.class) {
+			out.writeByte(T_MATRIX);
+			((MatrixBlock) o).write(out);
+		}
+		else if(o.getClass() == FrameBlock.class) {
+			out.writeByte(T_FRAME);
+			((FrameBlock) o).write(out);
+		}
+		else if(o instanceof IntObject) {
+			out.writeByte(T_INT);
+			out.writeLong(((IntObject) o).getLongValue());
+		}
+		else if(o instanceof DoubleObject) {
+			out.writeByte(T_DOUBLE);
+			out.writeDouble(((DoubleObject) o).getDoubleValue());
+		}
+		else if(o instanceof BooleanObject) {
+			out.writeByte(T_BOOLEAN);
+			out.writeBoolean(((BooleanObject) o).getBooleanValue());
+		}
+		else if(o instanceof StringObject) {
+			out.writeByte(T_STRINGOBJ);
+			writeString(((StringObject) o).getStringValue(), out);
+		}
+		else if(o instanceof String) {
+			out.writeByte(T_STRING);
+			writeString((String) o, out);
+		}
+		else if(o instanceof Long) {
+			out.writeByte(T_LONG);
+			out.writeLong((Long) o);
+		}
+		else {
+			out.writeByte(T_JAVA);
+			writeJavaObject(o, out);
+		}
+	}
+
+	private static Object readParam(ByteBufferDataInput in) throws IOException {
+		final byte type = in.readByte();
+		switch(type) {
+			case T_NULL:
+				return null;
+			case T_MATRIX:
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(in);
+				return mb;
+			case T_FRAME:
+				FrameBlock fb = new FrameBlock();
+				fb.readFields(in);
+				return fb;
+			case T_INT:
+				return new IntObject(in.readLong());
+			case T_DOUBLE:
+				return new DoubleObject(in.readDouble());
+			case T_BOOLEAN:
+				return new BooleanObject(in.readBoolean());
+			case T_STRINGOBJ:
+				return new StringObject(readString(in));
+			case T_STRING:
+				return readString(in);
+			case T_LONG:
+				return in.readLong();
+			case T_JAVA:
+				return readJavaObject(in);
+			default:
+				throw new DMLRuntimeException("Invalid federated parameter type: " + type);
+		}
+	}
+
+	private static void writeString(String s, DataOutput out) throws IOException {
+		// note: no writeUTF because of its 64KB limit (e.g., large lineage traces)
+		if(s == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		final int len = in.readInt();
+		if(len < 0)
+			return null;
+		byte[] bytes = new byte[len];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeJavaObject(Object o, ByteBufDataOutput out) throws IOException {
+		final ByteBuf buff = out.buffer();
+		final int start = buff.writerIndex();
+		buff.writeInt(0); // placeholder length
+		ObjectOutputStream oos = new ObjectOutputStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+				buff.writeByte(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				buff.writeBytes(b, off, len);
+			}
+		});
+		oos.writeObject(o);
+		oos.flush();
+		buff.setInt(start, buff.writerIndex() - start - 4);
+	}
+
+	private static Object readJavaObject(ByteBufferDataInput in) throws IOException {
+		final int len = in.readInt();
+		final ByteBuffer bb = in.slice(len);
+		try(ObjectInputStream ois = new ObjectInputStream(new InputStream() {
+			@Override
+			public int read() {
+				return bb.hasRemaining() ? (bb.get() & 0xFF) : -1;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int blen) {
+				if(!bb.hasRemaining())
+					return -1;
+				final int n = Math.min(blen, bb.remaining());
+				bb.get(b, off, n);
+				return n;
+			}
+		})) {
+			return ois.readObject();
+		}
+		catch(ClassNotFoundException ex) {
+			throw new IOException("Failed to deserialize federated object.", ex);
+		}
+	}
+}
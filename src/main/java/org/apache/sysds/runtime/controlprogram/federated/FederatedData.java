@@ -19,7 +19,6 @@
 
 package org.apache.sysds.runtime.controlprogram.federated;
 
-import java.io.Serializable;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
@@ -55,7 +54,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ObjectEncoder;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
@@ -350,9 +348,9 @@ public class FederatedData {
 		return sb.toString();
 	}
 
-	public static class FederatedRequestEncoder extends ObjectEncoder {
+	public static class FederatedRequestEncoder extends FederatedCodec.Encoder {
 		@Override
-		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Serializable msg, boolean preferDirect)
+		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect)
 			throws Exception {
 			int initCapacity = 256; // default initial capacity
 			if(msg instanceof FederatedRequest[]) {
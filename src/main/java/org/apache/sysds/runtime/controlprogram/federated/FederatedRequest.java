@@ -86,6 +86,19 @@ public class FederatedRequest implements Serializable {
 		_pid = Long.valueOf(IDHandler.getProcessID());
 	}
 
+	/**
+	 * Constructor for requests decoded from the wire (see FederatedCodec), which neither counts the request in the
+	 * federated statistics nor overwrites the process id of the sender. Checksums are recomputed lazily on demand.
+	 */
+	FederatedRequest(RequestType method, long id, long tid, long pid, List<Object> data, String lineageTrace) {
+		_method = method;
+		_id = id;
+		_tid = tid;
+		_pid = pid;
+		_data = data;
+		_lineageTrace = lineageTrace;
+	}
+
 	public RequestType getType() {
 		return _method;
 	}
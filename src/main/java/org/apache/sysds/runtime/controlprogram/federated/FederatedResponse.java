@@ -86,6 +86,14 @@ public class FederatedResponse implements Serializable {
 		return _data;
 	}
 
+	ResponseType getStatus() {
+		return _status;
+	}
+
+	Object[] getDataUnchecked() {
+		return _data;
+	}
+
 	public long estimateSerializationBufferSize() {
 		long minBufferSize = 312; // general offset for the FederatedResponse object
 		if(_data != null) {
@@ -19,7 +19,6 @@
 
 package org.apache.sysds.runtime.controlprogram.federated;
 
-import java.io.Serializable;
 import java.security.cert.CertificateException;
 import java.util.Optional;
 import java.util.concurrent.SynchronousQueue;
@@ -58,13 +57,10 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.serialization.ObjectEncoder;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Timing;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ClassResolvers;
 
 public class FederatedWorker {
 	protected static Logger log = Logger.getLogger(FederatedWorker.class);
@@ -131,9 +127,9 @@ public class FederatedWorker {
 		}
 	}
 
-	public static class FederatedResponseEncoder extends ObjectEncoder {
+	public static class FederatedResponseEncoder extends FederatedCodec.Encoder {
 		@Override
-		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Serializable msg, boolean preferDirect)
+		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect)
 			throws Exception {
 			int initCapacity = 256; // default initial capacity
 			if(msg instanceof FederatedResponse) {
@@ -152,7 +148,7 @@ public class FederatedWorker {
 		}
 
 		@Override
-		protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+		protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
 			LineageItem objLI = null;
 			boolean linReusePossible = (!ReuseCacheType.isNone() && msg instanceof FederatedResponse);
 			if(linReusePossible) {
@@ -207,14 +203,11 @@ public class FederatedWorker {
 					cp.addLast("CompressionDecodingStartStatistics", new CompressionDecoderStartStatisticsHandler());
 					compressionStrategy.ifPresent(strategy -> cp.addLast("CompressionDecoder", strategy.left));
 					cp.addLast("CompressionDecoderEndStatistics", new CompressionDecoderEndStatisticsHandler());
-					cp.addLast("ObjectDecoder",
-						new ObjectDecoder(Integer.MAX_VALUE,
-							ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
+					cp.addLast("FederatedDecoder", FederationUtils.decoder());
 					cp.addLast("CompressionEncodingEndStatistics", new CompressionEncoderEndStatisticsHandler());
 					compressionStrategy.ifPresent(strategy -> cp.addLast("CompressionEncoder", strategy.right));
 					cp.addLast("CompressionEncodingStartStatistics", new CompressionEncoderStartStatisticsHandler());
-					cp.addLast("ObjectEncoder", new ObjectEncoder());
-					cp.addLast(FederationUtils.decoder(), new FederatedResponseEncoder());
+					cp.addLast("FederatedEncoder", new FederatedResponseEncoder());
 					cp.addLast(new FederatedWorkerHandler(_flt, _frc, _fan, networkTimer));
 				}
 			};
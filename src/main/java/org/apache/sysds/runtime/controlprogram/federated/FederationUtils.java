@@ -72,8 +72,6 @@ import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.SimpleOperator;
 
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
 
 public class FederationUtils {
 	protected static Logger log = Logger.getLogger(FederationUtils.class);
@@ -608,9 +606,8 @@ public class FederationUtils {
 		return FederationUtils.aggAdd(dataParts.toArray(new Future[0]));
 	}
 
-	public static ObjectDecoder decoder() {
-		return new ObjectDecoder(Integer.MAX_VALUE,
-			ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader()));
+	public static FederatedCodec.Decoder decoder() {
+		return new FederatedCodec.Decoder();
 	}
 
 	public static Optional<ChannelOutboundHandlerAdapter> compressionEncoder() {
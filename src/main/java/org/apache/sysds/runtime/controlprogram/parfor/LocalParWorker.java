@@ -30,6 +30,7 @@ import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Stat;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.StatisticMonitor;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Timing;
+import org.apache.sysds.utils.stats.ParForStatistics;
 
 /**
  * Instances of this class can be used to execute tasks in parallel. Within each ParWorker 
@@ -94,11 +95,16 @@ public class LocalParWorker extends ParWorker implements Runnable
 		
 		// continuous execution (execute tasks until (1) stopped or (2) no more tasks)
 		Task lTask = null; 
+		final boolean trackIdle = DMLScript.STATISTICS || _monitor;
+		long idleTime = 0; //in nano sec
 		try {
 			while( !_stopped ) {
 				//dequeue the next task (abort on NO_MORE_TASKS or error)
 				try {
+					long t0 = trackIdle ? System.nanoTime() : 0;
 					lTask = _taskQueue.dequeueTask();
+					if( trackIdle )
+						idleTime += System.nanoTime() - t0;
 					
 					if( lTask == LocalTaskQueue.NO_MORE_TASKS ) // task queue closed (no more tasks)
 						break; //normal end of parallel worker
@@ -148,6 +154,9 @@ public class LocalParWorker extends ParWorker implements Runnable
 			StatisticMonitor.putPWStat(_workerID, Stat.PARWRK_NUMTASKS, _numTasks);
 			StatisticMonitor.putPWStat(_workerID, Stat.PARWRK_NUMITERS, _numIters);
 			StatisticMonitor.putPWStat(_workerID, Stat.PARWRK_EXEC_T, time1.stop());
+			StatisticMonitor.putPWStat(_workerID, Stat.PARWRK_IDLE_T, idleTime / 1e6);
 		}
+		if( DMLScript.STATISTICS )
+			ParForStatistics.incrementWorkerIdleTime(idleTime);
 	}
 }
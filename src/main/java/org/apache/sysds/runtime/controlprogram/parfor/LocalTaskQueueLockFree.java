@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free variant of the local task queue for fine-grained tasks and many parallel workers,
+ * where the monitor of the synchronized queue becomes a convoy. Tasks are kept in a non-blocking
+ * MPMC queue (CAS-based enqueue/dequeue), and idle readers spin briefly before parking with
+ * bounded, exponentially increasing timeouts. Writers only unpark a single parked reader (if any)
+ * instead of notifying through a shared monitor.
+ * 
+ * The semantics are equivalent to the synchronized queue: FIFO order (per writer), each task is
+ * read by exactly one reader, a bounded size of MAX_SIZE, and NO_MORE_TASKS after closeInput
+ * once all tasks are consumed.
+ */
+public class LocalTaskQueueLockFree<T> extends LocalTaskQueue<T>
+{
+	private static final int  NUM_SPINS     = //busy waiting before parking (if multi-core)
+		Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+	private static final long MIN_PARK_TIME = 1000;     //1us
+	private static final long MAX_PARK_TIME = 1000000;  //1ms
+	
+	private final ConcurrentLinkedQueue<T> _data = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Thread> _parked = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger _size = new AtomicInteger(0);
+	private final AtomicInteger _numParked = new AtomicInteger(0);
+	private volatile boolean _closedInput = false;
+	
+	/**
+	 * Non-blocking insert of a new task to the end of the queue. If the queue reached
+	 * its max size, the writer waits (with timed parking) until readers consumed tasks.
+	 * 
+	 * @param t task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	@Override
+	public void enqueueTask( T t ) 
+		throws InterruptedException
+	{
+		long parkTime = MIN_PARK_TIME;
+		while( _size.get() + 1 > MAX_SIZE ) {
+			LockSupport.parkNanos(this, parkTime); //max constraint reached, wait for read
+			parkTime = Math.min(parkTime * 2, MAX_PARK_TIME);
+			if( Thread.interrupted() )
+				throw new InterruptedException();
+		}
+		
+		_size.incrementAndGet();
+		_data.offer(t);
+		
+		//wake up a single waiting reader (if any)
+		if( _numParked.get() > 0 ) {
+			Thread reader = _parked.poll();
+			if( reader != null )
+				LockSupport.unpark(reader);
+		}
+	}
+	
+	/**
+	 * Non-blocking read and delete from the top of the queue. Readers of an empty
+	 * queue spin for a short time, and subsequently park until they are unparked
+	 * by writers or the park timeout elapsed.
+	 * 
+	 * @return task
+	 * @throws InterruptedException if InterruptedException occurs
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T dequeueTask() 
+		throws InterruptedException
+	{
+		int spins = 0;
+		long parkTime = MIN_PARK_TIME;
+		while( true ) {
+			//read closed flag before poll to not miss tasks enqueued before close
+			boolean closed = _closedInput;
+			T t = _data.poll();
+			if( t != null ) {
+				_size.decrementAndGet();
+				return t;
+			}
+			if( closed )
+				return (T)NO_MORE_TASKS;
+			
+			if( spins++ < NUM_SPINS ) {
+				Thread.onSpinWait();
+			}
+			else {
+				//register as parked reader, and recheck before parking
+				Thread self = Thread.currentThread();
+				_numParked.incrementAndGet();
+				_parked.offer(self);
+				if( _data.isEmpty() && !_closedInput )
+					LockSupport.parkNanos(this, parkTime);
+				_parked.remove(self);
+				_numParked.decrementAndGet();
+				parkTime = Math.min(parkTime * 2, MAX_PARK_TIME);
+				if( Thread.interrupted() )
+					throw new InterruptedException();
+			}
+		}
+	}
+	
+	/**
+	 * Non-blocking (logical) insert of a NO_MORE_TASKS symbol at the end of the queue
+	 * in order to mark that no more tasks will be inserted into the queue.
+	 */
+	@Override
+	public void closeInput() {
+		_closedInput = true;
+		//wake up all waiting readers
+		Thread reader = null;
+		while( (reader = _parked.poll()) != null )
+			LockSupport.unpark(reader);
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("LOCKFREE TASK QUEUE (size=");
+		sb.append(_size.get());
+		sb.append(",close=");
+		sb.append(_closedInput);
+		sb.append(")\n");
+		
+		int count = 1;
+		for( T t : _data ) {
+			sb.append("  TASK #");
+			sb.append(count++);
+			sb.append(": ");
+			sb.append(t.toString());
+			sb.append("\n");
+		}
+		
+		return sb.toString();
+	}
+}
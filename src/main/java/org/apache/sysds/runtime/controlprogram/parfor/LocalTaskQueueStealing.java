@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.ParForProgramBlock;
+import org.apache.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.utils.stats.ParForStatistics;
+
+/**
+ * Work-stealing task queue for local parfor with iteration costs of unknown (and potentially
+ * large) variance, where up-front chunking leaves workers idle at the tail. Instead of a single
+ * shared queue, the iteration space is initially split into contiguous ranges, one per worker.
+ * Each worker takes chunks from the front of its own range, and once its range is exhausted,
+ * steals the back half of the largest remaining range of its peers. 
+ * 
+ * Chunks are sized adaptively: a worker measures the time per iteration of its previous chunks 
+ * (time between consecutive dequeues) and chooses chunks of roughly CHUNK_TIME, but at most half
+ * of its remaining range in order to leave work for thieves.
+ * 
+ * Workers are assigned to ranges on their first dequeue. Tasks are created on demand, and hence
+ * the number of created tasks is only known after all workers finished (see getNumCreatedTasks).
+ */
+public class LocalTaskQueueStealing extends LocalTaskQueue<Task>
+{
+	private static final long CHUNK_TIME = 10_000_000; //10ms target time per chunk (in nano sec)
+	
+	private final WorkerRange[] _ranges;
+	private final AtomicInteger _nextWorker = new AtomicInteger(0);
+	private final AtomicLong _numTasks = new AtomicLong(0);
+	private final CountDownLatch _init = new CountDownLatch(1);
+	private final ThreadLocal<WorkerRange> _localRange = new ThreadLocal<>();
+	
+	private String _iterVar;
+	private long _from;
+	private long _incr;
+	
+	public LocalTaskQueueStealing(int numWorkers) {
+		_ranges = new WorkerRange[numWorkers];
+		for( int i=0; i<numWorkers; i++ )
+			_ranges[i] = new WorkerRange(i);
+	}
+	
+	/**
+	 * Initializes the iteration ranges of all workers with equally-sized
+	 * contiguous ranges of the normalized loop (from, to, incr).
+	 * 
+	 * @param iterVar name of the iteration variable
+	 * @param from first index value
+	 * @param incr positive increment
+	 * @param numIter number of iterations
+	 */
+	public void init(String iterVar, long from, long incr, long numIter) {
+		_iterVar = iterVar;
+		_from = from;
+		_incr = incr;
+		final int k = _ranges.length;
+		final long n = Math.max(numIter, 0);
+		for( int i=0; i<k; i++ )
+			_ranges[i].set(n * i / k, n * (i+1) / k);
+		_init.countDown();
+	}
+	
+	public long getNumCreatedTasks() {
+		return _numTasks.get();
+	}
+	
+	@Override
+	public void enqueueTask(Task t) {
+		throw new DMLRuntimeException("Work-stealing task queue creates its tasks on demand.");
+	}
+	
+	@Override
+	public Task dequeueTask() 
+		throws InterruptedException
+	{
+		_init.await(); //wait for task creation
+		WorkerRange self = getLocalRange();
+		
+		//maintain time per iteration of previous chunk
+		long now = System.nanoTime();
+		self.updateIterTime(now);
+		
+		//get next chunk of own range, otherwise steal from peers
+		long[] chunk = self.pollFront();
+		if( chunk == null )
+			chunk = steal(self);
+		if( chunk == null )
+			return (Task)NO_MORE_TASKS;
+		
+		self.startChunk(chunk[1] - chunk[0]);
+		_numTasks.incrementAndGet();
+		return createTask(chunk[0], chunk[1]);
+	}
+	
+	@Override
+	public void closeInput() {
+		//do nothing (all tasks implicitly created on init)
+	}
+	
+	private WorkerRange getLocalRange() {
+		WorkerRange ret = _localRange.get();
+		if( ret == null ) {
+			int pos = _nextWorker.getAndIncrement();
+			if( pos >= _ranges.length )
+				throw new DMLRuntimeException("Number of readers exceeds number of "
+					+ "workers of the work-stealing task queue: "+_ranges.length);
+			ret = _ranges[pos];
+			_localRange.set(ret);
+		}
+		return ret;
+	}
+	
+	private long[] steal(WorkerRange self) {
+		final long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		final int k = _ranges.length;
+		long[] ret = null;
+		while( ret == null ) {
+			//find victim with largest remaining range (random start to spread thieves)
+			int start = ThreadLocalRandom.current().nextInt(k);
+			WorkerRange victim = null;
+			long maxRemaining = 0;
+			for( int i=0; i<k; i++ ) {
+				WorkerRange r = _ranges[(start + i) % k];
+				long remaining = r.remaining();
+				if( r != self && remaining > maxRemaining ) {
+					victim = r;
+					maxRemaining = remaining;
+				}
+			}
+			if( victim == null )
+				break; //no more iterations (except chunks in flight)
+			
+			//steal back half and take first chunk from stolen range
+			long[] stolen = victim.pollBackHalf();
+			if( stolen != null ) {
+				self.set(stolen[0], stolen[1]);
+				ret = self.pollFront();
+			}
+		}
+		if( DMLScript.STATISTICS && ret != null ) {
+			ParForStatistics.incrementWorkerSteals(1);
+			ParForStatistics.incrementWorkerStealTime(System.nanoTime() - t0);
+		}
+		return ret;
+	}
+	
+	private Task createTask(long lo, long hi) {
+		long len = hi - lo;
+		TaskType type = (ParForProgramBlock.USE_RANGE_TASKS_IF_USEFUL && len > 3) ?
+			TaskType.RANGE : TaskType.SET;
+		Task t = new Task(_iterVar, type);
+		if( type == TaskType.SET ) {
+			for( long i=lo; i<hi; i++ )
+				t.addIteration(new IntObject(_from + i * _incr));
+		}
+		else {
+			t.addIteration(new IntObject(_from + lo * _incr));       //from
+			t.addIteration(new IntObject(_from + (hi-1) * _incr));   //to
+			t.addIteration(new IntObject(_incr));                    //increment
+		}
+		return t;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("WORK-STEALING TASK QUEUE (tasks=");
+		sb.append(_numTasks.get());
+		sb.append(")\n");
+		for( WorkerRange r : _ranges ) {
+			sb.append("  ");
+			sb.append(r.toString());
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Contiguous range [lo, hi) of iteration positions owned by a single worker. The owner
+	 * polls chunks from the front, while thieves split off the back half. Critical sections
+	 * are tiny and only contended on steals.
+	 */
+	private static class WorkerRange {
+		private final int _pos;
+		private long _lo = 0;
+		private long _hi = 0;
+		//owner-local state for adaptive chunking
+		private long _lastStart = -1;
+		private long _lastSize = 0;
+		private double _iterTime = -1; //in nano sec
+		
+		public WorkerRange(int pos) {
+			_pos = pos;
+		}
+		
+		public synchronized void set(long lo, long hi) {
+			_lo = lo;
+			_hi = hi;
+		}
+		
+		public synchronized long remaining() {
+			return _hi - _lo;
+		}
+		
+		public synchronized long[] pollFront() {
+			long remaining = _hi - _lo;
+			if( remaining <= 0 )
+				return null;
+			long len = Math.min(getChunkSize(), (remaining + 1) / 2);
+			long[] ret = new long[] {_lo, _lo + len};
+			_lo += len;
+			return ret;
+		}
+		
+		public synchronized long[] pollBackHalf() {
+			long remaining = _hi - _lo;
+			if( remaining <= 0 )
+				return null;
+			long mid = _lo + remaining / 2; //remaining=1: entire range
+			long[] ret = new long[] {mid, _hi};
+			_hi = mid;
+			return ret;
+		}
+		
+		public void startChunk(long size) {
+			_lastStart = System.nanoTime();
+			_lastSize = size;
+		}
+		
+		public void updateIterTime(long now) {
+			if( _lastStart < 0 || _lastSize <= 0 )
+				return;
+			double time = (double)(now - _lastStart) / _lastSize;
+			//exponential smoothing for robustness against single outliers
+			_iterTime = (_iterTime < 0) ? time : 0.5 * _iterTime + 0.5 * time;
+		}
+		
+		private long getChunkSize() {
+			//single iteration until the first measurement
+			if( _iterTime < 0 )
+				return 1;
+			return Math.max((long)(CHUNK_TIME / Math.max(_iterTime, 1)), 1);
+		}
+		
+		@Override
+		public synchronized String toString() {
+			return "RANGE #"+_pos+": ["+_lo+", "+_hi+")";
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.controlprogram.parfor;
+
+import java.util.List;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+
+/**
+ * This work-stealing task partitioner does not create tasks up front but initializes the
+ * per-worker iteration ranges of a LocalTaskQueueStealing, from which the local workers
+ * create chunks of adaptive size on demand (and steal halves of the ranges of their peers).
+ * 
+ * For full task creation (e.g., remote parfor), it falls back to factoring, which also
+ * creates tasks of decreasing size for good load balance of heterogeneous tasks.
+ */
+public class TaskPartitionerStealing extends TaskPartitioner
+{
+	private final int _numThreads;
+	
+	public TaskPartitionerStealing( long taskSize, int numThreads, String iterVarName, IntObject fromVal, IntObject toVal, IntObject incrVal ) 
+	{
+		super(taskSize, iterVarName, fromVal, toVal, incrVal);
+		_numThreads = numThreads;
+	}
+
+	@Override
+	public List<Task> createTasks() {
+		return new TaskPartitionerFactoring(_taskSize, _numThreads,
+			_iterVarName, _fromVal, _toVal, _incrVal).createTasks();
+	}
+
+	@Override
+	public long createTasks(LocalTaskQueue<Task> queue) {
+		if( !(queue instanceof LocalTaskQueueStealing) )
+			throw new DMLRuntimeException("Work-stealing task partitioner requires a work-stealing task queue.");
+		((LocalTaskQueueStealing)queue).init(_iterVarName,
+			_fromVal.getLongValue(), _incrVal.getLongValue(), _numIter);
+		return -1; //tasks created on demand, see LocalTaskQueueStealing.getNumCreatedTasks
+	}
+}
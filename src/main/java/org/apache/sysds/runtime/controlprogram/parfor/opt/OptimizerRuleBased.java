@@ -148,6 +148,7 @@ public class OptimizerRuleBased extends Optimizer {
 	public static final int MAX_REPLICATION_FACTOR_PARTITIONING = 5;
 	public static final int MAX_REPLICATION_FACTOR_EXPORT = 7;    
 	public static final boolean ALLOW_REMOTE_NESTED_PARALLELISM = false;
+	public static final boolean ALLOW_WORK_STEALING = true; //local parfor w/ unknown iteration cost variance
 	public static final String FUNCTION_UNFOLD_NAMEPREFIX = "__unfold_";
 	
 	public static final double PAR_K_FACTOR        = OptimizationWrapper.PAR_FACTOR_INFRASTRUCTURE; 
@@ -1355,6 +1356,13 @@ public class OptimizerRuleBased extends Optimizer {
 			//preaggregate results (less write / less read by result merge)
 			setTaskPartitioner( pn, PTaskPartitioner.STATIC );
 		}
+		else if( ALLOW_WORK_STEALING && isWorkStealingCandidate(pn, _N) )
+		{
+			//for local body programs with nested loops or function calls, the variance
+			//of iteration costs is unknown and up-front chunking (e.g., factoring) can leave
+			//workers idle at the tail, hence we use work-stealing w/ adaptive chunk sizes
+			setTaskPartitioner( pn, PTaskPartitioner.STEALING );
+		}
 		else if( _N/4 >= pn.getK() ) //to prevent imbalance due to ceiling
 		{
 			setTaskPartitioner( pn, PTaskPartitioner.FACTORING );
@@ -1365,6 +1373,25 @@ public class OptimizerRuleBased extends Optimizer {
 		}
 	}
 
+	public static boolean isWorkStealingCandidate(OptNode pn, long N) {
+		return pn.getExecType()==ExecType.CP
+			&& N/4 >= pn.getK() && hasUnknownIterationCost(pn);
+	}
+	
+	private static boolean hasUnknownIterationCost(OptNode n) {
+		//nested loops or function calls (incl. in branches), but
+		//not simple bodies or branches of simple statements
+		if( n.isLeaf() )
+			return false;
+		for( OptNode c : n.getChilds() ) {
+			if( c.getNodeType().isLoop() || c.getNodeType()==NodeType.FUNCCALL )
+				return true;
+			if( c.isNodeType(NodeType.GENERIC, NodeType.IF) && hasUnknownIterationCost(c) )
+				return true;
+		}
+		return false;
+	}
+
 	protected void setTaskPartitioner( OptNode n, PTaskPartitioner partitioner )
 	{
 		long id = n.getID();
@@ -2198,7 +2225,8 @@ public class OptimizerRuleBased extends Optimizer {
 			case STATIC:           W = N / k; break;
 			case FACTORING:
 			case FACTORING_CMIN:
-			case FACTORING_CMAX:   W = k * (long)(Math.log(((double)N)/k)/Math.log(2.0)); break;
+			case FACTORING_CMAX:
+			case STEALING:         W = k * (long)(Math.log(((double)N)/k)/Math.log(2.0)); break;
 			default:               W = N; break; //N as worst case estimate
 		}
 		
@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.DMLCompressionException;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
+import org.apache.sysds.runtime.matrix.data.Pair;
+import org.apache.sysds.utils.MemoryEstimates;
+
+/**
+ * Base of the integer column encodings that store each row as a fixed bit width offset packed into a long[].
+ * 
+ * The encodings only apply to INT32 and INT64 columns without nulls, and the value type is kept to return the
+ * correct boxed type on get.
+ */
+public abstract class ABitPackedArray<T> extends ACompressedArray<T> {
+
+	/** The number of rows decoded at a time into temporary buffers */
+	protected static final int DECODE_BLOCK_SIZE = 1024;
+
+	/** The value type, either INT32 or INT64 */
+	protected final ValueType _vt;
+	/** The number of bits per packed value, in range [0, 64] */
+	protected final int _bits;
+	/** The packed values */
+	protected final long[] _data;
+
+	protected ABitPackedArray(ValueType vt, int size, int bits, long[] data) {
+		super(size);
+		if(vt != ValueType.INT32 && vt != ValueType.INT64)
+			throw new DMLCompressionException("Invalid value type for bit packed array: " + vt);
+		_vt = vt;
+		_bits = bits;
+		_data = data;
+	}
+
+	/**
+	 * Get the decoded value at the given row.
+	 * 
+	 * @param i The row index
+	 * @return The value as a long
+	 */
+	public abstract long getLong(int i);
+
+	/**
+	 * Decode the rows in the range sequentially into the given long array.
+	 * 
+	 * @param ret The array to decode into
+	 * @param off The offset in ret to decode the row start into
+	 * @param rl  The row start
+	 * @param ru  The row end (not included)
+	 */
+	protected abstract void decode(long[] ret, int off, int rl, int ru);
+
+	/**
+	 * Decode the rows in the range sequentially into the given int array, in blocks of DECODE_BLOCK_SIZE rows.
+	 * 
+	 * @param ret The array to decode into
+	 * @param off The offset in ret to decode the row start into
+	 * @param rl  The row start
+	 * @param ru  The row end (not included)
+	 */
+	protected void decode(int[] ret, int off, int rl, int ru) {
+		final long[] tmp = new long[Math.min(ru - rl, DECODE_BLOCK_SIZE)];
+		for(int bl = rl; bl < ru; bl += tmp.length) {
+			final int bu = Math.min(bl + tmp.length, ru);
+			decode(tmp, 0, bl, bu);
+			for(int i = bl; i < bu; i++)
+				ret[off + i - rl] = (int) tmp[i - bl];
+		}
+	}
+
+	public int getBits() {
+		return _bits;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		final long v = getLong(index);
+		if(_vt == ValueType.INT32)
+			return (T) Integer.valueOf((int) v);
+		return (T) Long.valueOf(v);
+	}
+
+	@Override
+	public double getAsDouble(int i) {
+		return getLong(i);
+	}
+
+	@Override
+	public double[] extractDouble(double[] ret, int rl, int ru) {
+		final long[] tmp = new long[ru - rl];
+		decode(tmp, 0, rl, ru);
+		for(int i = 0; i < tmp.length; i++)
+			ret[i] = tmp[i];
+		return ret;
+	}
+
+	/**
+	 * Decompress into the plain IntegerArray or LongArray.
+	 * 
+	 * @return The uncompressed array
+	 */
+	public Array<T> decompress() {
+		final long[] tmp = new long[_size];
+		decode(tmp, 0, 0, _size);
+		return wrap(tmp);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Array<T> wrap(long[] vals) {
+		if(_vt == ValueType.INT64)
+			return (Array<T>) new LongArray(vals);
+		final int[] ret = new int[vals.length];
+		for(int i = 0; i < vals.length; i++)
+			ret[i] = (int) vals[i];
+		return (Array<T>) new IntegerArray(ret);
+	}
+
+	@Override
+	public Array<T> append(Array<T> other) {
+		throw new DMLCompressionException("Currently not supported to append bit packed arrays");
+	}
+
+	@Override
+	protected void set(int rl, int ru, DDCArray<T> value) {
+		throw new DMLCompressionException("Invalid to set value in bit packed array");
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		throw new DMLRuntimeException("Should not be called");
+	}
+
+	@Override
+	public byte[] getAsByteArray() {
+		throw new DMLCompressionException("Unimplemented method 'getAsByteArray'");
+	}
+
+	@Override
+	public ValueType getValueType() {
+		return _vt;
+	}
+
+	@Override
+	public Pair<ValueType, Boolean> analyzeValueType(int maxCells) {
+		return new Pair<>(_vt, false);
+	}
+
+	@Override
+	protected Array<Boolean> changeTypeBitSet() {
+		return decompress().changeTypeBitSet();
+	}
+
+	@Override
+	protected Array<Boolean> changeTypeBoolean() {
+		return decompress().changeTypeBoolean();
+	}
+
+	@Override
+	protected Array<Double> changeTypeDouble() {
+		final double[] ret = new double[_size];
+		return new DoubleArray(extractDouble(ret, 0, _size));
+	}
+
+	@Override
+	protected Array<Float> changeTypeFloat() {
+		return decompress().changeTypeFloat();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Array<Integer> changeTypeInteger() {
+		if(_vt == ValueType.INT32)
+			return (Array<Integer>) this;
+		return decompress().changeTypeInteger();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Array<Long> changeTypeLong() {
+		if(_vt == ValueType.INT64)
+			return (Array<Long>) this;
+		// the encoded offsets are independent of the boxed type.
+		return (Array<Long>) withValueType(ValueType.INT64);
+	}
+
+	/**
+	 * Get a shallow copy of this array with another value type, sharing the packed data.
+	 * 
+	 * @param vt The value type
+	 * @return The new array
+	 */
+	protected abstract ABitPackedArray<?> withValueType(ValueType vt);
+
+	@Override
+	protected Array<Object> changeTypeHash64() {
+		return decompress().changeTypeHash64();
+	}
+
+	@Override
+	protected Array<String> changeTypeString() {
+		return decompress().changeTypeString();
+	}
+
+	@Override
+	protected Array<Character> changeTypeCharacter() {
+		return decompress().changeTypeCharacter();
+	}
+
+	@Override
+	public boolean isShallowSerialize() {
+		return true;
+	}
+
+	@Override
+	public Array<T> select(int[] indices) {
+		final long[] ret = new long[indices.length];
+		for(int i = 0; i < indices.length; i++)
+			ret[i] = getLong(indices[i]);
+		return wrap(ret);
+	}
+
+	@Override
+	public boolean isNotEmpty(int i) {
+		return getLong(i) != 0;
+	}
+
+	@Override
+	public Array<T> clone() {
+		// Since the compressed formats are immutable, it is allowed to return the same.
+		return this;
+	}
+
+	@Override
+	public double hashDouble(int idx) {
+		return hash(getLong(idx));
+	}
+
+	@Override
+	public double[] hashDouble(double[] ret, int rl, int ru) {
+		final long[] tmp = new long[Math.min(ru - rl, DECODE_BLOCK_SIZE)];
+		for(int bl = rl; bl < ru; bl += tmp.length) {
+			final int bu = Math.min(bl + tmp.length, ru);
+			decode(tmp, 0, bl, bu);
+			for(int i = bl; i < bu; i++)
+				ret[i - rl] = hash(tmp[i - bl]);
+		}
+		return ret;
+	}
+
+	private double hash(long v) {
+		return _vt == ValueType.INT32 ? Integer.hashCode((int) v) : Long.hashCode(v);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Map<T, Long> createRecodeMap() {
+		final Map<T, Long> map = new HashMap<>();
+		final long[] tmp = new long[Math.min(_size, DECODE_BLOCK_SIZE)];
+		long id = 1;
+		for(int bl = 0; bl < _size; bl += tmp.length) {
+			final int bu = Math.min(bl + tmp.length, _size);
+			decode(tmp, 0, bl, bu);
+			for(int i = 0; i < bu - bl; i++) {
+				final Object val = _vt == ValueType.INT32 ? (Object) Integer.valueOf((int) tmp[i]) : Long.valueOf(tmp[i]);
+				if(map.putIfAbsent((T) val, id) == null)
+					id++;
+			}
+		}
+		return map;
+	}
+
+	@Override
+	public long getInMemorySize() {
+		return super.getInMemorySize() + 8 + 4 + (long) MemoryEstimates.longArrayCost(_data.length);
+	}
+
+	@Override
+	public boolean possiblyContainsNaN() {
+		return false;
+	}
+
+	protected boolean equalsPacked(ABitPackedArray<T> o) {
+		return _vt == o._vt && _size == o._size && _bits == o._bits && Arrays.equals(_data, o._data);
+	}
+
+	/**
+	 * Estimate the smallest bit packed encoding of a plain INT32 or INT64 array.
+	 * 
+	 * @param arr The array to analyze
+	 * @return The best bit packed type and its estimated in memory size, or null if not applicable
+	 */
+	public static Pair<FrameArrayType, Long> estimateInMemorySize(Array<?> arr) {
+		final int s = arr.size();
+		if(s <= 10)
+			return null;
+
+		// scan the plain values directly, without a copy to long[] on every statistics call.
+		final long[] r; // min, max, min difference, max difference
+		if(arr instanceof LongArray)
+			r = getRanges(((LongArray) arr).get(), s);
+		else if(arr instanceof IntegerArray)
+			r = getRanges(((IntegerArray) arr).get(), s);
+		else
+			return null;
+
+		final long forSize = FORArray.estimateInMemorySize(bitsNeeded(r[1] - r[0]), s);
+		final long deltaSize = DeltaArray.estimateInMemorySize(bitsNeeded(r[3] - r[2]), s);
+		return deltaSize < forSize ? //
+			new Pair<>(FrameArrayType.DELTA, deltaSize) : //
+			new Pair<>(FrameArrayType.FOR, forSize);
+	}
+
+	private static long[] getRanges(long[] vals, int s) {
+		long min = vals[0];
+		long max = vals[0];
+		long minD = vals[1] - vals[0];
+		long maxD = minD;
+		for(int i = 1; i < s; i++) {
+			final long d = vals[i] - vals[i - 1];
+			min = Math.min(min, vals[i]);
+			max = Math.max(max, vals[i]);
+			minD = Math.min(minD, d);
+			maxD = Math.max(maxD, d);
+		}
+		return new long[] {min, max, minD, maxD};
+	}
+
+	private static long[] getRanges(int[] vals, int s) {
+		long min = vals[0];
+		long max = vals[0];
+		long minD = (long) vals[1] - vals[0];
+		long maxD = minD;
+		for(int i = 1; i < s; i++) {
+			final long d = (long) vals[i] - vals[i - 1];
+			min = Math.min(min, vals[i]);
+			max = Math.max(max, vals[i]);
+			minD = Math.min(minD, d);
+			maxD = Math.max(maxD, d);
+		}
+		return new long[] {min, max, minD, maxD};
+	}
+
+	/**
+	 * Allocate a zeroed packed array for the given number of values.
+	 * 
+	 * @param nVal The number of values
+	 * @param bits The number of bits per value
+	 * @return The allocated long array
+	 */
+	protected static long[] allocatePacked(int nVal, int bits) {
+		return new long[(int) (((long) nVal * bits + 63) >>> 6)];
+	}
+
+	/**
+	 * The number of bits needed to represent the unsigned range.
+	 * 
+	 * @param range The difference between the max and min value, interpreted as unsigned
+	 * @return The number of bits
+	 */
+	public static int bitsNeeded(long range) {
+		return 64 - Long.numberOfLeadingZeros(range);
+	}
+
+	/**
+	 * Read the unsigned value at index i.
+	 * 
+	 * @param data The packed data
+	 * @param bits The number of bits per value
+	 * @param i    The index
+	 * @return The unsigned value
+	 */
+	protected static long unpack(long[] data, int bits, int i) {
+		if(bits == 0)
+			return 0;
+		final long bitPos = (long) i * bits;
+		final int w = (int) (bitPos >>> 6);
+		final int off = (int) (bitPos & 63);
+		long v = data[w] >>> off;
+		if(off + bits > 64)
+			v |= data[w + 1] << (64 - off);
+		return bits == 64 ? v : v & ((1L << bits) - 1);
+	}
+
+	/**
+	 * Write the unsigned value at index i, the target bits must be zero before.
+	 * 
+	 * @param data The packed data
+	 * @param bits The number of bits per value
+	 * @param i    The index
+	 * @param v    The unsigned value
+	 */
+	protected static void pack(long[] data, int bits, int i, long v) {
+		if(bits == 0)
+			return;
+		final long bitPos = (long) i * bits;
+		final int w = (int) (bitPos >>> 6);
+		final int off = (int) (bitPos & 63);
+		data[w] |= v << off;
+		if(off + bits > 64)
+			data[w + 1] |= v >>> (64 - off);
+	}
+
+	/**
+	 * Get the values of a plain INT32 or INT64 array as longs, or null if the array is of another type. Note the
+	 * returned array can be longer than the size of the input array.
+	 * 
+	 * @param arr The array
+	 * @return The values or null
+	 */
+	protected static long[] getLongs(Array<?> arr) {
+		if(arr instanceof LongArray)
+			return ((LongArray) arr).get();
+		else if(arr instanceof IntegerArray) {
+			final int[] d = ((IntegerArray) arr).get();
+			final long[] ret = new long[arr.size()];
+			for(int i = 0; i < ret.length; i++)
+				ret[i] = d[i];
+			return ret;
+		}
+		return null;
+	}
+}
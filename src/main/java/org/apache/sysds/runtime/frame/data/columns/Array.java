@@ -694,6 +694,20 @@ public abstract class Array<T> implements Writable {
 	 */
 	public abstract double hashDouble(int idx);
 
+	/**
+	 * Hash the given range of the array. It is allowed to return NaN on null elements.
+	 * 
+	 * @param ret The array to put the hash values into starting at index 0
+	 * @param rl  The row start
+	 * @param ru  The row end (not included)
+	 * @return The hash values of the range
+	 */
+	public double[] hashDouble(double[] ret, int rl, int ru) {
+		for(int i = rl; i < ru; i++)
+			ret[i - rl] = hashDouble(i);
+		return ret;
+	}
+
 	public ArrayIterator getIterator() {
 		return new ArrayIterator();
 	}
@@ -771,7 +785,14 @@ public abstract class Array<T> implements Writable {
 
 		long ddcSize = DDCArray.estimateInMemorySize(memSizePerElement, estDistinct, size());
 
-		if(ddcSize < memSize)
+		// high cardinality integer columns with a narrow range or small steps.
+		final Pair<FrameArrayType, Long> bpSize = vt.getKey() == getValueType() && !vt.getValue() ? //
+			ABitPackedArray.estimateInMemorySize(this) : null;
+
+		if(bpSize != null && bpSize.getValue() < ddcSize && bpSize.getValue() < memSize)
+			return new ArrayCompressionStatistics(memSizePerElement, //
+				estDistinct, true, vt.getKey(), vt.getValue(), bpSize.getKey(), getInMemorySize(), bpSize.getValue());
+		else if(ddcSize < memSize)
 			return new ArrayCompressionStatistics(memSizePerElement, //
 				estDistinct, true, vt.getKey(), vt.getValue(), FrameArrayType.DDC, getInMemorySize(), ddcSize);
 		else if(vt.getKey() != getValueType() )
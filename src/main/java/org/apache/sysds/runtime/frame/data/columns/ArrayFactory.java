@@ -39,7 +39,7 @@ public interface ArrayFactory {
 	public enum FrameArrayType {
 		STRING, BOOLEAN, BITSET, INT32, INT64, FP32, FP64, 
 		CHARACTER, RAGGED, OPTIONAL, DDC,
-		HASH64;
+		HASH64, FOR, DELTA;
 	}
 
 	public static StringArray create(String[] col) {
@@ -245,6 +245,10 @@ public interface ArrayFactory {
 				return OptionalArray.readOpt(in, nRow);
 			case DDC:
 				return DDCArray.read(in);
+			case FOR:
+				return FORArray.read(in, nRow);
+			case DELTA:
+				return DeltaArray.read(in, nRow);
 			case STRING:
 				arr = new StringArray(new String[nRow]);
 				break;
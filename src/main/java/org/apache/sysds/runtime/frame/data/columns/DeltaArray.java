@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
+import org.apache.sysds.utils.MemoryEstimates;
+
+/**
+ * A delta encoded version of an integer column array, each row is stored as the bit packed difference to the
+ * previous row minus the minimum difference. This suits sorted or slowly changing columns such as timestamps and
+ * sequential ids. To bound the cost of random access the decoded value of every ANCHOR_INTERVAL rows is kept.
+ */
+public class DeltaArray<T> extends ABitPackedArray<T> {
+
+	/** The number of rows between decoded anchor values */
+	public static final int ANCHOR_INTERVAL = 64;
+
+	/** The minimum difference between two consecutive rows */
+	private final long _minDelta;
+	/** The decoded value of every ANCHOR_INTERVAL rows */
+	private final long[] _anchors;
+
+	protected DeltaArray(ValueType vt, int size, long first, long minDelta, int bits, long[] data) {
+		super(vt, size, bits, data);
+		_minDelta = minDelta;
+		_anchors = new long[(size + ANCHOR_INTERVAL - 1) / ANCHOR_INTERVAL];
+		long v = first;
+		if(_anchors.length > 0)
+			_anchors[0] = v;
+		for(int i = 1; i < size; i++) {
+			v += minDelta + unpack(data, bits, i);
+			if(i % ANCHOR_INTERVAL == 0)
+				_anchors[i / ANCHOR_INTERVAL] = v;
+		}
+	}
+
+	public long getMinDelta() {
+		return _minDelta;
+	}
+
+	/**
+	 * Try to compress array into the delta format.
+	 * 
+	 * @param <T> The type of the Array
+	 * @param arr The array to try to compress
+	 * @return Either a compressed version or the original.
+	 */
+	public static <T> Array<T> compressToDelta(Array<T> arr) {
+		final long[] vals = getLongs(arr);
+		final int s = arr.size();
+		if(vals == null || s <= 10)
+			return arr;
+
+		// overflowing differences are fine since decoding wraps around the same way.
+		long minD = vals[1] - vals[0];
+		long maxD = minD;
+		for(int i = 2; i < s; i++) {
+			final long d = vals[i] - vals[i - 1];
+			minD = Math.min(minD, d);
+			maxD = Math.max(maxD, d);
+		}
+
+		final int bits = bitsNeeded(maxD - minD);
+		if(estimateInMemorySize(bits, s) >= arr.getInMemorySize())
+			return arr;
+
+		final long[] data = allocatePacked(s, bits);
+		for(int i = 1; i < s; i++)
+			pack(data, bits, i, vals[i] - vals[i - 1] - minD);
+		return new DeltaArray<>(arr.getValueType(), s, vals[0], minD, bits, data);
+	}
+
+	@Override
+	public long getLong(int i) {
+		final int a = i / ANCHOR_INTERVAL;
+		long v = _anchors[a];
+		for(int j = a * ANCHOR_INTERVAL + 1; j <= i; j++)
+			v += _minDelta + unpack(_data, _bits, j);
+		return v;
+	}
+
+	@Override
+	protected void decode(long[] ret, int off, int rl, int ru) {
+		if(rl >= ru)
+			return;
+		long v = getLong(rl);
+		ret[off] = v;
+		for(int i = rl + 1; i < ru; i++) {
+			v += _minDelta + unpack(_data, _bits, i);
+			ret[off + i - rl] = v;
+		}
+	}
+
+	@Override
+	public Array<T> slice(int rl, int ru) {
+		final int s = ru - rl;
+		final long[] data = allocatePacked(s, _bits);
+		for(int i = rl + 1; i < ru; i++)
+			pack(data, _bits, i - rl, unpack(_data, _bits, i));
+		return new DeltaArray<>(_vt, s, s > 0 ? getLong(rl) : 0, _minDelta, _bits, data);
+	}
+
+	@Override
+	public Array<T> select(boolean[] select, int nTrue) {
+		// the differences change with the selection, therefore encode again.
+		return compressToDelta(decompress().select(select, nTrue));
+	}
+
+	@Override
+	protected ABitPackedArray<?> withValueType(ValueType vt) {
+		return new DeltaArray<>(vt, _size, _anchors.length > 0 ? _anchors[0] : 0, _minDelta, _bits, _data);
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		out.writeByte(FrameArrayType.DELTA.ordinal());
+		out.writeBoolean(_vt == ValueType.INT64);
+		out.writeLong(_anchors.length > 0 ? _anchors[0] : 0);
+		out.writeLong(_minDelta);
+		out.writeByte(_bits);
+		for(int i = 0; i < _data.length; i++)
+			out.writeLong(_data[i]);
+	}
+
+	public static DeltaArray<?> read(DataInput in, int nRow) throws IOException {
+		final ValueType vt = in.readBoolean() ? ValueType.INT64 : ValueType.INT32;
+		final long first = in.readLong();
+		final long minDelta = in.readLong();
+		final int bits = in.readByte();
+		final long[] data = allocatePacked(nRow, bits);
+		for(int i = 0; i < data.length; i++)
+			data[i] = in.readLong();
+		return new DeltaArray<>(vt, nRow, first, minDelta, bits, data);
+	}
+
+	@Override
+	public FrameArrayType getFrameArrayType() {
+		return FrameArrayType.DELTA;
+	}
+
+	@Override
+	public long getExactSerializedSize() {
+		return 1L + 1L + 8L + 8L + 1L + 8L * _data.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _anchors.length == 0 || (_anchors[0] == 0 && _minDelta == 0 && _bits == 0);
+	}
+
+	@Override
+	public long getInMemorySize() {
+		return super.getInMemorySize() + 8 + 8 + (long) MemoryEstimates.longArrayCost(_anchors.length);
+	}
+
+	/**
+	 * Estimate the in memory size of a delta array.
+	 * 
+	 * @param bits The number of bits per difference
+	 * @param nRow The number of rows
+	 * @return The estimated size in bytes
+	 */
+	public static long estimateInMemorySize(int bits, int nRow) {
+		return baseMemoryCost() + 8 + 4 + 8 + 8 + (long) MemoryEstimates.longArrayCost(((long) nRow * bits + 63) >>> 6) +
+			(long) MemoryEstimates.longArrayCost((nRow + ANCHOR_INTERVAL - 1) / ANCHOR_INTERVAL);
+	}
+
+	@Override
+	public boolean equals(Array<T> other) {
+		if(other instanceof DeltaArray) {
+			DeltaArray<T> ot = (DeltaArray<T>) other;
+			return _minDelta == ot._minDelta && equalsPacked(ot) &&
+				(_anchors.length == 0 || _anchors[0] == ot._anchors[0]);
+		}
+		else
+			return false;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("\n%15s", "MinDelta: "));
+		sb.append(_minDelta);
+		sb.append(String.format("\n%15s", "Bits: "));
+		sb.append(_bits);
+		sb.append(String.format("\n%15s", "Data: "));
+		sb.append(decompress());
+		return sb.toString();
+	}
+}
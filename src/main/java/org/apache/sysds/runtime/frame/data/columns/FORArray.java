@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.frame.data.columns;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
+import org.apache.sysds.utils.MemoryEstimates;
+
+/**
+ * A frame of reference version of an integer column array, each row is stored as the bit packed offset from the
+ * minimum value. With a reference of zero it is plain bit packing.
+ */
+public class FORArray<T> extends ABitPackedArray<T> {
+
+	/** The reference value, all offsets are relative to this */
+	private final long _reference;
+
+	protected FORArray(ValueType vt, int size, long reference, int bits, long[] data) {
+		super(vt, size, bits, data);
+		_reference = reference;
+	}
+
+	public long getReference() {
+		return _reference;
+	}
+
+	/**
+	 * Try to compress array into the frame of reference format.
+	 * 
+	 * @param <T> The type of the Array
+	 * @param arr The array to try to compress
+	 * @return Either a compressed version or the original.
+	 */
+	public static <T> Array<T> compressToFOR(Array<T> arr) {
+		final long[] vals = getLongs(arr);
+		final int s = arr.size();
+		if(vals == null || s <= 10)
+			return arr;
+
+		long min = vals[0];
+		long max = vals[0];
+		for(int i = 1; i < s; i++) {
+			min = Math.min(min, vals[i]);
+			max = Math.max(max, vals[i]);
+		}
+
+		final int bits = bitsNeeded(max - min);
+		if(estimateInMemorySize(bits, s) >= arr.getInMemorySize())
+			return arr;
+
+		final long[] data = allocatePacked(s, bits);
+		for(int i = 0; i < s; i++)
+			pack(data, bits, i, vals[i] - min);
+		return new FORArray<>(arr.getValueType(), s, min, bits, data);
+	}
+
+	@Override
+	public long getLong(int i) {
+		return _reference + unpack(_data, _bits, i);
+	}
+
+	@Override
+	protected void decode(long[] ret, int off, int rl, int ru) {
+		for(int i = rl; i < ru; i++)
+			ret[off + i - rl] = _reference + unpack(_data, _bits, i);
+	}
+
+	@Override
+	public Array<T> slice(int rl, int ru) {
+		final int s = ru - rl;
+		final long[] data = allocatePacked(s, _bits);
+		for(int i = rl; i < ru; i++)
+			pack(data, _bits, i - rl, unpack(_data, _bits, i));
+		return new FORArray<>(_vt, s, _reference, _bits, data);
+	}
+
+	@Override
+	public Array<T> select(boolean[] select, int nTrue) {
+		final long[] data = allocatePacked(nTrue, _bits);
+		int j = 0;
+		for(int i = 0; i < select.length; i++)
+			if(select[i])
+				pack(data, _bits, j++, unpack(_data, _bits, i));
+		return new FORArray<>(_vt, nTrue, _reference, _bits, data);
+	}
+
+	@Override
+	protected ABitPackedArray<?> withValueType(ValueType vt) {
+		return new FORArray<>(vt, _size, _reference, _bits, _data);
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		out.writeByte(FrameArrayType.FOR.ordinal());
+		out.writeBoolean(_vt == ValueType.INT64);
+		out.writeLong(_reference);
+		out.writeByte(_bits);
+		for(int i = 0; i < _data.length; i++)
+			out.writeLong(_data[i]);
+	}
+
+	public static FORArray<?> read(DataInput in, int nRow) throws IOException {
+		final ValueType vt = in.readBoolean() ? ValueType.INT64 : ValueType.INT32;
+		final long reference = in.readLong();
+		final int bits = in.readByte();
+		final long[] data = allocatePacked(nRow, bits);
+		for(int i = 0; i < data.length; i++)
+			data[i] = in.readLong();
+		return new FORArray<>(vt, nRow, reference, bits, data);
+	}
+
+	@Override
+	public FrameArrayType getFrameArrayType() {
+		return FrameArrayType.FOR;
+	}
+
+	@Override
+	public long getExactSerializedSize() {
+		return 1L + 1L + 8L + 1L + 8L * _data.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _reference == 0 && _bits == 0;
+	}
+
+	@Override
+	public long getInMemorySize() {
+		return super.getInMemorySize() + 8;
+	}
+
+	/**
+	 * Estimate the in memory size of a frame of reference array.
+	 * 
+	 * @param bits The number of bits per value
+	 * @param nRow The number of rows
+	 * @return The estimated size in bytes
+	 */
+	public static long estimateInMemorySize(int bits, int nRow) {
+		return baseMemoryCost() + 8 + 4 + 8 + (long) MemoryEstimates.longArrayCost(((long) nRow * bits + 63) >>> 6);
+	}
+
+	@Override
+	public boolean equals(Array<T> other) {
+		if(other instanceof FORArray) {
+			FORArray<T> ot = (FORArray<T>) other;
+			return _reference == ot._reference && equalsPacked(ot);
+		}
+		else
+			return false;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("\n%15s", "Reference: "));
+		sb.append(_reference);
+		sb.append(String.format("\n%15s", "Bits: "));
+		sb.append(_bits);
+		sb.append(String.format("\n%15s", "Data: "));
+		sb.append(decompress());
+		return sb.toString();
+	}
+}
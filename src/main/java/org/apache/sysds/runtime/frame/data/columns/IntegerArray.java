@@ -81,6 +81,11 @@ public class IntegerArray extends Array<Integer> {
 
 	@Override
 	public void set(int rl, int ru, Array<Integer> value, int rlSrc) {
+		if(value instanceof ABitPackedArray) {
+			// sequential decode instead of random access per row
+			((ABitPackedArray<Integer>) value).decode(_data, rl, rlSrc, rlSrc + ru - rl + 1);
+			return;
+		}
 		try {
 			// try system array copy.
 			// but if it does not work, default to get.
@@ -80,6 +80,11 @@ public class LongArray extends Array<Long> {
 
 	@Override
 	public void set(int rl, int ru, Array<Long> value, int rlSrc) {
+		if(value instanceof ABitPackedArray) {
+			// sequential decode instead of random access per row
+			((ABitPackedArray<Long>) value).decode(_data, rl, rlSrc, rlSrc + ru - rl + 1);
+			return;
+		}
 		try {
 			// try system array copy.
 			// but if it does not work, default to get.
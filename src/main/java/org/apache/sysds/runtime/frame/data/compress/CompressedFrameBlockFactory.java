@@ -30,6 +30,8 @@ import org.apache.sysds.runtime.compress.workload.WTreeRoot;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
 import org.apache.sysds.runtime.frame.data.columns.Array;
 import org.apache.sysds.runtime.frame.data.columns.DDCArray;
+import org.apache.sysds.runtime.frame.data.columns.DeltaArray;
+import org.apache.sysds.runtime.frame.data.columns.FORArray;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 
 public class CompressedFrameBlockFactory {
@@ -119,12 +121,17 @@ public class CompressedFrameBlockFactory {
 				compressedColumns[i] = in.getColumn(i).safeChangeType(stats[i].valueType, stats[i].containsNull);
 			}
 			else{
-				// commented out because no other encodings are supported yet
 				switch(stats[i].bestType) {
 					case DDC:
 						compressedColumns[i] = DDCArray.compressToDDC(in.getColumn(i), stats[i].valueType,
 							stats[i].containsNull);
 						break;
+					case FOR:
+						compressedColumns[i] = FORArray.compressToFOR(in.getColumn(i));
+						break;
+					case DELTA:
+						compressedColumns[i] = DeltaArray.compressToDelta(in.getColumn(i));
+						break;
 					default:
 						LOG.error("Unsupported encoding default to do nothing: " + stats[i].bestType);
 						compressedColumns[i] = in.getColumn(i);
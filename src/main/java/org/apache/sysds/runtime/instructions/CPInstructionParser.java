@@ -284,6 +284,7 @@ public class CPInstructionParser extends InstructionParser {
 		String2CPInstructionType.put( "avgpooling_backward"      , CPType.Dnn);
 		String2CPInstructionType.put( "conv2d"      , CPType.Dnn);
 		String2CPInstructionType.put( "conv2d_bias_add"      , CPType.Dnn);
+		String2CPInstructionType.put( "conv2d_bias_add_relu" , CPType.Dnn);
 		String2CPInstructionType.put( "conv2d_backward_filter"      , CPType.Dnn);
 		String2CPInstructionType.put( "conv2d_backward_data"      , CPType.Dnn);
 		String2CPInstructionType.put( "bias_add"      , CPType.Dnn);
@@ -442,15 +442,15 @@ public class InstructionUtils {
 		}
 		else if ( opcode.equalsIgnoreCase("uacd") ) {
 			aggun = new CountDistinctOperator(AggregateUnaryCPInstruction.AUType.COUNT_DISTINCT,
-					Direction.RowCol, ReduceAll.getReduceAllFnObject());
+					Direction.RowCol, ReduceAll.getReduceAllFnObject(), numThreads);
 		}
 		else if ( opcode.equalsIgnoreCase("uacdr") ) {
 			aggun = new CountDistinctOperator(AggregateUnaryCPInstruction.AUType.COUNT_DISTINCT,
-					Direction.Row, ReduceCol.getReduceColFnObject());
+					Direction.Row, ReduceCol.getReduceColFnObject(), numThreads);
 		}
 		else if ( opcode.equalsIgnoreCase("uacdc") ) {
 			aggun = new CountDistinctOperator(AggregateUnaryCPInstruction.AUType.COUNT_DISTINCT,
-					Direction.Col, ReduceRow.getReduceRowFnObject());
+					Direction.Col, ReduceRow.getReduceRowFnObject(), numThreads);
 		}
 		else if ( opcode.equalsIgnoreCase("uacdap") ) {
 			aggun = new CountDistinctOperator(AggregateUnaryCPInstruction.AUType.COUNT_DISTINCT_APPROX,
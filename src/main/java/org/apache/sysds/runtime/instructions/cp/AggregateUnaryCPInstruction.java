@@ -26,6 +26,7 @@ import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ExecMode;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.data.BasicTensorBlock;
 import org.apache.sysds.runtime.data.TensorBlock;
@@ -34,6 +35,7 @@ import org.apache.sysds.runtime.instructions.InstructionUtils;
 import org.apache.sysds.runtime.lineage.LineageDedupUtils;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.matrix.data.LibMatrixCountDistinct;
+import org.apache.sysds.runtime.matrix.data.LibMatrixOOC;
 import org.apache.sysds.runtime.matrix.data.LibMatrixSketch;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
@@ -231,7 +233,7 @@ public class AggregateUnaryCPInstruction extends UnaryCPInstruction {
 				}
 				UnarySketchOperator op = (UnarySketchOperator) _optr;
 
-				MatrixBlock res = LibMatrixSketch.getUniqueValues(input, op.getDirection());
+				MatrixBlock res = LibMatrixSketch.getUniqueValues(input, op.getDirection(), op.getNumThreads());
 				ec.releaseMatrixInput(input1.getName());
 				ec.setMatrixOutput(outputName, res);
 				break;
@@ -240,12 +242,18 @@ public class AggregateUnaryCPInstruction extends UnaryCPInstruction {
 			default: {
 				AggregateUnaryOperator au_op = (AggregateUnaryOperator) _optr;
 				if (input1.getDataType() == DataType.MATRIX) {
-					MatrixBlock matBlock = ec.getMatrixInput(input1.getName());
-					
-					MatrixBlock resultBlock = matBlock.aggregateUnaryOperations(au_op, new MatrixBlock(),
-						matBlock.getNumRows(), new MatrixIndexes(1, 1), true);
-
-					ec.releaseMatrixInput(input1.getName());
+					MatrixObject inObj = ec.getMatrixObject(input1);
+					MatrixBlock resultBlock = null;
+					if( LibMatrixOOC.isStreamable(inObj) && LibMatrixOOC.isStreamableAggregate(au_op) ) {
+						//out-of-core streaming over large on-disk inputs
+						resultBlock = LibMatrixOOC.aggregateUnary(inObj, au_op);
+					}
+					else {
+						MatrixBlock matBlock = ec.getMatrixInput(input1.getName());
+						resultBlock = matBlock.aggregateUnaryOperations(au_op, new MatrixBlock(),
+							matBlock.getNumRows(), new MatrixIndexes(1, 1), true);
+						ec.releaseMatrixInput(input1.getName());
+					}
 					if (output.getDataType() == DataType.SCALAR) {
 						DoubleObject ret = new DoubleObject(resultBlock.get(0, 0));
 						ec.setScalarOutput(outputName, ret);
@@ -20,10 +20,12 @@
 package org.apache.sysds.runtime.instructions.cp;
 
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
 import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
 import org.apache.sysds.runtime.matrix.data.LibMatrixBincell;
+import org.apache.sysds.runtime.matrix.data.LibMatrixOOC;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.Operator;
@@ -59,6 +61,20 @@ public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
 
 	@Override
 	public void processInstruction(ExecutionContext ec) {
+		// Out-of-core streaming of large on-disk lhs w/ in-memory rhs
+		MatrixObject inObj1 = ec.getMatrixObject(input1);
+		if( !inplace && LibMatrixOOC.isStreamable(inObj1)
+			&& !LibMatrixOOC.isStreamable(ec.getMatrixObject(input2))
+			&& !LibCommonsMath.isSupportedMatrixMatrixOperation(getOpcode()) ) {
+			MatrixBlock rhs = ec.getMatrixInput(input2.getName());
+			if( LibMatrixOOC.isStreamableBinary(inObj1, rhs) && !(rhs instanceof CompressedMatrixBlock) ) {
+				LibMatrixOOC.binaryOperations(inObj1, rhs, (BinaryOperator) _optr, ec.getMatrixObject(output));
+				ec.releaseMatrixInput(input2.getName());
+				return;
+			}
+			ec.releaseMatrixInput(input2.getName());
+		}
+		
 		// Read input matrices
 		MatrixBlock inBlock1 = ec.getMatrixInput(input1.getName());
 		MatrixBlock inBlock2 = ec.getMatrixInput(input2.getName());
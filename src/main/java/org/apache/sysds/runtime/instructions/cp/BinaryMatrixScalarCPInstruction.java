@@ -20,8 +20,10 @@
 package org.apache.sysds.runtime.instructions.cp;
 
 import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixOOC;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
@@ -43,6 +45,15 @@ public class BinaryMatrixScalarCPInstruction extends BinaryCPInstruction {
 		CPOperand mat = ( input1.getDataType() == DataType.MATRIX ) ? input1 : input2;
 		CPOperand scalar = ( input1.getDataType() == DataType.MATRIX ) ? input2 : input1;
 		
+		//out-of-core streaming over large on-disk inputs
+		MatrixObject inObj = ec.getMatrixObject(mat);
+		if( LibMatrixOOC.isStreamable(inObj) ) {
+			ScalarOperator sc_op = ((ScalarOperator) _optr)
+				.setConstant(ec.getScalarInput(scalar).getDoubleValue());
+			LibMatrixOOC.scalarOperations(inObj, sc_op, ec.getMatrixObject(output));
+			return;
+		}
+		
 		MatrixBlock inBlock = ec.getMatrixInput(mat.getName());
 		ScalarObject constant = ec.getScalarInput(scalar);
 
@@ -207,7 +207,7 @@ public class DnnCPInstruction extends UnaryCPInstruction {
 			return new DnnCPInstruction(in, in2, out, opcode, str, stride,
 					padding, input_shape, filter_shape, k, Double.parseDouble(parts[17]));
 		}
-		else if (opcode.equalsIgnoreCase("conv2d_bias_add")) {
+		else if (opcode.equalsIgnoreCase("conv2d_bias_add") || opcode.equalsIgnoreCase("conv2d_bias_add_relu")) {
 			InstructionUtils.checkNumFields(parts, 18);
 			// dout, stride1, stride2, padding1, padding2
 			// input_shape1, input_shape2, input_shape3, input_shape4,
@@ -640,8 +640,9 @@ public class DnnCPInstruction extends UnaryCPInstruction {
 			}
 			ec.releaseMatrixInput(_in2.getName());
 		}
-		else if (instOpcode.equalsIgnoreCase("conv2d_bias_add")) {
+		else if (instOpcode.equalsIgnoreCase("conv2d_bias_add") || instOpcode.equalsIgnoreCase("conv2d_bias_add_relu")) {
 			resetNumThreads(params, C*R*S, P*Q, matBlock.getNonZeros() / (matBlock.getNumRows()*matBlock.getNumColumns()));
+			params.fuseReLU = instOpcode.equalsIgnoreCase("conv2d_bias_add_relu");
 			MatrixBlock filter = ec.getMatrixInput(_in3.getName());
 			MatrixBlock bias = ec.getMatrixInput(_in2.getName());
 			if(bias.getNumRows() != params.K || bias.getNumColumns() != 1) {
@@ -660,6 +661,14 @@ public class DnnCPInstruction extends UnaryCPInstruction {
 				for(int n = 0;  n < params.N; n++) 
 					DnnUtils.fillBias(bias, outputBlock.getDenseBlockValues(),
 						n, n+1, params.N, params.K, params.P*params.Q);
+				if(params.fuseReLU) {
+					// relu(bias_add(empty mb, bias))
+					double[] c = outputBlock.getDenseBlockValues();
+					for(int i = 0; i < c.length; i++)
+						c[i] = Math.max(c[i], 0);
+					outputBlock.recomputeNonZeros();
+					outputBlock.examSparsity();
+				}
 			}
 			else {
 				outputBlock = new MatrixBlock(N, K*P*Q, false).allocateBlock();
@@ -24,6 +24,7 @@ import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.matrix.data.LibCommonsMath;
+import org.apache.sysds.runtime.matrix.data.LibMatrixOOC;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
@@ -36,6 +37,14 @@ public class UnaryMatrixCPInstruction extends UnaryCPInstruction {
 	@Override 
 	public void processInstruction(ExecutionContext ec) {
 		MatrixObject inObj = ec.getMatrixObject(input1);
+		
+		//out-of-core streaming of cell-wise operations over large on-disk inputs
+		if( LibMatrixOOC.isStreamable(inObj) && !LibCommonsMath.isSupportedUnaryOperation(getOpcode())
+			&& LibMatrixOOC.isStreamableUnary((UnaryOperator) _optr) ) {
+			LibMatrixOOC.unaryOperations(inObj, (UnaryOperator) _optr, ec.getMatrixObject(output));
+			return;
+		}
+		
 		MatrixBlock inBlock = inObj.acquireRead();
 		MatrixBlock retBlock = null;
 		
@@ -59,12 +59,17 @@ public class AggregateUnarySketchSPInstruction extends UnarySPInstruction {
 
 	public static AggregateUnarySketchSPInstruction parseInstruction(String str) {
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
-		InstructionUtils.checkNumFields(parts, 3);
+		int numFields = InstructionUtils.checkNumFields(parts, 3, 4);
 		String opcode = parts[0];
 
 		CPOperand in1 = new CPOperand(parts[1]);
 		CPOperand out = new CPOperand(parts[2]);
 		AggBinaryOp.SparkAggType aggtype = AggBinaryOp.SparkAggType.valueOf(parts[3]);
+		// optional sketch type of approximate count distinct (KMV by default)
+		CountDistinctOperatorTypes sketchType = (numFields == 4) ?
+			CountDistinctOperatorTypes.valueOf(parts[4].toUpperCase()) : CountDistinctOperatorTypes.KMV;
+		if(sketchType == CountDistinctOperatorTypes.COUNT)
+			throw new DMLException("Invalid sketch type for approximate count distinct: " + sketchType);
 
 		CountDistinctOperator cdop = null;
 		if(opcode.equals("uacd")) {
@@ -78,15 +83,15 @@ public class AggregateUnarySketchSPInstruction extends UnarySPInstruction {
 			throw new NotImplementedException("uacdc has not been implemented yet");
 		}
 		else if(opcode.equals("uacdap")) {
-			cdop = new CountDistinctOperator(CountDistinctOperatorTypes.KMV, Types.Direction.RowCol,
+			cdop = new CountDistinctOperator(sketchType, Types.Direction.RowCol,
 				ReduceAll.getReduceAllFnObject(), Hash.HashType.LinearHash);
 		}
 		else if(opcode.equals("uacdapr")) {
-			cdop = new CountDistinctOperator(CountDistinctOperatorTypes.KMV, Types.Direction.Row,
+			cdop = new CountDistinctOperator(sketchType, Types.Direction.Row,
 				ReduceCol.getReduceColFnObject(), Hash.HashType.LinearHash);
 		}
 		else if(opcode.equals("uacdapc")) {
-			cdop = new CountDistinctOperator(CountDistinctOperatorTypes.KMV, Types.Direction.Col,
+			cdop = new CountDistinctOperator(sketchType, Types.Direction.Col,
 				ReduceRow.getReduceRowFnObject(), Hash.HashType.LinearHash);
 		}
 		else {
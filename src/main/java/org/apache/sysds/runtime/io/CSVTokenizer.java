@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Byte-level tokenizer for delimited text lines, used by the parallel CSV readers to avoid splitting lines into
+ * strings and parsing cells from strings. Delimiters are found eight bytes at a time (SWAR), and numbers are parsed
+ * directly from the bytes (Clinger's fast path and the Eisel-Lemire algorithm, with fallback to
+ * {@link Double#parseDouble(String)} for inputs that cannot be decided exactly, such as more than 19 significant
+ * digits or NaN/Infinity literals). Lines with quotes are not tokenized, and the readers fall back to the string-based
+ * parsing for such lines.
+ */
+public class CSVTokenizer {
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+		ByteOrder.LITTLE_ENDIAN);
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGHS = 0x8080808080808080L;
+	private static final long QUOTES = ONES * '"';
+
+	private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+		1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+	private static final int MIN_POW10 = -342;
+	private static final int MAX_POW10 = 308;
+	// 128-bit truncated approximations of 5^q, for q in [MIN_POW10, MAX_POW10]
+	private static final long[] POW5_HIGH = new long[MAX_POW10 - MIN_POW10 + 1];
+	private static final long[] POW5_LOW = new long[MAX_POW10 - MIN_POW10 + 1];
+
+	static {
+		final BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+		final BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		for(int q = MIN_POW10; q <= MAX_POW10; q++) {
+			BigInteger c;
+			if(q < 0) {
+				BigInteger p5 = BigInteger.valueOf(5).pow(-q);
+				int z = p5.bitLength();
+				if(p5.equals(BigInteger.ONE.shiftLeft(z - 1)))
+					z--; // exact power of two (never for 5^q, q>0)
+				int b = (q >= -27) ? z + 127 : 2 * z + 128;
+				c = BigInteger.ONE.shiftLeft(b).divide(p5).add(BigInteger.ONE);
+				if(c.compareTo(two128) >= 0)
+					c = c.shiftRight(c.bitLength() - 128);
+			}
+			else {
+				c = BigInteger.valueOf(5).pow(q);
+				c = c.shiftLeft(128 - c.bitLength());
+				if(c.bitLength() > 128)
+					c = c.shiftRight(c.bitLength() - 128);
+			}
+			POW5_HIGH[q - MIN_POW10] = c.shiftRight(64).longValue();
+			POW5_LOW[q - MIN_POW10] = c.and(mask64).longValue();
+		}
+	}
+
+	private final byte _delim;
+	private final long _delimPattern;
+	private final Set<String> _naStrings;
+	private final boolean _naNumeric;
+
+	private byte[] _buff;
+	private int _pos;
+	private int _end;
+	private boolean _done;
+	private int _ts;
+	private int _te;
+
+	/**
+	 * Creates a tokenizer for a single-byte delimiter (see {@link #isApplicable(String)}).
+	 * 
+	 * @param delim     delimiter
+	 * @param naStrings strings to be interpreted as NaN, or null
+	 */
+	public CSVTokenizer(String delim, Set<String> naStrings) {
+		_delim = (byte) delim.charAt(0);
+		_delimPattern = ONES * (_delim & 0xFF);
+		_naStrings = naStrings;
+		// check if NA strings need to be probed for numeric tokens
+		boolean naNumeric = false;
+		if(naStrings != null)
+			for(String s : naStrings) {
+				byte[] b = s.trim().getBytes(StandardCharsets.UTF_8);
+				naNumeric |= !Double.isNaN(parseDouble(b, 0, b.length));
+			}
+		_naNumeric = naNumeric;
+	}
+
+	public static boolean isApplicable(String delim) {
+		return delim != null && delim.length() == 1 && delim.charAt(0) < 128 && delim.charAt(0) != '"';
+	}
+
+	/**
+	 * Resets the tokenizer to a new line, and trims leading and trailing whitespace of the line.
+	 * 
+	 * @param buff line buffer
+	 * @param len  length of the line in the buffer
+	 * @return false if the line is empty or contains quotes, which require string-based parsing
+	 */
+	public boolean reset(byte[] buff, int len) {
+		int s = 0, e = len;
+		while(s < e && (buff[s] & 0xFF) <= ' ')
+			s++;
+		while(e > s && (buff[e - 1] & 0xFF) <= ' ')
+			e--;
+		_buff = buff;
+		_pos = s;
+		_end = e;
+		_done = false;
+		return s < e && indexOf(buff, s, e, QUOTES, (byte) '"') < 0;
+	}
+
+	/**
+	 * Advances to the next token (including empty tokens), and trims its leading and trailing whitespace.
+	 * 
+	 * @return false if there are no more tokens in the current line
+	 */
+	public boolean next() {
+		if(_done)
+			return false;
+		int d = indexOf(_buff, _pos, _end, _delimPattern, _delim);
+		int s = _pos, e = (d < 0) ? _end : d;
+		while(s < e && (_buff[s] & 0xFF) <= ' ')
+			s++;
+		while(e > s && (_buff[e - 1] & 0xFF) <= ' ')
+			e--;
+		_ts = s;
+		_te = e;
+		_done = d < 0;
+		_pos = d + 1;
+		return true;
+	}
+
+	/**
+	 * Indicates if the current line starts with the given character, which is only valid before the first call of
+	 * {@link #next()}.
+	 * 
+	 * @param c character
+	 * @return true if the trimmed line starts with c
+	 */
+	public boolean startsWith(char c) {
+		return _pos < _end && _buff[_pos] == (byte) c;
+	}
+
+	public boolean isEmpty() {
+		return _ts == _te;
+	}
+
+	public String getString() {
+		return new String(_buff, _ts, _te - _ts, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Parses the current token as double, with NA strings (if any) parsed as NaN.
+	 * 
+	 * @return parsed value
+	 * @throws NumberFormatException if the token is not a number
+	 */
+	public double getDouble() {
+		double ret = _naNumeric ? Double.NaN : tryParseDouble();
+		if(Double.isNaN(ret)) {
+			// fallback for NA strings, special values, and inputs not decidable by the fast path
+			String str = getString();
+			ret = (_naStrings != null && _naStrings.contains(str)) ? Double.NaN : Double.parseDouble(str);
+		}
+		return ret;
+	}
+
+	/**
+	 * Parses the current token as plain decimal number, without NA strings and special values.
+	 * 
+	 * @return parsed value, or NaN if the token requires string-based parsing
+	 */
+	public double tryParseDouble() {
+		return parseDouble(_buff, _ts, _te);
+	}
+
+	/**
+	 * Parses a plain decimal number (optional sign, digits with optional fraction, and optional exponent) from the
+	 * given byte range without allocation.
+	 * 
+	 * @param b byte buffer
+	 * @param s start position (inclusive)
+	 * @param e end position (exclusive)
+	 * @return parsed value, or NaN if the input is not a plain decimal number or cannot be decided exactly
+	 */
+	public static double parseDouble(byte[] b, int s, int e) {
+		int i = s;
+		boolean neg = false;
+		if(i < e && (b[i] == '-' || b[i] == '+'))
+			neg = b[i++] == '-';
+
+		// parse significand (up to 19 significant digits, as unsigned long)
+		long mant = 0;
+		int ndigits = 0, nsig = 0, exp = 0;
+		for(; i < e && b[i] >= '0' && b[i] <= '9'; i++, ndigits++) {
+			if(nsig < 19) {
+				mant = mant * 10 + (b[i] - '0');
+				nsig += (mant != 0) ? 1 : 0;
+			}
+			else
+				return Double.NaN;
+		}
+		if(i < e && b[i] == '.') {
+			for(i++; i < e && b[i] >= '0' && b[i] <= '9'; i++, ndigits++) {
+				if(nsig < 19) {
+					mant = mant * 10 + (b[i] - '0');
+					nsig += (mant != 0) ? 1 : 0;
+					exp--;
+				}
+				else
+					return Double.NaN;
+			}
+		}
+		if(ndigits == 0)
+			return Double.NaN;
+
+		// parse exponent
+		if(i < e && (b[i] == 'e' || b[i] == 'E')) {
+			i++;
+			boolean eneg = false;
+			if(i < e && (b[i] == '-' || b[i] == '+'))
+				eneg = b[i++] == '-';
+			if(i == e)
+				return Double.NaN;
+			int lexp = 0;
+			for(; i < e && b[i] >= '0' && b[i] <= '9'; i++)
+				if(lexp < 100000)
+					lexp = lexp * 10 + (b[i] - '0');
+			exp += eneg ? -lexp : lexp;
+		}
+		if(i != e)
+			return Double.NaN;
+
+		return toDouble(neg, mant, exp);
+	}
+
+	private static double toDouble(boolean neg, long mant, int exp) {
+		if(mant == 0)
+			return neg ? -0d : 0d;
+		// fast path: exact significand and power of ten (Clinger)
+		if(exp >= -22 && exp <= 22 && mant > 0 && mant <= (1L << 53)) {
+			double d = (exp < 0) ? mant / POW10[-exp] : mant * POW10[exp];
+			return neg ? -d : d;
+		}
+		if(exp < MIN_POW10 || exp > MAX_POW10)
+			return Double.NaN;
+
+		// Eisel-Lemire: 128-bit product of normalized significand and 5^exp
+		long exponent = (((152170L + 65536L) * exp) >> 16) + 1024 + 63;
+		int lz = Long.numberOfLeadingZeros(mant);
+		long w = mant << lz;
+		long factor = POW5_HIGH[exp - MIN_POW10];
+		long upper = unsignedMultiplyHigh(w, factor);
+		long lower = w * factor;
+		if((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + w, lower) < 0) {
+			long factorLow = POW5_LOW[exp - MIN_POW10];
+			long productLow = w * factorLow;
+			long productMiddle = lower + unsignedMultiplyHigh(w, factorLow);
+			long productHigh = upper;
+			if(Long.compareUnsigned(productMiddle, lower) < 0)
+				productHigh++;
+			if(productMiddle + 1 == 0 && (productHigh & 0x1FF) == 0x1FF
+				&& Long.compareUnsigned(productLow + w, productLow) < 0)
+				return Double.NaN; // ambiguous
+			upper = productHigh;
+			lower = productMiddle;
+		}
+		long upperbit = upper >>> 63;
+		long m = upper >>> (upperbit + 9);
+		lz += (int) (1 ^ upperbit);
+		if(lower == 0 && (upper & 0x1FF) == 0 && (m & 3) == 1)
+			return Double.NaN; // ambiguous (halfway)
+		m += (m & 1);
+		m >>>= 1;
+		if(m >= (1L << 53)) {
+			m = 1L << 52;
+			lz--;
+		}
+		m &= ~(1L << 52);
+		long realExponent = exponent - lz;
+		if(realExponent < 1 || realExponent > 2046)
+			return Double.NaN; // subnormal or overflow
+		return Double.longBitsToDouble(m | (realExponent << 52) | (neg ? 1L << 63 : 0));
+	}
+
+	private static long unsignedMultiplyHigh(long x, long y) {
+		return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+	}
+
+	private static int indexOf(byte[] b, int s, int e, long pattern, byte c) {
+		int i = s;
+		for(; i + 8 <= e; i += 8) {
+			long x = (long) LONGS.get(b, i) ^ pattern;
+			long t = (x - ONES) & ~x & HIGHS;
+			if(t != 0)
+				return i + (Long.numberOfTrailingZeros(t) >>> 3);
+		}
+		for(; i < e; i++)
+			if(b[i] == c)
+				return i;
+		return -1;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class FileFormatPropertiesParquet extends FileFormatProperties implements Serializable {
+	private static final long serialVersionUID = -4017346617245463217L;
+
+	private final String[] columns;
+	private final String codec;
+
+	public FileFormatPropertiesParquet() {
+		this(null, "uncompressed");
+	}
+
+	/**
+	 * Creates parquet read/write properties. Note that column projections are only
+	 * available via this API, DML reads of parquet files always read all columns.
+	 * 
+	 * @param columns column projection on read (null for all columns)
+	 * @param codec   compression codec on write (e.g., uncompressed, snappy, gzip, zstd)
+	 */
+	public FileFormatPropertiesParquet(String[] columns, String codec) {
+		this.columns = columns;
+		this.codec = codec;
+	}
+
+	public String[] getColumns() {
+		return columns;
+	}
+
+	public boolean hasProjection() {
+		return columns != null;
+	}
+
+	public String getCodec() {
+		return codec;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(" columns " + Arrays.toString(columns));
+		sb.append(" codec " + codec);
+		return sb.toString();
+	}
+}
@@ -51,6 +51,11 @@ public class FrameReaderFactory {
 			case PROTO:
 				// TODO performance improvement: add parallel reader
 				return new FrameReaderProto();
+			case PARQUET:
+				if(props != null && !(props instanceof FileFormatPropertiesParquet))
+					throw new DMLRuntimeException("Wrong type of file format properties for Parquet reader.");
+				FileFormatPropertiesParquet pp = (FileFormatPropertiesParquet) props;
+				return binaryParallel ? new FrameReaderParquetParallel(pp) : new FrameReaderParquet(pp);
 			default:
 				throw new DMLRuntimeException("Failed to create frame reader for unknown format: " + fmt.toString());
 		}
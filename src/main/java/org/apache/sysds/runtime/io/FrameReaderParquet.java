@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+
+/**
+ * Single-threaded frame parquet reader. Parquet is self-describing, and hence, the schema and column names are taken
+ * from the file footers (optionally projected to a subset of columns), not from the given schema and names.
+ */
+public class FrameReaderParquet extends FrameReader {
+	protected final FileFormatPropertiesParquet _props;
+
+	public FrameReaderParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+
+	@Override
+	public FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException {
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// obtain row groups and schema from file footers
+		List<RowGroup> groups = new ArrayList<>();
+		Path[] files = ParquetUtils.getParquetFilePaths(fs, path);
+		MessageType projection = ParquetUtils.getProjection(
+			ParquetUtils.getRowGroups(files, job, groups), _props.getColumns());
+		long nrow = ParquetUtils.getNumRows(groups);
+		int ncol = projection.getColumns().size();
+		if((rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol) || nrow > Integer.MAX_VALUE)
+			throw new IOException("Parquet dimensions " + nrow + "x" + ncol
+				+ " mismatch with metadata " + rlen + "x" + clen + ".");
+
+		// core read (sequential/parallel) into primitive column arrays
+		ValueType[] lschema = ParquetUtils.getSchema(projection);
+		Object[] data = new Object[ncol];
+		for(int j = 0; j < ncol; j++)
+			data[j] = ParquetUtils.allocateColumn(lschema[j], (int) nrow);
+		boolean[][] nulls = new boolean[ncol][];
+		readParquetFrameFromHDFS(groups, job, projection, lschema, data, nulls);
+
+		// wrap columns into output frame
+		Array<?>[] cols = new Array<?>[ncol];
+		for(int j = 0; j < ncol; j++)
+			cols[j] = ParquetUtils.createColumn(lschema[j], data[j], nulls[j]);
+		return new FrameBlock(cols, ParquetUtils.getColumnNames(projection));
+	}
+
+	protected void readParquetFrameFromHDFS(List<RowGroup> groups, JobConf job, MessageType projection,
+		ValueType[] schema, Object[] data, boolean[][] nulls) throws IOException {
+		Path current = null;
+		ParquetFileReader reader = null;
+		try {
+			for(RowGroup g : groups) {
+				if(!g.path.equals(current)) {
+					IOUtilFunctions.closeSilently(reader);
+					reader = ParquetUtils.openReader(g.path, job);
+					current = g.path;
+				}
+				readRowGroup(reader, g, projection, schema, data, nulls);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+
+	protected static void readRowGroup(ParquetFileReader reader, RowGroup g, MessageType projection,
+		ValueType[] schema, Object[] data, boolean[][] nulls) throws IOException {
+		PageReadStore pages = ParquetUtils.readRowGroup(reader, projection, g.index);
+		ColumnReader[] crs = ParquetUtils.createColumnReaders(reader, pages, projection);
+		for(int j = 0; j < crs.length; j++)
+			ParquetUtils.readColumn(crs[j], schema[j], data[j], nulls, j, (int) g.rowOffset, (int) g.rows);
+	}
+
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen,
+		long clen) {
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded frame parquet reader, which decodes the row groups of all part files in parallel into disjoint row
+ * ranges of the shared column arrays.
+ */
+public class FrameReaderParquetParallel extends FrameReaderParquet {
+
+	public FrameReaderParquetParallel(FileFormatPropertiesParquet props) {
+		super(props);
+	}
+
+	@Override
+	protected void readParquetFrameFromHDFS(List<RowGroup> groups, JobConf job, MessageType projection,
+		ValueType[] schema, Object[] data, boolean[][] nulls) throws IOException {
+		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+		if(numThreads <= 1 || groups.size() <= 1) {
+			super.readParquetFrameFromHDFS(groups, job, projection, schema, data, nulls);
+			return;
+		}
+
+		ExecutorService pool = CommonThreadPool.get(Math.min(numThreads, groups.size()));
+		try {
+			// create and execute read tasks for all row groups
+			ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+			for(RowGroup g : groups)
+				tasks.add(new ReadRowGroupTask(g, job, projection, schema, data, nulls));
+			for(Future<Object> task : pool.invokeAll(tasks))
+				task.get();
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of parquet input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class ReadRowGroupTask implements Callable<Object> {
+		private final RowGroup _group;
+		private final JobConf _job;
+		private final MessageType _projection;
+		private final ValueType[] _schema;
+		private final Object[] _data;
+		private final boolean[][] _nulls;
+
+		public ReadRowGroupTask(RowGroup group, JobConf job, MessageType projection, ValueType[] schema,
+			Object[] data, boolean[][] nulls) {
+			_group = group;
+			_job = job;
+			_projection = projection;
+			_schema = schema;
+			_data = data;
+			_nulls = nulls;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			ParquetFileReader reader = ParquetUtils.openReader(_group.path, _job);
+			try {
+				readRowGroup(reader, _group, _projection, _schema, _data, _nulls);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+			return null;
+		}
+	}
+}
@@ -139,11 +139,19 @@ public class FrameReaderTextCSV extends FrameReader {
 			dest.setColumnNames(value.toString().split(delim));
 		}
 
+		// byte-level tokenizer for single-byte delimiters (w/ fallback to string parsing)
+		final CSVTokenizer tok = (naValues == null && CSVTokenizer.isApplicable(delim)) ?
+			new CSVTokenizer(delim, null) : null;
+
 		// Read the data
 		try {
 			String[] parts = null; // cache array for line reading.
 			while(reader.next(key, value)) // foreach line
 			{
+				if(tok != null && assignColumns(row, nCol, dest, value, tok, isFill, dfillValue, sfillValue)) {
+					row++;
+					continue;
+				}
 				boolean emptyValuesFound = false;
 				String cellStr = IOUtilFunctions.trim(value.toString());
 				parts = IOUtilFunctions.splitCSV(cellStr, delim, parts);
@@ -209,6 +217,34 @@ public class FrameReaderTextCSV extends FrameReader {
 		return emptyValuesFound;
 	}
 
+	private static boolean assignColumns(int row, int nCol, FrameBlock dest, Text value, CSVTokenizer tok,
+		boolean isFill, double dfillValue, String sfillValue) {
+		// lines with quotes or frame meta data are parsed from strings
+		if(!tok.reset(value.getBytes(), value.getLength()) || tok.startsWith('#'))
+			return false;
+		int col = 0;
+		while(tok.next()) {
+			if(col == nCol)
+				return false;
+			if(tok.isEmpty()) {
+				if(isFill && dfillValue != 0)
+					dest.set(row, col, sfillValue);
+			}
+			else if(dest.getColumnType(col) == ValueType.FP64) {
+				// parse numbers directly from bytes, and special values from strings
+				double v = tok.tryParseDouble();
+				if(Double.isNaN(v))
+					dest.set(row, col, tok.getString());
+				else
+					dest.getColumn(col).set(row, v);
+			}
+			else
+				dest.set(row, col, tok.getString());
+			col++;
+		}
+		return col == nCol;
+	}
+
 	private boolean assignColumnsNoFillNoNan(int row, int nCol, FrameBlock dest, String[] parts){
 		
 		boolean emptyValuesFound = false;
@@ -50,6 +50,10 @@ public class FrameWriterFactory {
 				return binaryParallel ? new FrameWriterBinaryBlockParallel() : new FrameWriterBinaryBlock();
 			case PROTO:
 				return new FrameWriterProto();
+			case PARQUET:
+				if(props != null && !(props instanceof FileFormatPropertiesParquet))
+					throw new DMLRuntimeException("Wrong type of file format properties for Parquet writer.");
+				return new FrameWriterParquet((FileFormatPropertiesParquet) props);
 			default:
 				throw new DMLRuntimeException("Failed to create frame writer for unknown format: " + fmt.toString());
 		}
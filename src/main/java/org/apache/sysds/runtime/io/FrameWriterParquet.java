@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.OptionalArray;
+import org.apache.sysds.runtime.frame.data.columns.StringArray;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Frame parquet writer, which writes all columns as optional fields of a single parquet file. Characters and hashes
+ * are written as strings.
+ */
+public class FrameWriterParquet extends FrameWriter {
+	protected final FileFormatPropertiesParquet _props;
+
+	public FrameWriterParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+
+	@Override
+	public void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen) throws IOException {
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// validity check frame dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen) {
+			throw new IOException("Frame dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+		}
+
+		writeParquetFrameToHDFS(path, job, src);
+	}
+
+	protected void writeParquetFrameToHDFS(Path path, JobConf job, FrameBlock src) throws IOException {
+		final ValueType[] schema = src.getSchema();
+		final Array<?>[] cols = new Array<?>[schema.length];
+		final boolean[] nullable = new boolean[schema.length];
+		final String[] names = src.getColumnNames();
+		for(int j = 0; j < schema.length; j++) {
+			cols[j] = src.getColumn(j);
+			nullable[j] = cols[j] instanceof OptionalArray || cols[j] instanceof StringArray;
+		}
+		MessageType mschema = ParquetUtils.createSchema(schema, names, true);
+
+		ParquetWriter<Integer> writer = ParquetUtils.createWriter(path, job, mschema, _props.getCodec(),
+			(rc, i) -> writeRow(rc, i, schema, names, cols, nullable));
+		try {
+			for(int i = 0; i < src.getNumRows(); i++)
+				writer.write(i);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	private static void writeRow(RecordConsumer rc, int i, ValueType[] schema, String[] names, Array<?>[] cols,
+		boolean[] nullable) {
+		for(int j = 0; j < schema.length; j++) {
+			Array<?> col = cols[j];
+			if(col == null || (nullable[j] && col.get(i) == null))
+				continue; // null (skip optional field)
+			rc.startField(names[j], j);
+			switch(schema[j]) {
+				case FP64: rc.addDouble(col.getAsDouble(i)); break;
+				case FP32: rc.addFloat((float) col.getAsDouble(i)); break;
+				case INT64: rc.addLong(((Number) col.get(i)).longValue()); break;
+				case UINT8:
+				case INT32: rc.addInteger((int) col.getAsDouble(i)); break;
+				case BOOLEAN: rc.addBoolean(col.getAsDouble(i) != 0); break;
+				default: rc.addBinary(Binary.fromString(col.get(i).toString()));
+			}
+			rc.endField(names[j], j);
+		}
+	}
+}
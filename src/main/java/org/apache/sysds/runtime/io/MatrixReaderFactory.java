@@ -71,6 +71,10 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = ReaderCompressed.create();
 				break;
+
+			case PARQUET:
+				reader = (par & mcsr) ? new ReaderParquetParallel(null) : new ReaderParquet(null);
+				break;
 			
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
@@ -127,6 +131,11 @@ public class MatrixReaderFactory {
 			case COMPRESSED:
 				reader = new ReaderCompressed();
 				break;
+			case PARQUET:
+				FileFormatPropertiesParquet fileFormatPropertiesParquet = props.formatProperties != null ? (FileFormatPropertiesParquet) props.formatProperties : null;
+				reader = (par & mcsr) ? new ReaderParquetParallel(fileFormatPropertiesParquet) : new ReaderParquet(
+					fileFormatPropertiesParquet);
+				break;
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
 		}
@@ -94,6 +94,11 @@ public class MatrixWriterFactory{
 			case COMPRESSED:
 				return WriterCompressed.create(props);
 
+			case PARQUET:
+				if(props != null && !(props instanceof FileFormatPropertiesParquet))
+					throw new DMLRuntimeException("Wrong type of file format properties for Parquet writer.");
+				return new WriterParquet((FileFormatPropertiesParquet) props);
+
 			default:
 				throw new DMLRuntimeException("Failed to create matrix writer for unknown format: " + fmt.toString());
 		}
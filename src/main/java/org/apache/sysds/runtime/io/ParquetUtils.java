@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Type.Repetition;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.OptionalArray;
+
+/**
+ * Shared functionality of the parquet readers and writers for frames and matrices. Row groups are decoded column by
+ * column directly into primitive column arrays (frames) or dense blocks (matrices), without intermediate records.
+ */
+public class ParquetUtils {
+	public static final String SCHEMA_NAME = "systemds";
+
+	private ParquetUtils() {
+		// private constructor for static utility class
+	}
+
+	/** Row group of a parquet part file with its row offset in the overall input. */
+	public static class RowGroup {
+		public final Path path;
+		public final int index;
+		public final long rowOffset;
+		public final long rows;
+
+		public RowGroup(Path path, int index, long rowOffset, long rows) {
+			this.path = path;
+			this.index = index;
+			this.rowOffset = rowOffset;
+			this.rows = rows;
+		}
+	}
+
+	/** Callback for writing the fields of a single row. */
+	public interface RowWriter {
+		public void write(RecordConsumer rc, int row);
+	}
+
+	public static Path[] getParquetFilePaths(FileSystem fs, Path path) throws IOException {
+		// sort part files for a deterministic row order
+		Path[] ret = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		Arrays.sort(ret);
+		return ret;
+	}
+
+	public static ParquetFileReader openReader(Path path, Configuration conf) throws IOException {
+		return ParquetFileReader.open(HadoopInputFile.fromPath(path, conf));
+	}
+
+	/**
+	 * Obtains the row groups of all part files from the file footers, in order of files and row groups.
+	 * 
+	 * @param files parquet part files
+	 * @param conf  hadoop configuration
+	 * @param ret   output list of row groups
+	 * @return schema of the first part file
+	 * @throws IOException if the footers cannot be read or the part files have different schemas
+	 */
+	public static MessageType getRowGroups(Path[] files, Configuration conf, List<RowGroup> ret) throws IOException {
+		MessageType schema = null;
+		long offset = 0;
+		for(Path file : files) {
+			try(ParquetFileReader reader = openReader(file, conf)) {
+				MessageType lschema = reader.getFooter().getFileMetaData().getSchema();
+				if(schema == null)
+					schema = lschema;
+				else if(!schema.equals(lschema))
+					throw new IOException("Incompatible schemas of parquet part files: " + schema + " vs " + lschema);
+				List<BlockMetaData> blocks = reader.getRowGroups();
+				for(int i = 0; i < blocks.size(); i++) {
+					ret.add(new RowGroup(file, i, offset, blocks.get(i).getRowCount()));
+					offset += blocks.get(i).getRowCount();
+				}
+			}
+		}
+		return schema;
+	}
+
+	public static long getNumRows(List<RowGroup> groups) {
+		return groups.isEmpty() ? 0 : groups.get(groups.size() - 1).rowOffset + groups.get(groups.size() - 1).rows;
+	}
+
+	/**
+	 * Creates the requested schema for column projection, and validates that all columns are flat, non-repeated
+	 * primitive fields.
+	 * 
+	 * @param schema  file schema
+	 * @param columns projected column names, or null for all columns
+	 * @return requested schema
+	 * @throws IOException if a column does not exist or is nested/repeated
+	 */
+	public static MessageType getProjection(MessageType schema, String[] columns) throws IOException {
+		MessageType ret = schema;
+		if(columns != null) {
+			List<Type> fields = new ArrayList<>();
+			for(String c : columns) {
+				if(!schema.containsField(c))
+					throw new IOException("Projected column '" + c + "' does not exist in parquet schema: " + schema);
+				fields.add(schema.getType(c));
+			}
+			ret = new MessageType(schema.getName(), fields);
+		}
+		for(ColumnDescriptor cd : ret.getColumns())
+			if(cd.getPath().length != 1 || cd.getMaxRepetitionLevel() > 0)
+				throw new IOException("Unsupported nested or repeated parquet column: " + Arrays.toString(cd.getPath()));
+		return ret;
+	}
+
+	public static String[] getColumnNames(MessageType schema) {
+		List<ColumnDescriptor> cols = schema.getColumns();
+		String[] ret = new String[cols.size()];
+		for(int i = 0; i < ret.length; i++)
+			ret[i] = cols.get(i).getPath()[0];
+		return ret;
+	}
+
+	public static ValueType[] getSchema(MessageType schema) throws IOException {
+		List<ColumnDescriptor> cols = schema.getColumns();
+		ValueType[] ret = new ValueType[cols.size()];
+		for(int i = 0; i < ret.length; i++)
+			ret[i] = getValueType(cols.get(i));
+		return ret;
+	}
+
+	public static ValueType getValueType(ColumnDescriptor cd) throws IOException {
+		switch(cd.getPrimitiveType().getPrimitiveTypeName()) {
+			case BOOLEAN: return ValueType.BOOLEAN;
+			case INT32: return ValueType.INT32;
+			case INT64: return ValueType.INT64;
+			case FLOAT: return ValueType.FP32;
+			case DOUBLE: return ValueType.FP64;
+			case BINARY:
+			case FIXED_LEN_BYTE_ARRAY: return ValueType.STRING;
+			default:
+				throw new IOException("Unsupported parquet type: " + cd.getPrimitiveType());
+		}
+	}
+
+	public static MessageType createSchema(ValueType[] schema, String[] names, boolean optional) {
+		Repetition rep = optional ? Repetition.OPTIONAL : Repetition.REQUIRED;
+		List<Type> fields = new ArrayList<>(schema.length);
+		for(int j = 0; j < schema.length; j++) {
+			switch(schema[j]) {
+				case FP64: fields.add(new PrimitiveType(rep, PrimitiveTypeName.DOUBLE, names[j])); break;
+				case FP32: fields.add(new PrimitiveType(rep, PrimitiveTypeName.FLOAT, names[j])); break;
+				case INT64: fields.add(new PrimitiveType(rep, PrimitiveTypeName.INT64, names[j])); break;
+				case UINT8:
+				case INT32: fields.add(new PrimitiveType(rep, PrimitiveTypeName.INT32, names[j])); break;
+				case BOOLEAN: fields.add(new PrimitiveType(rep, PrimitiveTypeName.BOOLEAN, names[j])); break;
+				default: // strings, characters, hashes
+					fields.add(org.apache.parquet.schema.Types.primitive(PrimitiveTypeName.BINARY, rep)
+						.as(LogicalTypeAnnotation.stringType()).named(names[j]));
+			}
+		}
+		return new MessageType(SCHEMA_NAME, fields);
+	}
+
+	public static PageReadStore readRowGroup(ParquetFileReader reader, MessageType projection, int index)
+		throws IOException {
+		reader.setRequestedSchema(projection);
+		PageReadStore pages = reader.readRowGroup(index);
+		if(pages == null)
+			throw new IOException("Failed to read parquet row group " + index + ".");
+		return pages;
+	}
+
+	public static ColumnReader[] createColumnReaders(ParquetFileReader reader, PageReadStore pages,
+		MessageType projection) {
+		ColumnReadStoreImpl store = new ColumnReadStoreImpl(pages,
+			new GroupRecordConverter(projection).getRootConverter(), projection,
+			reader.getFooter().getFileMetaData().getCreatedBy());
+		List<ColumnDescriptor> cols = projection.getColumns();
+		ColumnReader[] ret = new ColumnReader[cols.size()];
+		for(int j = 0; j < ret.length; j++)
+			ret[j] = store.getColumnReader(cols.get(j));
+		return ret;
+	}
+
+	/**
+	 * Allocates the primitive array of a frame column, which is later wrapped via {@link #createColumn}.
+	 * 
+	 * @param vt   value type
+	 * @param nrow number of rows
+	 * @return primitive array
+	 */
+	public static Object allocateColumn(ValueType vt, int nrow) {
+		switch(vt) {
+			case BOOLEAN: return new boolean[nrow];
+			case INT32: return new int[nrow];
+			case INT64: return new long[nrow];
+			case FP32: return new float[nrow];
+			case FP64: return new double[nrow];
+			default: return new String[nrow];
+		}
+	}
+
+	/**
+	 * Decodes a range of rows of a single column into the given primitive array (see {@link #allocateColumn}).
+	 * Nulls of non-string columns are recorded in the null mask, which is allocated on demand.
+	 * 
+	 * @param cr    column reader positioned at the first row of the range
+	 * @param vt    value type
+	 * @param data  primitive column array
+	 * @param nulls null masks of all columns (indexed by column)
+	 * @param c     column index
+	 * @param rl    row offset
+	 * @param n     number of rows
+	 */
+	public static void readColumn(ColumnReader cr, ValueType vt, Object data, boolean[][] nulls, int c, int rl, int n) {
+		final int maxDef = cr.getDescriptor().getMaxDefinitionLevel();
+		switch(vt) {
+			case BOOLEAN: {
+				boolean[] a = (boolean[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getBoolean();
+					else
+						setNull(nulls, c, i, a.length);
+				break;
+			}
+			case INT32: {
+				int[] a = (int[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getInteger();
+					else
+						setNull(nulls, c, i, a.length);
+				break;
+			}
+			case INT64: {
+				long[] a = (long[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getLong();
+					else
+						setNull(nulls, c, i, a.length);
+				break;
+			}
+			case FP32: {
+				float[] a = (float[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getFloat();
+					else
+						setNull(nulls, c, i, a.length);
+				break;
+			}
+			case FP64: {
+				double[] a = (double[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getDouble();
+					else
+						setNull(nulls, c, i, a.length);
+				break;
+			}
+			default: {
+				// strings are nullable without mask
+				String[] a = (String[]) data;
+				for(int i = rl; i < rl + n; i++, cr.consume())
+					if(cr.getCurrentDefinitionLevel() == maxDef)
+						a[i] = cr.getBinary().toStringUsingUTF8();
+			}
+		}
+	}
+
+	private static void setNull(boolean[][] nulls, int c, int i, int nrow) {
+		boolean[] mask = nulls[c];
+		if(mask == null) {
+			synchronized(nulls) {
+				if(nulls[c] == null)
+					nulls[c] = new boolean[nrow];
+				mask = nulls[c];
+			}
+		}
+		mask[i] = true;
+	}
+
+	/**
+	 * Wraps a decoded primitive column array into a frame column, and its null mask (if any) into an optional array.
+	 * 
+	 * @param vt    value type
+	 * @param data  primitive column array
+	 * @param nulls null mask, or null if the column contains no nulls
+	 * @return frame column
+	 */
+	public static Array<?> createColumn(ValueType vt, Object data, boolean[] nulls) {
+		if(nulls == null || vt == ValueType.STRING) {
+			switch(vt) {
+				case BOOLEAN: return ArrayFactory.create((boolean[]) data);
+				case INT32: return ArrayFactory.create((int[]) data);
+				case INT64: return ArrayFactory.create((long[]) data);
+				case FP32: return ArrayFactory.create((float[]) data);
+				case FP64: return ArrayFactory.create((double[]) data);
+				default: return ArrayFactory.create((String[]) data);
+			}
+		}
+		boolean[] valid = new boolean[nulls.length];
+		for(int i = 0; i < nulls.length; i++)
+			valid[i] = !nulls[i];
+		switch(vt) {
+			case BOOLEAN: return new OptionalArray<>(ArrayFactory.create((boolean[]) data), ArrayFactory.create(valid));
+			case INT32: return new OptionalArray<>(ArrayFactory.create((int[]) data), ArrayFactory.create(valid));
+			case INT64: return new OptionalArray<>(ArrayFactory.create((long[]) data), ArrayFactory.create(valid));
+			case FP32: return new OptionalArray<>(ArrayFactory.create((float[]) data), ArrayFactory.create(valid));
+			default: return new OptionalArray<>(ArrayFactory.create((double[]) data), ArrayFactory.create(valid));
+		}
+	}
+
+	/**
+	 * Decodes a range of rows of all columns row by row into a dense block (for sequential writes of the row-major
+	 * output). Nulls are represented as NaN, and strings are not supported.
+	 * 
+	 * @param crs  column readers positioned at the first row of the range
+	 * @param dest dense output block
+	 * @param rl   row offset
+	 * @param n    number of rows
+	 * @return number of non-zeros
+	 * @throws IOException if a column is of type string
+	 */
+	public static long readRows(ColumnReader[] crs, DenseBlock dest, int rl, int n) throws IOException {
+		final int ncol = crs.length;
+		final int[] maxDef = new int[ncol];
+		final PrimitiveTypeName[] types = new PrimitiveTypeName[ncol];
+		for(int j = 0; j < ncol; j++) {
+			maxDef[j] = crs[j].getDescriptor().getMaxDefinitionLevel();
+			types[j] = crs[j].getDescriptor().getPrimitiveType().getPrimitiveTypeName();
+			if(getValueType(crs[j].getDescriptor()) == ValueType.STRING)
+				throw new IOException("Unsupported parquet string column '"
+					+ crs[j].getDescriptor().getPath()[0] + "' in matrix read.");
+		}
+		long nnz = 0;
+		for(int i = rl; i < rl + n; i++) {
+			double[] avals = dest.values(i);
+			int apos = dest.pos(i);
+			for(int j = 0; j < ncol; j++) {
+				ColumnReader cr = crs[j];
+				double v = Double.NaN;
+				if(cr.getCurrentDefinitionLevel() == maxDef[j]) {
+					switch(types[j]) {
+						case DOUBLE: v = cr.getDouble(); break;
+						case FLOAT: v = cr.getFloat(); break;
+						case INT64: v = cr.getLong(); break;
+						case INT32: v = cr.getInteger(); break;
+						default: v = cr.getBoolean() ? 1 : 0;
+					}
+				}
+				cr.consume();
+				avals[apos + j] = v;
+				nnz += (v != 0) ? 1 : 0;
+			}
+		}
+		return nnz;
+	}
+
+	public static ParquetWriter<Integer> createWriter(Path path, Configuration conf, MessageType schema,
+		String codec, RowWriter writer) throws IOException {
+		return new RowWriterBuilder(HadoopOutputFile.fromPath(path, conf), schema, writer)
+			.withConf(conf)
+			.withCompressionCodec(CompressionCodecName.fromConf(codec))
+			.withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+			.build();
+	}
+
+	private static class RowWriterBuilder extends ParquetWriter.Builder<Integer, RowWriterBuilder> {
+		private final MessageType _schema;
+		private final RowWriter _writer;
+
+		protected RowWriterBuilder(OutputFile file, MessageType schema, RowWriter writer) {
+			super(file);
+			_schema = schema;
+			_writer = writer;
+		}
+
+		@Override
+		protected RowWriterBuilder self() {
+			return this;
+		}
+
+		@Override
+		protected WriteSupport<Integer> getWriteSupport(Configuration conf) {
+			return new RowWriteSupport(_schema, _writer);
+		}
+	}
+
+	private static class RowWriteSupport extends WriteSupport<Integer> {
+		private final MessageType _schema;
+		private final RowWriter _writer;
+		private RecordConsumer _rc;
+
+		protected RowWriteSupport(MessageType schema, RowWriter writer) {
+			_schema = schema;
+			_writer = writer;
+		}
+
+		@Override
+		public WriteContext init(Configuration conf) {
+			return new WriteContext(_schema, new HashMap<>());
+		}
+
+		@Override
+		public void prepareForWrite(RecordConsumer rc) {
+			_rc = rc;
+		}
+
+		@Override
+		public void write(Integer row) {
+			_rc.startMessage();
+			_writer.write(_rc, row);
+			_rc.endMessage();
+		}
+	}
+}
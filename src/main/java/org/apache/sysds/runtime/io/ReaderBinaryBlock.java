@@ -19,25 +19,47 @@
 
 package org.apache.sysds.runtime.io;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.WritableUtils;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.common.Types.BlockType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheDataInput;
+import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.runtime.util.UtilFunctions;
 
 public class ReaderBinaryBlock extends MatrixReader
 {
+	//size of memory-mapped file windows (records never span windows)
+	public static final int MMAP_WINDOW_SIZE = 256 * 1024 * 1024;
+	
+	private static final byte SEQ_VERSION = 6;
+	private static final int SEQ_SYNC_ESCAPE = -1;
+	private static final int SEQ_SYNC_SIZE = 16;
+	
 	protected boolean _localFS = false;
 	
 	public ReaderBinaryBlock( boolean localFS )
@@ -106,6 +128,67 @@ public class ReaderBinaryBlock extends MatrixReader
 		return ret;
 	}
 	
+	/**
+	 * Streams the blocks of a binary block matrix one at a time to the given consumer, without
+	 * materializing the overall matrix or the collection of blocks. The key and value objects
+	 * are reused across calls, i.e., consumers must not retain references to them.
+	 * 
+	 * @param fname file name
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @param consumer block consumer
+	 * @throws IOException if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public void readMatrixBlocksFromHDFS(String fname, long rlen, long clen, int blen, BlockConsumer consumer)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( (_localFS ? "file:///" : "") + fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+		
+		//set up preferred custom serialization framework for binary block format
+		if( HDFSTool.USE_BINARYBLOCK_SERIALIZATION )
+			HDFSTool.addBinaryBlockSerializationFramework( job );
+		
+		MatrixIndexes key = new MatrixIndexes();
+		MatrixBlock value = new MatrixBlock();
+		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) { //1..N files
+			SequenceFile.Reader reader = new SequenceFile
+				.Reader(job, SequenceFile.Reader.file(lpath));
+			try {
+				while( reader.next(key, value) ) {
+					int row_offset = (int)(key.getRowIndex()-1)*blen;
+					int col_offset = (int)(key.getColumnIndex()-1)*blen;
+					int rows = value.getNumRows();
+					int cols = value.getNumColumns();
+					
+					//bound check per block
+					if( row_offset + rows < 0 || row_offset + rows > rlen || col_offset + cols<0 || col_offset + cols > clen ) {
+						throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+							"out of overall matrix range [1:"+rlen+",1:"+clen+"].");
+					}
+					consumer.accept(key, value);
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+	}
+	
+	/**
+	 * Consumer of streamed binary blocks, see {@link ReaderBinaryBlock#readMatrixBlocksFromHDFS}.
+	 */
+	public interface BlockConsumer {
+		public void accept(MatrixIndexes ix, MatrixBlock blk) throws IOException;
+	}
+	
 	protected static MatrixBlock getReuseBlock(int blen, boolean sparse) {
 		//note: we allocate the reuse block in CSR because this avoids unnecessary
 		//reallocations in the presence of a mix of sparse and ultra-sparse blocks,
@@ -153,6 +236,15 @@ public class ReaderBinaryBlock extends MatrixReader
 		
 		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) //1..N files 
 		{
+			//memory-mapped read of local files into dense output
+			if( isMappedReadApplicable(fs, dest) ) {
+				long tmp = readMappedBinaryBlockFile(lpath, (LocalFileSystem)fs, dest, rlen, clen, blen);
+				if( tmp >= 0 ) {
+					lnnz += tmp;
+					continue;
+				}
+			}
+			
 			//directly read from sequence files (individual partfiles)
 			SequenceFile.Reader reader = new SequenceFile
 				.Reader(job, SequenceFile.Reader.file(lpath));
@@ -210,6 +302,198 @@ public class ReaderBinaryBlock extends MatrixReader
 		}
 	}
 	
+	protected static boolean isMappedReadApplicable(FileSystem fs, MatrixBlock dest) {
+		return ConfigurationManager.isMappedReadEnabled() && fs instanceof LocalFileSystem
+			&& !dest.isInSparseFormat() && dest.getDenseBlock() != null;
+	}
+	
+	/**
+	 * Reads a single local, uncompressed sequence file via memory-mapped windows into a dense
+	 * output. Dense blocks are copied directly from the mapped pages into the rows of the output
+	 * (bulk big-endian double copy), i.e., without per-value deserialization and without
+	 * intermediate blocks. All other block types are deserialized from the mapped bytes.
+	 * Files that do not match the expected layout (e.g., compressed files) are rejected before
+	 * any record is read, and unexpected records abort the mapped read, which the caller then
+	 * repeats with a regular sequence file reader.
+	 * 
+	 * @param path file path of a single part file
+	 * @param fs local file system
+	 * @param dest dense output matrix block
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @return number of non-zeros, or -1 if the file is not eligible for mapped reads
+	 * @throws IOException if IOException occurs
+	 */
+	protected static long readMappedBinaryBlockFile(Path path, LocalFileSystem fs,
+		MatrixBlock dest, long rlen, long clen, int blen) throws IOException
+	{
+		return readMappedBinaryBlockFile(path, fs, dest, rlen, clen, blen, MMAP_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Reads a single local, uncompressed sequence file via memory-mapped windows of
+	 * the given maximum size into a dense output. Each window is unmapped as soon as
+	 * its records are materialized in the output.
+	 * 
+	 * @param path file path of a single part file
+	 * @param fs local file system
+	 * @param dest dense output matrix block
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @param wlen maximum window size in bytes
+	 * @return number of non-zeros, or -1 if the file is not eligible for mapped reads
+	 * @throws IOException if IOException occurs
+	 */
+	public static long readMappedBinaryBlockFile(Path path, LocalFileSystem fs,
+		MatrixBlock dest, long rlen, long clen, int blen, int wlen) throws IOException
+	{
+		File file = fs.pathToFile(path);
+		DenseBlock a = dest.getDenseBlock();
+		MatrixBlock value = null;
+		byte[] buff = null;
+		long lnnz = 0;
+		ByteBuffer win = null;
+		try( RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel ch = raf.getChannel() ) {
+			final long len = ch.size();
+			if( len < 4 )
+				return -1;
+			
+			//parse and validate sequence file header from first window
+			win = mapWindow(ch, 0, 4, len, wlen);
+			long wpos = 0;
+			long pos = readSequenceFileHeader(win);
+			if( pos < 0 )
+				return -1;
+			
+			while( pos < len ) {
+				//read record header: record length, key length (or sync escape)
+				if( pos + 8 > wpos + win.limit() ) {
+					LocalFileUtils.freeDirectBuffer(win); //records materialized
+					win = null;
+					win = mapWindow(ch, pos, 8, len, wlen);
+					wpos = pos;
+				}
+				int recLen = win.getInt((int)(pos - wpos));
+				if( recLen == SEQ_SYNC_ESCAPE ) {
+					pos += 4 + SEQ_SYNC_SIZE;
+					continue;
+				}
+				int keyLen = win.getInt((int)(pos - wpos + 4));
+				if( keyLen != 16 || recLen < keyLen + 9 )
+					return -1; //unexpected record layout
+				if( pos + 8 + recLen > wpos + win.limit() ) {
+					LocalFileUtils.freeDirectBuffer(win); //records materialized
+					win = null;
+					win = mapWindow(ch, pos, 8 + recLen, len, wlen);
+					wpos = pos;
+				}
+				
+				//read key and value header (int rlen, int clen, byte type)
+				int off = (int)(pos - wpos + 8);
+				int row_offset = (int)(win.getLong(off)-1)*blen;
+				int col_offset = (int)(win.getLong(off+8)-1)*blen;
+				int voff = off + keyLen;
+				int rows = win.getInt(voff);
+				int cols = win.getInt(voff+4);
+				byte type = win.get(voff+8);
+				
+				//bound check per block
+				if( row_offset + rows < 0 || row_offset + rows > rlen || col_offset + cols<0 || col_offset + cols > clen ) {
+					throw new IOException("Matrix block ["+(row_offset+1)+":"+(row_offset+rows)+","+(col_offset+1)+":"+(col_offset+cols)+"] " +
+						"out of overall matrix range [1:"+rlen+",1:"+clen+"].");
+				}
+				
+				if( type == BlockType.DENSE_BLOCK.ordinal() && recLen - keyLen - 9 == 8L * rows * cols ) {
+					//bulk copy of dense rows from mapped file into output
+					DoubleBuffer dbuff = win.duplicate().position(voff+9).slice().asDoubleBuffer();
+					for( int i=0; i<rows; i++ ) {
+						double[] avals = a.values(row_offset+i);
+						int apos = a.pos(row_offset+i, col_offset);
+						dbuff.get(avals, apos, cols);
+						lnnz += UtilFunctions.computeNnz(avals, apos, cols);
+					}
+				}
+				else if( type != BlockType.EMPTY_BLOCK.ordinal() ) {
+					//deserialize other block types from mapped bytes
+					int vlen = recLen - keyLen;
+					if( buff == null || buff.length < vlen )
+						buff = new byte[vlen];
+					win.duplicate().position(voff).get(buff, 0, vlen);
+					value = (value == null) ? new MatrixBlock() : value;
+					value.readFields(new CacheDataInput(buff));
+					if( !value.isEmptyBlock(false) ) {
+						dest.copy(row_offset, row_offset+rows-1,
+							col_offset, col_offset+cols-1, value, false);
+						lnnz += value.getNonZeros();
+					}
+				}
+				pos += 8 + recLen;
+			}
+		}
+		finally {
+			//unmap last window (all records materialized in the output)
+			LocalFileUtils.freeDirectBuffer(win);
+		}
+		return lnnz;
+	}
+	
+	/**
+	 * Parses the header of an uncompressed sequence file (version 6) with matrix indexes
+	 * keys and matrix block values from the given window, which avoids opening a separate
+	 * sequence file reader just to obtain the position of the first record.
+	 * 
+	 * @param win mapped window at file position 0
+	 * @return position of the first record, or -1 if the file is not eligible for mapped reads
+	 */
+	private static long readSequenceFileHeader(ByteBuffer win) {
+		if( win.get(0) != 'S' || win.get(1) != 'E' || win.get(2) != 'Q' || win.get(3) != SEQ_VERSION )
+			return -1;
+		ByteBuffer in = win.duplicate().position(4);
+		try {
+			if( !MatrixIndexes.class.getName().equals(readString(in))
+				|| !MatrixBlock.class.getName().equals(readString(in)) )
+				return -1;
+			if( in.get() != 0 || in.get() != 0 )
+				return -1; //record or block compression
+			int nmeta = in.getInt();
+			for( int i=0; i<2*nmeta; i++ ) //metadata key/value pairs
+				readString(in);
+			in.position(in.position() + SEQ_SYNC_SIZE);
+			return in.position();
+		}
+		catch(BufferUnderflowException | IllegalArgumentException ex) {
+			return -1; //header exceeds first window or file
+		}
+	}
+	
+	private static String readString(ByteBuffer in) {
+		//hadoop text serialization: vint length, utf-8 bytes
+		byte first = in.get();
+		int size = WritableUtils.decodeVIntSize(first);
+		long slen = first;
+		if( size > 1 ) {
+			slen = 0;
+			for( int i=0; i<size-1; i++ )
+				slen = (slen << 8) | (in.get() & 0xFF);
+			if( WritableUtils.isNegativeVInt(first) )
+				slen = ~slen;
+		}
+		if( slen < 0 || slen > in.remaining() )
+			throw new BufferUnderflowException();
+		byte[] tmp = new byte[(int)slen];
+		in.get(tmp);
+		return new String(tmp, StandardCharsets.UTF_8);
+	}
+	
+	private static ByteBuffer mapWindow(FileChannel ch, long pos, int minLen, long len, int wlen) throws IOException {
+		if( pos + minLen > len )
+			throw new IOException("Truncated sequence file record at position "+pos+" (file length "+len+").");
+		long size = Math.max(minLen, Math.min(wlen, len - pos));
+		return ch.map(MapMode.READ_ONLY, pos, size);
+	}
+	
 	private static void readBinaryBlockMatrixBlocksFromHDFS( Path path, JobConf job, FileSystem fs, Collection<IndexedMatrixValue> dest, long rlen, long clen, int blen )
 		throws IOException
 	{
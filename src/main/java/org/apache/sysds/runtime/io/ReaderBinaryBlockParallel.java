@@ -27,6 +27,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.Reader;
@@ -96,10 +97,11 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		final ExecutorService pool = CommonThreadPool.get(_numThreads);
 		try 
 		{
-			//create read tasks for all files
+			//create read tasks for all files (mapped reads configured by calling thread)
+			boolean mmap = isMappedReadApplicable(fs, dest);
 			ArrayList<ReadFileTask> tasks = new ArrayList<>();
 			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ){
-				ReadFileTask t = new ReadFileTask(lpath, job, dest, rlen, clen, blen, syncBlock);
+				ReadFileTask t = new ReadFileTask(lpath, job, dest, rlen, clen, blen, syncBlock, mmap);
 				tasks.add(t);
 			}
 
@@ -133,8 +135,9 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 		private final long _rlen, _clen;
 		private final int _blen;
 		private final boolean _syncBlocks;
+		private final boolean _mmap;
 		
-		public ReadFileTask(Path path, JobConf job, MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks) {
+		public ReadFileTask(Path path, JobConf job, MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks, boolean mmap) {
 			_path = path;
 			_job = job;
 			_dest = dest;
@@ -142,12 +145,22 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			_clen = clen;
 			_blen = blen;
 			_syncBlocks = syncBlocks;
+			_mmap = mmap;
 		}
 
 		@Override
 		public Object call() throws Exception 
 		{
 			boolean sparse = _dest.isInSparseFormat();
+			
+			//memory-mapped read of local files into dense output
+			if( _mmap ) {
+				FileSystem fs = IOUtilFunctions.getFileSystem(_path, _job);
+				long lnnz = readMappedBinaryBlockFile(_path, (LocalFileSystem)fs, _dest, _rlen, _clen, _blen);
+				if( lnnz >= 0 )
+					return lnnz;
+			}
+			
 			MatrixIndexes key = new MatrixIndexes(); 
 			MatrixBlock value = getReuseBlock(_blen, sparse);
 			long lnnz = 0; //aggregate block nnz
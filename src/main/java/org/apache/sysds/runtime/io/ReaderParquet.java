@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Single-threaded matrix parquet reader for numeric (and boolean) columns, which decodes the row groups directly
+ * into the rows of a dense output block. Nulls are read as NaN.
+ */
+public class ReaderParquet extends MatrixReader {
+	protected final FileFormatPropertiesParquet _props;
+
+	public ReaderParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException {
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// obtain row groups and schema from file footers
+		List<RowGroup> groups = new ArrayList<>();
+		Path[] files = ParquetUtils.getParquetFilePaths(fs, path);
+		MessageType projection = ParquetUtils.getProjection(
+			ParquetUtils.getRowGroups(files, job, groups), _props.getColumns());
+		long nrow = ParquetUtils.getNumRows(groups);
+		long ncol = projection.getColumns().size();
+		if((rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol))
+			throw new IOException("Parquet dimensions " + nrow + "x" + ncol
+				+ " mismatch with metadata " + rlen + "x" + clen + ".");
+
+		// allocate dense output matrix block (columnar inputs are usually dense)
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, blen, nrow * ncol, true, false);
+		if(nrow == 0 || ncol == 0)
+			return ret;
+
+		// core read (sequential/parallel)
+		long lnnz = readParquetMatrixFromHDFS(groups, job, projection, ret.getDenseBlock());
+
+		// finally check if change of sparse/dense block representation required
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		return ret;
+	}
+
+	protected long readParquetMatrixFromHDFS(List<RowGroup> groups, JobConf job, MessageType projection,
+		DenseBlock dest) throws IOException {
+		long lnnz = 0;
+		Path current = null;
+		ParquetFileReader reader = null;
+		try {
+			for(RowGroup g : groups) {
+				if(!g.path.equals(current)) {
+					IOUtilFunctions.closeSilently(reader);
+					reader = ParquetUtils.openReader(g.path, job);
+					current = g.path;
+				}
+				lnnz += readRowGroup(reader, g, projection, dest);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+		return lnnz;
+	}
+
+	protected static long readRowGroup(ParquetFileReader reader, RowGroup g, MessageType projection, DenseBlock dest)
+		throws IOException {
+		PageReadStore pages = ParquetUtils.readRowGroup(reader, projection, g.index);
+		return ParquetUtils.readRows(ParquetUtils.createColumnReaders(reader, pages, projection),
+			dest, (int) g.rowOffset, (int) g.rows);
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException {
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+}
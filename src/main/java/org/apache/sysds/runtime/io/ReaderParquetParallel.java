@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded matrix parquet reader, which decodes the row groups of all part files in parallel into disjoint row
+ * ranges of the dense output block.
+ */
+public class ReaderParquetParallel extends ReaderParquet {
+
+	public ReaderParquetParallel(FileFormatPropertiesParquet props) {
+		super(props);
+	}
+
+	@Override
+	protected long readParquetMatrixFromHDFS(List<RowGroup> groups, JobConf job, MessageType projection,
+		DenseBlock dest) throws IOException {
+		int numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+		if(numThreads <= 1 || groups.size() <= 1)
+			return super.readParquetMatrixFromHDFS(groups, job, projection, dest);
+
+		ExecutorService pool = CommonThreadPool.get(Math.min(numThreads, groups.size()));
+		try {
+			// create and execute read tasks for all row groups
+			ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+			for(RowGroup g : groups)
+				tasks.add(new ReadRowGroupTask(g, job, projection, dest));
+			long lnnz = 0;
+			for(Future<Long> task : pool.invokeAll(tasks))
+				lnnz += task.get();
+			return lnnz;
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of parquet input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class ReadRowGroupTask implements Callable<Long> {
+		private final RowGroup _group;
+		private final JobConf _job;
+		private final MessageType _projection;
+		private final DenseBlock _dest;
+
+		public ReadRowGroupTask(RowGroup group, JobConf job, MessageType projection, DenseBlock dest) {
+			_group = group;
+			_job = job;
+			_projection = projection;
+			_dest = dest;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			ParquetFileReader reader = ParquetUtils.openReader(_group.path, _job);
+			try {
+				return readRowGroup(reader, _group, _projection, _dest);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+	}
+}
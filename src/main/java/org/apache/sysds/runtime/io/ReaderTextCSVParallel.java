@@ -273,6 +273,8 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		protected final MatrixBlock _dest;
 		protected final boolean _isFirstSplit;
 		protected final int _splitCount;
+		protected final CSVTokenizer _tok;
+		protected final double[] _rowBuff;
 
 		protected int _row = 0;
 		protected int _col = 0;
@@ -283,6 +285,10 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			_dest = dest;
 			_isFirstSplit = (splitCount == 0);
 			_splitCount = splitCount;
+			// byte-level tokenizer for single-byte delimiters (w/ fallback to string parsing)
+			_tok = CSVTokenizer.isApplicable(_props.getDelim()) ?
+				new CSVTokenizer(_props.getDelim(), _props.getNAStrings()) : null;
+			_rowBuff = (_tok != null) ? new double[_cLen] : null;
 		}
 
 		@Override
@@ -328,6 +334,61 @@ public class ReaderTextCSVParallel extends MatrixReader {
 		protected abstract long parse(RecordReader<LongWritable, Text> reader, LongWritable key, Text value)
 			throws IOException;
 
+		/**
+		 * Tokenizes and parses the given line directly from its bytes into the row buffer, where empty cells are
+		 * replaced by the fill value.
+		 * 
+		 * @param value      line of text
+		 * @param checkEmpty true if empty cells require the fill option
+		 * @return false if the line requires string-based parsing (quotes, invalid number of columns, or empty cells
+		 *         without fill), which also raises the respective errors
+		 */
+		protected boolean tokenize(Text value, boolean checkEmpty) {
+			if(_tok == null || !_tok.reset(value.getBytes(), value.getLength()))
+				return false;
+			final double fill = _props.getFillValue();
+			final boolean emptyAllowed = !checkEmpty || _props.isFill();
+			int j = 0;
+			while(_tok.next()) {
+				if(j == _cLen)
+					return false;
+				if(_tok.isEmpty()) {
+					if(!emptyAllowed)
+						return false;
+					_rowBuff[j++] = fill;
+				}
+				else
+					_rowBuff[j++] = _tok.getDouble();
+			}
+			return j == _cLen;
+		}
+
+		protected long appendRow(double[] avals, int apos) {
+			long nnz = 0;
+			for(int j = 0; j < _cLen; j++) {
+				final double v = _rowBuff[j];
+				if(v != 0) {
+					avals[apos + j] = v;
+					nnz++;
+				}
+			}
+			return nnz;
+		}
+
+		protected long appendRow(SparseBlock sb) {
+			sb.allocate(_row);
+			SparseRow r = sb.get(_row);
+			long nnz = 0;
+			for(int j = 0; j < _cLen; j++) {
+				final double v = _rowBuff[j];
+				if(v != 0) {
+					r.append(j, v);
+					nnz++;
+				}
+			}
+			return nnz;
+		}
+
 		protected void verifyRows(Text value) throws IOException {
 			if(_row != (_offsets.getOffsetPerSplit(_splitCount) + _offsets.getLenghtPerSplit(_splitCount))) {
 				throw new IOException("Incorrect number of rows (" + _row + ") found in delimited file ("
@@ -350,10 +411,15 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			boolean noFillEmpty = false;
 
 			while(reader.next(key, value)) { // foreach line
-				final String cellStr = value.toString().trim();
-				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
 				double[] avals = a.values(_row);
 				int apos = a.pos(_row);
+				if(tokenize(value, true)) {
+					nnz += appendRow(avals, apos);
+					_row++;
+					continue;
+				}
+				final String cellStr = value.toString().trim();
+				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
 				for(int j = 0; j < _cLen; j++) { // foreach cell
 					String part = parts[j].trim();
 					if(part.isEmpty()) {
@@ -391,10 +457,15 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			boolean noFillEmpty = false;
 			long nnz = 0;
 			while(reader.next(key, value)) { // foreach line
-				String cellStr = value.toString().trim();
-				String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
 				double[] avals = a.values(_row);
 				int apos = a.pos(_row);
+				if(tokenize(value, true)) {
+					nnz += appendRow(avals, apos);
+					_row++;
+					continue;
+				}
+				String cellStr = value.toString().trim();
+				String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
 				for(int j = 0; j < _cLen; j++) { // foreach cell
 					String part = parts[j].trim();
 					if(part.isEmpty()) {
@@ -430,6 +501,11 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			final SparseBlock sb = _dest.getSparseBlock();
 			long nnz = 0;
 			while(reader.next(key, value)) {
+				if(tokenize(value, true)) {
+					nnz += appendRow(sb);
+					_row++;
+					continue;
+				}
 
 				final String cellStr = value.toString().trim();
 				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
@@ -475,6 +551,11 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			double cellValue = 0;
 			boolean noFillEmpty = false;
 			while(reader.next(key, value)) {
+				if(tokenize(value, true)) {
+					nnz += appendRow(sb);
+					_row++;
+					continue;
+				}
 				_col = 0;
 				final String cellStr = value.toString().trim();
 				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
@@ -518,6 +599,11 @@ public class ReaderTextCSVParallel extends MatrixReader {
 			long nnz = 0;
 			double cellValue = 0;
 			while(reader.next(key, value)) {
+				if(tokenize(value, false)) {
+					nnz += appendRow(sb);
+					_row++;
+					continue;
+				}
 				_col = 0;
 				final String cellStr = value.toString().trim();
 				final String[] parts = IOUtilFunctions.split(cellStr, _props.getDelim());
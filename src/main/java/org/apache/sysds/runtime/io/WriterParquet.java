@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Matrix parquet writer, which writes a matrix as required double columns C1, ..., Cn of a single parquet file.
+ */
+public class WriterParquet extends MatrixWriter {
+	protected final FileFormatPropertiesParquet _props;
+
+	public WriterParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+
+	@Override
+	public void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz, boolean diag)
+		throws IOException, DMLRuntimeException {
+		// validity check matrix dimensions
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix dimensions mismatch with metadata: " + src.getNumRows() + "x"
+				+ src.getNumColumns() + " vs " + rlen + "x" + clen + ".");
+		if(diag)
+			throw new IOException("Parquet writer does not support diagonal matrices.");
+
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// core write
+		writeParquetMatrixToHDFS(path, job, src);
+	}
+
+	@Override
+	public void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException {
+		writeMatrixToHDFS(new MatrixBlock((int) rlen, (int) clen, true), fname, rlen, clen, blen, 0);
+	}
+
+	protected void writeParquetMatrixToHDFS(Path path, JobConf job, MatrixBlock src) throws IOException {
+		final int clen = src.getNumColumns();
+		final String[] names = FrameBlock.createColNames(clen);
+		final double[] row = new double[clen];
+		final boolean sparse = src.isInSparseFormat();
+		final SparseBlock sblock = src.getSparseBlock();
+		final DenseBlock dblock = src.getDenseBlock();
+
+		ParquetWriter<Integer> writer = ParquetUtils.createWriter(path, job,
+			ParquetUtils.createSchema(UtilFunctions.nCopies(clen, ValueType.FP64), names, false),
+			_props.getCodec(), (rc, i) -> {
+				// materialize current row from sparse/dense/empty input
+				double[] vals = row;
+				int pos = 0;
+				if(sparse) {
+					Arrays.fill(row, 0);
+					if(sblock != null && !sblock.isEmpty(i)) {
+						int apos = sblock.pos(i);
+						int alen = sblock.size(i);
+						int[] aix = sblock.indexes(i);
+						double[] avals = sblock.values(i);
+						for(int k = apos; k < apos + alen; k++)
+							row[aix[k]] = avals[k];
+					}
+				}
+				else if(dblock != null) {
+					vals = dblock.values(i);
+					pos = dblock.pos(i);
+				}
+				else
+					Arrays.fill(row, 0);
+				writeRow(rc, names, vals, pos);
+			});
+		try {
+			for(int i = 0; i < src.getNumRows(); i++)
+				writer.write(i);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	private static void writeRow(RecordConsumer rc, String[] names, double[] vals, int pos) {
+		for(int j = 0; j < names.length; j++) {
+			rc.startField(names[j], j);
+			rc.addDouble(vals[pos + j]);
+			rc.endField(names[j], j);
+		}
+	}
+}
@@ -20,6 +20,7 @@
 package org.apache.sysds.runtime.lineage;
 
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoCache;
 import org.apache.sysds.runtime.controlprogram.ForProgramBlock;
 import org.apache.sysds.runtime.controlprogram.ProgramBlock;
 import org.apache.sysds.runtime.controlprogram.WhileProgramBlock;
@@ -194,6 +195,7 @@ public class Lineage {
 		LineageCache.resetCache();
 		LineageCacheStatistics.reset();
 		LineageEstimator.resetEstimatorCache();
+		CompressedSizeInfoCache.clear();
 	}
 	
 	public static void setLinReusePartial() {
@@ -56,8 +56,8 @@ public class LineageCacheConfig
 		"^2", "*2", "uack+", "tak+*", "uacsqk+", "uark+", "n+", "uarimax", "qsort",
 		"qpick", "transformapply", "uarmax", "n+", "-*", "castdtm", "lowertri", "1-*",
 		"prefetch", "mapmm", "contains", "mmchain", "mapmmchain", "+*", "==", "rmempty",
-		"conv2d_bias_add", "relu_maxpooling", "maxpooling", "batch_norm2d", "avgpooling",
-		"softmax"
+		"conv2d_bias_add", "conv2d_bias_add_relu", "relu_maxpooling", "maxpooling", "batch_norm2d",
+		"avgpooling", "softmax"
 		//TODO: Reuse everything.
 	};
 
@@ -143,6 +143,18 @@ public class LineageCacheConfig
 	public static double FSWRITE_SPARSE = 225;
 	public static double D2HCOPYBANDWIDTH = 1500; //MB/sec
 	public static double D2HMAXBANDWIDTH = 8192;
+	// Compression of spilled matrices (CLA, otherwise fast deflate), if
+	// the expected (de)compression and reduced I/O time is below plain I/O.
+	// Initial expected ratio and throughput in MB per second, which are
+	// adjusted per cache (see LineageCacheEviction).
+	private static boolean _compressSpill = true;
+	public static final double MIN_SPILL_COMPRESSION_RATIO = 1.5;
+	public static final double SPILL_COMPRESSION_RATIO = 4;
+	public static final double FSCOMPRESS = 300;
+	public static final double FSDECOMPRESS = 1000;
+	// Maximum number of pending asynchronous compressed spills, whose blocks are
+	// held outside the cache size; further spills are written synchronously plain.
+	public static final int MAX_PENDING_SPILLS = 2;
 	
 	private enum CachedItemHead {
 		TSMM,
@@ -468,6 +480,14 @@ public class LineageCacheConfig
 		// no control over eviction order of cached items.
 	}*/
 	
+	public static void setSpillCompression(boolean compress) {
+		_compressSpill = compress;
+	}
+
+	public static boolean isSpillCompression() {
+		return _compressSpill;
+	}
+
 	public static boolean isSetSpill() {
 		// Check if cachespill set in SystemDS-config (default true)
 		DMLConfig conf = ConfigurationManager.getDMLConfig();
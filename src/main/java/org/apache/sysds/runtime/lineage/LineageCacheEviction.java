@@ -19,17 +19,36 @@
 
 package org.apache.sysds.runtime.lineage;
 
+import java.io.DataInput;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.io.CompressedWriteBlock;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCacheStatus;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.FastBufferedDataInputStream;
+import org.apache.sysds.runtime.util.FastBufferedDataOutputStream;
 import org.apache.sysds.runtime.util.LocalFileUtils;
 
 public class LineageCacheEviction
@@ -40,6 +59,23 @@ public class LineageCacheEviction
 	protected static final Map<LineageItem, Integer> _removelist = new HashMap<>();
 	private static String _outdir = null;
 	private static TreeSet<LineageCacheEntry> weightedQueue = new TreeSet<>(LineageCacheConfig.LineageCacheComparator);
+	private static long _numPlainSpills = 0;
+	// Adjusted compression ratio and (de)compression throughput of spilled matrices
+	private static volatile double _spillRatio = LineageCacheConfig.SPILL_COMPRESSION_RATIO;
+	private static volatile double _fsCompress = LineageCacheConfig.FSCOMPRESS;
+	private static volatile double _fsDecompress = LineageCacheConfig.FSDECOMPRESS;
+	// Pending asynchronous compressed spills (file name -> write), which are
+	// awaited on restore; the evicted block is held until the write completed
+	private static final Map<String, Future<?>> _pendingSpills = new ConcurrentHashMap<>();
+	// Bound of pending spills, as their blocks are no longer accounted in the cache size
+	private static Semaphore _spillPermits = new Semaphore(LineageCacheConfig.MAX_PENDING_SPILLS);
+	
+	// Format of spill files (leading byte), followed by a compressed write block
+	public static final byte SPILL_PLAIN = 0;
+	public static final byte SPILL_CLA = 1;     //decompressed on restore
+	public static final byte SPILL_DEFLATE = 2;
+	// Probe compression every n-th plain spill to recover from pessimistic estimates
+	public static final int SPILL_COMPRESSION_PROBE = 16;
 	
 	protected static void resetEviction() {
 		// reset cache size, otherwise the cache clear leads to unusable 
@@ -48,6 +84,14 @@ public class LineageCacheEviction
 		weightedQueue.clear();
 		_outdir = null;
 		_removelist.clear();
+		_numPlainSpills = 0;
+		_spillRatio = LineageCacheConfig.SPILL_COMPRESSION_RATIO;
+		_fsCompress = LineageCacheConfig.FSCOMPRESS;
+		_fsDecompress = LineageCacheConfig.FSDECOMPRESS;
+		for (Future<?> f : _pendingSpills.values())
+			f.cancel(false);
+		_pendingSpills.clear();
+		_spillPermits = new Semaphore(LineageCacheConfig.MAX_PENDING_SPILLS);
 	}
 
 	//--------------- CACHE MAINTENANCE & LOOKUP FUNCTIONS --------------//
@@ -294,15 +338,54 @@ public class LineageCacheEviction
 			return 0;
 		// This includes sum of writing to and reading from disk
 		double size = getDiskSizeEstimate(e);
-		double loadtime = isSparse(e) ? size/LineageCacheConfig.FSREAD_SPARSE : size/LineageCacheConfig.FSREAD_DENSE;
-		double writetime = isSparse(e) ? size/LineageCacheConfig.FSWRITE_SPARSE : size/LineageCacheConfig.FSWRITE_DENSE;
+		double iotime = getIOEstimate(size, isSparse(e));
+		// Compressed spilling trades (de)compression time for reduced I/O
+		return isCompressionCandidate(e.getMBValue(), size) ?
+			Math.min(iotime, getCompressedSpillEstimate(size, isSparse(e))) : iotime;
+	}
+
+	private static double getIOEstimate(double size, boolean sparse) {
+		double loadtime = sparse ? size/LineageCacheConfig.FSREAD_SPARSE : size/LineageCacheConfig.FSREAD_DENSE;
+		double writetime = sparse ? size/LineageCacheConfig.FSWRITE_SPARSE : size/LineageCacheConfig.FSWRITE_DENSE;
 		return loadtime + writetime;
 	}
 
+	private static double getCompressedSpillEstimate(double size, boolean sparse) {
+		double ctime = size/_fsCompress + size/_fsDecompress;
+		return ctime + getIOEstimate(size/_spillRatio, sparse);
+	}
+
+	private static boolean isCompressionCandidate(MatrixBlock mb, double size) {
+		// Already compressed blocks are written as is
+		return LineageCacheConfig.isSpillCompression() && !(mb instanceof CompressedMatrixBlock)
+			&& size >= LineageCacheConfig.MIN_SPILL_DATA;
+	}
+
+	/**
+	 * Decides if a spilled matrix is compressed, which is the case if the expected
+	 * (de)compression and reduced I/O time is below plain I/O, or for every
+	 * n-th plain spill to probe the current compression ratio and throughput.
+	 * 
+	 * @param mb   matrix block to spill
+	 * @param size estimated size on disk in MB
+	 * @return true if the matrix block should be compressed
+	 */
+	public static boolean isCompressionBeneficial(MatrixBlock mb, double size) {
+		if (!isCompressionCandidate(mb, size))
+			return false;
+		if (_spillRatio >= LineageCacheConfig.MIN_SPILL_COMPRESSION_RATIO
+			&& getCompressedSpillEstimate(size, mb.isInSparseFormat()) < getIOEstimate(size, mb.isInSparseFormat()))
+			return true;
+		return (++_numPlainSpills % SPILL_COMPRESSION_PROBE) == 0;
+	}
+
 	private static double getDiskSizeEstimate(LineageCacheEntry e) {
 		if (!e.isMatrixValue() || e.isNullVal())
 			return 0;
-		MatrixBlock mb = e.getMBValue();
+		return getDiskSizeEstimate(e.getMBValue());
+	}
+
+	private static double getDiskSizeEstimate(MatrixBlock mb) {
 		long r = mb.getNumRows();
 		long c = mb.getNumColumns();
 		long nnz = mb.getNonZeros();
@@ -311,29 +394,40 @@ public class LineageCacheEviction
 		return disksize;
 	}
 	
-	private static void adjustReadWriteSpeed(LineageCacheEntry e, double IOtime, boolean read) {
-		double size = getDiskSizeEstimate(e);
-		if (!e.isMatrixValue() || size < LineageCacheConfig.MIN_SPILL_DATA)
-			// Scalar or too small
+	private static void adjustReadWriteSpeed(double size, boolean sparse, double IOtime, boolean read) {
+		if (size < LineageCacheConfig.MIN_SPILL_DATA)
+			// Too small
 			return; 
 		
 		double newIOSpeed = size / IOtime; // MB per second 
 		// Adjust the read/write speed using exponential smoothing (alpha = 0.5)
 		// These constants will eventually converge to the real speed.
 		if (read) {
-			if (isSparse(e))
+			if (sparse)
 				LineageCacheConfig.FSREAD_SPARSE = (LineageCacheConfig.FSREAD_SPARSE + newIOSpeed) / 2;
 			else
 				LineageCacheConfig.FSREAD_DENSE= (LineageCacheConfig.FSREAD_DENSE+ newIOSpeed) / 2;
 		}
 		else {
-			if (isSparse(e))
+			if (sparse)
 				LineageCacheConfig.FSWRITE_SPARSE = (LineageCacheConfig.FSWRITE_SPARSE + newIOSpeed) / 2;
 			else
 				LineageCacheConfig.FSWRITE_DENSE= (LineageCacheConfig.FSWRITE_DENSE+ newIOSpeed) / 2;
 		}
 		// TODO: exponential smoothing with arbitrary smoothing factor
 	}
+
+	private static void adjustCompression(double size, double csize, double ctime, boolean decompress) {
+		if (size < LineageCacheConfig.MIN_SPILL_DATA)
+			return;
+		// Adjust the (de)compression speed and ratio using exponential smoothing (alpha = 0.5)
+		if (decompress)
+			_fsDecompress = (_fsDecompress + size / ctime) / 2;
+		else {
+			_fsCompress = (_fsCompress + size / ctime) / 2;
+			_spillRatio = (_spillRatio + size / Math.max(csize, 1e-6)) / 2;
+		}
+	}
 	
 	private static boolean isSparse(LineageCacheEntry e) {
 		if (!e.isMatrixValue() || e.isNullVal())
@@ -364,14 +458,18 @@ public class LineageCacheEviction
 			LocalFileUtils.createLocalFileIfNotExist(_outdir);
 		}
 		String outfile = _outdir+"/"+entry._key.getId();
-		try {
-			LocalFileUtils.writeMatrixBlockToLocal(outfile, entry.getMBValue());
-		} catch (IOException e) {
-			throw new DMLRuntimeException ("Write to " + outfile + " failed.", e);
+		MatrixBlock mb = entry.getMBValue();
+		double size = getDiskSizeEstimate(entry);
+		if (!isCompressionBeneficial(mb, size) || !spillAsync(outfile, mb)) {
+			try {
+				writeSpillFile(outfile, mb, false);
+			} catch (IOException e) {
+				throw new DMLRuntimeException ("Write to " + outfile + " failed.", e);
+			}
+			// Adjust disk writing speed
+			adjustReadWriteSpeed(size, mb.isInSparseFormat(), ((double)(System.nanoTime()-t0))/1000000000, false);
 		}
 		long t1 = System.nanoTime();
-		// Adjust disk writing speed
-		adjustReadWriteSpeed(entry, ((double)(t1-t0))/1000000000, false);
 		
 		// Add all the entries associated with this matrix to spillList.
 		if (entry._origItem == null) {
@@ -400,7 +498,7 @@ public class LineageCacheEviction
 		MatrixBlock mb = null;
 		// Read from local FS
 		try {
-			mb = LocalFileUtils.readMatrixBlockFromLocal(e.getOutfile());
+			mb = readSpillFile(e.getOutfile());
 		} catch (IOException exp) {
 			throw new DMLRuntimeException ("Read from " + e.getOutfile() + " failed.", exp);
 		}
@@ -422,8 +520,6 @@ public class LineageCacheEviction
 		// Increase cachesize once for all the entries.
 		updateSize(e.getSize(), true);
 
-		// Adjust disk reading speed
-		adjustReadWriteSpeed(e, ((double)(t1-t0))/1000000000, true);
 		// TODO: set cache status as RELOADED for this entry
 		if (DMLScript.STATISTICS) {
 			LineageCacheStatistics.incrementFSReadTime(t1-t0);
@@ -431,4 +527,144 @@ public class LineageCacheEviction
 		}
 		return cache.get(key);
 	}
+
+	/**
+	 * Compresses and writes a spill file asynchronously to keep the compression
+	 * off the eviction path, where restores wait for the pending write. The number
+	 * of pending writes is bounded by {@link LineageCacheConfig#MAX_PENDING_SPILLS}
+	 * because the blocks and compression intermediates are held until the write
+	 * completed, but no longer accounted in the cache size.
+	 * 
+	 * @param fname file name
+	 * @param mb    matrix block
+	 * @return true if the write was submitted, false if too many writes are pending
+	 */
+	public static boolean spillAsync(String fname, MatrixBlock mb) {
+		Semaphore permits = _spillPermits;
+		if (!permits.tryAcquire())
+			return false;
+		_pendingSpills.put(fname, CommonThreadPool.getDynamicPool().submit(() -> {
+			try {
+				return writeSpillFile(fname, mb, true);
+			}
+			finally {
+				permits.release();
+			}
+		}));
+		return true;
+	}
+
+	/**
+	 * Writes a spill file of the given matrix block, either plain or compressed,
+	 * where compression tries lossless CLA first and falls back to a fast deflate
+	 * of the serialized block if CLA does not reach the minimum ratio.
+	 * 
+	 * @param fname    file name
+	 * @param mb       matrix block
+	 * @param compress if true, compress the matrix block
+	 * @return format of the written spill file
+	 * @throws IOException if the write fails
+	 */
+	public static byte writeSpillFile(String fname, MatrixBlock mb, boolean compress) throws IOException {
+		if (!compress) {
+			writeSpillBlock(fname, mb, SPILL_PLAIN);
+			return SPILL_PLAIN;
+		}
+		long t0 = System.nanoTime();
+		double size = getDiskSizeEstimate(mb);
+		MatrixBlock cmb = CompressedMatrixBlockFactory
+			.compress(mb, OptimizerUtils.getConstrainedNumThreads(-1)).getLeft();
+		boolean cla = cmb instanceof CompressedMatrixBlock && toMB(cmb.getExactSizeOnDisk())
+			* LineageCacheConfig.MIN_SPILL_COMPRESSION_RATIO <= size;
+		byte format = cla ? SPILL_CLA : SPILL_DEFLATE;
+		writeSpillBlock(fname, cla ? cmb : mb, format);
+		long t1 = System.nanoTime();
+		
+		// Adjust the compression speed (incl reduced write) and ratio
+		double csize = toMB(new File(fname).length());
+		adjustCompression(size, csize, ((double)(t1-t0))/1000000000, false);
+		if (DMLScript.STATISTICS && csize < size)
+			LineageCacheStatistics.incrementFSCompressedWrites((long)((size-csize)*1024*1024));
+		return format;
+	}
+
+	/**
+	 * Reads a spill file written by {@link #writeSpillFile(String, MatrixBlock, boolean)},
+	 * once a pending asynchronous write of this file completed.
+	 * 
+	 * @param fname file name
+	 * @return uncompressed matrix block
+	 * @throws IOException if the read or pending write fails
+	 */
+	public static MatrixBlock readSpillFile(String fname) throws IOException {
+		waitForSpill(fname);
+		long t0 = System.nanoTime();
+		MatrixBlock mb = null;
+		byte format = SPILL_PLAIN;
+		InputStream is = new FileInputStream(fname);
+		try {
+			format = (byte) is.read();
+			if (format == SPILL_DEFLATE)
+				is = new InflaterInputStream(is);
+			DataInput in = new FastBufferedDataInputStream(is, LocalFileUtils.BUFFER_SIZE);
+			CompressedWriteBlock wb = new CompressedWriteBlock();
+			wb.readFields(in);
+			mb = wb.get();
+		}
+		finally {
+			IOUtilFunctions.closeSilently(is);
+		}
+		long t1 = System.nanoTime();
+		long tr = t1;
+		if (format == SPILL_CLA && mb instanceof CompressedMatrixBlock) {
+			// Restore the uncompressed block (compressed only for spilling)
+			mb = ((CompressedMatrixBlock) mb).decompress(OptimizerUtils.getConstrainedNumThreads(-1));
+			t1 = System.nanoTime();
+		}
+
+		// Adjust disk reading and decompression speed
+		double size = getDiskSizeEstimate(mb);
+		if (format == SPILL_PLAIN)
+			adjustReadWriteSpeed(size, mb.isInSparseFormat(), ((double)(t1-t0))/1000000000, true);
+		else if (format == SPILL_CLA) {
+			adjustReadWriteSpeed(toMB(new File(fname).length()),
+				mb.isInSparseFormat(), ((double)(tr-t0))/1000000000, true);
+			adjustCompression(size, 0, ((double)(t1-tr))/1000000000, true);
+		}
+		else
+			adjustCompression(size, 0, ((double)(t1-t0))/1000000000, true);
+		return mb;
+	}
+
+	private static void waitForSpill(String fname) throws IOException {
+		Future<?> f = _pendingSpills.remove(fname);
+		if (f == null)
+			return;
+		try {
+			f.get();
+		}
+		catch(Exception ex) {
+			throw new IOException("Asynchronous write to " + fname + " failed.", ex);
+		}
+	}
+
+	private static void writeSpillBlock(String fname, MatrixBlock mb, byte format) throws IOException {
+		Deflater def = (format == SPILL_DEFLATE) ? new Deflater(Deflater.BEST_SPEED) : null;
+		try (OutputStream fos = new FileOutputStream(fname)) {
+			fos.write(format);
+			OutputStream os = (def != null) ?
+				new DeflaterOutputStream(fos, def, LocalFileUtils.BUFFER_SIZE) : fos;
+			FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(os, LocalFileUtils.BUFFER_SIZE);
+			new CompressedWriteBlock(mb).write(out);
+			out.close(); //incl flush and finish of deflate stream
+		}
+		finally {
+			if (def != null)
+				def.end();
+		}
+	}
+
+	private static double toMB(long bytes) {
+		return ((double) bytes) / (1024*1024);
+	}
 }
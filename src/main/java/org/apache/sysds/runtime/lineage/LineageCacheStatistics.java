@@ -34,6 +34,8 @@ public class LineageCacheStatistics {
 	private static final LongAdder _numHitsFunc     = new LongAdder();
 	private static final LongAdder _numWritesMem    = new LongAdder();
 	private static final LongAdder _numWritesFS     = new LongAdder();
+	private static final LongAdder _numWritesFSComp = new LongAdder();
+	private static final LongAdder _numBytesFSSaved = new LongAdder();
 	private static final LongAdder _numMemDel       = new LongAdder();
 	private static final LongAdder _numRewrites     = new LongAdder();
 	// All the time measurements are in nanoseconds
@@ -67,6 +69,8 @@ public class LineageCacheStatistics {
 		_numHitsFunc.reset();
 		_numWritesMem.reset();
 		_numWritesFS.reset();
+		_numWritesFSComp.reset();
+		_numBytesFSSaved.reset();
 		_numMemDel.reset();
 		_numRewrites.reset();
 		_ctimeFSRead.reset();
@@ -166,6 +170,20 @@ public class LineageCacheStatistics {
 		return _numWritesFS.longValue();
 	}
 
+	public static void incrementFSCompressedWrites(long savedBytes) {
+		// Number of compressed writes in local FS, and bytes saved by compression.
+		_numWritesFSComp.increment();
+		_numBytesFSSaved.add(savedBytes);
+	}
+
+	public static long getFSCompressedWrites() {
+		return _numWritesFSComp.longValue();
+	}
+
+	public static long getFSSavedBytes() {
+		return _numBytesFSSaved.longValue();
+	}
+
 	public static void incrementMemDeletes() {
 		// Number of deletions from cache (including spilling).
 		_numMemDel.increment();
@@ -305,6 +323,14 @@ public class LineageCacheStatistics {
 		return sb.toString();
 	}
 
+	public static String displayFSCompression() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numWritesFSComp.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_numBytesFSSaved.longValue())/(1024*1024))); //in MB
+		return sb.toString();
+	}
+
 	public static String displayRewrites() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numRewrites.longValue());
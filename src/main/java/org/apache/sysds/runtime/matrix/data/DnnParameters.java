@@ -40,6 +40,9 @@ public class DnnParameters implements Serializable
 	// Optional variables used by ConvolutionCPInstruction
 	public boolean enableNative = false;
 	public boolean return_sequences;
+	// Optional fused relu of conv2d outputs, i.e., max(conv2d(input, filter) + bias, 0),
+	// set by conv2d_bias_add_relu instructions (see DnnOp#getFusableConv2dBiasAdd)
+	public boolean fuseReLU = false;
 
 	public MatrixBlock input1; public MatrixBlock input2; public MatrixBlock output;
 	public MatrixBlock input3, input4, input5, input6, input7, input8, input9, output2, output3, output4, output5;
@@ -185,6 +188,27 @@ public class DnnParameters implements Serializable
 			&& pad_h==0 && pad_w==0);
 	}
 	
+	/**
+	 * Indicates a pointwise (1x1) convolution, which is a plain matrix multiplication
+	 * of the filter [K x C] with every image [C x HW] and hence requires no im2col.
+	 * 
+	 * @return true if 1x1 filter w/ stride 1 and no padding
+	 */
+	public boolean isPointwiseConv2d() {
+		return R==1 && S==1 && isStride1Pad0();
+	}
+	
+	/**
+	 * Indicates a convolution with small filters, which is a candidate for a direct
+	 * convolution instead of materializing the [CRS x PQ] im2col matrix per image.
+	 * 
+	 * @param maxFilterSize maximum filter height and width
+	 * @return true if filter height and width are at most maxFilterSize
+	 */
+	public boolean isSmallFilterConv2d(int maxFilterSize) {
+		return R <= maxFilterSize && S <= maxFilterSize;
+	}
+	
 	public boolean isAllOnes(Integer...params) {
 		boolean ret = true;
 		for(int param : params)
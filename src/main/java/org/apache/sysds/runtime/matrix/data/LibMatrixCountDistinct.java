@@ -19,26 +19,26 @@
 
 package org.apache.sysds.runtime.matrix.data;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.DMLException;
+import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.data.DenseBlock;
 import org.apache.sysds.runtime.data.SparseBlock;
-import org.apache.sysds.runtime.data.SparseBlockCOO;
-import org.apache.sysds.runtime.data.SparseBlockCSR;
-import org.apache.sysds.runtime.data.SparseBlockFactory;
 import org.apache.sysds.runtime.instructions.spark.data.CorrMatrixBlock;
 import org.apache.sysds.runtime.matrix.data.sketch.MatrixSketch;
 import org.apache.sysds.runtime.matrix.data.sketch.MatrixSketchFactory;
 import org.apache.sysds.runtime.matrix.operators.CountDistinctOperator;
 import org.apache.sysds.runtime.matrix.operators.CountDistinctOperatorTypes;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.DoubleHashSet;
 import org.apache.sysds.utils.Hash.HashType;
 
 /**
@@ -53,6 +53,11 @@ public interface LibMatrixCountDistinct {
 	 */
 	int minimumSize = 1024;
 
+	/**
+	 * The minimum number of cells in the input before using multi-threaded exact counting.
+	 */
+	long PAR_NUMCELL_THRESHOLD = 64 * 1024;
+
 	/**
 	 * Public method to count the number of distinct values inside a matrix. Depending on which CountDistinctOperator
 	 * selected it either gets the absolute number or a estimated value.
@@ -69,9 +74,6 @@ public interface LibMatrixCountDistinct {
 			throw new DMLException(
 				"Invalid hashing configuration using " + op.getHashType() + " and " + op.getOperatorType());
 		}
-		else if(op.getOperatorType() == CountDistinctOperatorTypes.HLL) {
-			throw new NotImplementedException("HyperLogLog has not been implemented yet");
-		}
 
 		// shortcut in the simplest case.
 		if(in.getLength() == 1 || in.isEmpty()) {
@@ -96,14 +98,15 @@ public interface LibMatrixCountDistinct {
 		// Result is a dense 1x1 (RowCol), Mx1 (Row), or 1xN (Col) matrix
 		MatrixBlock res;
 		if (averageNnzPerRowOrCol < minimumSize) {
-			// Resort to naive counting for small enough matrices
-			res = countDistinctValuesNaive(in, op);
+			// Resort to exact counting for small enough matrices
+			res = countDistinctValuesExact(in, op);
 		} else {
 			switch(op.getOperatorType()) {
 				case COUNT:
-					res = countDistinctValuesNaive(in, op);
+					res = countDistinctValuesExact(in, op);
 					break;
 				case KMV:
+				case HLL:
 					res = MatrixSketchFactory.get(op).getValue(in);
 					break;
 				default:
@@ -115,248 +118,260 @@ public interface LibMatrixCountDistinct {
 	}
 
 	/**
-	 * Naive implementation of counting distinct values.
-	 * 
-	 * Benefit: precise, but uses memory, on the scale of inputs number of distinct values.
+	 * Exact counting of distinct values based on primitive double hash sets. Implicit zeros of sparse inputs are
+	 * accounted for without materialization. The full aggregate is computed over hash partitions (see
+	 * {@link #getDistinctValues(MatrixBlock, int)}), while row and column aggregates are computed in parallel over
+	 * disjoint ranges of rows or columns. Multi-threaded column aggregates of sparse inputs are computed as row
+	 * aggregates of the transposed input.
 	 * 
 	 * @param blkIn The input matrix to count number distinct values in
+	 * @param op    The count distinct operator (direction and degree of parallelism)
 	 * @return A matrix block containing the absolute distinct count for the entire input or along given row/col axis
 	 */
-	private static MatrixBlock countDistinctValuesNaive(MatrixBlock blkIn, CountDistinctOperator op) {
-
-		if (blkIn.isEmpty()) {
+	private static MatrixBlock countDistinctValuesExact(MatrixBlock blkIn, CountDistinctOperator op) {
+		if(blkIn.isEmpty()) {
 			return new MatrixBlock(1);
 		}
 		else if(blkIn instanceof CompressedMatrixBlock) {
 			throw new NotImplementedException("countDistinct() does not support CompressedMatrixBlock");
 		}
 
-		Set<Double> distinct = new HashSet<>();
-		MatrixBlock blkOut;
-		double[] data;
-
-		if (op.getDirection().isRowCol()) {
-			blkOut = new MatrixBlock(1, 1, false);
-
+		int k = (blkIn.getLength() < PAR_NUMCELL_THRESHOLD) ? 1 : op.getNumThreads();
+		if(op.getDirection().isRowCol()) {
 			long distinctCount = 0;
-			long nonZeros = blkIn.getNonZeros();
-
-			// Check if input matrix contains any 0 values for RowCol case.
-			// This does not apply to row/col case, where we count nnz per row or col during iteration.
-			if(nonZeros != -1 && nonZeros < (long) blkIn.getNumColumns() * blkIn.getNumRows()) {
-				distinct.add(0d);
-			}
-
-			if(blkIn.getSparseBlock() != null) {
-				SparseBlock sb = blkIn.getSparseBlock();
-				if(blkIn.getSparseBlock().isContiguous()) {
-					// COO, CSR
-					data = sb.values(0);
-					distinctCount = countDistinctValuesNaive(data, distinct);
-				} else {
-					// MCSR
-					for(int i = 0; i < blkIn.getNumRows(); i++) {
-						if(!sb.isEmpty(i)) {
-							data = blkIn.getSparseBlock().values(i);
-							distinctCount = countDistinctValuesNaive(data, distinct);
-						}
-					}
-				}
-			} else if(blkIn.getDenseBlock() != null) {
-				DenseBlock db = blkIn.getDenseBlock();
-				for (int i = 0; i <= db.numBlocks(); i++) {
-					data = db.valuesAt(i);
-					distinctCount = countDistinctValuesNaive(data, distinct);
-				}
+			for(DoubleHashSet set : getDistinctValues(blkIn, k))
+				distinctCount += set.size();
+			return new MatrixBlock(1, 1, (double) distinctCount);
+		}
+		else if(op.getDirection().isRow()) {
+			MatrixBlock blkOut = new MatrixBlock(blkIn.getNumRows(), 1, false).allocateBlock();
+			double[] c = blkOut.getDenseBlockValues();
+			parallelForRanges(blkIn.getNumRows(), k, (rl, ru) -> countDistinctValuesRow(blkIn, c, rl, ru));
+			blkOut.recomputeNonZeros();
+			return blkOut;
+		}
+		else if(op.getDirection().isCol()) {
+			MatrixBlock blkOut = new MatrixBlock(1, blkIn.getNumColumns(), false).allocateBlock();
+			double[] c = blkOut.getDenseBlockValues();
+			if(k > 1 && blkIn.isInSparseFormat()) {
+				// transpose once (O(nnz)) and count columns as rows, instead of
+				// every thread scanning all rows of its column range (O(k*nnz))
+				MatrixBlock blkInT = LibMatrixReorg.transpose(blkIn, k);
+				parallelForRanges(blkInT.getNumRows(), k, (rl, ru) -> countDistinctValuesRow(blkInT, c, rl, ru));
 			}
+			else
+				parallelForRanges(blkIn.getNumColumns(), k, (cl, cu) -> countDistinctValuesCol(blkIn, c, cl, cu));
+			blkOut.recomputeNonZeros();
+			return blkOut;
+		}
+		else {
+			throw new IllegalArgumentException("Unrecognized direction " + op.getDirection());
+		}
+	}
 
-			blkOut.set(0, 0, distinctCount);
-		} else if (op.getDirection().isRow()) {
-			blkOut = new MatrixBlock(blkIn.getNumRows(), 1, false, blkIn.getNumRows());
-			blkOut.allocateBlock();
-
-			if (blkIn.getDenseBlock() != null) {
-				// The naive approach would be to iterate through every (i, j) in the input. However, can do better
-				// by exploiting the physical layout of dense blocks - contiguous blocks in row-major order - in memory.
-				DenseBlock db = blkIn.getDenseBlock();
-				for (int bix=0; bix<db.numBlocks(); ++bix) {
-					data = db.valuesAt(bix);
-					for (int rix=bix * db.blockSize(); rix<blkIn.getNumRows(); rix++) {
-						distinct.clear();
-						for (int cix=0; cix<blkIn.getNumColumns(); ++cix) {
-							distinct.add(data[db.pos(rix, cix)]);
-						}
-						blkOut.set(rix, 0, distinct.size());
-					}
-				}
-			} else if (blkIn.getSparseBlock() != null) {
-				// Each sparse block type - COO, CSR, MCSR - has a different data representation, which we will exploit
-				// separately.
-				SparseBlock sb = blkIn.getSparseBlock();
-				if (SparseBlockFactory.isSparseBlockType(sb, SparseBlock.Type.MCSR)) {
-					// Currently, SparseBlockIterator only provides an interface for cell-wise iteration.
-					// TODO Explore row-wise and column-wise methods for SparseBlockIterator
+	/**
+	 * Obtains the distinct values of the entire input as a list of disjoint hash partitions. In a first phase, every
+	 * thread collects the distinct values of a range of rows into thread-local sets (one per hash partition). In a
+	 * second phase, every hash partition is merged by exactly one thread, which requires no synchronization because
+	 * the partitions are disjoint by construction. The total number of distinct values is the sum of set sizes.
+	 * 
+	 * @param blkIn The input matrix (uncompressed)
+	 * @param k     The degree of parallelism
+	 * @return Disjoint sets of distinct values, including zero if the input contains any zeros
+	 */
+	static DoubleHashSet[] getDistinctValues(MatrixBlock blkIn, int k) {
+		final int rlen = blkIn.getNumRows();
+		final int nparts = Math.max(1, Math.min(k, rlen));
+		if(nparts == 1 || blkIn.isEmptyBlock(false)) {
+			DoubleHashSet[] sets = new DoubleHashSet[] {new DoubleHashSet()};
+			addDistinctValues(blkIn, 0, rlen, sets);
+			return sets;
+		}
 
-					// MCSR enables O(1) access to column values per row
-					for (int rix=0; rix<blkIn.getNumRows(); ++rix) {
-						if (sb.isEmpty(rix)) {
-							continue;
-						}
-						distinct.clear();
-						data = sb.values(rix);
-						countDistinctValuesNaive(data, distinct);
-						blkOut.set(rix, 0, distinct.size());
-					}
-				} else if (SparseBlockFactory.isSparseBlockType(sb, SparseBlock.Type.CSR)) {
-					// Casting is safe given if-condition
-					SparseBlockCSR csrBlock = (SparseBlockCSR) sb;
+		ExecutorService pool = CommonThreadPool.get(nparts);
+		try {
+			// phase 1: thread-local distinct values per row range, split by hash partition
+			int blklen = (int) Math.ceil((double) rlen / nparts);
+			ArrayList<Future<DoubleHashSet[]>> rt1 = new ArrayList<>();
+			for(int rl = 0; rl < rlen; rl += blklen) {
+				final int lrl = rl, lru = Math.min(rlen, rl + blklen);
+				rt1.add(pool.submit(() -> {
+					DoubleHashSet[] sets = new DoubleHashSet[nparts];
+					for(int p = 0; p < nparts; p++)
+						sets[p] = new DoubleHashSet();
+					addDistinctValues(blkIn, lrl, lru, sets);
+					return sets;
+				}));
+			}
+			DoubleHashSet[][] partials = new DoubleHashSet[rt1.size()][];
+			for(int i = 0; i < partials.length; i++)
+				partials[i] = rt1.get(i).get();
 
-					// Data lies in one contiguous block in CSR format. We will iterate in row-major using O(1) op
-					// size(row) to determine the number of columns per row.
-					data = csrBlock.values();
-					// We want to iterate through all rows to keep track of the row index for constructing the output
-					for (int rix=0; rix<blkIn.getNumRows(); ++rix) {
-						if (csrBlock.isEmpty(rix)) {
-							continue;
-						}
-						distinct.clear();
-						int rpos = csrBlock.pos(rix);
-						int clen = csrBlock.size(rix);
-						for (int colOffset=0; colOffset<clen; ++colOffset) {
-							distinct.add(data[rpos + colOffset]);
+			// phase 2: lock-free merge of partitions (each partition owned by one task)
+			ArrayList<Future<DoubleHashSet>> rt2 = new ArrayList<>();
+			for(int p = 0; p < nparts; p++) {
+				final int lp = p;
+				rt2.add(pool.submit(() -> {
+					DoubleHashSet ret = partials[0][lp];
+					for(int i = 1; i < partials.length; i++) {
+						DoubleHashSet tmp = partials[i][lp];
+						if(tmp.size() > ret.size()) {
+							tmp.addAll(ret);
+							ret = tmp;
 						}
-						blkOut.set(rix, 0, distinct.size());
+						else
+							ret.addAll(tmp);
 					}
-				} else { // COO
-					if (!(sb instanceof SparseBlockCOO)) {
-						throw new IllegalArgumentException("Input matrix is of unrecognized type: "
-								+ sb.getClass().getSimpleName());
-					}
-					SparseBlockCOO cooBlock = (SparseBlockCOO) sb;
+					return ret;
+				}));
+			}
+			DoubleHashSet[] ret = new DoubleHashSet[nparts];
+			for(int p = 0; p < nparts; p++)
+				ret[p] = rt2.get(p).get();
+			return ret;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
 
-					// For COO, we want to avoid using pos(row) and size(row) as they use binary search, which is a
-					// O(log N) op. Also, isEmpty(row) uses pos(row) internally.
-					int[] rixs = cooBlock.rowIndexes();
-					data = cooBlock.values();
-					int i = 0;  // data iterator
-					int rix = 0;  // row index
-					while (rix < cooBlock.numRows() && i < rixs.length) {
-						distinct.clear();
-						while (i + 1 < rixs.length && rixs[i] == rixs[i + 1]) {
-							distinct.add(data[i]);
-							i++;
-						}
-						if (i + 1 < rixs.length) {  // rixs[i] != rixs[i + 1]
-							distinct.add(data[i]);
-						}
-						blkOut.set(rix, 0, distinct.size());
-						rix = (i + 1 < rixs.length)? rixs[i + 1] : rix;
-						i++;
-					}
+	private static void addDistinctValues(MatrixBlock blkIn, int rl, int ru, DoubleHashSet[] sets) {
+		final int clen = blkIn.getNumColumns();
+		final int nparts = sets.length;
+		boolean zeros = false;
+		if(blkIn.isEmptyBlock(false)) {
+			zeros = rl < ru;
+		}
+		else if(blkIn.isInSparseFormat()) {
+			SparseBlock sb = blkIn.getSparseBlock();
+			for(int i = rl; i < ru; i++) {
+				if(sb.isEmpty(i)) {
+					zeros = true;
+					continue;
 				}
+				int apos = sb.pos(i);
+				int alen = sb.size(i);
+				double[] avals = sb.values(i);
+				zeros |= alen < clen;
+				for(int j = apos; j < apos + alen; j++)
+					sets[nparts == 1 ? 0 : DoubleHashSet.partition(avals[j], nparts)].add(avals[j]);
+			}
+		}
+		else {
+			DenseBlock db = blkIn.getDenseBlock();
+			for(int i = rl; i < ru; i++) {
+				double[] avals = db.values(i);
+				int apos = db.pos(i);
+				for(int j = apos; j < apos + clen; j++)
+					sets[nparts == 1 ? 0 : DoubleHashSet.partition(avals[j], nparts)].add(avals[j]);
 			}
-		} else {  // Col aggregation
-			blkOut = new MatrixBlock(1, blkIn.getNumColumns(), false, blkIn.getNumColumns());
-			blkOut.allocateBlock();
+		}
+		if(zeros)
+			sets[nparts == 1 ? 0 : DoubleHashSet.partition(0, nparts)].add(0);
+	}
 
-			// All dense and sparse formats (COO, CSR, MCSR) are row-major formats, so there is no obvious way to iterate
-			// in column-major order besides iterating through every (i, j) pair. getValue() skips over empty cells in CSR
-			// and MCSR formats, but not so in COO format. This results in O(log2 R * log2 C) time for every lookup,
-			// amounting to O(RC * log2R * log2C) for the whole block (R, C <= 1000 in CP case). We will eschew this
-			// approach in favor of one using a hash map M of (column index, distinct values) to obtain a pseudo column-major
-			// grouping of distinct values instead. Given this setup, we will simply iterate over the input
-			// (according to specific dense/sparse format) in row-major order and populate M. Finally, an O(C) iteration
-			// over M will yield the final result.
-			Map<Integer, Set<Double>> distinctValuesByCol = new HashMap<>();
-			if (blkIn.getDenseBlock() != null) {
-				DenseBlock db = blkIn.getDenseBlock();
-				for (int bix=0; bix<db.numBlocks(); ++bix) {
-					data = db.valuesAt(bix);
-					for (int cix=0; cix<blkIn.getNumColumns(); ++cix) {
-						Set<Double> distinctValues = distinctValuesByCol.getOrDefault(cix, new HashSet<>());
-						for (int rix=bix * db.blockSize(); rix<blkIn.getNumRows(); rix++) {
-							double val = data[db.pos(rix, cix)];
-							distinctValues.add(val);
-						}
-						distinctValuesByCol.put(cix, distinctValues);
-					}
+	private static void countDistinctValuesRow(MatrixBlock blkIn, double[] c, int rl, int ru) {
+		final int clen = blkIn.getNumColumns();
+		DoubleHashSet distinct = new DoubleHashSet(Math.min(clen, 1024));
+		if(blkIn.isInSparseFormat()) {
+			SparseBlock sb = blkIn.getSparseBlock();
+			for(int i = rl; i < ru; i++) {
+				if(sb == null || sb.isEmpty(i)) {
+					c[i] = 1; // all zeros
+					continue;
 				}
-			} else if (blkIn.getSparseBlock() != null) {
-				SparseBlock sb = blkIn.getSparseBlock();
-				if (SparseBlockFactory.isSparseBlockType(sb, SparseBlock.Type.MCSR)) {
-					for (int rix=0; rix<blkIn.getNumRows(); ++rix) {
-						if (sb.isEmpty(rix)) {
-							continue;
-						}
-						int[] cixs = sb.indexes(rix);
-						data = sb.values(rix);
-						for (int j=0; j<sb.size(rix); ++j) {
-							int cix = cixs[j];
-							Set<Double> distinctValues = distinctValuesByCol.getOrDefault(cix, new HashSet<>());
-							distinctValues.add(data[j]);
-							distinctValuesByCol.put(cix, distinctValues);
-						}
-					}
-				} else if (SparseBlockFactory.isSparseBlockType(sb, SparseBlock.Type.CSR)) {
-					SparseBlockCSR csrBlock = (SparseBlockCSR) sb;
-					data = csrBlock.values();
-					for (int rix=0; rix<blkIn.getNumRows(); ++rix) {
-						if (csrBlock.isEmpty(rix)) {
-							continue;
-						}
-						int rpos = csrBlock.pos(rix);
-						int clen = csrBlock.size(rix);
-						int[] cixs = csrBlock.indexes();
-						for (int colOffset=0; colOffset<clen; ++colOffset) {
-							int cix = cixs[rpos + colOffset];
-							Set<Double> distinctValues = distinctValuesByCol.getOrDefault(cix, new HashSet<>());
-							distinctValues.add(data[rpos + colOffset]);
-							distinctValuesByCol.put(cix, distinctValues);
-						}
-					}
-				} else {  // COO
-					if (!(sb instanceof SparseBlockCOO)) {
-						throw new IllegalArgumentException("Input matrix is of unrecognized type: "
-								+ sb.getClass().getSimpleName());
-					}
-					SparseBlockCOO cooBlock = (SparseBlockCOO) sb;
+				distinct.clear();
+				int apos = sb.pos(i);
+				int alen = sb.size(i);
+				double[] avals = sb.values(i);
+				for(int j = apos; j < apos + alen; j++)
+					distinct.add(avals[j]);
+				if(alen < clen)
+					distinct.add(0);
+				c[i] = distinct.size();
+			}
+		}
+		else {
+			DenseBlock db = blkIn.getDenseBlock();
+			for(int i = rl; i < ru; i++) {
+				distinct.clear();
+				double[] avals = db.values(i);
+				int apos = db.pos(i);
+				for(int j = apos; j < apos + clen; j++)
+					distinct.add(avals[j]);
+				c[i] = distinct.size();
+			}
+		}
+	}
 
-					int[] rixs = cooBlock.rowIndexes();
-					int[] cixs = cooBlock.indexes();
-					data = cooBlock.values();
-					int i = 0;  // data iterator
-					while (i < rixs.length) {
-						while (i + 1 < rixs.length && rixs[i] == rixs[i + 1]) {
-							int cix = cixs[i];
-							Set<Double> distinctValues = distinctValuesByCol.getOrDefault(cix, new HashSet<>());
-							distinctValues.add(data[i]);
-							distinctValuesByCol.put(cix, distinctValues);
-							i++;
-						}
-						if (i + 1 < rixs.length) {
-							int cix = cixs[i];
-							Set<Double> distinctValues = distinctValuesByCol.getOrDefault(cix, new HashSet<>());
-							distinctValues.add(data[i]);
-							distinctValuesByCol.put(cix, distinctValues);
-						}
-						i++;
+	private static void countDistinctValuesCol(MatrixBlock blkIn, double[] c, int cl, int cu) {
+		// row-major iteration over the column range with one set per column, which
+		// avoids strided access for dense and column lookups for sparse inputs
+		final int rlen = blkIn.getNumRows();
+		DoubleHashSet[] distinct = new DoubleHashSet[cu - cl];
+		for(int j = 0; j < distinct.length; j++)
+			distinct[j] = new DoubleHashSet();
+		if(blkIn.isInSparseFormat()) {
+			SparseBlock sb = blkIn.getSparseBlock();
+			int[] cnnz = new int[cu - cl];
+			for(int i = 0; sb != null && i < rlen; i++) {
+				if(sb.isEmpty(i))
+					continue;
+				int apos = sb.pos(i);
+				int alen = sb.size(i);
+				int[] aix = sb.indexes(i);
+				double[] avals = sb.values(i);
+				for(int j = apos; j < apos + alen; j++) {
+					if(aix[j] >= cl && aix[j] < cu) {
+						distinct[aix[j] - cl].add(avals[j]);
+						cnnz[aix[j] - cl]++;
 					}
 				}
 			}
-			// Fill in output block with column aggregation results
-			for (int cix : distinctValuesByCol.keySet()) {
-				blkOut.set(0, cix, distinctValuesByCol.get(cix).size());
+			for(int j = cl; j < cu; j++) {
+				if(cnnz[j - cl] < rlen)
+					distinct[j - cl].add(0);
+				c[j] = distinct[j - cl].size();
 			}
 		}
-
-		return blkOut;
+		else {
+			DenseBlock db = blkIn.getDenseBlock();
+			for(int i = 0; i < rlen; i++) {
+				double[] avals = db.values(i);
+				int apos = db.pos(i);
+				for(int j = cl; j < cu; j++)
+					distinct[j - cl].add(avals[apos + j]);
+			}
+			for(int j = cl; j < cu; j++)
+				c[j] = distinct[j - cl].size();
+		}
 	}
 
-	private static long countDistinctValuesNaive(double[] valuesPart, Set<Double> distinct) {
-		for(double v : valuesPart)
-			distinct.add(v);
-
-		return distinct.size();
+	private static void parallelForRanges(int len, int k, BiConsumer<Integer, Integer> fn) {
+		if(k <= 1 || len <= 1) {
+			fn.accept(0, len);
+			return;
+		}
+		ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			ArrayList<Future<?>> rt = new ArrayList<>();
+			int blklen = (int) Math.ceil((double) len / k);
+			for(int l = 0; l < len; l += blklen) {
+				final int ll = l, lu = Math.min(len, l + blklen);
+				rt.add(pool.submit(() -> fn.accept(ll, lu)));
+			}
+			for(Future<?> f : rt)
+				f.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		finally {
+			pool.shutdown();
+		}
 	}
 
 	static MatrixBlock countDistinctValuesFromSketch(CountDistinctOperator op, CorrMatrixBlock corrBlkIn) {
@@ -78,6 +78,11 @@ public class LibMatrixDNN {
 	 * @param params convolution parameters
 	 */
 	public static void conv2d(MatrixBlock input, MatrixBlock filter, MatrixBlock outputBlock, DnnParameters params) {
+		if(params.fuseReLU && outputBlock.isInSparseFormat()) {
+			// fused relu is applied in-place on dense output rows
+			outputBlock.reset(outputBlock.getNumRows(), outputBlock.getNumColumns(), false);
+			outputBlock.allocateDenseBlock();
+		}
 		LibMatrixDNN.checkInputsConv2d(input, filter, outputBlock, params);
 		if(params.bias != null && params.bias.isInSparseFormat())
 			params.bias.sparseToDense(); // Since bias is extremely small array
@@ -671,9 +676,16 @@ public class LibMatrixDNN {
 	public static void lstmBackward(DnnParameters params) {
 		long nnz;
 		if(LibMatrixDNNLSTM.checkLSTMBackwardInputForOptimisation(params)){
-			//out.allocateDenseBlock();
-			//cout.allocateDenseBlock();
-			nnz = execute(LibMatrixDNNLSTM.getLSTMWorkers(params), params);
+			params.output.allocateDenseBlock();
+			params.output2.allocateDenseBlock();
+			params.output3.allocateDenseBlock();
+			params.output4.allocateDenseBlock();
+			params.output5.allocateDenseBlock();
+			nnz = execute(LibMatrixDNNLSTM.getLSTMBackwardWorkers(params), params);
+			params.output2.recomputeNonZeros();
+			params.output3.recomputeNonZeros();
+			params.output4.recomputeNonZeros();
+			params.output5.recomputeNonZeros();
 		}
 		else
 			nnz = LibMatrixDNNLSTM.lstmBackwardGeneric(params);
@@ -34,6 +34,13 @@ import org.apache.sysds.utils.stats.NativeStatistics;
  */
 public class LibMatrixDNNConv2d 
 {
+	//direct convolution (w/o im2col) for small filters, but only for few filters and
+	//large output planes (stride 1), where the [CRS x PQ] im2col intermediate per image
+	//exceeds the caches, while the blocked matrix multiply is faster otherwise
+	public static final int DIRECT_CONV2D_MAX_FILTER_SIZE = 3;
+	public static final int DIRECT_CONV2D_MAX_NUM_FILTERS = 4;
+	public static final int DIRECT_CONV2D_MIN_OUTPUT_SIZE = 8192;
+	
 	/**
 	 * Factory method that returns list of callable tasks for performing conv2d
 	 * 
@@ -56,10 +63,12 @@ public class LibMatrixDNNConv2d
 			&& !(!isEmptyDenseInput && isTransPref);
 		if( applyNative )
 			NativeStatistics.incrementNumSparseConv2dCalls();
+		//direct convolution for dense inputs and pointwise or small dense filters
+		boolean applyDirect = !applyNative && isEligibleForConv2dDirect(params);
 
 		//transpose filter once for efficient sparse-dense multiplies in LoopedIm2ColConv2dTransAllChan
 		//in order to share the temporary object and its creation costs across threads
-		if( !applyNative && !isEmptyDenseInput && isTransPref ) {
+		if( !applyNative && !applyDirect && !isEmptyDenseInput && isTransPref ) {
 			params.input2 = LibMatrixReorg.transpose(params.input2, 
 				new MatrixBlock(params.input2.clen, params.input2.rlen, false), k);
 		}
@@ -69,6 +78,10 @@ public class LibMatrixDNNConv2d
 			//implementation simply converts the sparse input into dense rows
 			if( applyNative ) 
 				ret.add(new SparseNativeConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
+			else if( applyDirect && params.isPointwiseConv2d() )
+				ret.add(new PointwiseConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
+			else if( applyDirect )
+				ret.add(new DirectConv2d(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
 			else if(!isEmptyDenseInput && isTransPref)
 				ret.add(new LoopedIm2ColConv2dTransAllChan(i*taskSize, Math.min((i+1)*taskSize, params.N), params));
 			else if(!isEmptyDenseInput)
@@ -180,10 +193,9 @@ public class LibMatrixDNNConv2d
 				// Copy the outMM of shape [K x PQ] to a row in params.output 
 				partialCopy1(outMM, _params.output, n, K, PQ);
 				
-				// Add bias to current row if necessary, always dense
-				if(_params.bias != null)
-					addBias(n, _params.output.getDenseBlockValues(),
-						_params.bias.getDenseBlockValues(), K, PQ);
+				// Add bias and relu to current row if necessary, always dense
+				if(_params.bias != null || _params.fuseReLU)
+					addBiasReLU(n, _params, K, PQ);
 			}
 			
 			//multi-threaded nnz maintenance of current working set
@@ -261,10 +273,9 @@ public class LibMatrixDNNConv2d
 				// Copy the matrix matMultOutBlock of shape [K X PQ] to params.output.denseBlock + destPos
 				partialCopyTrans(outMM, _params.output, n*K*PQ, K, PQ);
 				
-				// Add bias to current row if necessary, always dense
-				if(_params.bias != null)
-					addBias(n, _params.output.getDenseBlockValues(),
-						_params.bias.getDenseBlockValues(), K, PQ);
+				// Add bias and relu to current row if necessary, always dense
+				if(_params.bias != null || _params.fuseReLU)
+					addBiasReLU(n, _params, K, PQ);
 			}
 			
 			//multi-threaded nnz maintenance of current working set
@@ -307,6 +318,131 @@ public class LibMatrixDNNConv2d
 		}
 	}
 	
+	/**
+	 * Performs pointwise (1x1) convolution as a direct matrix multiplication
+	 * filter [K x C] %*% input[n] [C x HW] = output[n] [K x PQ] without im2col,
+	 * including fused bias add and relu while the output row is in cache.
+	 * Input channels are processed in blocks of 4 to reuse each output segment.
+	 */
+	private static class PointwiseConv2d implements Callable<Long> 
+	{
+		private final int _rl, _ru; 
+		private final DnnParameters _params;
+		
+		public PointwiseConv2d(int rl, int ru, DnnParameters params) {
+			_rl = rl; _ru = ru;
+			_params = params;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			final int C = _params.C, K = _params.K, PQ = _params.P*_params.Q;
+			final int blocksizeJ = 2048; //L1/L2 cache of output/input segments
+			double[] in = _params.input1.getDenseBlockValues();
+			double[] filter = _params.input2.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			double[] bias = (_params.bias != null) ? _params.bias.getDenseBlockValues() : null;
+			
+			for(int n = _rl; n < _ru; n++) {
+				int inOff = n*C*PQ, outOff = n*K*PQ;
+				for(int bj = 0; bj < PQ; bj += blocksizeJ) {
+					int bjlen = Math.min(blocksizeJ, PQ-bj);
+					for(int k = 0; k < K; k++) {
+						int oix = outOff + k*PQ + bj;
+						Arrays.fill(out, oix, oix+bjlen, (bias != null) ? bias[k] : 0);
+						int fix = k*C, iix = inOff+bj, c = 0;
+						//compute blocks of 4 input channels (core inner loop)
+						for( ; c < C-C%4; c+=4, iix+=4*PQ )
+							LibMatrixMult.vectMultiplyAdd4(filter[fix+c], filter[fix+c+1], filter[fix+c+2],
+								filter[fix+c+3], in, out, iix, iix+PQ, iix+2*PQ, iix+3*PQ, oix, bjlen);
+						//rest not aligned to blocks of 4 input channels
+						for( ; c < C; c++, iix+=PQ )
+							LibMatrixMult.vectMultiplyAdd(filter[fix+c], in, out, iix, oix, bjlen);
+						if( _params.fuseReLU )
+							reLU(out, oix, bjlen);
+					}
+				}
+			}
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
+	/**
+	 * Performs direct convolution (stride 1) without im2col by accumulating, per output
+	 * channel, the shifted and scaled input channel rows for all filter positions, in
+	 * blocks of 4 input channels to reuse each output row. This avoids the [CRS x PQ]
+	 * intermediate per image, which dominates the memory traffic for few filters and
+	 * large images. Bias add and relu are fused into the same pass over the output row.
+	 */
+	private static class DirectConv2d implements Callable<Long> 
+	{
+		private final int _rl, _ru; 
+		private final DnnParameters _params;
+		
+		public DirectConv2d(int rl, int ru, DnnParameters params) {
+			_rl = rl; _ru = ru;
+			_params = params;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			final int C = _params.C, H = _params.H, W = _params.W, K = _params.K;
+			final int R = _params.R, S = _params.S, P = _params.P, Q = _params.Q;
+			final int ph = _params.pad_h, pw = _params.pad_w;
+			final int HW = H*W, PQ = P*Q, RS = R*S, CRS = C*RS;
+			double[] in = _params.input1.getDenseBlockValues();
+			double[] filter = _params.input2.getDenseBlockValues();
+			double[] out = _params.output.getDenseBlockValues();
+			double[] bias = (_params.bias != null) ? _params.bias.getDenseBlockValues() : null;
+			
+			//valid output ranges [lo, hi) per filter row/column (excluding padding)
+			int[] plo = new int[R], phi = new int[R];
+			for(int r = 0; r < R; r++) {
+				plo[r] = Math.max(ph-r, 0);
+				phi[r] = Math.min(H+ph-r, P);
+			}
+			int[] qlo = new int[S], qhi = new int[S];
+			for(int s = 0; s < S; s++) {
+				qlo[s] = Math.max(pw-s, 0);
+				qhi[s] = Math.min(W+pw-s, Q);
+			}
+			
+			for(int n = _rl; n < _ru; n++) {
+				int inOff = n*C*HW, outOff = n*K*PQ;
+				for(int k = 0; k < K; k++) {
+					int oK = outOff + k*PQ;
+					Arrays.fill(out, oK, oK+PQ, (bias != null) ? bias[k] : 0);
+					for(int c = 0; c < C; ) {
+						//blocks of 4 input channels, and rest not aligned to blocks of 4
+						int clen = (c < C-C%4) ? 4 : 1;
+						int iC = inOff + c*HW;
+						for(int r = 0; r < R; r++)
+							for(int s = 0; s < S; s++) {
+								if( qlo[s] >= qhi[s] ) continue;
+								int fix = k*CRS + c*RS + r*S + s;
+								int qlen = qhi[s] - qlo[s];
+								for(int p = plo[r]; p < phi[r]; p++) {
+									int iix = iC + (p-ph+r)*W + qlo[s]-pw+s;
+									int oix = oK + p*Q + qlo[s];
+									if( clen == 4 )
+										LibMatrixMult.vectMultiplyAdd4(filter[fix], filter[fix+RS], filter[fix+2*RS],
+											filter[fix+3*RS], in, out, iix, iix+HW, iix+2*HW, iix+3*HW, oix, qlen);
+									else
+										LibMatrixMult.vectMultiplyAdd(filter[fix], in, out, iix, oix, qlen);
+								}
+							}
+						c += clen;
+					}
+					if( _params.fuseReLU )
+						reLU(out, oK, PQ);
+				}
+			}
+			//multi-threaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
+	
 	/**
 	 * This operator is used only if native is enabled, filter is dense and input is sparse
 	 */
@@ -334,6 +470,9 @@ public class LibMatrixDNNConv2d
 							_params.stride_h, _params.stride_w, _params.pad_h, _params.pad_w, _params.P, _params.Q, 1);
 					System.arraycopy(temp, 0, _params.output.getDenseBlockValues(), n*KPQ, KPQ);
 				}
+				// Add bias and relu to current row if necessary, always dense
+				if(_params.bias != null || _params.fuseReLU)
+					addBiasReLU(n, _params, _params.K, _params.P*_params.Q);
 			}
 			//multi-threaded nnz maintenance of current working set
 			return _params.output.recomputeNonZeros(_rl, _ru-1);
@@ -590,6 +729,19 @@ public class LibMatrixDNNConv2d
 			LibMatrixMult.vectAddInPlace(bias[k], out, cix, PQ);
 	}
 	
+	private static void addBiasReLU(int r, DnnParameters params, int K, int PQ) {
+		double[] out = params.output.getDenseBlockValues();
+		if(params.bias != null)
+			addBias(r, out, params.bias.getDenseBlockValues(), K, PQ);
+		if(params.fuseReLU)
+			reLU(out, r*K*PQ, K*PQ);
+	}
+	
+	private static void reLU(double[] a, int ai, int len) {
+		for(int i = ai; i < ai+len; i++)
+			a[i] = Math.max(a[i], 0);
+	}
+	
 	// ----------------------------------------------------------------------------------------------
 	// TODO: Support sparse native convolution operations without dense intermediates + dense matmult
 	// Currently, it will fall back to more optimized sparse Java-based operators.
@@ -606,6 +758,18 @@ public class LibMatrixDNNConv2d
 		return false;
 	}
 	
+	private static boolean isEligibleForConv2dDirect(DnnParameters params) {
+		// dense input, filter, and output as well as pointwise or small filters
+		// (see DIRECT_CONV2D_* for the shapes where direct convolution is faster)
+		return !params.input1.isInSparseFormat() && params.input1.getDenseBlock() != null
+			&& !params.input2.isInSparseFormat() && params.input2.getDenseBlock() != null
+			&& !params.output.isInSparseFormat()
+			&& params.input1.getDenseBlock().isContiguous() && params.output.getDenseBlock().isContiguous()
+			&& (params.isPointwiseConv2d() || (params.isSmallFilterConv2d(DIRECT_CONV2D_MAX_FILTER_SIZE)
+				&& params.stride_h == 1 && params.stride_w == 1 && params.K <= DIRECT_CONV2D_MAX_NUM_FILTERS
+				&& (long)params.P * params.Q >= DIRECT_CONV2D_MIN_OUTPUT_SIZE));
+	}
+	
 	private static boolean isEligibleForConv2dBackwardDataDense(DnnParameters params) {
 		// NativeHelper.conv2dBackwardDataDense only if filter is dense. 
 		// dout converted to dense if sparse.
@@ -34,6 +34,7 @@ import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import static org.apache.sysds.runtime.functionobjects.KahanPlus.getKahanPlusFnObject;
@@ -56,6 +57,19 @@ public class LibMatrixDNNLSTM {
 		return ret;
 	}
 
+	public static ArrayList<Callable<Long>> getLSTMBackwardWorkers(DnnParameters params) {
+		ArrayList<Callable<Long>> ret = new ArrayList<>();
+		int k = OptimizerUtils.getConstrainedNumThreads(params.numThreads);
+		int taskSize = (int) (Math.ceil((double) params.N / k));
+
+		//very small input => use less threads (thread-local dW of size (D+M) x 4M)
+		if(taskSize < row_tile_size && (params.D+params.M)*params.T < 256*25)
+			taskSize = row_tile_size;
+		for(int i = 0; i*taskSize < params.N; i++)
+			ret.add(new LSTMBackwardExecutor(i*taskSize, Math.min((i+1)*taskSize, params.N),params));
+		return ret;
+	}
+
 	public static void lstmTile(int n, int d, int T, int m, int start, int end, MatrixBlock x, MatrixBlock w,
 							MatrixBlock bias, MatrixBlock out0, MatrixBlock c0, boolean return_sequences,
 							MatrixBlock out, MatrixBlock cout, MatrixBlock cache_out, MatrixBlock cache_c, MatrixBlock cache_ifog){
@@ -95,35 +109,32 @@ public class LibMatrixDNNLSTM {
 				kbuff[i] = new KahanObject(0,0);
 		KahanPlus kplus = kahan ? getKahanPlusFnObject() : null;
 
-		double[] out_prev_values = null;
-		double[] c_prev_values = null;
+		//state buffers, reused across row tiles
+		double[] out_prev_values = new double[m * tile_size_i];
+		double[] c_prev_values = new double[m * tile_size_i];
 
 		for( int bi = start; bi < end; bi+=tile_size_i ) {
 			int bimin = Math.min(end, bi + tile_size_i);
 
 			//init out_prev
 			if (out0_values != null) {
-				if (out_prev_values == null)
-					out_prev_values = new double[m * tile_size_i];
 				for (int i = bi, i_internal = 0; i < bimin; i++, i_internal++) {
 					c_prev_pointer = i * m;
 					for (int j = 0; j < m; j++)
 						out_prev_values[j + i_internal * m] = out0_values[c_prev_pointer + j];
 				}
 			} else
-				out_prev_values = new double[m * tile_size_i];
+				Arrays.fill(out_prev_values, 0);
 
 			//init c_prev
 			if (c_0_values != null) {
-				if (c_prev_values == null)
-					c_prev_values = new double[m * tile_size_i];
 				for (int i = bi, i_internal = 0; i < bimin; i++, i_internal++) {
 					c_prev_pointer = i * m;
 					for (int j = 0; j < m; j++)
 						c_prev_values[j + i_internal * m] = c_0_values[c_prev_pointer + j];
 				}
 			} else
-				c_prev_values = new double[m * tile_size_i];
+				Arrays.fill(c_prev_values, 0);
 
 			//calculate position of input token sequence for all rows in tile
 			for (int i = bi, i_internal = 0; i < bimin; i++, i_internal++) {
@@ -261,6 +272,120 @@ public class LibMatrixDNNLSTM {
 	}
 
 
+	public static void lstmBackwardTile(int n, int d, int T, int m, int start, int end, MatrixBlock x, MatrixBlock w,
+							MatrixBlock out0, MatrixBlock c0, MatrixBlock cache_out, MatrixBlock cache_c, MatrixBlock cache_ifog,
+							boolean return_sequences, MatrixBlock dout, MatrixBlock dc, MatrixBlock dX, double[] dW_values,
+							double[] db_values, MatrixBlock dout0, MatrixBlock dc0) {
+
+		//inputs arrays (null if empty)
+		double[] x_values = x.getDenseBlockValues();
+		double[] w_values = w.getDenseBlockValues();
+		double[] out0_values = out0.getDenseBlockValues();
+		double[] c0_values = c0.getDenseBlockValues();
+		double[] cache_out_values = cache_out.getDenseBlockValues();
+		double[] cache_c_values = cache_c.getDenseBlockValues();
+		double[] cache_ifog_values = cache_ifog.getDenseBlockValues();
+		double[] dout_values = dout.getDenseBlockValues();
+		double[] dc_values = dc.getDenseBlockValues();
+
+		double[] dX_values = dX.getDenseBlockValues();
+		double[] dout0_values = dout0.getDenseBlockValues();
+		double[] dc0_values = dc0.getDenseBlockValues();
+
+		//constants
+		final int rows = end - start;
+		final int m_4 = 4*m;
+		final int dm = d + m;
+		final int n_m = n*m;
+
+		//thread-local workspaces, reused across all timesteps
+		double[] difog = new double[rows * m_4];
+		double[] dout_prev = new double[rows * m];
+		double[] dc_cur = new double[rows * m];
+		double[] in_t = new double[dm];
+		if(dc_values != null)
+			System.arraycopy(dc_values, start*m, dc_cur, 0, rows*m);
+
+		//iterate timesteps reversely (backpropagation)
+		for (int t = T-1; t >= 0; t--) {
+			int offset_cache = t*n_m;
+			int offset_cache_prev = (t-1)*n_m;
+			int offset_cache_ifog = offset_cache*4;
+
+			for (int i = start, i_internal = 0; i < end; i++, i_internal++) {
+				int offset_i = i*m;
+				int offset_internal = i_internal*m;
+				int offset_difog = i_internal*m_4;
+				int offset_ifog = offset_cache_ifog + offset_i*4;
+
+				//fused elementwise gate derivatives w/ cached forward activations
+				for (int j = 0; j < m; j++) {
+					//get the predecessing partial derivative
+					double dout_t = return_sequences ?
+						((dout_values != null ? dout_values[i*T*m + t*m + j] : 0)
+							+ (t < T-1 ? dout_prev[offset_internal + j] : 0)) :
+						(t == T-1 ? (dout_values != null ? dout_values[offset_i + j] : 0)
+							: dout_prev[offset_internal + j]);
+
+					double ig = 0, fg = 0, og = 0, gg = 0, ct = 0, c_prev = 0;
+					if(cache_ifog_values != null) {
+						ig = cache_ifog_values[offset_ifog + j];
+						fg = cache_ifog_values[offset_ifog + m + j];
+						og = cache_ifog_values[offset_ifog + 2*m + j];
+						gg = cache_ifog_values[offset_ifog + 3*m + j];
+					}
+					if(cache_c_values != null)
+						ct = cache_c_values[offset_cache + offset_i + j];
+					if(t > 0 && cache_c_values != null)
+						c_prev = cache_c_values[offset_cache_prev + offset_i + j];
+					else if(t == 0 && c0_values != null)
+						c_prev = c0_values[offset_i + j];
+
+					double tanh_c = FastMath.tanh(ct);
+					double dct = dc_cur[offset_internal + j] + og * (1 - tanh_c*tanh_c) * dout_t;
+
+					difog[offset_difog + j] = ig * (1 - ig) * gg * dct;
+					difog[offset_difog + m + j] = fg * (1 - fg) * c_prev * dct;
+					difog[offset_difog + 2*m + j] = og * (1 - og) * tanh_c * dout_t;
+					difog[offset_difog + 3*m + j] = (1 - gg*gg) * ig * dct;
+
+					dc_cur[offset_internal + j] = fg * dct;
+				}
+
+				//input = cbind(X_t, out_prev)
+				if(x_values != null)
+					System.arraycopy(x_values, i*T*d + t*d, in_t, 0, d);
+				else
+					Arrays.fill(in_t, 0, d, 0);
+				double[] out_prev_values = t > 0 ? cache_out_values : out0_values;
+				if(out_prev_values != null)
+					System.arraycopy(out_prev_values, (t > 0 ? offset_cache_prev : 0) + offset_i, in_t, d, m);
+				else
+					Arrays.fill(in_t, d, dm, 0);
+
+				//dW = dW + t(input) %*% difog_raw, db = db + colSums(difog_raw)
+				for (int j = 0; j < dm; j++)
+					if(in_t[j] != 0)
+						LibMatrixMult.vectMultiplyAdd(in_t[j], difog, dW_values, offset_difog, j*m_4, m_4);
+				LibMatrixMult.vectAdd(difog, db_values, offset_difog, 0, m_4);
+
+				//dinput = difog_raw %*% t(W), split into dX[,t] and dout_prev
+				for (int j = 0; j < dm; j++) {
+					double val = (w_values != null) ?
+						LibMatrixMult.dotProduct(difog, w_values, offset_difog, j*m_4, m_4) : 0;
+					if(j < d)
+						dX_values[i*T*d + t*d + j] = val;
+					else
+						dout_prev[offset_internal + j - d] = val;
+				}
+			}
+		}
+
+		//dout0 = dout_prev, dc0 = dc_prev of first timestep
+		System.arraycopy(dout_prev, 0, dout0_values, start*m, rows*m);
+		System.arraycopy(dc_cur, 0, dc0_values, start*m, rows*m);
+	}
+
 	public static long lstmGeneric(DnnParameters params) {
 		//applies the LSTM operation on the input matrices using the generic matrix block operations
 
@@ -474,7 +599,20 @@ public class LibMatrixDNNLSTM {
 	}
 
 	public static boolean checkLSTMBackwardInputForOptimisation(DnnParameters params) {
-		return false;
+		//optimised just for FP64 single block or Empty inputs and caches
+		boolean fits_FP64 = (UtilFunctions.prod(new int[]{params.T,params.N,4*params.M}) < Integer.MAX_VALUE)
+			&& ((long)params.N * params.T * params.D < Integer.MAX_VALUE);
+		return isDenseSingleBlockOrEmpty(params.input1) && isDenseSingleBlockOrEmpty(params.input2)
+			&& isDenseSingleBlockOrEmpty(params.input3) && isDenseSingleBlockOrEmpty(params.input4)
+			&& isDenseSingleBlockOrEmpty(params.input5) && isDenseSingleBlockOrEmpty(params.input6)
+			&& isDenseSingleBlockOrEmpty(params.input7) && isDenseSingleBlockOrEmpty(params.input8)
+			&& isDenseSingleBlockOrEmpty(params.input9)
+			&& fits_FP64
+			&& optimized;
+	}
+
+	private static boolean isDenseSingleBlockOrEmpty(MatrixBlock mb) {
+		return !mb.isAllocated() || (!mb.sparse && mb.denseBlock.numBlocks() == 1);
 	}
 
 	private static class LSTMExecutor implements Callable<Long> {
@@ -494,4 +632,32 @@ public class LibMatrixDNNLSTM {
 			return _params.output.recomputeNonZeros(_rl, _ru - 1);
 		}
 	}
+
+	private static class LSTMBackwardExecutor implements Callable<Long> {
+		protected final int _rl, _ru;
+		protected final DnnParameters _params;
+
+		public LSTMBackwardExecutor(int rl, int ru, DnnParameters params) {
+			_rl = rl;
+			_ru = ru;
+			_params = params;
+		}
+
+		@Override
+		public Long call() throws Exception {
+			//thread-local partial aggregates of dW and db
+			int m_4 = 4*_params.M;
+			double[] dW = new double[(_params.D + _params.M) * m_4];
+			double[] db = new double[m_4];
+			lstmBackwardTile(_params.N, _params.D, _params.T, _params.M, _rl, _ru, _params.input1, _params.input2,
+				_params.input3, _params.input4, _params.input7, _params.input8, _params.input9, _params.return_sequences,
+				_params.input5, _params.input6, _params.output, dW, db, _params.output4, _params.output5);
+			synchronized (_params.output2.denseBlock) {
+				LibMatrixMult.vectAdd(dW, _params.output2.getDenseBlockValues(), 0, 0, dW.length);
+				LibMatrixMult.vectAdd(db, _params.output3.getDenseBlockValues(), 0, 0, db.length);
+			}
+			//multithreaded nnz maintenance of current working set
+			return _params.output.recomputeNonZeros(_rl, _ru - 1);
+		}
+	}
 }
@@ -34,6 +34,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.hops.estim.EstimatorMatrixHistogram;
 import org.apache.sysds.lops.MapMultChain.ChainType;
 import org.apache.sysds.lops.WeightedCrossEntropy.WCeMMType;
 import org.apache.sysds.lops.WeightedDivMM.WDivMMType;
@@ -57,6 +58,7 @@ import org.apache.sysds.runtime.functionobjects.SwapIndex;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.SortUtils;
 import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.sysds.utils.NativeHelper;
 
@@ -78,6 +80,20 @@ public class LibMatrixMult
 	private static final long PAR_MINFLOP_THRESHOLD2 = 128L*1024; //MIN 2 MFLOP
 	public static final int L2_CACHESIZE = 256 * 1024; //256KB (common size)
 	public static final int L3_CACHESIZE = 16 * 1024 * 1024; //16MB (common size)
+	//SIMD kernels (JDK 17+ w/ jdk.incubator.vector), selected once at class loading
+	private static final boolean SIMD_PRIMITIVES = LibMatrixMultSIMD.isSupported();
+	private static final int SIMD_MIN_LEN = 32; //min vector length for SIMD primitives
+	//packed dense GEMM (GotoBLAS/BLIS-style panels, register-blocked micro kernel)
+	private static final int PACKED_MR = 4;    //4x4 micro kernel (16 accumulators)
+	private static final int PACKED_NR = 4;
+	private static final int PACKED_MC = 64;   //64x256 packed a panel: 128KB (L2)
+	private static final int PACKED_KC = 256;  //256x4 packed b micro panel: 8KB (L1)
+	private static final int PACKED_NC = 1024; //256x1024 packed b panel: 2MB (L3)
+	private static final int PACKED_MIN_DIM = 256; //min m, n, cd for packed GEMM
+	private static final double PACKED_MIN_SPARSITY = 0.9; //no sparsity-aware skipping
+	//gustavson spgemm (sparse-sparse w/ wide sparse outputs, direct csr output)
+	private static final int SPGEMM_MIN_COLS = 4 * 1024; //otherwise dense row buffers
+	private static final int SPGEMM_ESC_MAX = 256; //max partial products per row for sort-based accumulation
 	private static final Log LOG = LogFactory.getLog(LibMatrixMult.class.getName());
 
 	private LibMatrixMult() {
@@ -196,6 +212,10 @@ public class LibMatrixMult
 			(!fixedRet && isUltraSparseMatrixMult(m1, m2, m1Perm));
 		boolean sparse = !fixedRet && !ultraSparse && !m1Perm
 			&& isSparseOutputMatrixMult(m1, m2);
+		
+		// sparse-sparse w/ wide sparse output (row-wise gustavson into csr)
+		if( !fixedRet && !ultraSparse && !m1Perm && isSpGEMMMatrixMult(m1, m2) )
+			return matrixMultSparseSparseSpGEMM(m1, m2, ret, k);
 
 		// allocate output
 		if(ret == null)
@@ -1065,6 +1085,9 @@ public class LibMatrixMult
 			else if( tm2 ) {                //MATRIX-MATRIX (skinny rhs)
 				matrixMultDenseDenseMMSkinnyRHS(a, b, c, m2.rlen, cd, rl, ru);
 			}
+			else if( isPackedMatrixMult(m1, m2) ) { //MATRIX-MATRIX (large, packed)
+				matrixMultDenseDenseMMPacked(a, b, c, cd, rl, ru, cl, cu);
+			}
 			else {                          //MATRIX-MATRIX
 				matrixMultDenseDenseMM(a, b, c, n, cd, rl, ru, cl, cu);
 			}
@@ -1270,6 +1293,132 @@ public class LibMatrixMult
 				}
 	}
 
+	/**
+	 * Dense-dense matrix multiplication via packed panels (as in GotoBLAS/BLIS). For
+	 * every 256x1024 block of b and 64x256 block of a, both inputs are copied into
+	 * thread-local scratch buffers in micro-panel layout (k-major, zero-padded to 4
+	 * rows/columns), which turns all inner-loop accesses into sequential scans of
+	 * L1/L2-resident data. A register-blocked 4x4 micro kernel then accumulates
+	 * each output tile over the common dimension of the current panels.
+	 * 
+	 * @param a dense lhs block
+	 * @param b dense rhs block
+	 * @param c dense output block
+	 * @param cd common dimension
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @param cl column lower bound (inclusive)
+	 * @param cu column upper bound (exclusive)
+	 */
+	private static void matrixMultDenseDenseMMPacked(DenseBlock a, DenseBlock b, DenseBlock c, int cd, int rl, int ru, int cl, int cu) {
+		double[][] buff = packedBuffers.get();
+		double[] ap = buff[0], bp = buff[1];
+		
+		for( int jc = cl; jc < cu; jc += PACKED_NC ) {
+			int nc = Math.min(PACKED_NC, cu-jc);
+			for( int pc = 0; pc < cd; pc += PACKED_KC ) {
+				int kc = Math.min(PACKED_KC, cd-pc);
+				packPanelB(b, bp, pc, kc, jc, nc);
+				for( int ic = rl; ic < ru; ic += PACKED_MC ) {
+					int mc = Math.min(PACKED_MC, ru-ic);
+					packPanelA(a, ap, ic, mc, pc, kc);
+					//core micro kernels over packed panels
+					for( int jr = 0; jr < nc; jr += PACKED_NR )
+						for( int ir = 0; ir < mc; ir += PACKED_MR )
+							packedMicroKernel(ap, ir*kc, bp, jr*kc, c, ic+ir, jc+jr,
+								Math.min(PACKED_MR, mc-ir), Math.min(PACKED_NR, nc-jr), kc);
+				}
+			}
+		}
+	}
+	
+	private static boolean isPackedMatrixMult(MatrixBlock m1, MatrixBlock m2) {
+		//large products w/ almost dense lhs (otherwise sparsity-aware skipping in
+		//matrixMultDenseDenseMM is more efficient than packing)
+		return m1.rlen >= PACKED_MIN_DIM && m1.clen >= PACKED_MIN_DIM && m2.clen >= PACKED_MIN_DIM
+			&& m1.getNonZeros() >= PACKED_MIN_SPARSITY * m1.rlen * m1.clen;
+	}
+	
+	private static void packPanelA(DenseBlock a, double[] ap, int ic, int mc, int pc, int kc) {
+		//layout: mc/4 micro panels of kc x 4 (k-major), zero-padded rows
+		for( int ir = 0; ir < mc; ir += PACKED_MR ) {
+			int mr = Math.min(PACKED_MR, mc-ir);
+			int apix = ir * kc;
+			for( int ii = 0; ii < PACKED_MR; ii++ ) {
+				if( ii < mr ) {
+					double[] avals = a.values(ic+ir+ii);
+					int aix = a.pos(ic+ir+ii, pc);
+					for( int k = 0; k < kc; k++ )
+						ap[apix + k*PACKED_MR + ii] = avals[aix+k];
+				}
+				else {
+					for( int k = 0; k < kc; k++ )
+						ap[apix + k*PACKED_MR + ii] = 0;
+				}
+			}
+		}
+	}
+	
+	private static void packPanelB(DenseBlock b, double[] bp, int pc, int kc, int jc, int nc) {
+		//layout: nc/4 micro panels of kc x 4 (k-major), zero-padded columns
+		for( int k = 0; k < kc; k++ ) {
+			double[] bvals = b.values(pc+k);
+			int bix = b.pos(pc+k, jc);
+			for( int jr = 0; jr < nc; jr += PACKED_NR ) {
+				int nr = Math.min(PACKED_NR, nc-jr);
+				int bpix = jr * kc + k * PACKED_NR;
+				for( int jj = 0; jj < nr; jj++ )
+					bp[bpix+jj] = bvals[bix+jr+jj];
+				for( int jj = nr; jj < PACKED_NR; jj++ )
+					bp[bpix+jj] = 0;
+			}
+		}
+	}
+	
+	private static void packedMicroKernel(double[] ap, int apix, double[] bp, int bpix, DenseBlock c, int i, int j, int mr, int nr, int kc) {
+		double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+		double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+		double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+		double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+		
+		//rank-1 updates of the 4x4 register tile
+		for( int k = 0; k < kc; k++, apix += PACKED_MR, bpix += PACKED_NR ) {
+			final double a0 = ap[apix], a1 = ap[apix+1], a2 = ap[apix+2], a3 = ap[apix+3];
+			final double b0 = bp[bpix], b1 = bp[bpix+1], b2 = bp[bpix+2], b3 = bp[bpix+3];
+			c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+			c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+			c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+			c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+		}
+		
+		//accumulate valid cells of the tile into the output
+		if( mr == PACKED_MR && nr == PACKED_NR ) {
+			addTileRow(c, i,   j, c00, c01, c02, c03);
+			addTileRow(c, i+1, j, c10, c11, c12, c13);
+			addTileRow(c, i+2, j, c20, c21, c22, c23);
+			addTileRow(c, i+3, j, c30, c31, c32, c33);
+		}
+		else {
+			final double[] tile = new double[] {c00, c01, c02, c03, c10, c11, c12, c13,
+				c20, c21, c22, c23, c30, c31, c32, c33};
+			for( int ii = 0; ii < mr; ii++ ) {
+				double[] cvals = c.values(i+ii);
+				int cix = c.pos(i+ii, j);
+				for( int jj = 0; jj < nr; jj++ )
+					cvals[cix+jj] += tile[ii*PACKED_NR+jj];
+			}
+		}
+	}
+	
+	private static void addTileRow(DenseBlock c, int i, int j, double v0, double v1, double v2, double v3) {
+		double[] cvals = c.values(i);
+		int cix = c.pos(i, j);
+		cvals[cix]   += v0;
+		cvals[cix+1] += v1;
+		cvals[cix+2] += v2;
+		cvals[cix+3] += v3;
+	}
+
 	private static void matrixMultDenseSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, boolean pm2, int rl, int ru) {
 		DenseBlock a = m1.getDenseBlock();
 		DenseBlock c = ret.getDenseBlock();
@@ -1730,6 +1879,151 @@ public class LibMatrixMult
 		}
 	}
 	
+	/**
+	 * Row-wise (Gustavson) sparse-sparse matrix multiplication for wide outputs, where
+	 * neither dense outputs nor dense row buffers are affordable. Every thread computes
+	 * a range of output rows into thread-local CSR buffers (sized by the output nnz
+	 * estimate of the matrix histogram estimator), using a sort-based accumulator
+	 * (expand-sort-compress) for rows with few partial products and a hash accumulator
+	 * otherwise. The partial results are finally concatenated into a single CSR block.
+	 * 
+	 * @param m1 first matrix (sparse)
+	 * @param m2 second matrix (sparse)
+	 * @param ret result matrix
+	 * @param k maximum parallelism
+	 * @return ret result matrix
+	 */
+	private static MatrixBlock matrixMultSparseSparseSpGEMM(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int k) {
+		final int m = m1.rlen;
+		final int n = m2.clen;
+		
+		//estimate output nnz for sizing the thread-local output buffers
+		double estSp = new EstimatorMatrixHistogram().estim(m1, m2);
+		long estNnz = Math.min(OptimizerUtils.getNnz(m, n, estSp), Integer.MAX_VALUE);
+		
+		//compute thread-local csr outputs per row partition
+		if( !satisfiesMultiThreadingConstraints(m1, m2, false, true, 2, k) )
+			k = 1;
+		ArrayList<SpGEMMTask> tasks = new ArrayList<>();
+		ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m, k, false);
+		for( int i = 0, lb = 0; i < blklens.size(); lb += blklens.get(i), i++ )
+			tasks.add(new SpGEMMTask(m1.sparseBlock, m2.sparseBlock, n,
+				lb, lb + blklens.get(i), (int)(estNnz * blklens.get(i) / m)));
+		long nnz = 0;
+		if( k <= 1 ) {
+			for( SpGEMMTask task : tasks )
+				nnz += task.call();
+		}
+		else {
+			ExecutorService pool = CommonThreadPool.get(k);
+			try {
+				for( Future<Long> task : pool.invokeAll(tasks) )
+					nnz += task.get();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		if( nnz > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("SpGEMM output exceeds CSR capacity: "+nnz+" non-zeros.");
+		
+		//concatenate partial outputs into a single csr block
+		int[] rptr = new int[m+1];
+		int[] cix = new int[(int)nnz];
+		double[] cvals = new double[(int)nnz];
+		int pos = 0;
+		for( SpGEMMTask task : tasks ) {
+			for( int i = task._rl; i < task._ru; i++ )
+				rptr[i] = pos + task._rptr[i-task._rl];
+			System.arraycopy(task._cix, 0, cix, pos, task._nnz);
+			System.arraycopy(task._cvals, 0, cvals, pos, task._nnz);
+			pos += task._nnz;
+		}
+		rptr[m] = pos;
+		
+		if( ret == null )
+			ret = new MatrixBlock(m, n, true);
+		else
+			ret.reset(m, n, true);
+		ret.sparseBlock = new SparseBlockCSR(rptr, cix, cvals, pos);
+		ret.nonZeros = nnz;
+		ret.examSparsity(k);
+		return ret;
+	}
+	
+	private static void matrixMultSparseSparseRowESC(SparseBlock a, SparseBlock b, int i, int[] eix, double[] evals, SpGEMMTask out) {
+		//expand partial products
+		int len = 0;
+		int apos = a.pos(i);
+		int alen = a.size(i);
+		int[] aix = a.indexes(i);
+		double[] avals = a.values(i);
+		for( int k = apos; k < apos+alen; k++ ) {
+			if( b.isEmpty(aix[k]) ) continue;
+			int bpos = b.pos(aix[k]);
+			int blen = b.size(aix[k]);
+			int[] bix = b.indexes(aix[k]);
+			double[] bvals = b.values(aix[k]);
+			double val = avals[k];
+			for( int j = bpos; j < bpos+blen; j++, len++ ) {
+				eix[len] = bix[j];
+				evals[len] = val * bvals[j];
+			}
+		}
+		//sort by column index
+		SortUtils.sortByIndex(0, len, eix, evals);
+		//compress duplicates into output
+		for( int j = 0; j < len; ) {
+			int c = eix[j];
+			double v = evals[j++];
+			for( ; j < len && eix[j] == c; j++ )
+				v += evals[j];
+			out.append(c, v);
+		}
+	}
+	
+	private static void matrixMultSparseSparseRowHash(SparseBlock a, SparseBlock b, int i, int hsize, int[] hkeys, double[] hvals, SpGEMMTask out) {
+		//accumulate partial products in hash table (open addressing, linear probing),
+		//multiplicative hashing w/ high bits to spread strided column patterns
+		final int mask = hsize - 1;
+		final int shift = 32 - Integer.numberOfTrailingZeros(hsize);
+		int apos = a.pos(i);
+		int alen = a.size(i);
+		int[] aix = a.indexes(i);
+		double[] avals = a.values(i);
+		for( int k = apos; k < apos+alen; k++ ) {
+			if( b.isEmpty(aix[k]) ) continue;
+			int bpos = b.pos(aix[k]);
+			int blen = b.size(aix[k]);
+			int[] bix = b.indexes(aix[k]);
+			double[] bvals = b.values(aix[k]);
+			double val = avals[k];
+			for( int j = bpos; j < bpos+blen; j++ ) {
+				int c = bix[j];
+				int h = (c * 0x9E3779B1) >>> shift;
+				while( hkeys[h] != c && hkeys[h] >= 0 )
+					h = (h + 1) & mask;
+				if( hkeys[h] < 0 ) {
+					hkeys[h] = c;
+					hvals[h] = val * bvals[j];
+				}
+				else
+					hvals[h] += val * bvals[j];
+			}
+		}
+		//gather and sort entries by column index, reset hash table
+		int start = out._nnz;
+		for( int h = 0; h < hsize; h++ )
+			if( hkeys[h] >= 0 ) {
+				out.append(hkeys[h], hvals[h]);
+				hkeys[h] = -1;
+			}
+		SortUtils.sortByIndex(start, out._nnz, out._cix, out._cvals);
+	}
+	
 	/**
 	 * This implementation applies to any combination of dense/sparse if at least one
 	 * input is ultrasparse (sparse and very few nnz). In that case, most importantly,
@@ -3682,6 +3976,8 @@ public class LibMatrixMult
 	 */
 	private static double dotProduct( double[] a, double[] b, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN )
+			return LibMatrixMultSIMD.dotProduct(a, b, 0, 0, len);
 		double val = 0;
 		final int bn = len%8;
 				
@@ -3711,6 +4007,8 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static double dotProduct( double[] a, double[] b, int ai, int bi, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN )
+			return LibMatrixMultSIMD.dotProduct(a, b, ai, bi, len);
 		double val = 0;
 		final int bn = len%8;
 		
@@ -3800,6 +4098,10 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectMultiplyAdd(aval, b, c, bi, ci, len);
+			return;
+		}
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3825,6 +4127,10 @@ public class LibMatrixMult
 
 	private static void vectMultiplyAdd2( final double aval1, final double aval2, double[] b, double[] c, int bi1, int bi2, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectMultiplyAdd2(aval1, aval2, b, c, bi1, bi2, ci, len);
+			return;
+		}
 		final int bn = len%8;	
 		
 		//rest, not aligned to 8-blocks
@@ -3873,8 +4179,12 @@ public class LibMatrixMult
 		}
 	}
 
-	private static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4, double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len )
+	public static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4, double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectMultiplyAdd4(aval1, aval2, aval3, aval4, b, c, bi1, bi2, bi3, bi4, ci, len);
+			return;
+		}
 		final int bn = len%8;	
 		
 		//rest, not aligned to 8-blocks
@@ -3955,6 +4265,10 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyWrite( final double aval, double[] b, double[] c, int bi, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectMultiplyWrite(aval, b, c, bi, ci, len);
+			return;
+		}
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -3995,6 +4309,10 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectMultiplyWrite( double[] a, double[] b, double[] c, int ai, int bi, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectMultiplyWrite(a, b, c, ai, bi, ci, len);
+			return;
+		}
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -4083,6 +4401,10 @@ public class LibMatrixMult
 	//note: public for use by codegen for consistency
 	public static void vectAdd( double[] a, double[] c, int ai, int ci, final int len )
 	{
+		if( SIMD_PRIMITIVES && len >= SIMD_MIN_LEN ) {
+			LibMatrixMultSIMD.vectAdd(a, c, ai, ci, len);
+			return;
+		}
 		final int bn = len%8;
 		
 		//rest, not aligned to 8-blocks
@@ -4553,6 +4875,16 @@ public class LibMatrixMult
 		return m2.clen < 4*1024 && sparseOut;
 	}
 	
+	public static boolean isSpGEMMMatrixMult(MatrixBlock m1, MatrixBlock m2) {
+		//output is a wide matrix (dense row buffers too large), and very likely sparse
+		if( !(m1.sparse && m2.sparse && m1.rlen > 1 && m2.clen >= SPGEMM_MIN_COLS) )
+			return false;
+		double estSp = OptimizerUtils.getMatMultSparsity(
+			m1.getSparsity(), m2.getSparsity(), m1.rlen, m1.clen, m2.clen, false);
+		long estNnz = (long)(estSp * m1.rlen * m2.clen);
+		return MatrixBlock.evalSparseFormatInMemory(m1.rlen, m2.clen, estNnz);
+	}
+	
 	public static boolean isSparseOutputTSMM(MatrixBlock m1) {
 		return isSparseOutputTSMM(m1, false);
 	}
@@ -4666,6 +4998,20 @@ public class LibMatrixMult
 	// Task Implementations for Multi-Threaded Operations  //
 	/////////////////////////////////////////////////////////
 
+	/**
+	 * Thread-local scratch buffers for packed a and b panels of matrixMultDenseDenseMMPacked. The buffers are
+	 * allocated lazily by threads that execute a packed matrix multiplication, and are reused across operations
+	 * to avoid repeated allocation of large arrays. Each such thread retains (PACKED_MC + PACKED_NC) * PACKED_KC
+	 * doubles (~2.1MB) until it terminates, which is bounded by the size of the thread pools (i.e., the number of
+	 * vcores) plus the calling thread.
+	 */
+	private static final ThreadLocal<double[][]> packedBuffers = new ThreadLocal<>() {
+		@Override
+		protected double[][] initialValue() {
+			return new double[][] {new double[PACKED_MC*PACKED_KC], new double[PACKED_KC*PACKED_NC]};
+		}
+	};
+
 	private static class MatrixMultTask implements Callable<Object> 
 	{
 		private final MatrixBlock _m1;
@@ -4739,6 +5085,84 @@ public class LibMatrixMult
 		}
 	}
 
+	private static class SpGEMMTask implements Callable<Long>
+	{
+		private final SparseBlock _a;
+		private final SparseBlock _b;
+		private final int _n;
+		private final int _rl;
+		private final int _ru;
+		//thread-local csr output of row range [rl, ru)
+		private int[] _rptr;
+		private int[] _cix;
+		private double[] _cvals;
+		private int _nnz;
+
+		protected SpGEMMTask(SparseBlock a, SparseBlock b, int n, int rl, int ru, int estnnz) {
+			_a = a;
+			_b = b;
+			_n = n;
+			_rl = rl;
+			_ru = ru;
+			_rptr = new int[ru-rl+1];
+			_cix = new int[Math.max(estnnz, 16)];
+			_cvals = new double[_cix.length];
+		}
+
+		@Override
+		public Long call() {
+			//thread-local accumulators (reused across rows)
+			int[] eix = new int[SPGEMM_ESC_MAX];
+			double[] evals = new double[SPGEMM_ESC_MAX];
+			int[] hkeys = new int[0];
+			double[] hvals = new double[0];
+			
+			for( int i = _rl; i < _ru; i++ ) {
+				_rptr[i-_rl] = _nnz;
+				if( _a.isEmpty(i) ) continue;
+				//number of partial products (upper bound of row nnz)
+				long flops = 0;
+				int apos = _a.pos(i);
+				int alen = _a.size(i);
+				int[] aix = _a.indexes(i);
+				for( int k = apos; k < apos+alen; k++ )
+					flops += _b.size(aix[k]);
+				if( flops == 0 ) continue;
+				int rmax = (int)Math.min(flops, _n);
+				ensureCapacity(_nnz + rmax);
+				
+				if( flops <= SPGEMM_ESC_MAX )
+					matrixMultSparseSparseRowESC(_a, _b, i, eix, evals, this);
+				else {
+					int hsize = UtilFunctions.nextIntPow2(2 * rmax);
+					if( hkeys.length < hsize ) {
+						hkeys = new int[hsize];
+						hvals = new double[hsize];
+						Arrays.fill(hkeys, -1);
+					}
+					matrixMultSparseSparseRowHash(_a, _b, i, hsize, hkeys, hvals, this);
+				}
+			}
+			_rptr[_ru-_rl] = _nnz;
+			return (long) _nnz;
+		}
+		
+		private void append(int c, double v) {
+			if( v == 0 ) return;
+			_cix[_nnz] = c;
+			_cvals[_nnz++] = v;
+		}
+		
+		private void ensureCapacity(long size) {
+			if( size <= _cix.length ) return;
+			if( size > Integer.MAX_VALUE - 8 )
+				throw new DMLRuntimeException("SpGEMM output exceeds CSR capacity: "+size+" non-zeros.");
+			int newCap = (int)Math.min(Integer.MAX_VALUE - 8, Math.max(size, 2L * _cix.length));
+			_cix = Arrays.copyOf(_cix, newCap);
+			_cvals = Arrays.copyOf(_cvals, newCap);
+		}
+	}
+
 	private static class MatrixMultChainTask implements Callable<double[]> 
 	{
 		private MatrixBlock _m1  = null;
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import org.apache.commons.lang3.NotImplementedException;
+
+/**
+ * SIMD variants of the dense vector primitives of {@link LibMatrixMult}.
+ * <p>
+ * This is the Java 11 baseline of a multi-release class: it always reports the
+ * SIMD kernels as unavailable, so LibMatrixMult keeps its scalar, 8-way unrolled
+ * loops. The JDK 17+ version of this class (src/main/java17, packaged under
+ * META-INF/versions/17) implements the primitives via jdk.incubator.vector, and
+ * is enabled if the JVM is started with <code>--add-modules jdk.incubator.vector</code>.
+ */
+public class LibMatrixMultSIMD
+{
+	private LibMatrixMultSIMD() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if the SIMD kernels are available in the current JVM.
+	 * 
+	 * @return true if the vectorized primitives can be used
+	 */
+	public static boolean isSupported() {
+		return false;
+	}
+	
+	/**
+	 * Gets the number of double lanes of the SIMD kernels.
+	 * 
+	 * @return number of lanes, 0 if the kernels are not loaded
+	 */
+	public static int getNumLanes() {
+		return 0;
+	}
+	
+	public static double dotProduct( double[] a, double[] b, int ai, int bi, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectMultiplyAdd2( final double aval1, final double aval2, double[] b, double[] c, int bi1, int bi2, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4,
+		double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectMultiplyWrite( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectMultiplyWrite( double[] a, double[] b, double[] c, int ai, int bi, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+	
+	public static void vectAdd( double[] a, double[] c, int ai, int ci, final int len ) {
+		throw new NotImplementedException("SIMD kernels require JDK 17+");
+	}
+}
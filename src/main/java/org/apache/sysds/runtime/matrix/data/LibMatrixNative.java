@@ -249,6 +249,9 @@ public class LibMatrixNative
 					NativeStatistics.incrementConv2dTime(System.nanoTime() - start);
 					NativeStatistics.incrementNumConv2dCalls();
 				}
+				//fused relu as epilogue (not supported by native kernels)
+				if(params.fuseReLU)
+					nnz = reLU(outputBlock.getDenseBlockValues());
 				outputBlock.setNonZeros(nnz);
 				return;
 			}
@@ -265,6 +268,15 @@ public class LibMatrixNative
 		LibMatrixDNN.conv2d(input, filter, outputBlock, params);
 	}
 	
+	private static long reLU(double[] a) {
+		long nnz = 0;
+		for(int i = 0; i < a.length; i++) {
+			a[i] = Math.max(a[i], 0);
+			nnz += (a[i] != 0) ? 1 : 0;
+		}
+		return nnz;
+	}
+	
 	private static void setNumThreads(DnnParameters params) {
 		params.numThreads = OptimizerUtils.getConstrainedNumThreads(params.numThreads);
 		if (!(params.isOutputThreadSafe() && params.numThreads > 1))
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.matrix.data;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map.Entry;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile.Writer;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData.CacheStatus;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.functionobjects.Builtin;
+import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.apache.sysds.runtime.functionobjects.ReduceAll;
+import org.apache.sysds.runtime.functionobjects.ReduceCol;
+import org.apache.sysds.runtime.functionobjects.ReduceRow;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock.BlockConsumer;
+import org.apache.sysds.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaData;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Library for out-of-core execution of cell-wise and aggregate operations in CP.
+ * 
+ * Instead of pinning the entire input matrix in the buffer pool, these operations
+ * stream the input block by block from its binary block file through the respective
+ * block operation. Cell-wise operations write their output blocks directly to the
+ * output file (leaving the output matrix object unpinned), while aggregates fold the
+ * partial block aggregates into a small in-memory result, similar to the block-wise
+ * Spark instructions but on a single node.
+ */
+public class LibMatrixOOC
+{
+	private LibMatrixOOC() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if the given matrix object qualifies for out-of-core streaming,
+	 * i.e., out-of-core execution is enabled, and the matrix resides exclusively
+	 * and consistently in a binary block file whose in-memory size exceeds the
+	 * buffer pool limit.
+	 * 
+	 * @param mo matrix object
+	 * @return true if the matrix should be streamed from its file
+	 */
+	public static boolean isStreamable(MatrixObject mo) {
+		if( !ConfigurationManager.isOutOfCoreEnabled() )
+			return false;
+		MetaData md = mo.getMetaData();
+		DataCharacteristics mc = mo.getDataCharacteristics();
+		return mo.getStatus() == CacheStatus.EMPTY && !mo.isDirty()
+			&& !mo.hasRDDHandle() && !mo.isFederated()
+			&& md instanceof MetaDataFormat && ((MetaDataFormat)md).getFileFormat() == FileFormat.BINARY
+			&& mc.dimsKnown() && mc.getBlocksize() > 0
+			&& OptimizerUtils.estimateSize(mc) > OptimizerUtils.getBufferPoolLimit()
+			&& HDFSTool.existsFileOnHDFS(mo.getFileName());
+	}
+	
+	public static boolean isStreamableUnary(UnaryOperator op) {
+		//cell-wise operations only (no cumulative aggregates)
+		return !LibMatrixAgg.isSupportedUnaryOperator(op)
+			&& !Builtin.isBuiltinCode(op.fn, BuiltinCode.CUMSUMPROD);
+	}
+	
+	public static boolean isStreamableAggregate(AggregateUnaryOperator op) {
+		//full, row, and column aggregates (no trace/diag)
+		return op.indexFn instanceof ReduceAll
+			|| op.indexFn instanceof ReduceRow
+			|| op.indexFn instanceof ReduceCol;
+	}
+	
+	public static boolean isStreamableBinary(MatrixObject in, MatrixBlock rhs) {
+		//matrix-matrix or matrix-vector w/ in-memory rhs (no outer operations)
+		DataCharacteristics mc = in.getDataCharacteristics();
+		return (rhs.getNumRows() == mc.getRows() || rhs.getNumRows() == 1)
+			&& (rhs.getNumColumns() == mc.getCols() || rhs.getNumColumns() == 1);
+	}
+	
+	/**
+	 * Streams a cell-wise unary operation over the input file into the output file.
+	 * 
+	 * @param in input matrix object (on disk)
+	 * @param op unary operator
+	 * @param out output matrix object
+	 */
+	public static void unaryOperations(MatrixObject in, UnaryOperator op, MatrixObject out) {
+		streamCellwise(in, out, (ix, blk) -> blk.unaryOperations(op, new MatrixBlock()));
+	}
+	
+	/**
+	 * Streams a matrix-scalar operation over the input file into the output file.
+	 * 
+	 * @param in input matrix object (on disk)
+	 * @param op scalar operator (with bound constant)
+	 * @param out output matrix object
+	 */
+	public static void scalarOperations(MatrixObject in, ScalarOperator op, MatrixObject out) {
+		streamCellwise(in, out, (ix, blk) -> blk.scalarOperations(op, new MatrixBlock()));
+	}
+	
+	/**
+	 * Streams a matrix-matrix or matrix-vector operation over the left-hand-side input file
+	 * into the output file, where the aligned slices of the in-memory right-hand-side are
+	 * extracted per block.
+	 * 
+	 * @param in left-hand-side matrix object (on disk)
+	 * @param rhs right-hand-side matrix or vector (in memory)
+	 * @param op binary operator
+	 * @param out output matrix object
+	 */
+	public static void binaryOperations(MatrixObject in, MatrixBlock rhs, BinaryOperator op, MatrixObject out) {
+		if( !isStreamableBinary(in, rhs) )
+			throw new DMLRuntimeException("Unsupported out-of-core binary operation with rhs of size "
+				+rhs.getNumRows()+"x"+rhs.getNumColumns()+".");
+		final int blen = in.getBlocksize();
+		final boolean rowVect = rhs.getNumRows() == 1;
+		final boolean colVect = rhs.getNumColumns() == 1;
+		streamCellwise(in, out, (ix, blk) -> {
+			int rl = (int)(ix.getRowIndex()-1)*blen;
+			int cl = (int)(ix.getColumnIndex()-1)*blen;
+			MatrixBlock rslice = rhs.slice(
+				rowVect ? 0 : rl, rowVect ? 0 : rl+blk.getNumRows()-1,
+				colVect ? 0 : cl, colVect ? 0 : cl+blk.getNumColumns()-1);
+			return blk.binaryOperations(op, rslice, new MatrixBlock());
+		});
+	}
+	
+	/**
+	 * Streams a full, row, or column aggregate over the input file. Partial block aggregates
+	 * (incl. corrections) are folded into the result incrementally; only the output and one
+	 * input block are in memory at any time.
+	 * 
+	 * @param in input matrix object (on disk)
+	 * @param op aggregate unary operator
+	 * @return aggregation result (without corrections)
+	 */
+	public static MatrixBlock aggregateUnary(MatrixObject in, AggregateUnaryOperator op) {
+		if( !isStreamableAggregate(op) )
+			throw new DMLRuntimeException("Unsupported out-of-core aggregate: "+op.indexFn.getClass().getSimpleName());
+		final DataCharacteristics mc = in.getDataCharacteristics();
+		final int blen = mc.getBlocksize();
+		final AggregateOperator aggop = op.aggOp;
+		
+		//incremental aggregation of partial aggregates by output block index
+		final HashMap<MatrixIndexes, MatrixBlock[]> aggs = new HashMap<>();
+		streamBlocks(in.getFileName(), mc, true, (ix, blk) -> {
+			if( op.sparseSafe && blk.isEmptyBlock(false) )
+				return; //no contribution
+			MatrixIndexes ixOut = new MatrixIndexes();
+			MatrixBlock partial = new MatrixBlock();
+			OperationsOnMatrixValues.performAggregateUnary(ix, blk, ixOut, partial, op, blen);
+			MatrixBlock[] agg = aggs.get(ixOut);
+			if( agg == null )
+				aggs.put(ixOut, new MatrixBlock[] {partial, aggop.existsCorrection() ?
+					new MatrixBlock(partial.getNumRows(), partial.getNumColumns(), false) : null});
+			else
+				OperationsOnMatrixValues.incrementalAggregation(agg[0], agg[1], partial, aggop, true);
+		});
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementOOCOps();
+		
+		//assemble output (drop corrections)
+		if( op.indexFn instanceof ReduceAll && aggs.isEmpty() ) {
+			//all blocks empty, aggregate of an empty block
+			return new MatrixBlock(1, 1, true).aggregateUnaryOperations(
+				op, new MatrixBlock(), blen, new MatrixIndexes(1, 1), true);
+		}
+		long rlen = (op.indexFn instanceof ReduceCol) ? mc.getRows() : 1;
+		long clen = (op.indexFn instanceof ReduceRow) ? mc.getCols() : 1;
+		MatrixBlock ret = new MatrixBlock((int)rlen, (int)clen, false);
+		for( Entry<MatrixIndexes, MatrixBlock[]> e : aggs.entrySet() ) {
+			MatrixBlock agg = e.getValue()[0];
+			agg.dropLastRowsOrColumns(aggop.correction);
+			int rl = (int)(e.getKey().getRowIndex()-1)*blen;
+			int cl = (int)(e.getKey().getColumnIndex()-1)*blen;
+			ret.copy(rl, rl+agg.getNumRows()-1, cl, cl+agg.getNumColumns()-1, agg, true);
+		}
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static void streamCellwise(MatrixObject in, MatrixObject out, BlockFunction fn) {
+		final DataCharacteristics mc = in.getDataCharacteristics();
+		final long[] nnz = new long[1];
+		try {
+			//prepare output file
+			JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+			Path path = new Path(out.getFileName());
+			HDFSTool.deleteFileIfExistOnHDFS(path, job);
+			if( HDFSTool.USE_BINARYBLOCK_SERIALIZATION )
+				HDFSTool.addBinaryBlockSerializationFramework(job);
+			
+			//stream input blocks through block operation into output file
+			final Writer writer = IOUtilFunctions.getSeqWriter(path, job, 1);
+			try {
+				streamBlocks(in.getFileName(), mc, true, (ix, blk) -> {
+					MatrixBlock ret = fn.apply(ix, blk);
+					writer.append(ix, ret);
+					nnz[0] += ret.getNonZeros();
+				});
+			}
+			finally {
+				IOUtilFunctions.closeSilently(writer);
+			}
+			IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(job, path);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed out-of-core operation over "+in.getFileName()+".", ex);
+		}
+		
+		//output is file-backed and consistent with its file (never pinned)
+		DataCharacteristics mcOut = new MatrixCharacteristics(
+			mc.getRows(), mc.getCols(), mc.getBlocksize(), nnz[0]);
+		out.setMetaData(new MetaDataFormat(mcOut, FileFormat.BINARY));
+		out.setHDFSFileExists(true);
+		out.setDirty(false);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementOOCOps();
+	}
+	
+	private static void streamBlocks(String fname, DataCharacteristics mc, boolean inclEmpty, BlockConsumer consumer) {
+		final long nrb = mc.getNumRowBlocks(), ncb = mc.getNumColBlocks();
+		final int blen = mc.getBlocksize();
+		if( inclEmpty && nrb * ncb > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("Too many blocks for out-of-core operation: "+nrb*ncb);
+		final BitSet seen = inclEmpty ? new BitSet((int)(nrb*ncb)) : null;
+		try {
+			new ReaderBinaryBlock(false).readMatrixBlocksFromHDFS(
+				fname, mc.getRows(), mc.getCols(), blen, (ix, blk) -> {
+					if( inclEmpty )
+						seen.set((int)((ix.getRowIndex()-1)*ncb + ix.getColumnIndex()-1));
+					consumer.accept(ix, blk);
+				});
+			
+			//process blocks not contained in the file as empty blocks
+			if( inclEmpty ) {
+				MatrixIndexes ix = new MatrixIndexes();
+				for( int i = seen.nextClearBit(0); i < nrb*ncb; i = seen.nextClearBit(i+1) ) {
+					ix.setIndexes(i / ncb + 1, i % ncb + 1);
+					consumer.accept(ix, new MatrixBlock(
+						UtilFunctions.computeBlockSize(mc.getRows(), ix.getRowIndex(), blen),
+						UtilFunctions.computeBlockSize(mc.getCols(), ix.getColumnIndex(), blen), true));
+				}
+			}
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to stream binary blocks of "+fname+".", ex);
+		}
+	}
+	
+	private interface BlockFunction {
+		public MatrixBlock apply(MatrixIndexes ix, MatrixBlock blk);
+	}
+}
@@ -83,6 +83,12 @@ public class LibMatrixReorg {
 	// SORTING threshold
 	public static final int PAR_NUMCELL_THRESHOLD_SORT = 1024;
 	
+	//minimum number of rows for LSD radix sort instead of comparison-based sort
+	public static final int SORT_RADIX_THRESHOLD = 4096;
+	private static final int SORT_RADIX_BITS = 8;
+	private static final int SORT_RADIX = 1 << SORT_RADIX_BITS;
+	private static final long SORT_RADIX_MASK = SORT_RADIX - 1;
+	
 	//allow shallow dense/sparse copy for unchanged data (which is 
 	//safe due to copy-on-write and safe update-in-place handling)
 	public static final boolean SHALLOW_COPY_REORG = true;
@@ -449,6 +455,21 @@ public class LibMatrixReorg {
 	 * @return The sorted out matrix.
 	 */
 	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int[] by, boolean desc, boolean ixret, int k) {
+		return sort(in, out, by, desc, ixret, k, in.rlen >= SORT_RADIX_THRESHOLD);
+	}
+
+	/**
+	 * @param in Input matrix to sort
+	 * @param out Output matrix where the sorted input is inserted to
+	 * @param by The Ordering parameter
+	 * @param desc A boolean, specifying if it should be descending order.
+	 * @param ixret A boolean, specifying if the return should be the sorted indexes.
+	 * @param k Number of parallel threads
+	 * @param radix A boolean, specifying if the index vector is sorted by LSD radix sort instead of comparisons.
+	 * @return The sorted out matrix.
+	 */
+	public static MatrixBlock sort(MatrixBlock in, MatrixBlock out, int[] by, boolean desc, boolean ixret, int k,
+		boolean radix) {
 		//Timing time = new Timing(true);
 		
 		//meta data gathering and preparation
@@ -493,9 +514,48 @@ public class LibMatrixReorg {
 			}
 		}
 
-		//step 3: index vector sorting
+		//step 3: index vector sorting (stable, ties in original row order)
+		int[] vix = radix ?
+			sortIndexesRadix(in, by, desc, k) :
+			sortIndexesCompare(in, by, desc, k);
+
+		//step 4: create output matrix (guaranteed non-empty, see step 2)
+		if( !ixret ) {
+			out.allocateBlock();
+			//copy input data in sorted order into result
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<CopyTask> tasks = new ArrayList<>();
+			ArrayList<Integer> blklen = UtilFunctions
+				.getBalancedBlockSizesDefault(rlen, k, false);
+			for( int i=0, lb=0; i<blklen.size(); lb+=blklen.get(i), i++ )
+				tasks.add( new CopyTask(in, out, vix, lb, lb+blklen.get(i)));
+			CommonThreadPool.invokeAndShutdown(pool, tasks);
+		}
+		else {
+			//copy sorted index vector into result
+			out.allocateDenseBlock(false);
+			DenseBlock c = out.getDenseBlock();
+			for( int i=0; i<rlen; i++ )
+				c.set(i, 0, vix[i]+1);
+		}
+		
+		return out;
+	}
+	
+	/**
+	 * Comparison-based computation of the sorted index vector: sort by the first
+	 * column, refine ties by the secondary columns and finally enforce stable output.
+	 * 
+	 * @param in input matrix
+	 * @param by sort columns (1-based)
+	 * @param desc descending order
+	 * @param k number of threads
+	 * @return sorted index vector (0-based row indexes)
+	 */
+	private static int[] sortIndexesCompare(MatrixBlock in, int[] by, boolean desc, int k) {
 		//create index vector and extract values
 		//TODO perf: reconsider partition sort to avoid unnecessary barriers
+		int rlen = in.rlen;
 		int[] vix = new int[rlen];
 		double[] values = new double[rlen];
 		for( int i=0; i<rlen; i++ ) {
@@ -503,7 +563,7 @@ public class LibMatrixReorg {
 			values[i] = in.get(i, by[0]-1);
 		}
 
-		// step 4: split the data into number of blocks of PAR_NUMCELL_THRESHOLD_SORT (1024) elements.
+		//split the data into number of blocks of PAR_NUMCELL_THRESHOLD_SORT (1024) elements.
 		if (k == 1 || rlen < PAR_NUMCELL_THRESHOLD_SORT){ // There is no parallel
 			//sort index vector on extracted data (unstable)
 			SortUtils.sortByValue(0, rlen, values, vix);
@@ -544,28 +604,179 @@ public class LibMatrixReorg {
 
 		//final pass to ensure stable output
 		sortIndexesStable(0, rlen, values, vix, in, by, 1);
-
-		//step 4: create output matrix (guaranteed non-empty, see step 2)
-		if( !ixret ) {
-			out.allocateBlock();
-			//copy input data in sorted order into result
-			ExecutorService pool = CommonThreadPool.get(k);
-			ArrayList<CopyTask> tasks = new ArrayList<>();
-			ArrayList<Integer> blklen = UtilFunctions
-				.getBalancedBlockSizesDefault(rlen, k, false);
-			for( int i=0, lb=0; i<blklen.size(); lb+=blklen.get(i), i++ )
-				tasks.add( new CopyTask(in, out, vix, lb, lb+blklen.get(i)));
-			CommonThreadPool.invokeAndShutdown(pool, tasks);
+		return vix;
+	}
+	
+	/**
+	 * Parallel LSD radix sort over order-preserving 64-bit keys of the sort columns.
+	 * Columns are processed from the least to the most significant sort column and
+	 * each column in 8-bit digits, where every pass is a stable counting sort. Hence,
+	 * multiple sort columns and stable index return are handled natively without
+	 * secondary sorts, and descending order is obtained by complementing the keys
+	 * (which keeps ties in ascending row order). Digit passes with a single occupied
+	 * bucket (e.g., high bytes of small integers, zero-dominated sparse columns) are
+	 * skipped entirely.
+	 * 
+	 * @param in input matrix
+	 * @param by sort columns (1-based)
+	 * @param desc descending order
+	 * @param k number of threads
+	 * @return sorted index vector (0-based row indexes)
+	 */
+	private static int[] sortIndexesRadix(MatrixBlock in, int[] by, boolean desc, int k) {
+		final int rlen = in.rlen;
+		double[][] cols = extractSortColumns(in, by);
+		int[] vix = new int[rlen];
+		int[] tix = new int[rlen];
+		long[] keys = new long[rlen];
+		long[] tkeys = new long[rlen];
+		for( int i=0; i<rlen; i++ )
+			vix[i] = i;
+		
+		//partition rows into contiguous blocks (one histogram per block)
+		int nblk = (int)Math.min(Math.max(k, 1), Math.max(1, rlen / PAR_NUMCELL_THRESHOLD_SORT));
+		int blklen = (int)Math.ceil((double)rlen / nblk);
+		nblk = (int)Math.ceil((double)rlen / blklen);
+		int[][] hist = new int[nblk][SORT_RADIX];
+		ExecutorService pool = (nblk > 1) ? CommonThreadPool.get(nblk) : null;
+		try {
+			for( int c=by.length-1; c>=0; c-- ) {
+				//encode keys of the sort column in current permutation order
+				final double[] col = cols[c];
+				final long[] fkeys = keys;
+				final int[] fvix = vix;
+				runRadixBlocks(pool, nblk, blklen, rlen, (rl, ru, b) -> {
+					for( int i=rl; i<ru; i++ )
+						fkeys[i] = toSortKey(col[fvix[i]], desc);
+				});
+				
+				for( int shift=0; shift<64; shift+=SORT_RADIX_BITS ) {
+					//local histograms per block
+					final int sh = shift;
+					final long[] skeys = keys;
+					runRadixBlocks(pool, nblk, blklen, rlen, (rl, ru, b) -> {
+						int[] h = hist[b];
+						Arrays.fill(h, 0);
+						for( int i=rl; i<ru; i++ )
+							h[(int)((skeys[i] >>> sh) & SORT_RADIX_MASK)]++;
+					});
+					
+					//global exclusive prefix sums in (digit, block) order,
+					//w/ skip of passes that would not change the order
+					boolean trivial = false;
+					for( int d=0, off=0; d<SORT_RADIX; d++ ) {
+						int cnt = 0;
+						for( int b=0; b<nblk; b++ ) {
+							int tmp = hist[b][d];
+							hist[b][d] = off + cnt;
+							cnt += tmp;
+						}
+						trivial |= (cnt == rlen);
+						off += cnt;
+					}
+					if( trivial )
+						continue;
+					
+					//stable scatter of keys and indexes
+					final long[] dkeys = tkeys;
+					final int[] sidx = vix, didx = tix;
+					runRadixBlocks(pool, nblk, blklen, rlen, (rl, ru, b) -> {
+						int[] pos = hist[b];
+						for( int i=rl; i<ru; i++ ) {
+							int p = pos[(int)((skeys[i] >>> sh) & SORT_RADIX_MASK)]++;
+							dkeys[p] = skeys[i];
+							didx[p] = sidx[i];
+						}
+					});
+					long[] ltmp = keys; keys = tkeys; tkeys = ltmp;
+					int[] itmp = vix; vix = tix; tix = itmp;
+				}
+			}
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		return vix;
+	}
+	
+	/**
+	 * Maps a double to a 64-bit key whose unsigned order equals the numeric order,
+	 * with -0 normalized to 0 and NaNs canonicalized and placed last.
+	 * 
+	 * @param v input value
+	 * @param desc descending order (complemented keys)
+	 * @return sort key
+	 */
+	public static long toSortKey(double v, boolean desc) {
+		long bits = Double.doubleToLongBits(v + 0.0);
+		long key = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+		return desc ? ~key : key;
+	}
+	
+	/**
+	 * Extracts the sort columns in original row order. For sparse inputs, only
+	 * non-empty rows are probed (binary search over the row's column indexes),
+	 * while all other cells remain implicit zeros.
+	 * 
+	 * @param in input matrix
+	 * @param by sort columns (1-based)
+	 * @return one dense array per sort column
+	 */
+	private static double[][] extractSortColumns(MatrixBlock in, int[] by) {
+		final int rlen = in.rlen;
+		double[][] ret = new double[by.length][rlen];
+		if( in.isEmptyBlock(false) )
+			return ret;
+		if( in.sparse ) {
+			SparseBlock a = in.sparseBlock;
+			for( int i=0; i<rlen; i++ ) {
+				if( a.isEmpty(i) )
+					continue;
+				int apos = a.pos(i);
+				int alen = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				for( int j=0; j<by.length; j++ ) {
+					int ix = Arrays.binarySearch(aix, apos, apos+alen, by[j]-1);
+					if( ix >= 0 )
+						ret[j][i] = avals[ix];
+				}
+			}
 		}
 		else {
-			//copy sorted index vector into result
-			out.allocateDenseBlock(false);
-			DenseBlock c = out.getDenseBlock();
-			for( int i=0; i<rlen; i++ )
-				c.set(i, 0, vix[i]+1);
+			DenseBlock a = in.getDenseBlock();
+			for( int i=0; i<rlen; i++ ) {
+				double[] avals = a.values(i);
+				int apos = a.pos(i);
+				for( int j=0; j<by.length; j++ )
+					ret[j][i] = avals[apos+by[j]-1];
+			}
+		}
+		return ret;
+	}
+	
+	private interface RadixBlockFunction {
+		void apply(int rl, int ru, int blk);
+	}
+	
+	private static void runRadixBlocks(ExecutorService pool, int nblk, int blklen, int rlen, RadixBlockFunction fn) {
+		if( pool == null ) {
+			fn.apply(0, rlen, 0);
+			return;
+		}
+		try {
+			ArrayList<Future<?>> rt = new ArrayList<>();
+			for( int b=0; b<nblk; b++ ) {
+				final int blk = b;
+				rt.add(pool.submit(() -> fn.apply(blk*blklen, Math.min(rlen, (blk+1)*blklen), blk)));
+			}
+			for( Future<?> f : rt )
+				f.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
 		}
-		
-		return out;
 	}
 	
 	/**
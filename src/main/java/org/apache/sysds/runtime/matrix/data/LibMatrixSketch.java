@@ -21,17 +21,19 @@ package org.apache.sysds.runtime.matrix.data;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.sysds.common.Types;
-
-import java.util.HashSet;
-import java.util.Iterator;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.util.DoubleHashSet;
 
 public class LibMatrixSketch {
 
 	public static MatrixBlock getUniqueValues(MatrixBlock blkIn, Types.Direction dir) {
+		return getUniqueValues(blkIn, dir, 1);
+	}
+
+	public static MatrixBlock getUniqueValues(MatrixBlock blkIn, Types.Direction dir, int k) {
 		//similar to R's unique, this operation takes a matrix and computes the
 		//unique values (or rows in case of multiple column inputs)
 		
-		int rlen = blkIn.getNumRows();
 		int clen = blkIn.getNumColumns();
 
 		MatrixBlock blkOut = null;
@@ -39,21 +41,22 @@ public class LibMatrixSketch {
 			case RowCol:
 				if( clen != 1 )
 					throw new NotImplementedException("Unique only support single-column vectors yet");
-				// TODO optimize for dense/sparse/compressed (once multi-column support added)
+				if( blkIn instanceof CompressedMatrixBlock )
+					blkIn = ((CompressedMatrixBlock) blkIn).getUncompressed("unique");
 				
-				// obtain set of unique items (dense input vector)
-				HashSet<Double> hashSet = new HashSet<>();
-				for( int i=0; i<rlen; i++ ) {
-					hashSet.add(blkIn.get(i, 0));
-				}
+				// obtain hash-partitioned sets of unique items (w/ implicit zeros of sparse inputs)
+				int kp = (blkIn.getLength() < LibMatrixCountDistinct.PAR_NUMCELL_THRESHOLD) ? 1 : k;
+				DoubleHashSet[] sets = LibMatrixCountDistinct.getDistinctValues(blkIn, kp);
 				
 				// allocate output block and place values
-				int rlen2 = hashSet.size();
+				int rlen2 = 0;
+				for( DoubleHashSet set : sets )
+					rlen2 += set.size();
 				blkOut = new MatrixBlock(rlen2, 1, false).allocateBlock();
-				Iterator<Double> iter = hashSet.iterator();
-				for( int i=0; i<rlen2; i++ ) {
-					blkOut.set(i, 0, iter.next());
-				}
+				double[] c = blkOut.getDenseBlockValues();
+				for( int i=0, pos=0; i<sets.length; i++ )
+					pos += sets[i].toArray(c, pos);
+				blkOut.recomputeNonZeros();
 				break;
 
 			case Row:
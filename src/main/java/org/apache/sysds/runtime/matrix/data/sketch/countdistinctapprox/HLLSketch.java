@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.matrix.data.sketch.countdistinctapprox;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.NotImplementedException;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.instructions.spark.data.CorrMatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.sketch.CountDistinctSketch;
+import org.apache.sysds.runtime.matrix.operators.CountDistinctOperatorTypes;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.utils.Hash;
+
+/**
+ * HyperLogLog++ Distinct-Value Estimation
+ *
+ * Philippe Flajolet, Eric Fusy, Olivier Gandouet, Frederic Meunier: HyperLogLog: the analysis of a near-optimal
+ * cardinality estimation algorithm. AofA 2007
+ *
+ * Stefan Heule, Marc Nunkesser, Alexander Hall: HyperLogLog in Practice: Algorithmic Engineering of a State of The Art
+ * Cardinality Estimation Algorithm. EDBT 2013
+ *
+ * Otmar Ertl: New cardinality estimation algorithms for HyperLogLog sketches. CoRR abs/1702.01284 (2017)
+ *
+ * Every row, column, or the entire input (depending on the direction) is summarized by m = 2^p registers, which
+ * store the maximum rank (position of the leftmost 1-bit) of the 64-bit hashes assigned to them. Updates are
+ * constant-time, the sketch size is independent of the input size, and two sketches are merged by taking the
+ * register-wise maximum. Instead of the empirical bias correction tables of HLL++, we use Ertl's improved raw
+ * estimator, which is unbiased over the entire cardinality range without small- or large-range corrections.
+ *
+ * Sketches are represented as n x m matrix blocks (one row of registers per row/column, n=1 for full aggregates),
+ * and the correction block holds the sketch metadata (p, m, n). Local row/column aggregates are computed in blocks of
+ * at most MAX_AXIS_REGISTERS registers (i.e., 1024 rows/columns at a time), which bounds the register memory
+ * independent of the number of rows/columns. Distributed sketches are created per block and thus bounded by the
+ * block size.
+ */
+public class HLLSketch extends CountDistinctSketch {
+
+	/** Precision of full aggregates (standard error 1.04/sqrt(2^14) = 0.81%). */
+	public static final int PRECISION_FULL = 14;
+
+	/** Precision of row/column aggregates (standard error 1.04/sqrt(2^10) = 3.25%). */
+	public static final int PRECISION_AXIS = 10;
+
+	/** Maximum number of registers (bytes) materialized at a time for local row/column aggregates. */
+	public static final int MAX_AXIS_REGISTERS = 1 << 20;
+
+	private final int _p;
+	private final int _m;
+
+	public HLLSketch(Operator op) {
+		super(op);
+		_p = this.op.getDirection().isRowCol() ? PRECISION_FULL : PRECISION_AXIS;
+		_m = 1 << _p;
+	}
+
+	@Override
+	public MatrixBlock getValue(MatrixBlock blkIn) {
+		int n = getNumSketches(blkIn);
+		if(op.getDirection().isRowCol())
+			return createOutput(computeRegisters(blkIn, 0, n), n);
+
+		// row/column aggregates over blocks of sketches, reusing the registers
+		MatrixBlock blkOut = allocateOutput(n);
+		double[] c = blkOut.getDenseBlockValues();
+		int[] hist = new int[64 - _p + 2];
+		int blen = Math.max(1, MAX_AXIS_REGISTERS / _m);
+		byte[] reg = null;
+		for(int bl = 0; bl < n; bl += blen) {
+			int bu = Math.min(n, bl + blen);
+			if(reg == null)
+				reg = new byte[(bu - bl) * _m];
+			else
+				Arrays.fill(reg, (byte) 0);
+			computeRegisters(blkIn, reg, bl, bu);
+			for(int s = bl; s < bu; s++)
+				c[s] = Math.round(estimate(reg, (s - bl) * _m, hist));
+		}
+		blkOut.recomputeNonZeros();
+		return blkOut;
+	}
+
+	@Override
+	public MatrixBlock getValueFromSketch(CorrMatrixBlock arg0) {
+		if(op.getOperatorType() != CountDistinctOperatorTypes.HLL)
+			throw new IllegalArgumentException(this.getClass().getSimpleName() + " cannot use " + op.getOperatorType());
+		validateSketchMetadata(arg0.getCorrection());
+		int n = (int) arg0.getCorrection().get(0, 2);
+		return createOutput(toRegisters(arg0.getValue(), n), n);
+	}
+
+	@Override
+	public CorrMatrixBlock create(MatrixBlock blkIn) {
+		int n = getNumSketches(blkIn);
+		byte[] reg = computeRegisters(blkIn, 0, n);
+		return new CorrMatrixBlock(toMatrixBlock(reg, n), createMetadata(n));
+	}
+
+	@Override
+	public CorrMatrixBlock union(CorrMatrixBlock arg0, CorrMatrixBlock arg1) {
+		validateSketchMetadata(arg0.getCorrection());
+		validateSketchMetadata(arg1.getCorrection());
+		int n = (int) arg0.getCorrection().get(0, 2);
+		if(n != (int) arg1.getCorrection().get(0, 2) || arg0.getCorrection().get(0, 0) != _p ||
+			arg1.getCorrection().get(0, 0) != _p) {
+			throw new DMLRuntimeException("Cannot take the union of sketches: rows/columns are not aligned");
+		}
+
+		// register-wise maximum (lossless merge)
+		byte[] reg0 = toRegisters(arg0.getValue(), n);
+		byte[] reg1 = toRegisters(arg1.getValue(), n);
+		for(int i = 0; i < reg0.length; i++)
+			reg0[i] = (byte) Math.max(reg0[i], reg1[i]);
+		return new CorrMatrixBlock(toMatrixBlock(reg0, n), createMetadata(n));
+	}
+
+	@Override
+	public CorrMatrixBlock intersection(CorrMatrixBlock arg0, CorrMatrixBlock arg1) {
+		throw new NotImplementedException(
+			String.format("%s intersection has not been implemented yet", HLLSketch.class.getSimpleName()));
+	}
+
+	private int getNumSketches(MatrixBlock blkIn) {
+		if(op.getDirection().isRow())
+			return blkIn.getNumRows();
+		else if(op.getDirection().isCol())
+			return blkIn.getNumColumns();
+		return 1;
+	}
+
+	private byte[] computeRegisters(MatrixBlock in, int sl, int su) {
+		byte[] reg = new byte[(su - sl) * _m];
+		computeRegisters(in, reg, sl, su);
+		return reg;
+	}
+
+	/**
+	 * Computes the registers of sketches [sl, su) in a single pass over the input, where the registers of sketch s
+	 * are stored at offset (s-sl)*m. Row sketches only scan rows [sl, su), column sketches only scan columns [sl, su)
+	 * of all rows. Implicit zeros of sparse inputs are accounted for once per row/column.
+	 * 
+	 * @param in  input matrix block
+	 * @param reg output registers of size (su-sl)*m, initialized to zero
+	 * @param sl  index of the first sketch (inclusive)
+	 * @param su  index of the last sketch (exclusive)
+	 */
+	private void computeRegisters(MatrixBlock in, byte[] reg, int sl, int su) {
+		if(in instanceof CompressedMatrixBlock)
+			throw new NotImplementedException("Cannot approximate distinct count for compressed matrices");
+
+		final int rlen = in.getNumRows();
+		final int clen = in.getNumColumns();
+		final boolean row = op.getDirection().isRow();
+		final boolean col = op.getDirection().isCol();
+		final int rl = row ? sl : 0, ru = row ? su : rlen;
+		final int cl = col ? sl : 0, cu = col ? su : clen;
+		if(in.isEmptyBlock(false)) {
+			for(int s = sl; s < su && rlen > 0 && clen > 0; s++)
+				update(reg, (s - sl) * _m, 0);
+		}
+		else if(in.isInSparseFormat()) {
+			SparseBlock sb = in.getSparseBlock();
+			int[] cnnz = col ? new int[cu - cl] : null;
+			boolean zeros = false;
+			for(int i = rl; i < ru; i++) {
+				int off = row ? (i - rl) * _m : 0;
+				if(sb.isEmpty(i)) {
+					zeros = true;
+					if(row)
+						update(reg, off, 0);
+					continue;
+				}
+				int apos = sb.pos(i);
+				int alen = sb.size(i);
+				int[] aix = sb.indexes(i);
+				double[] avals = sb.values(i);
+				if(col) {
+					int astart = (cl > 0) ? sb.posFIndexGTE(i, cl) : 0;
+					for(int j = apos + Math.max(astart, 0); astart >= 0 && j < apos + alen && aix[j] < cu; j++) {
+						update(reg, (aix[j] - cl) * _m, avals[j]);
+						cnnz[aix[j] - cl]++;
+					}
+					continue;
+				}
+				for(int j = apos; j < apos + alen; j++)
+					update(reg, off, avals[j]);
+				if(alen < clen) {
+					zeros = true;
+					if(row)
+						update(reg, off, 0);
+				}
+			}
+			if(col) {
+				for(int j = 0; j < cu - cl; j++)
+					if(cnnz[j] < rlen)
+						update(reg, j * _m, 0);
+			}
+			else if(!row && zeros)
+				update(reg, 0, 0);
+		}
+		else {
+			DenseBlock db = in.getDenseBlock();
+			for(int i = rl; i < ru; i++) {
+				double[] avals = db.values(i);
+				int apos = db.pos(i);
+				for(int j = cl; j < cu; j++)
+					update(reg, row ? (i - rl) * _m : col ? (j - cl) * _m : 0, avals[apos + j]);
+			}
+		}
+	}
+
+	private void update(byte[] reg, int off, double v) {
+		long h = Hash.hash64(v);
+		int ix = (int) (h >>> (64 - _p));
+		// rank of leftmost 1-bit in remaining 64-p bits (capped at 64-p+1)
+		byte rank = (byte) (Long.numberOfLeadingZeros((h << _p) | (1L << (_p - 1))) + 1);
+		if(reg[off + ix] < rank)
+			reg[off + ix] = rank;
+	}
+
+	private MatrixBlock allocateOutput(int n) {
+		MatrixBlock blkOut = op.getDirection().isCol() ? new MatrixBlock(1, n, false) : new MatrixBlock(n, 1, false);
+		blkOut.allocateBlock();
+		return blkOut;
+	}
+
+	private MatrixBlock createOutput(byte[] reg, int n) {
+		MatrixBlock blkOut = allocateOutput(n);
+		double[] c = blkOut.getDenseBlockValues();
+		int[] hist = new int[64 - _p + 2];
+		for(int s = 0; s < n; s++)
+			c[s] = Math.round(estimate(reg, s * _m, hist));
+		blkOut.recomputeNonZeros();
+		return blkOut;
+	}
+
+	/**
+	 * Improved raw estimator by Ertl (Algorithm 6) over the histogram of register values.
+	 * 
+	 * @param reg  registers
+	 * @param off  offset of the sketch's registers
+	 * @param hist reusable histogram of size q+2
+	 * @return cardinality estimate
+	 */
+	private double estimate(byte[] reg, int off, int[] hist) {
+		final int q = 64 - _p;
+		Arrays.fill(hist, 0);
+		for(int i = off; i < off + _m; i++)
+			hist[reg[i]]++;
+		if(hist[0] == _m)
+			return 0;
+		double z = _m * tau(1 - (double) hist[q + 1] / _m);
+		for(int k = q; k >= 1; k--)
+			z = 0.5 * (z + hist[k]);
+		z += _m * sigma((double) hist[0] / _m);
+		return 0.5 / Math.log(2) * _m * (double) _m / z;
+	}
+
+	private static double sigma(double x) {
+		if(x == 1)
+			return Double.POSITIVE_INFINITY;
+		double y = 1;
+		double z = x;
+		double zPrev;
+		do {
+			x *= x;
+			zPrev = z;
+			z += x * y;
+			y += y;
+		}
+		while(z != zPrev);
+		return z;
+	}
+
+	private static double tau(double x) {
+		if(x == 0 || x == 1)
+			return 0;
+		double y = 1;
+		double z = 1 - x;
+		double zPrev;
+		do {
+			x = Math.sqrt(x);
+			zPrev = z;
+			y *= 0.5;
+			z -= Math.pow(1 - x, 2) * y;
+		}
+		while(z != zPrev);
+		return z / 3;
+	}
+
+	private MatrixBlock toMatrixBlock(byte[] reg, int n) {
+		MatrixBlock ret = new MatrixBlock(n, _m, false);
+		ret.allocateDenseBlock();
+		DenseBlock c = ret.getDenseBlock();
+		for(int s = 0; s < n; s++) {
+			double[] cvals = c.values(s);
+			int cpos = c.pos(s);
+			for(int j = 0; j < _m; j++)
+				cvals[cpos + j] = reg[s * _m + j];
+		}
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private byte[] toRegisters(MatrixBlock mb, int n) {
+		if(mb.getNumRows() != n || mb.getNumColumns() != _m)
+			throw new DMLRuntimeException("Sketch is corrupt: expected " + n + "x" + _m + " registers but got "
+				+ mb.getNumRows() + "x" + mb.getNumColumns());
+		byte[] reg = new byte[n * _m];
+		if(mb.isEmptyBlock(false))
+			return reg;
+		double[] vals = DataConverter.convertToDoubleVector(mb, false);
+		for(int i = 0; i < reg.length; i++)
+			reg[i] = (byte) vals[i];
+		return reg;
+	}
+
+	private MatrixBlock createMetadata(int n) {
+		// (p, m, n) row vector
+		MatrixBlock ret = new MatrixBlock(1, 3, false);
+		ret.set(0, 0, _p);
+		ret.set(0, 1, _m);
+		ret.set(0, 2, n);
+		return ret;
+	}
+}
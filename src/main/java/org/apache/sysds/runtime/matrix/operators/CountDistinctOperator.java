@@ -33,7 +33,11 @@ public class CountDistinctOperator extends UnarySketchOperator {
 	private final HashType hashType;
 
 	public CountDistinctOperator(AUType opType, Types.Direction direction, IndexFunction indexFunction) {
-		super(new AggregateOperator(0, Plus.getPlusFnObject()), indexFunction, direction, 1);
+		this(opType, direction, indexFunction, 1);
+	}
+
+	public CountDistinctOperator(AUType opType, Types.Direction direction, IndexFunction indexFunction, int numThreads) {
+		super(new AggregateOperator(0, Plus.getPlusFnObject()), indexFunction, direction, numThreads);
 
 		switch(opType) {
 			case COUNT_DISTINCT:
@@ -88,8 +88,9 @@ public class ColumnEncoderFeatureHash extends ColumnEncoder {
 		final double[] codes = tmp != null && tmp.length == endLength ? tmp : new double[endLength];
 		if( in instanceof FrameBlock) {
 			Array<?> a = ((FrameBlock) in).getColumn(_colID-1);
-			for(int i = startInd; i < endInd; i++) 
-				codes[i - startInd] = getCode(a, i);
+			a.hashDouble(codes, startInd, endInd);
+			for(int i = 0; i < endLength; i++)
+				codes[i] = Math.abs(codes[i] % _K + 1);
 		}
 		else {// default
 			for(int i = startInd; i < endInd; i++)
@@ -52,7 +52,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 
 	public ColumnEncoderRecode(int colID) {
 		super(colID);
-		_rcdMap = new HashMap<>();
+		_rcdMap = new RecodeMapString();
 	}
 
 	public ColumnEncoderRecode() {
@@ -115,10 +115,17 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	}
 
 	private static void makeRcdMap(CacheBlock<?> in, Map<Object, Long> map, int colID, int startRow, int blk) {
-		for(int row = startRow; row < getEndIndex(in.getNumRows(), startRow, blk); row++){
-			String key = in.getString(row, colID - 1);
-			if(key != null && !key.isEmpty() && !map.containsKey(key))
-				putCode(map, key);
+		final int endRow = getEndIndex(in.getNumRows(), startRow, blk);
+		if(map instanceof RecodeMap) {
+			// primitive open-addressing build (w/o boxing of codes)
+			((RecodeMap) map).build(in, colID - 1, startRow, endRow);
+		}
+		else {
+			for(int row = startRow; row < endRow; row++){
+				String key = in.getString(row, colID - 1);
+				if(key != null && !key.isEmpty() && !map.containsKey(key))
+					putCode(map, key);
+			}
 		}
 		if(SORT_RECODE_MAP) {
 			sortCPRecodeMaps(map);
@@ -126,6 +133,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	}
 
 	private long lookupRCDMap(Object key) {
+		if(_rcdMap instanceof RecodeMap)
+			return ((RecodeMap) _rcdMap).getCode(key);
 		return _rcdMap.getOrDefault(key, -1L);
 	}
 
@@ -159,7 +168,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		// Compute total size estimates for each partial recode map
 		// We assume each partial map contains all distinct values and have the same size
 		long avgKeySize = totSize / distinctFreq.size();
-		long valSize = 16L; //sizeof(Long) = 8 + header
+		long valSize = RecodeMap.getEntrySize(); //code, hash, slot (w/o boxing)
 		long estMapSize = estDistCount * (avgKeySize + valSize);
 		setEstMetaSize(estMapSize);
 	}
@@ -174,6 +183,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		if(!isApplicable())
 			return;
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		if(_rcdMap.isEmpty() && !(_rcdMap instanceof RecodeMapNumeric))
+			_rcdMap = RecodeMap.create(in, _colID - 1);
 		makeRcdMap(in, _rcdMap, _colID, 0, in.getNumRows());
 		if(DMLScript.STATISTICS){
 			TransformStatistics.incRecodeBuildTime(System.nanoTime() - t0);
@@ -203,7 +214,10 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	 * @param key key for the new entry
 	 */
 	protected static void putCode(Map<Object, Long> map, Object key) {
-		map.put(key, (long) (map.size() + 1));
+		if(map instanceof RecodeMap)
+			((RecodeMap) map).addKey(key);
+		else
+			map.put(key, (long) (map.size() + 1));
 	}
 
 	protected double getCode(CacheBlock<?> in, int r){
@@ -220,6 +234,11 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	protected double[] getCodeCol(CacheBlock<?> in, int startInd, int endInd, double[] tmp) {
 		final int endLength = endInd - startInd;
 		final double[] codes = tmp != null && tmp.length == endLength ? tmp : new double[endLength];
+		if(_rcdMap instanceof RecodeMap) {
+			// primitive lookup (specialized for numeric columns)
+			((RecodeMap) _rcdMap).lookup(in, _colID - 1, startInd, endInd, codes);
+			return codes;
+		}
 		for (int i=startInd; i<endInd; i++) {
 			String key = in.getString(i, _colID-1);
 			if(key == null || key.isEmpty()) {
@@ -270,7 +289,10 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		// merge together overlapping columns
 		ColumnEncoderRecode otherRec = (ColumnEncoderRecode) other;
 		Map<Object, Long> otherMap = otherRec._rcdMap;
-		if(otherMap != null) {
+		if(otherMap instanceof RecodeMap && _rcdMap instanceof RecodeMap) {
+			((RecodeMap) _rcdMap).addKeys((RecodeMap) otherMap);
+		}
+		else if(otherMap != null) {
 			// for each column, add all non present recode values
 			for(Map.Entry<Object, Long> entry : otherMap.entrySet()) {
 				if(lookupRCDMap(entry.getKey()) == -1) {
@@ -322,7 +344,8 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 	public void initMetaData(FrameBlock meta) {
 		if(meta == null || meta.getNumRows() <= 0)
 			return;
-		_rcdMap = meta.getRecodeMap(_colID - 1); // 1-based
+		// copy into primitive recode map for apply w/o boxing
+		_rcdMap = RecodeMap.create(meta.getRecodeMap(_colID - 1)); // 1-based
 	}
 
 	@Override
@@ -429,7 +452,7 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		@Override
 		public Object call() throws Exception {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-			HashMap<Object, Long> partialMap = new HashMap<>();
+			RecodeMap partialMap = RecodeMap.create(_input, _colID - 1);
 			makeRcdMap(_input, partialMap, _colID, _startRow, _blockSize);
 			synchronized(_partialMaps) {
 				_partialMaps.put(_startRow, partialMap);
@@ -460,11 +483,21 @@ public class ColumnEncoderRecode extends ColumnEncoder {
 		public Object call() throws Exception {
 			long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 			Map<Object, Long> rcdMap = _encoder.getRcdMap();
+			if(rcdMap.isEmpty() && !_partialMaps.isEmpty() && !(rcdMap instanceof RecodeMapNumeric)) {
+				// adopt the specialized map type of the partial maps
+				Object first = _partialMaps.values().iterator().next();
+				if(first instanceof RecodeMapNumeric)
+					rcdMap = new RecodeMapNumeric(((RecodeMapNumeric) first).isFP());
+			}
+			final Map<Object, Long> fRcdMap = rcdMap;
 			_partialMaps.forEach((start_row, map) -> {
-				((HashMap<?, ?>) map).forEach((k, v) -> {
-					if(!rcdMap.containsKey(k))
-						putCode(rcdMap, k);
-				});
+				if(fRcdMap instanceof RecodeMap && map instanceof RecodeMap)
+					((RecodeMap) fRcdMap).addKeys((RecodeMap) map);
+				else
+					((Map<?, ?>) map).forEach((k, v) -> {
+						if(!fRcdMap.containsKey(k))
+							putCode(fRcdMap, k);
+					});
 			});
 			_encoder._rcdMap = rcdMap;
 			if(DMLScript.STATISTICS){
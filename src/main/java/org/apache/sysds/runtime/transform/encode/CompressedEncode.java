@@ -49,6 +49,7 @@ import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
 import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
 import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
 import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.ABitPackedArray;
 import org.apache.sysds.runtime.frame.data.columns.ACompressedArray;
 import org.apache.sysds.runtime.frame.data.columns.Array;
 import org.apache.sysds.runtime.frame.data.columns.DDCArray;
@@ -59,6 +60,9 @@ import org.apache.sysds.runtime.util.UtilFunctions;
 public class CompressedEncode {
 	protected static final Log LOG = LogFactory.getLog(CompressedEncode.class.getName());
 
+	/** The number of rows hashed at a time */
+	private static final int HASH_BLOCK_SIZE = 1024;
+
 	/** The encoding scheme plan */
 	private final MultiColumnEncoder enc;
 	/** The Input FrameBlock */
@@ -155,7 +159,7 @@ public class CompressedEncode {
 	@SuppressWarnings("unchecked")
 	private AColGroup recodeToDummy(ColumnEncoderComposite c) {
 		int colId = c._colID;
-		Array<?> a = in.getColumn(colId - 1);
+		Array<?> a = getColumn(colId);
 		boolean containsNull = a.containsNull();
 		Map<?, Long> map = a.getRecodeMap();
 		List<ColumnEncoder> r = c.getEncoders();
@@ -174,7 +178,7 @@ public class CompressedEncode {
 
 	private AColGroup bin(ColumnEncoderComposite c) {
 		final int colId = c._colID;
-		final Array<?> a = in.getColumn(colId - 1);
+		final Array<?> a = getColumn(colId);
 		final boolean containsNull = a.containsNull();
 		final List<ColumnEncoder> r = c.getEncoders();
 		final ColumnEncoderBin b = (ColumnEncoderBin) r.get(0);
@@ -245,7 +249,7 @@ public class CompressedEncode {
 
 	private AColGroup binToDummy(ColumnEncoderComposite c) {
 		final int colId = c._colID;
-		final Array<?> a = in.getColumn(colId - 1);
+		final Array<?> a = getColumn(colId);
 		final boolean containsNull = a.containsNull();
 		final List<ColumnEncoder> r = c.getEncoders();
 		final ColumnEncoderBin b = (ColumnEncoderBin) r.get(0);
@@ -260,7 +264,7 @@ public class CompressedEncode {
 	@SuppressWarnings("unchecked")
 	private AColGroup recode(ColumnEncoderComposite c) {
 		int colId = c._colID;
-		Array<?> a = in.getColumn(colId - 1);
+		Array<?> a = getColumn(colId);
 		Map<?, Long> map = a.getRecodeMap();
 		boolean containsNull = a.containsNull();
 		int domain = map.size();
@@ -303,6 +307,10 @@ public class CompressedEncode {
 					ADictionary d = Dictionary.create(vals);
 
 					return ColGroupDDC.create(colIndexes, d, aDDC.getMap(), null);
+				case FOR:
+				case DELTA:
+					a = getColumn(colId);
+					break;
 				default:
 					throw new NotImplementedException();
 			}
@@ -330,6 +338,18 @@ public class CompressedEncode {
 
 	}
 
+	/**
+	 * Get the column of the given id, where bit packed integers (FOR, DELTA) are decoded once
+	 * for the recode map, mapping, and bin encoding, instead of per-row decoding via get(i).
+	 * 
+	 * @param colId column id (starting at 1)
+	 * @return the column array
+	 */
+	private Array<?> getColumn(int colId) {
+		Array<?> a = in.getColumn(colId - 1);
+		return (a instanceof ABitPackedArray) ? ((ABitPackedArray<?>) a).decompress() : a;
+	}
+
 	private AMapToData createMappingAMapToData(Array<?> a, Map<?, Long> map, boolean containsNull) {
 		try {
 
@@ -366,21 +386,17 @@ public class CompressedEncode {
 
 	private AMapToData createHashMappingAMapToData(Array<?> a, int k, boolean nulls) {
 		AMapToData m = MapToFactory.create(a.size(), k + (nulls ? 1 : 0));
-		if(nulls) {
-			for(int i = 0; i < a.size(); i++) {
-				double h = Math.abs(a.hashDouble(i));
-				if(Double.isNaN(h)) {
+		// hash blocks of rows, which allows sequential decoding of compressed arrays
+		final double[] hashes = new double[Math.min(a.size(), HASH_BLOCK_SIZE)];
+		for(int bl = 0; bl < a.size(); bl += hashes.length) {
+			final int bu = Math.min(bl + hashes.length, a.size());
+			a.hashDouble(hashes, bl, bu);
+			for(int i = bl; i < bu; i++) {
+				double h = Math.abs(hashes[i - bl]);
+				if(nulls && Double.isNaN(h))
 					m.set(i, k);
-				}
-				else {
+				else
 					m.set(i, (int) h % k);
-				}
-			}
-		}
-		else {
-			for(int i = 0; i < a.size(); i++) {
-				double h = Math.abs(a.hashDouble(i));
-				m.set(i, (int) h % k);
 			}
 		}
 		return m;
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+
+/**
+ * Open-addressing hash map from recode tokens to their 1-based codes. In contrast to a HashMap&lt;Object, Long&gt;,
+ * keys and codes are stored in flat arrays (linear probing, primitive int codes), which avoids per-entry objects and
+ * boxed codes. Empty slots are marked by code 0.
+ * 
+ * For compatibility with the meta data handling, the map is also a Map&lt;Object, Long&gt; view, where all keys are
+ * exposed in their string representation (as returned by CacheBlock.getString).
+ */
+public abstract class RecodeMap extends AbstractMap<Object, Long> {
+	protected static final int INIT_CAPACITY = 16;
+	protected static final double LOAD_FACTOR = 0.75;
+
+	/** codes per slot, 0 for empty slots */
+	protected int[] _codes;
+	/** number of entries */
+	protected int _size = 0;
+
+	protected RecodeMap(int capacity) {
+		_codes = new int[capacity];
+	}
+
+	/**
+	 * Create an empty recode map specialized for the value type of the given column.
+	 * 
+	 * @param in  input cache block
+	 * @param col column index (0-based)
+	 * @return empty recode map
+	 */
+	public static RecodeMap create(CacheBlock<?> in, int col) {
+		if(in instanceof FrameBlock) {
+			Array<?> a = ((FrameBlock) in).getColumn(col);
+			if(a instanceof DoubleArray)
+				return new RecodeMapNumeric(true);
+			else if(a instanceof LongArray || a instanceof IntegerArray)
+				return new RecodeMapNumeric(false);
+		}
+		return new RecodeMapString();
+	}
+
+	/**
+	 * Create a recode map with the same entries (and codes) as the given map.
+	 * 
+	 * @param map input map of tokens to codes
+	 * @return recode map
+	 */
+	public static RecodeMap create(Map<?, Long> map) {
+		if(map instanceof RecodeMap)
+			return (RecodeMap) map;
+		RecodeMap ret = new RecodeMapString(capacity(map.size()));
+		for(Entry<?, Long> e : map.entrySet())
+			ret.putCode(e.getKey(), e.getValue().intValue());
+		return ret;
+	}
+
+	/**
+	 * Get the code of the given token.
+	 * 
+	 * @param key token
+	 * @return code, or -1 if the token does not exist
+	 */
+	public abstract long getCode(Object key);
+
+	/**
+	 * Add the given token with the next code (size + 1) if it does not exist yet.
+	 * 
+	 * @param key token
+	 */
+	public abstract void addKey(Object key);
+
+	/**
+	 * Add the tokens of the given map that do not exist yet, with the next codes.
+	 * 
+	 * @param other other recode map
+	 */
+	public abstract void addKeys(RecodeMap other);
+
+	/**
+	 * Build the recode map of the given column and row range.
+	 * 
+	 * @param in  input cache block
+	 * @param col column index (0-based)
+	 * @param rl  row lower bound (inclusive)
+	 * @param ru  row upper bound (exclusive)
+	 */
+	public abstract void build(CacheBlock<?> in, int col, int rl, int ru);
+
+	/**
+	 * Lookup the codes of the given column and row range, NaN for empty or non-existing tokens.
+	 * 
+	 * @param in    input cache block
+	 * @param col   column index (0-based)
+	 * @param rl    row lower bound (inclusive)
+	 * @param ru    row upper bound (exclusive)
+	 * @param codes output array of length ru-rl
+	 */
+	public abstract void lookup(CacheBlock<?> in, int col, int rl, int ru, double[] codes);
+
+	/**
+	 * Put the token with the given code, overwriting existing codes.
+	 * 
+	 * @param key  token
+	 * @param code code
+	 */
+	protected abstract void putCode(Object key, int code);
+
+	/**
+	 * Get the token of the given non-empty slot in string representation.
+	 * 
+	 * @param slot slot index
+	 * @return token
+	 */
+	protected abstract String getKey(int slot);
+
+	/**
+	 * Clear the keys of all slots.
+	 */
+	protected abstract void clearKeys();
+
+	/**
+	 * Get the approximate size in memory per entry (excluding the key objects).
+	 * 
+	 * @return size in bytes
+	 */
+	public static long getEntrySize() {
+		// key (reference/long), code, cached hash, amortized over the load factor
+		return (long) Math.ceil(16 / LOAD_FACTOR);
+	}
+
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return getCode(key) >= 0;
+	}
+
+	@Override
+	public Long get(Object key) {
+		long code = getCode(key);
+		return code < 0 ? null : code;
+	}
+
+	@Override
+	public Long getOrDefault(Object key, Long defaultValue) {
+		long code = getCode(key);
+		return code < 0 ? defaultValue : code;
+	}
+
+	@Override
+	public Long put(Object key, Long value) {
+		Long old = get(key);
+		putCode(key, value.intValue());
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(_codes, 0);
+		clearKeys();
+		_size = 0;
+	}
+
+	@Override
+	public Set<Entry<Object, Long>> entrySet() {
+		return new EntrySet();
+	}
+
+	protected boolean isFull() {
+		return _size + 1 > _codes.length * LOAD_FACTOR;
+	}
+
+	protected static int capacity(int numEntries) {
+		int cap = INIT_CAPACITY;
+		while(cap * LOAD_FACTOR < numEntries + 1)
+			cap <<= 1;
+		return cap;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Long>> {
+		@Override
+		public Iterator<Entry<Object, Long>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return _size;
+		}
+	}
+
+	private class EntryIterator implements Iterator<Entry<Object, Long>> {
+		private int _slot = nextSlot(0);
+
+		@Override
+		public boolean hasNext() {
+			return _slot < _codes.length;
+		}
+
+		@Override
+		public Entry<Object, Long> next() {
+			if(!hasNext())
+				throw new NoSuchElementException();
+			Entry<Object, Long> e = new SimpleImmutableEntry<>(getKey(_slot), (long) _codes[_slot]);
+			_slot = nextSlot(_slot + 1);
+			return e;
+		}
+
+		private int nextSlot(int slot) {
+			while(slot < _codes.length && _codes[slot] == 0)
+				slot++;
+			return slot;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.transform.encode;
+
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.DoubleArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+
+/**
+ * Recode map for numeric columns (DoubleArray, LongArray, IntegerArray), with primitive long keys (the raw bits for
+ * doubles). Tokens are only materialized as strings when accessed through the Map interface, which keeps the string
+ * representation of CacheBlock.getString for meta data and merges with string-based maps.
+ */
+public class RecodeMapNumeric extends RecodeMap {
+	private final boolean _fp;
+	private long[] _keys;
+
+	/**
+	 * Create an empty numeric recode map.
+	 * 
+	 * @param fp true for double keys, false for long/int keys
+	 */
+	public RecodeMapNumeric(boolean fp) {
+		super(INIT_CAPACITY);
+		_fp = fp;
+		_keys = new long[INIT_CAPACITY];
+	}
+
+	public boolean isFP() {
+		return _fp;
+	}
+
+	@Override
+	public long getCode(Object key) {
+		if(key == null)
+			return -1;
+		try {
+			return getCode(toKey(key));
+		}
+		catch(NumberFormatException ex) {
+			return -1; // non-numeric token
+		}
+	}
+
+	public long getCode(long key) {
+		final int mask = _codes.length - 1;
+		for(int ix = hash(key) & mask; _codes[ix] != 0; ix = (ix + 1) & mask)
+			if(_keys[ix] == key)
+				return _codes[ix];
+		return -1;
+	}
+
+	@Override
+	public void addKey(Object key) {
+		addKey(toKey(key), _size + 1, false);
+	}
+
+	@Override
+	public void addKeys(RecodeMap other) {
+		if(other instanceof RecodeMapNumeric && ((RecodeMapNumeric) other)._fp == _fp) {
+			RecodeMapNumeric o = (RecodeMapNumeric) other;
+			for(int i = 0; i < o._codes.length; i++)
+				if(o._codes[i] != 0)
+					addKey(o._keys[i], _size + 1, false);
+		}
+		else {
+			for(Object key : other.keySet())
+				addKey(key);
+		}
+	}
+
+	@Override
+	public void build(CacheBlock<?> in, int col, int rl, int ru) {
+		Array<?> a = (in instanceof FrameBlock) ? ((FrameBlock) in).getColumn(col) : null;
+		if(_fp && a instanceof DoubleArray) {
+			final double[] vals = ((DoubleArray) a).get();
+			for(int i = rl; i < ru; i++)
+				addKey(Double.doubleToLongBits(vals[i]), _size + 1, false);
+		}
+		else if(!_fp && a instanceof LongArray) {
+			final long[] vals = ((LongArray) a).get();
+			for(int i = rl; i < ru; i++)
+				addKey(vals[i], _size + 1, false);
+		}
+		else if(!_fp && a instanceof IntegerArray) {
+			final int[] vals = ((IntegerArray) a).get();
+			for(int i = rl; i < ru; i++)
+				addKey(vals[i], _size + 1, false);
+		}
+		else { // generic fallback over string tokens
+			for(int i = rl; i < ru; i++) {
+				String key = in.getString(i, col);
+				if(key != null && !key.isEmpty())
+					addKey(key);
+			}
+		}
+	}
+
+	@Override
+	public void lookup(CacheBlock<?> in, int col, int rl, int ru, double[] codes) {
+		Array<?> a = (in instanceof FrameBlock) ? ((FrameBlock) in).getColumn(col) : null;
+		if(_fp && a instanceof DoubleArray) {
+			final double[] vals = ((DoubleArray) a).get();
+			for(int i = rl; i < ru; i++)
+				codes[i - rl] = toCode(getCode(Double.doubleToLongBits(vals[i])));
+		}
+		else if(!_fp && a instanceof LongArray) {
+			final long[] vals = ((LongArray) a).get();
+			for(int i = rl; i < ru; i++)
+				codes[i - rl] = toCode(getCode(vals[i]));
+		}
+		else if(!_fp && a instanceof IntegerArray) {
+			final int[] vals = ((IntegerArray) a).get();
+			for(int i = rl; i < ru; i++)
+				codes[i - rl] = toCode(getCode(vals[i]));
+		}
+		else { // generic fallback over string tokens
+			for(int i = rl; i < ru; i++) {
+				String key = in.getString(i, col);
+				codes[i - rl] = (key == null || key.isEmpty()) ? Double.NaN : toCode(getCode(key));
+			}
+		}
+	}
+
+	@Override
+	protected void putCode(Object key, int code) {
+		addKey(toKey(key), code, true);
+	}
+
+	@Override
+	protected String getKey(int slot) {
+		return _fp ? Double.toString(Double.longBitsToDouble(_keys[slot])) : Long.toString(_keys[slot]);
+	}
+
+	@Override
+	protected void clearKeys() {
+		// keys of empty slots are ignored
+	}
+
+	private long toKey(Object key) {
+		if(_fp)
+			return Double.doubleToLongBits(key instanceof Number ? //
+				((Number) key).doubleValue() : Double.parseDouble(key.toString()));
+		else
+			return key instanceof Number ? ((Number) key).longValue() : Long.parseLong(key.toString());
+	}
+
+	private void addKey(long key, int code, boolean overwrite) {
+		if(isFull())
+			resize(_codes.length * 2);
+		final int mask = _codes.length - 1;
+		int ix = hash(key) & mask;
+		for(; _codes[ix] != 0; ix = (ix + 1) & mask) {
+			if(_keys[ix] == key) {
+				if(overwrite)
+					_codes[ix] = code;
+				return;
+			}
+		}
+		_keys[ix] = key;
+		_codes[ix] = code;
+		_size++;
+	}
+
+	private void resize(int capacity) {
+		final long[] keys = _keys;
+		final int[] codes = _codes;
+		_keys = new long[capacity];
+		_codes = new int[capacity];
+		final int mask = capacity - 1;
+		for(int i = 0; i < codes.length; i++) {
+			if(codes[i] != 0) {
+				int ix = hash(keys[i]) & mask;
+				while(_codes[ix] != 0)
+					ix = (ix + 1) & mask;
+				_keys[ix] = keys[i];
+				_codes[ix] = codes[i];
+			}
+		}
+	}
+
+	private static double toCode(long code) {
+		return (code < 0) ? Double.NaN : code;
+	}
+
+	private static int hash(long key) {
+		// fibonacci hashing, high bits as they are well mixed
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+	}
+}
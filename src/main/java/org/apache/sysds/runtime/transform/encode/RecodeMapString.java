@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+
+/**
+ * Recode map for string tokens, with cached hash codes per slot to probe without dereferencing the key objects.
+ */
+public class RecodeMapString extends RecodeMap {
+	private String[] _keys;
+	private int[] _hashes;
+
+	public RecodeMapString() {
+		this(INIT_CAPACITY);
+	}
+
+	protected RecodeMapString(int capacity) {
+		super(capacity);
+		_keys = new String[capacity];
+		_hashes = new int[capacity];
+	}
+
+	@Override
+	public long getCode(Object key) {
+		if(key == null)
+			return -1;
+		final String skey = key.toString();
+		final int h = hash(skey);
+		final int mask = _codes.length - 1;
+		for(int ix = h & mask; _codes[ix] != 0; ix = (ix + 1) & mask)
+			if(_hashes[ix] == h && skey.equals(_keys[ix]))
+				return _codes[ix];
+		return -1;
+	}
+
+	@Override
+	public void addKey(Object key) {
+		addKey(key.toString(), _size + 1);
+	}
+
+	@Override
+	public void addKeys(RecodeMap other) {
+		if(other instanceof RecodeMapString) {
+			RecodeMapString o = (RecodeMapString) other;
+			for(int i = 0; i < o._codes.length; i++)
+				if(o._codes[i] != 0)
+					addKey(o._keys[i], o._hashes[i], _size + 1, false);
+		}
+		else {
+			for(Object key : other.keySet())
+				addKey(key);
+		}
+	}
+
+	@Override
+	public void build(CacheBlock<?> in, int col, int rl, int ru) {
+		for(int i = rl; i < ru; i++) {
+			String key = in.getString(i, col);
+			if(key != null && !key.isEmpty())
+				addKey(key, _size + 1);
+		}
+	}
+
+	@Override
+	public void lookup(CacheBlock<?> in, int col, int rl, int ru, double[] codes) {
+		for(int i = rl; i < ru; i++) {
+			String key = in.getString(i, col);
+			long code = (key == null || key.isEmpty()) ? -1 : getCode(key);
+			codes[i - rl] = (code < 0) ? Double.NaN : code;
+		}
+	}
+
+	@Override
+	protected void putCode(Object key, int code) {
+		final String skey = key.toString();
+		addKey(skey, hash(skey), code, true);
+	}
+
+	@Override
+	protected String getKey(int slot) {
+		return _keys[slot];
+	}
+
+	@Override
+	protected void clearKeys() {
+		Arrays.fill(_keys, null);
+	}
+
+	private void addKey(String key, int code) {
+		addKey(key, hash(key), code, false);
+	}
+
+	private void addKey(String key, int h, int code, boolean overwrite) {
+		if(isFull())
+			resize(_codes.length * 2);
+		final int mask = _codes.length - 1;
+		int ix = h & mask;
+		for(; _codes[ix] != 0; ix = (ix + 1) & mask) {
+			if(_hashes[ix] == h && key.equals(_keys[ix])) {
+				if(overwrite)
+					_codes[ix] = code;
+				return;
+			}
+		}
+		_keys[ix] = key;
+		_hashes[ix] = h;
+		_codes[ix] = code;
+		_size++;
+	}
+
+	private void resize(int capacity) {
+		final String[] keys = _keys;
+		final int[] hashes = _hashes;
+		final int[] codes = _codes;
+		_keys = new String[capacity];
+		_hashes = new int[capacity];
+		_codes = new int[capacity];
+		final int mask = capacity - 1;
+		for(int i = 0; i < codes.length; i++) {
+			if(codes[i] != 0) {
+				int ix = hashes[i] & mask;
+				while(_codes[ix] != 0)
+					ix = (ix + 1) & mask;
+				_keys[ix] = keys[i];
+				_hashes[ix] = hashes[i];
+				_codes[ix] = codes[i];
+			}
+		}
+	}
+
+	private static int hash(String key) {
+		// spread the cached string hash code over the low bits
+		final int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+}
@@ -38,6 +38,19 @@ public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
 	public int available() {
 		return _buff.limit() - _buff.position();
 	}
+
+	/**
+	 * Returns a view of the next len bytes and advances the position accordingly.
+	 * 
+	 * @param len number of bytes
+	 * @return byte buffer view of len bytes
+	 */
+	public ByteBuffer slice(int len) {
+		ByteBuffer ret = _buff.slice();
+		ret.limit(len);
+		_buff.position(_buff.position()+len);
+		return ret;
+	}
 	
 	@Override
 	public void readFully(byte[] b) throws IOException {
@@ -123,9 +136,12 @@ public class ByteBufferDataInput implements DataInput, MatrixBlockDataInput
 	
 	@Override
 	public long readDoubleArray(int len, double[] varr) throws IOException  {
+		//bulk copy via double view (same byte order) and nnz count
+		_buff.asDoubleBuffer().get(varr, 0, len);
+		_buff.position(_buff.position()+8*len);
 		long nnz = 0;
 		for( int i=0; i<len; i++ )
-			nnz += (varr[i] = _buff.getDouble()) != 0 ? 1 : 0;
+			nnz += (varr[i] != 0) ? 1 : 0;
 		return nnz;
 	}
 
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.util;
+
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+
+/**
+ * This native double hash set is an open-addressing (linear probing) replacement
+ * for {@code HashSet<Double>} in distinct counting and unique operations. Values
+ * are stored by their canonical bit representation (same equality semantics as
+ * {@link Double#equals(Object)}) in a single long array, which avoids boxing and
+ * per-entry objects and thus reduces the memory footprint by almost an order of
+ * magnitude. The bit pattern 0 (i.e., +0.0) marks free slots and is tracked
+ * separately.
+ * 
+ * For parallel construction, values can be assigned to hash partitions via
+ * {@link #partition(double, int)} such that partial sets of the same partition
+ * can be merged independently and without synchronization.
+ */
+public class DoubleHashSet
+{
+	private static final int INIT_CAPACITY = 16;
+	private static final int RESIZE_FACTOR = 2;
+	private static final float LOAD_FACTOR = 0.5f;
+	
+	private long[] _data;
+	private boolean _zero;
+	private int _size;
+	
+	public DoubleHashSet() {
+		this(INIT_CAPACITY);
+	}
+	
+	public DoubleHashSet(int size) {
+		int cap = INIT_CAPACITY;
+		while( cap < size / LOAD_FACTOR && cap < (1 << 30) )
+			cap *= RESIZE_FACTOR;
+		_data = new long[cap];
+		_zero = false;
+		_size = 0;
+	}
+	
+	public int size() {
+		return _size;
+	}
+	
+	public boolean add(double value) {
+		long bits = Double.doubleToLongBits(value);
+		if( bits == 0 ) {
+			if( _zero )
+				return false;
+			_zero = true;
+			_size++;
+			return true;
+		}
+		
+		//probe for existing or free slot
+		int mask = _data.length - 1;
+		int ix = (int) hash(bits) & mask;
+		for( long cur = _data[ix]; cur != 0; cur = _data[ix] ) {
+			if( cur == bits )
+				return false;
+			ix = (ix + 1) & mask;
+		}
+		_data[ix] = bits;
+		_size++;
+		
+		//resize if necessary
+		if( _size >= LOAD_FACTOR * _data.length )
+			resize();
+		return true;
+	}
+	
+	public void addAll(DoubleHashSet that) {
+		if( that._zero )
+			add(0);
+		for( long bits : that._data )
+			if( bits != 0 )
+				add(Double.longBitsToDouble(bits));
+	}
+	
+	public boolean contains(double value) {
+		long bits = Double.doubleToLongBits(value);
+		if( bits == 0 )
+			return _zero;
+		int mask = _data.length - 1;
+		int ix = (int) hash(bits) & mask;
+		for( long cur = _data[ix]; cur != 0; cur = _data[ix] ) {
+			if( cur == bits )
+				return true;
+			ix = (ix + 1) & mask;
+		}
+		return false;
+	}
+	
+	public void clear() {
+		if( _size == 0 )
+			return;
+		Arrays.fill(_data, 0);
+		_zero = false;
+		_size = 0;
+	}
+	
+	/**
+	 * Copies all distinct values (in undefined order) into the given
+	 * array, starting at the given offset.
+	 * 
+	 * @param ret output array of sufficient size
+	 * @param off start position in the output array
+	 * @return number of copied values
+	 */
+	public int toArray(double[] ret, int off) {
+		int pos = off;
+		if( _zero )
+			ret[pos++] = 0;
+		for( long bits : _data )
+			if( bits != 0 )
+				ret[pos++] = Double.longBitsToDouble(bits);
+		return pos - off;
+	}
+	
+	public double[] toArray() {
+		double[] ret = new double[_size];
+		toArray(ret, 0);
+		return ret;
+	}
+	
+	/**
+	 * Obtains the hash partition of a value. The partition uses the high bits
+	 * of the hash, while slot positions use the low bits, which keeps the sets
+	 * of individual partitions well-balanced.
+	 * 
+	 * @param value input value
+	 * @param numParts number of partitions
+	 * @return partition index in [0, numParts)
+	 */
+	public static int partition(double value, int numParts) {
+		long h = hash(Double.doubleToLongBits(value));
+		return (int) ((h >>> 33) % numParts);
+	}
+	
+	private void resize() {
+		//check for integer overflow on resize
+		if( _data.length > Integer.MAX_VALUE / RESIZE_FACTOR ) {
+			if( _size >= _data.length - 1 )
+				throw new DMLRuntimeException("DoubleHashSet exceeded its maximum capacity.");
+			return;
+		}
+		
+		//rehash all existing entries into enlarged array
+		long[] olddata = _data;
+		_data = new long[_data.length * RESIZE_FACTOR];
+		int mask = _data.length - 1;
+		for( long bits : olddata ) {
+			if( bits == 0 )
+				continue;
+			int ix = (int) hash(bits) & mask;
+			while( _data[ix] != 0 )
+				ix = (ix + 1) & mask;
+			_data[ix] = bits;
+		}
+	}
+	
+	private static long hash(long bits) {
+		//murmur3 64bit finalizer for well-distributed low and high bits
+		bits ^= bits >>> 33;
+		bits *= 0xff51afd7ed558ccdL;
+		bits ^= bits >>> 33;
+		bits *= 0xc4ceb9fe1a85ec53L;
+		return bits ^ (bits >>> 33);
+	}
+}
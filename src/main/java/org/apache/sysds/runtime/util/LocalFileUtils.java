@@ -30,8 +30,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -57,6 +63,16 @@ public class LocalFileUtils
 	public static final int BUFFER_SIZE = 8192;
 	public static final int DOUBLE_BUFFERING_MIN = 100*1024;
 	
+	//raw format of dense matrix blocks for bulk copies and memory-mapped I/O:
+	//header [magic, rows, cols, pad, nnz] (aligned to 8 bytes), followed by values
+	public static final int MAPPED_MAGIC = 0xFDB10CD5; //negative, i.e., no valid #rows
+	public static final int MAPPED_HEADER_SIZE = 24;
+	private static final int MAPPED_REGION_SIZE = 1 << 30; //max bytes per mapped region
+	
+	//explicit release of direct and mapped byte buffers (sun.misc.Unsafe.invokeCleaner),
+	//null if not accessible, in which case buffers are only released on garbage collection
+	private static final MethodHandle BUFFER_CLEANER = getBufferCleaner();
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -114,6 +130,36 @@ public class LocalFileUtils
 	public static CacheBlock<?> readCacheBlockFromLocal(String fname, boolean matrix) throws IOException {
 		return (CacheBlock<?>) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
 	}
+
+	/**
+	 * Reads a matrix/frame block from local file system, where matrix blocks
+	 * are optionally probed for the raw dense format.
+	 * 
+	 * @param fname file name to read
+	 * @param matrix if true, read matrix. else read frame
+	 * @param mapped if true, probe for the raw dense format (off-heap eviction)
+	 * @return cache block (common interface to MatrixBlock and FrameBlock)
+	 * @throws IOException if IOException occurs
+	 */
+	public static CacheBlock<?> readCacheBlockFromLocal(String fname, boolean matrix, boolean mapped) throws IOException {
+		if( !mapped )
+			return readCacheBlockFromLocal(fname, matrix);
+		if( matrix ) {
+			//probe for raw dense format (written by writeMatrixBlockToLocalMapped
+			//or a serialized off-heap buffer), otherwise use the writable format
+			FileChannel channel = FileChannel.open(Paths.get(fname), StandardOpenOption.READ);
+			try {
+				if( isMappedFormat(channel) )
+					return readMatrixBlockFromLocalMapped(channel);
+				channel.position(0);
+				return (MatrixBlock) readWritableFromStream(Channels.newInputStream(channel), new MatrixBlock());
+			}
+			finally {
+				IOUtilFunctions.closeSilently(channel);
+			}
+		}
+		return (CacheBlock<?>) readWritableFromLocal(fname, new FrameBlock());
+	}
 	
 	/**
 	 * Reads an arbitrary writable from local file system, using a fused buffered reader
@@ -223,6 +269,21 @@ public class LocalFileUtils
 	public static void writeCacheBlockToLocal(String fname, CacheBlock<?> cb) throws IOException {
 		writeWritableToLocal(fname, cb, cb.getInMemorySize()>=DOUBLE_BUFFERING_MIN);
 	}
+
+	/** Writes a matrix/frame block to local file system, where dense matrix blocks
+	 * are optionally written in raw format via memory-mapped bulk copies.
+	 * 
+	 * @param fname file name to write
+	 * @param cb cache block (common interface to matrix block and frame block)
+	 * @param mapped if true, write dense matrix blocks via memory-mapped files
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeCacheBlockToLocal(String fname, CacheBlock<?> cb, boolean mapped) throws IOException {
+		if( mapped && isMappedFormat(cb) )
+			writeMatrixBlockToLocalMapped(fname, (MatrixBlock) cb);
+		else
+			writeCacheBlockToLocal(fname, cb);
+	}
 	
 	/**
 	 * Writes an arbitrary writable to local file system, using a fused buffered writer
@@ -262,6 +323,205 @@ public class LocalFileUtils
 		}
 	}
 
+	/**
+	 * Writes the remaining bytes of the given (e.g., off-heap) byte buffer
+	 * to local file system, without intermediate heap copies.
+	 * 
+	 * @param fname file name to write
+	 * @param data byte buffer
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeByteBufferToLocal( String fname, ByteBuffer data )
+		throws IOException
+	{
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			while( data.hasRemaining() )
+				channel.write(data);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+	
+	/**
+	 * Indicates if the given cache block qualifies for the raw dense format,
+	 * i.e., an uncompressed matrix block with contiguous dense block.
+	 * 
+	 * @param cb cache block
+	 * @return true if raw dense format applicable
+	 */
+	public static boolean isMappedFormat(CacheBlock<?> cb) {
+		if( cb == null || cb.getClass() != MatrixBlock.class )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		return !mb.isInSparseFormat() && mb.getDenseBlock() != null
+			&& mb.getDenseBlock().isContiguous();
+	}
+	
+	/**
+	 * Indicates if the given byte buffer holds a matrix block in raw dense format.
+	 * 
+	 * @param buff byte buffer
+	 * @return true if raw dense format
+	 */
+	public static boolean isMappedFormat(ByteBuffer buff) {
+		return buff.limit() >= MAPPED_HEADER_SIZE
+			&& buff.getInt(0) == MAPPED_MAGIC;
+	}
+	
+	private static boolean isMappedFormat(FileChannel channel) throws IOException {
+		if( channel.size() < MAPPED_HEADER_SIZE )
+			return false;
+		ByteBuffer tmp = ByteBuffer.allocate(4);
+		while( tmp.hasRemaining() && channel.read(tmp, tmp.position()) >= 0 );
+		return tmp.getInt(0) == MAPPED_MAGIC;
+	}
+	
+	/**
+	 * Returns the size of a dense matrix block in raw format.
+	 * 
+	 * @param mb matrix block
+	 * @return size in bytes
+	 */
+	public static long getMappedSize(MatrixBlock mb) {
+		return MAPPED_HEADER_SIZE + 8L * mb.getNumRows() * mb.getNumColumns();
+	}
+	
+	/**
+	 * Writes a dense matrix block in raw format into the given (heap, direct, or
+	 * mapped) byte buffer, where the values are written with a single bulk copy.
+	 * 
+	 * @param buff byte buffer with sufficient capacity (see getMappedSize)
+	 * @param mb dense matrix block
+	 */
+	public static void writeMatrixBlockToBuffer(ByteBuffer buff, MatrixBlock mb) {
+		int len = mb.getNumRows() * mb.getNumColumns();
+		buff.putInt(MAPPED_MAGIC);
+		buff.putInt(mb.getNumRows());
+		buff.putInt(mb.getNumColumns());
+		buff.putInt(0);
+		buff.putLong(mb.getNonZeros());
+		buff.asDoubleBuffer().put(mb.getDenseBlockValues(), 0, len);
+		buff.position(buff.position() + 8*len);
+	}
+	
+	/**
+	 * Reads a dense matrix block in raw format from the given byte buffer (absolute
+	 * positions, i.e., without modifying the buffer), with a single bulk copy.
+	 * 
+	 * @param buff byte buffer
+	 * @return dense matrix block
+	 */
+	public static MatrixBlock readMatrixBlockFromBuffer(ByteBuffer buff) {
+		MatrixBlock ret = allocateMappedBlock(buff);
+		ByteBuffer tmp = buff.duplicate();
+		tmp.position(MAPPED_HEADER_SIZE);
+		int len = ret.getNumRows() * ret.getNumColumns();
+		tmp.asDoubleBuffer().get(ret.getDenseBlockValues(), 0, len);
+		return ret;
+	}
+	
+	/**
+	 * Writes a dense matrix block in raw format to local file system via
+	 * memory-mapped bulk copies of the values (regions of up to 1GB).
+	 * 
+	 * @param fname file name to write
+	 * @param mb dense matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrixBlockToLocalMapped(String fname, MatrixBlock mb) throws IOException {
+		final double[] vals = mb.getDenseBlockValues();
+		final long len = (long)mb.getNumRows() * mb.getNumColumns();
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(Paths.get(fname), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			ByteBuffer header = ByteBuffer.allocate(MAPPED_HEADER_SIZE);
+			header.putInt(MAPPED_MAGIC).putInt(mb.getNumRows()).putInt(mb.getNumColumns())
+				.putInt(0).putLong(mb.getNonZeros()).flip();
+			while( header.hasRemaining() )
+				channel.write(header);
+			final int blen = MAPPED_REGION_SIZE / 8;
+			for( long i=0; i<len; i+=blen ) {
+				int rlen = (int)Math.min(blen, len-i);
+				ByteBuffer region = channel.map(MapMode.READ_WRITE, MAPPED_HEADER_SIZE + 8*i, 8L*rlen);
+				region.asDoubleBuffer().put(vals, (int)i, rlen);
+				freeDirectBuffer(region); //unmap
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+	
+	/**
+	 * Reads a dense matrix block in raw format from the given file channel via
+	 * memory-mapped bulk copies of the values (regions of up to 1GB).
+	 * 
+	 * @param channel file channel
+	 * @return dense matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixBlockFromLocalMapped(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(MAPPED_HEADER_SIZE);
+		while( header.hasRemaining() && channel.read(header, header.position()) >= 0 );
+		MatrixBlock ret = allocateMappedBlock(header);
+		final double[] vals = ret.getDenseBlockValues();
+		final long len = (long)ret.getNumRows() * ret.getNumColumns();
+		final int blen = MAPPED_REGION_SIZE / 8;
+		for( long i=0; i<len; i+=blen ) {
+			int rlen = (int)Math.min(blen, len-i);
+			ByteBuffer region = channel.map(MapMode.READ_ONLY, MAPPED_HEADER_SIZE + 8*i, 8L*rlen);
+			region.asDoubleBuffer().get(vals, (int)i, rlen);
+			freeDirectBuffer(region); //unmap
+		}
+		return ret;
+	}
+	
+	/**
+	 * Releases the memory of a direct byte buffer or the mapping of a mapped byte
+	 * buffer, without waiting for garbage collection. The buffer and all its views
+	 * must not be accessed afterwards. Heap buffers, views (duplicates, slices), and
+	 * JVMs without access to the cleaner are ignored, i.e., released on GC.
+	 * 
+	 * @param buff direct or mapped byte buffer
+	 */
+	public static void freeDirectBuffer(ByteBuffer buff) {
+		if( buff == null || !buff.isDirect() || BUFFER_CLEANER == null )
+			return;
+		try {
+			BUFFER_CLEANER.invokeExact(buff);
+		}
+		catch(Throwable ex) {
+			//ignore views of direct buffers, released on GC
+		}
+	}
+	
+	private static MethodHandle getBufferCleaner() {
+		try {
+			Class<?> clazz = Class.forName("sun.misc.Unsafe");
+			Field unsafe = clazz.getDeclaredField("theUnsafe");
+			unsafe.setAccessible(true);
+			return MethodHandles.lookup().findVirtual(clazz, "invokeCleaner",
+				MethodType.methodType(void.class, ByteBuffer.class)).bindTo(unsafe.get(null));
+		}
+		catch(Throwable ex) {
+			return null; //e.g., JDK 8 or restricted access
+		}
+	}
+	
+	private static MatrixBlock allocateMappedBlock(ByteBuffer header) {
+		if( header.getInt(0) != MAPPED_MAGIC )
+			throw new DMLRuntimeException("Invalid raw dense block header.");
+		MatrixBlock ret = new MatrixBlock(header.getInt(4), header.getInt(8), false);
+		ret.allocateDenseBlock();
+		ret.setNonZeros(header.getLong(16));
+		return ret;
+	}
+
 	public static int readBlockSequenceFromLocal(String fname, 
 			Pair<MatrixIndexes,MatrixValue>[] outValues, HashMap<MatrixIndexes, Integer> outMap) 
 		throws IOException
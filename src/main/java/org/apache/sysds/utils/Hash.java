@@ -87,6 +87,23 @@ public class Hash {
 		}
 	}
 
+	/**
+	 * Compute a well-distributed 64-bit hash of a double value (seeded murmur3 64-bit finalizer). In contrast to the
+	 * int hash functions, all bits are usable, which is required by sketches that derive register indexes and ranks
+	 * from disjoint bit ranges of the same hash.
+	 * 
+	 * @param o The double value.
+	 * @return A long hash value.
+	 */
+	public static long hash64(double o) {
+		long h = Double.doubleToLongBits(o) ^ 0x9E3779B97F4A7C15L;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		return h ^ (h >>> 33);
+	}
+
 	/**
 	 * Compute the Linear hash of an int input value.
 	 * 
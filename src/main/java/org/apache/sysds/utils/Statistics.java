@@ -625,6 +625,10 @@ public class Statistics
 			sb.append("Cache hits (Mem/Li/WB/FS/HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (Li/WB/FS/HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
+			if (CacheStatistics.getPrefetches() > 0 || CacheStatistics.getPrefetchMisses() > 0)
+				sb.append("Cache prefetch (Iss/Hit/Stl/Mis):\t" + CacheStatistics.displayPrefetches() + " sec.\n");
+			if (CacheStatistics.getOOCOps() > 0)
+				sb.append("Cache out-of-core ops:\t" + CacheStatistics.getOOCOps() + ".\n");
 			if (DMLScript.JMLC_MEM_STATISTICS)
 				sb.append("Max size of live objects:\t" + byteCountToDisplaySize(getSizeofPinnedObjects()) + " ("  + getNumPinnedObjects() + " total objects)" + "\n");
 
@@ -648,6 +652,8 @@ public class Statistics
 				}
 				sb.append("LinCache writes (Mem/FS/Del): \t" + LineageCacheStatistics.displayWtrites() + ".\n");
 				sb.append("LinCache FStimes (Rd/Wr): \t" + LineageCacheStatistics.displayFSTime() + " sec.\n");
+				if (LineageCacheStatistics.getFSCompressedWrites() > 0)
+					sb.append("LinCache FScompr (Wr/Saved):\t" + LineageCacheStatistics.displayFSCompression() + " MB.\n");
 				sb.append("LinCache Computetime (S/M/P): \t" + LineageCacheStatistics.displayComputeTime() + " sec.\n");
 				sb.append("LinCache Rewrites:    \t\t" + LineageCacheStatistics.displayRewrites() + ".\n");
 			}
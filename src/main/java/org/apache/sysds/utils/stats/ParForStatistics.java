@@ -19,6 +19,7 @@
 
 package org.apache.sysds.utils.stats;
 
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.sysds.utils.Statistics;
@@ -29,6 +30,11 @@ public class ParForStatistics {
 	private static final LongAdder optCount = new LongAdder(); //count
 	private static final LongAdder initTime = new LongAdder(); //in milli sec
 	private static final LongAdder mergeTime = new LongAdder(); //in milli sec
+	//PARFOR local worker stats (updated once per worker)
+	private static final LongAdder workerIdleTime = new LongAdder(); //in nano sec
+	private static final LongAccumulator workerMaxIdleTime = new LongAccumulator(Long::max, 0); //in nano sec
+	private static final LongAdder workerStealTime = new LongAdder(); //in nano sec
+	private static final LongAdder workerSteals = new LongAdder(); //count
 
 	public static synchronized void incrementOptimCount(){
 		optCount.increment();
@@ -46,6 +52,19 @@ public class ParForStatistics {
 		mergeTime.add(time);
 	}
 
+	public static void incrementWorkerIdleTime( long time ) {
+		workerIdleTime.add(time);
+		workerMaxIdleTime.accumulate(time);
+	}
+
+	public static void incrementWorkerStealTime( long time ) {
+		workerStealTime.add(time);
+	}
+
+	public static void incrementWorkerSteals( long count ) {
+		workerSteals.add(count);
+	}
+
 	public static long getOptCount(){
 		return optCount.longValue();
 	}
@@ -62,11 +81,31 @@ public class ParForStatistics {
 		return mergeTime.longValue();
 	}
 
+	public static long getWorkerIdleTime(){
+		return workerIdleTime.longValue();
+	}
+
+	public static long getWorkerMaxIdleTime(){
+		return workerMaxIdleTime.longValue();
+	}
+
+	public static long getWorkerStealTime(){
+		return workerStealTime.longValue();
+	}
+
+	public static long getWorkerSteals(){
+		return workerSteals.longValue();
+	}
+
 	public static void reset() {
 		optCount.reset();
 		optTime.reset();
 		initTime.reset();
 		mergeTime.reset();
+		workerIdleTime.reset();
+		workerMaxIdleTime.reset();
+		workerStealTime.reset();
+		workerSteals.reset();
 	}
 
 	public static String displayStatistics() {
@@ -76,6 +115,12 @@ public class ParForStatistics {
 			sb.append("ParFor optimize time:\t\t" + String.format("%.3f", ((double)getOptTime())/1000) + " sec.\n");
 			sb.append("ParFor initialize time:\t\t" + String.format("%.3f", ((double)getInitTime())/1000) + " sec.\n");
 			sb.append("ParFor result merge time:\t" + String.format("%.3f", ((double)getMergeTime())/1000) + " sec.\n");
+			if( getWorkerIdleTime() > 0 )
+				sb.append("ParFor worker idle time (max):\t" + String.format("%.3f", ((double)getWorkerIdleTime())/1e9)
+					+ " (" + String.format("%.3f", ((double)getWorkerMaxIdleTime())/1e9) + ") sec.\n");
+			if( getWorkerSteals() > 0 )
+				sb.append("ParFor worker steals (time):\t" + getWorkerSteals() + " ("
+					+ String.format("%.3f", ((double)getWorkerStealTime())/1e9) + " sec).\n");
 			sb.append("ParFor total update in-place:\t" + Statistics.getTotalUIPVar() + "/"
 				+ Statistics.getTotalLixUIP() + "/" + Statistics.getTotalLix() + "\n");
 			return sb.toString();
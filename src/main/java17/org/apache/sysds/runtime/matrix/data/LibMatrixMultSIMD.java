@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+/**
+ * SIMD variants of the dense vector primitives of {@link LibMatrixMult}.
+ * <p>
+ * JDK 17+ version of this multi-release class. The actual kernels live in
+ * {@link LibMatrixMultSIMDKernels}, which is only touched if the incubator
+ * module jdk.incubator.vector is resolved in the boot layer (i.e., the JVM
+ * was started with <code>--add-modules jdk.incubator.vector</code>) and the
+ * preferred species provides at least 4 double lanes (AVX2 or wider).
+ */
+public class LibMatrixMultSIMD
+{
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final int MIN_LANES = 4;
+	private static final boolean SUPPORTED = checkSupported();
+	
+	private LibMatrixMultSIMD() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if the SIMD kernels are available in the current JVM.
+	 * 
+	 * @return true if the vectorized primitives can be used
+	 */
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+	
+	/**
+	 * Gets the number of double lanes of the SIMD kernels.
+	 * 
+	 * @return number of lanes, 0 if the kernels are not loaded
+	 */
+	public static int getNumLanes() {
+		if( !ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() )
+			return 0;
+		return LibMatrixMultSIMDKernels.numLanes();
+	}
+	
+	public static double dotProduct( double[] a, double[] b, int ai, int bi, final int len ) {
+		return LibMatrixMultSIMDKernels.dotProduct(a, b, ai, bi, len);
+	}
+	
+	public static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectMultiplyAdd(aval, b, c, bi, ci, len);
+	}
+	
+	public static void vectMultiplyAdd2( final double aval1, final double aval2, double[] b, double[] c, int bi1, int bi2, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectMultiplyAdd2(aval1, aval2, b, c, bi1, bi2, ci, len);
+	}
+	
+	public static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4,
+		double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectMultiplyAdd4(aval1, aval2, aval3, aval4, b, c, bi1, bi2, bi3, bi4, ci, len);
+	}
+	
+	public static void vectMultiplyWrite( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectMultiplyWrite(aval, b, c, bi, ci, len);
+	}
+	
+	public static void vectMultiplyWrite( double[] a, double[] b, double[] c, int ai, int bi, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectMultiplyWrite(a, b, c, ai, bi, ci, len);
+	}
+	
+	public static void vectAdd( double[] a, double[] c, int ai, int ci, final int len ) {
+		LibMatrixMultSIMDKernels.vectAdd(a, c, ai, ci, len);
+	}
+	
+	private static boolean checkSupported() {
+		//check module availability first to avoid linkage errors on
+		//loading the kernels class without the incubator module
+		if( !ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent() )
+			return false;
+		try {
+			return LibMatrixMultSIMDKernels.numLanes() >= MIN_LANES;
+		}
+		catch(Throwable ex) {
+			return false;
+		}
+	}
+}
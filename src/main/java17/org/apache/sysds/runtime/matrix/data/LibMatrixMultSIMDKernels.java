@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.runtime.matrix.data;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API (jdk.incubator.vector) implementations of the dense vector
+ * primitives of {@link LibMatrixMult}. All kernels process full vectors of the
+ * preferred species and handle the remaining cells with scalar loops, which
+ * keeps them correct for arbitrary offsets and lengths.
+ * <p>
+ * All kernels use separate mul and add instead of fused multiply-add, and
+ * evaluate each output cell in the same order as the scalar loops of
+ * LibMatrixMult. Hence, the element-wise kernels produce bit-identical results
+ * to the scalar path. The dot product only differs in the order of summation
+ * (per-lane partial sums), i.e., within the usual floating point reassociation.
+ * <p>
+ * This class must only be accessed via {@link LibMatrixMultSIMD}, which guards
+ * against missing incubator modules.
+ */
+final class LibMatrixMultSIMDKernels
+{
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	private static final int VLEN = SPECIES.length();
+	
+	private LibMatrixMultSIMDKernels() {
+		//prevent instantiation via private constructor
+	}
+	
+	static int numLanes() {
+		return VLEN;
+	}
+	
+	static double dotProduct( double[] a, double[] b, int ai, int bi, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		final int ub2 = len - len % (2*VLEN);
+		DoubleVector acc1 = DoubleVector.zero(SPECIES);
+		DoubleVector acc2 = DoubleVector.zero(SPECIES);
+		int j = 0;
+		//two independent accumulators to hide the add latency
+		for( ; j < ub2; j += 2*VLEN ) {
+			acc1 = acc1.add(DoubleVector.fromArray(SPECIES, a, ai+j)
+				.mul(DoubleVector.fromArray(SPECIES, b, bi+j)));
+			acc2 = acc2.add(DoubleVector.fromArray(SPECIES, a, ai+j+VLEN)
+				.mul(DoubleVector.fromArray(SPECIES, b, bi+j+VLEN)));
+		}
+		for( ; j < ub; j += VLEN )
+			acc1 = acc1.add(DoubleVector.fromArray(SPECIES, a, ai+j)
+				.mul(DoubleVector.fromArray(SPECIES, b, bi+j)));
+		double val = acc1.add(acc2).reduceLanes(VectorOperators.ADD);
+		//scalar rest, not aligned to vector length
+		for( ; j < len; j++ )
+			val += a[ai+j] * b[bi+j];
+		return val;
+	}
+	
+	static void vectMultiplyAdd( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		final DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+		int j = 0;
+		for( ; j < ub; j += VLEN )
+			DoubleVector.fromArray(SPECIES, c, ci+j)
+				.add(DoubleVector.fromArray(SPECIES, b, bi+j).mul(va))
+				.intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] += aval * b[bi+j];
+	}
+	
+	static void vectMultiplyAdd2( final double aval1, final double aval2, double[] b, double[] c, int bi1, int bi2, int ci, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		final DoubleVector va1 = DoubleVector.broadcast(SPECIES, aval1);
+		final DoubleVector va2 = DoubleVector.broadcast(SPECIES, aval2);
+		int j = 0;
+		for( ; j < ub; j += VLEN ) {
+			//c += (a1*b1 + a2*b2), as in the scalar loop
+			DoubleVector vp = DoubleVector.fromArray(SPECIES, b, bi1+j).mul(va1)
+				.add(DoubleVector.fromArray(SPECIES, b, bi2+j).mul(va2));
+			DoubleVector.fromArray(SPECIES, c, ci+j).add(vp).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] += aval1 * b[bi1+j] + aval2 * b[bi2+j];
+	}
+	
+	static void vectMultiplyAdd4( final double aval1, final double aval2, final double aval3, final double aval4,
+		double[] b, double[] c, int bi1, int bi2, int bi3, int bi4, int ci, final int len )
+	{
+		final int ub = SPECIES.loopBound(len);
+		final DoubleVector va1 = DoubleVector.broadcast(SPECIES, aval1);
+		final DoubleVector va2 = DoubleVector.broadcast(SPECIES, aval2);
+		final DoubleVector va3 = DoubleVector.broadcast(SPECIES, aval3);
+		final DoubleVector va4 = DoubleVector.broadcast(SPECIES, aval4);
+		int j = 0;
+		for( ; j < ub; j += VLEN ) {
+			//c += (((a1*b1 + a2*b2) + a3*b3) + a4*b4), as in the scalar loop
+			DoubleVector vp = DoubleVector.fromArray(SPECIES, b, bi1+j).mul(va1)
+				.add(DoubleVector.fromArray(SPECIES, b, bi2+j).mul(va2))
+				.add(DoubleVector.fromArray(SPECIES, b, bi3+j).mul(va3))
+				.add(DoubleVector.fromArray(SPECIES, b, bi4+j).mul(va4));
+			DoubleVector.fromArray(SPECIES, c, ci+j).add(vp).intoArray(c, ci+j);
+		}
+		for( ; j < len; j++ )
+			c[ci+j] += aval1 * b[bi1+j] + aval2 * b[bi2+j] + aval3 * b[bi3+j] + aval4 * b[bi4+j];
+	}
+	
+	static void vectMultiplyWrite( final double aval, double[] b, double[] c, int bi, int ci, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		final DoubleVector va = DoubleVector.broadcast(SPECIES, aval);
+		int j = 0;
+		for( ; j < ub; j += VLEN )
+			DoubleVector.fromArray(SPECIES, b, bi+j).mul(va).intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = aval * b[bi+j];
+	}
+	
+	static void vectMultiplyWrite( double[] a, double[] b, double[] c, int ai, int bi, int ci, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < ub; j += VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j)
+				.mul(DoubleVector.fromArray(SPECIES, b, bi+j))
+				.intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] = a[ai+j] * b[bi+j];
+	}
+	
+	static void vectAdd( double[] a, double[] c, int ai, int ci, final int len ) {
+		final int ub = SPECIES.loopBound(len);
+		int j = 0;
+		for( ; j < ub; j += VLEN )
+			DoubleVector.fromArray(SPECIES, a, ai+j)
+				.add(DoubleVector.fromArray(SPECIES, c, ci+j))
+				.intoArray(c, ci+j);
+		for( ; j < len; j++ )
+			c[ci+j] += a[ai+j];
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress.estim;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.lops.RightIndex;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.estim.AComEst;
+import org.apache.sysds.runtime.compress.estim.ComEstFactory;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfo;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoCache;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.lineage.Lineage;
+import org.apache.sysds.runtime.lineage.LineageItem;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompressedSizeInfoCacheTest {
+
+	private final MatrixBlock mb;
+	private final LineageItem li;
+
+	public CompressedSizeInfoCacheTest() {
+		MatrixBlock tmp = TestUtils.round(TestUtils.generateTestMatrixBlock(3000, 6, 1, 5, 1.0, 7));
+		tmp = tmp.append(TestUtils.round(TestUtils.generateTestMatrixBlock(3000, 6, 1, 3, 0.3, 8)), null, true);
+		tmp.recomputeNonZeros();
+		mb = tmp;
+		li = new LineageItem("X", "createvar");
+	}
+
+	@Before
+	public void setup() {
+		CompressedSizeInfoCache.clear();
+	}
+
+	@After
+	public void teardown() {
+		CompressedSizeInfoCache.clear();
+	}
+
+	@Test
+	public void reuseSameInput() {
+		MatrixBlock a = CompressedMatrixBlockFactory.compress(mb, 1, null, li).getLeft();
+		assertEquals(1, CompressedSizeInfoCache.size());
+		assertNotNull(CompressedSizeInfoCache.get(li, estimator(mb), 1));
+		assertNull(CompressedSizeInfoCache.get(li, estimator(mb.slice(1, mb.getNumRows() - 1, 0, mb.getNumColumns() - 1)), 1));
+
+		MatrixBlock b = CompressedMatrixBlockFactory.compress(mb, 1, null, li).getLeft();
+		assertEquals(1, CompressedSizeInfoCache.size());
+		assertTrue(a instanceof CompressedMatrixBlock);
+		assertTrue(b instanceof CompressedMatrixBlock);
+		assertEquals(((CompressedMatrixBlock) a).getColGroups().size(),
+			((CompressedMatrixBlock) b).getColGroups().size());
+		TestUtils.compareMatricesBitAvgDistance(mb, b, 0, 0, "Not equal after reused plan");
+	}
+
+	@Test
+	public void reuseColumnSlice() {
+		compareSlice(0, mb.getNumRows() - 1, 3, 9);
+	}
+
+	@Test
+	public void reuseRowSlice() {
+		compareSlice(100, 1999, 0, mb.getNumColumns() - 1);
+	}
+
+	@Test
+	public void reuseRowAndColumnSlice() {
+		compareSlice(10, 2500, 5, 5);
+	}
+
+	@Test
+	public void noReuseOfEmptyAndConstGroups() {
+		// cached plan with empty and constant columns
+		MatrixBlock x = new MatrixBlock(mb.getNumRows(), 4, false);
+		x.allocateDenseBlock();
+		for(int i = 0; i < x.getNumRows(); i++) {
+			x.set(i, 0, (i % 3) + 1);
+			x.set(i, 2, 7);
+		}
+		x.recomputeNonZeros();
+		CompressedMatrixBlockFactory.compress(x, 1, null, li);
+		assertEquals(1, CompressedSizeInfoCache.size());
+
+		// same lineage, but values in the formerly empty and constant columns
+		MatrixBlock y = TestUtils.round(TestUtils.generateTestMatrixBlock(mb.getNumRows(), 4, 1, 5, 1.0, 11));
+		CompressedSizeInfo plan = CompressedSizeInfoCache.get(li, estimator(y), 1);
+		assertNotNull(plan);
+		for(int i = 0; i < plan.getNumberColGroups(); i++) {
+			assertFalse(plan.getGroupInfo(i).isEmpty());
+			assertFalse(plan.getGroupInfo(i).isConst());
+		}
+		MatrixBlock c = CompressedMatrixBlockFactory.compress(y, 1, null, li).getLeft();
+		TestUtils.compareMatricesBitAvgDistance(y, c, 0, 0, "Not equal after plan with stale empty groups");
+	}
+
+	@Test
+	public void notSliceOfCachedInput() {
+		CompressedMatrixBlockFactory.compress(mb, 1, null, li);
+		MatrixBlock s = mb.slice(0, 99, 0, 1);
+		AComEst est = ComEstFactory.createEstimator(s, new CompressionSettingsBuilder().create(), 1);
+		// non literal bounds
+		LineageItem v = new LineageItem("i", "createvar");
+		assertNull(CompressedSizeInfoCache.getSliced(slice(li, v, lit(100), lit(1), lit(2)), est, 1));
+		// other input
+		assertNull(CompressedSizeInfoCache.getSliced(slice(new LineageItem("Y", "createvar"), lit(1), lit(100), lit(1),
+			lit(2)), est, 1));
+		// mismatching dimensions
+		assertNull(CompressedSizeInfoCache.getSliced(slice(li, lit(1), lit(100), lit(1), lit(3)), est, 1));
+		assertNotNull(CompressedSizeInfoCache.getSliced(slice(li, lit(1), lit(100), lit(1), lit(2)), est, 1));
+	}
+
+	@Test
+	public void bounded() {
+		AComEst est = estimator(mb);
+		CompressedSizeInfo plan = CompressedSizeInfoCache.get(cache(), est, 1);
+		for(int i = 0; i <= CompressedSizeInfoCache.CACHE_SIZE; i++)
+			CompressedSizeInfoCache.put(new LineageItem("X" + i, "createvar"), mb.getNumRows(), mb.getNumColumns(),
+				null, plan);
+		assertEquals(CompressedSizeInfoCache.CACHE_SIZE, CompressedSizeInfoCache.size());
+		assertNull(CompressedSizeInfoCache.get(li, est, 1));
+		assertNull(CompressedSizeInfoCache.get(new LineageItem("X0", "createvar"), est, 1));
+		assertNotNull(CompressedSizeInfoCache.get(new LineageItem("X1", "createvar"), est, 1));
+	}
+
+	@Test
+	public void clearedOnLineageReset() {
+		cache();
+		assertEquals(1, CompressedSizeInfoCache.size());
+		Lineage.resetInternalState();
+		assertEquals(0, CompressedSizeInfoCache.size());
+	}
+
+	private void compareSlice(int rl, int ru, int cl, int cu) {
+		final LineageItem x = cache();
+		MatrixBlock s = mb.slice(rl, ru, cl, cu);
+		LineageItem sli = slice(x, lit(rl + 1), lit(ru + 1), lit(cl + 1), lit(cu + 1));
+
+		AComEst est = ComEstFactory.createEstimator(s, new CompressionSettingsBuilder().create(), 1);
+		CompressedSizeInfo plan = CompressedSizeInfoCache.getSliced(sli, est, 2);
+		assertNotNull(plan);
+		int nCol = 0;
+		for(int i = 0; i < plan.getNumberColGroups(); i++)
+			nCol += plan.getGroupInfo(i).getColumns().size();
+		assertEquals(s.getNumColumns(), nCol);
+
+		MatrixBlock c = CompressedMatrixBlockFactory.compress(s, 1, null, sli).getLeft();
+		TestUtils.compareMatricesBitAvgDistance(s, c, 0, 0, "Not equal after sliced plan");
+	}
+
+	private static AComEst estimator(MatrixBlock in) {
+		return ComEstFactory.createEstimator(in, new CompressionSettingsBuilder().create(), 1);
+	}
+
+	private LineageItem cache() {
+		CompressedMatrixBlockFactory.compress(mb, 1, null, li);
+		return li;
+	}
+
+	private static LineageItem slice(LineageItem in, LineageItem rl, LineageItem ru, LineageItem cl, LineageItem cu) {
+		return new LineageItem(RightIndex.OPCODE, new LineageItem[] {in, rl, ru, cl, cu});
+	}
+
+	private static LineageItem lit(int v) {
+		return new CPOperand(String.valueOf(v), ValueType.INT64, DataType.SCALAR, true).getLiteralLineageItem();
+	}
+}
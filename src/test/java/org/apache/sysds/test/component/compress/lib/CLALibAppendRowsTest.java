@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress.lib;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.IncrementalCompressor;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupEmpty;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
+import org.apache.sysds.runtime.compress.colgroup.indexes.IColIndex;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.OffsetFactory;
+import org.apache.sysds.runtime.compress.lib.CLALibAppend;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.junit.Test;
+
+public class CLALibAppendRowsTest {
+
+	@Test
+	public void appendDDCNewValues() {
+		IColIndex cols = ColIndexFactory.createI(0, 1);
+		AColGroup a = ColGroupDDC.create(cols, Dictionary.create(new double[] {1, 2, 3, 4}), map(100, 2, 1), null);
+		AColGroup b = ColGroupDDC.create(cols, Dictionary.create(new double[] {3, 4, 5, 6, 7, 8}), map(50, 3, 2),
+			null);
+		AColGroup r = CLALibAppend.appendRows(a, b, 100, 50);
+		assertTrue(r instanceof ColGroupDDC);
+		// the shared tuple is not duplicated in the dictionary
+		assertEquals(4, r.getNumValues());
+		compare(r, 150, 2, a, 100, b, 50);
+	}
+
+	@Test
+	public void appendDDCConst() {
+		IColIndex cols = ColIndexFactory.createI(0);
+		AColGroup a = ColGroupDDC.create(cols, Dictionary.create(new double[] {1, 2}), map(100, 2, 3), null);
+		AColGroup b = ColGroupConst.create(cols, new double[] {7});
+		AColGroup r = CLALibAppend.appendRows(a, b, 100, 20);
+		assertTrue(r instanceof ColGroupDDC);
+		compare(r, 120, 1, a, 100, b, 20);
+	}
+
+	@Test
+	public void appendEmptyDDC() {
+		IColIndex cols = ColIndexFactory.createI(0);
+		AColGroup a = new ColGroupEmpty(cols);
+		AColGroup b = ColGroupDDC.create(cols, Dictionary.create(new double[] {1, 2}), map(30, 2, 4), null);
+		AColGroup r = CLALibAppend.appendRows(a, b, 40, 30);
+		compare(r, 70, 1, a, 40, b, 30);
+	}
+
+	@Test
+	public void appendSDC() {
+		IColIndex cols = ColIndexFactory.createI(0);
+		AColGroup a = ColGroupSDC.create(cols, 100, Dictionary.create(new double[] {1, 5}), new double[] {2},
+			OffsetFactory.createOffset(new int[] {3, 10, 55, 99}), map(4, 2, 5), null);
+		AColGroup b = ColGroupSDC.create(cols, 80, Dictionary.create(new double[] {5, 9}), new double[] {2},
+			OffsetFactory.createOffset(new int[] {0, 4, 79}), map(3, 2, 6), null);
+		AColGroup r = CLALibAppend.appendRows(a, b, 100, 80);
+		assertTrue(r instanceof ColGroupSDC);
+		compare(r, 180, 1, a, 100, b, 80);
+	}
+
+	@Test
+	public void appendSDCConstDefault() {
+		IColIndex cols = ColIndexFactory.createI(0);
+		AColGroup a = ColGroupSDC.create(cols, 100, Dictionary.create(new double[] {1, 5}), new double[] {2},
+			OffsetFactory.createOffset(new int[] {3, 10, 55, 99}), map(4, 2, 5), null);
+		AColGroup b = ColGroupConst.create(cols, new double[] {2});
+		AColGroup r = CLALibAppend.appendRows(a, b, 100, 60);
+		assertTrue(r instanceof ColGroupSDC);
+		compare(r, 160, 1, a, 100, b, 60);
+	}
+
+	@Test
+	public void appendCompressedRBind() {
+		CompressedMatrixBlock top = ddcMatrix(200, 7);
+		CompressedMatrixBlock bottom = ddcMatrix(120, 8);
+		MatrixBlock expected = top.decompress().append(bottom.decompress(), null, false);
+		MatrixBlock ret = top.append(bottom, null, false);
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		compareValues(expected, ret);
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+	}
+
+	@Test
+	public void incrementalWithinDistribution() {
+		CompressedMatrixBlock init = ddcMatrix(500, 9);
+		IncrementalCompressor ic = new IncrementalCompressor(init, 1);
+		MatrixBlock expected = init.decompress();
+		Random r = new Random(10);
+		for(int i = 0; i < 5; i++) {
+			MatrixBlock batch = lowCardinality(r, 100, 3, 4);
+			expected = expected.append(batch, null, false);
+			ic.append(batch);
+		}
+		assertTrue(ic.get() instanceof CompressedMatrixBlock);
+		assertEquals(0, ic.getNumReplans());
+		// appended rows are encoded into the existing groups
+		List<AColGroup> groups = ((CompressedMatrixBlock) ic.get()).getColGroups();
+		assertEquals(init.getColGroups().size(), groups.size());
+		for(AColGroup g : groups)
+			assertTrue(g instanceof ColGroupDDC);
+		compareValues(expected, ic.get());
+	}
+
+	@Test
+	public void incrementalDegradedRatio() {
+		Random r = new Random(11);
+		MatrixBlock init = lowCardinality(r, 1000, 3, 2);
+		IncrementalCompressor ic = new IncrementalCompressor(init, 1);
+		MatrixBlock expected = init;
+		for(int i = 0; i < 3; i++) {
+			// distinct values in every row
+			MatrixBlock batch = new MatrixBlock(1000, 3, false);
+			batch.allocateDenseBlock();
+			for(int j = 0; j < 1000; j++)
+				for(int c = 0; c < 3; c++)
+					batch.set(j, c, r.nextDouble());
+			batch.recomputeNonZeros();
+			expected = expected.append(batch, null, false);
+			ic.append(batch);
+		}
+		assertEquals(expected.getNumRows(), ic.get().getNumRows());
+		assertTrue(ic.getNumReplans() > 0);
+		compareValues(expected, ic.get());
+	}
+
+	private static CompressedMatrixBlock ddcMatrix(int nRow, int seed) {
+		List<AColGroup> gs = new ArrayList<>();
+		gs.add(ColGroupDDC.create(ColIndexFactory.createI(0, 1), Dictionary.create(new double[] {0, 1, 2, 3}),
+			map(nRow, 2, seed), null));
+		gs.add(ColGroupDDC.create(ColIndexFactory.createI(2), Dictionary.create(new double[] {0, 1, 2, 3}),
+			map(nRow, 4, seed + 1), null));
+		CompressedMatrixBlock cmb = new CompressedMatrixBlock(nRow, 3, -1, false, gs);
+		cmb.recomputeNonZeros();
+		return cmb;
+	}
+
+	private static MatrixBlock lowCardinality(Random r, int nRow, int nCol, int nVal) {
+		MatrixBlock mb = new MatrixBlock(nRow, nCol, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < nRow; i++)
+			for(int j = 0; j < nCol; j++)
+				mb.set(i, j, r.nextInt(nVal));
+		mb.recomputeNonZeros();
+		return mb;
+	}
+
+	private static AMapToData map(int len, int nVal, int seed) {
+		Random r = new Random(seed);
+		AMapToData m = MapToFactory.create(len, nVal);
+		for(int i = 0; i < nVal && i < len; i++)
+			m.set(i, i);
+		for(int i = nVal; i < len; i++)
+			m.set(i, r.nextInt(nVal));
+		return m;
+	}
+
+	private static void compare(AColGroup r, int nRow, int nCol, AColGroup a, int nA, AColGroup b, int nB) {
+		MatrixBlock expected = new MatrixBlock(nRow, nCol, false);
+		expected.allocateDenseBlock();
+		a.decompressToDenseBlock(expected.getDenseBlock(), 0, nA);
+		b.decompressToDenseBlock(expected.getDenseBlock(), 0, nB, nA, 0);
+		MatrixBlock act = new MatrixBlock(nRow, nCol, false);
+		act.allocateDenseBlock();
+		r.decompressToDenseBlock(act.getDenseBlock(), 0, nRow);
+		for(int i = 0; i < nRow; i++)
+			for(int j = 0; j < nCol; j++)
+				assertEquals("row " + i, expected.get(i, j), act.get(i, j), 0);
+	}
+
+	private static void compareValues(MatrixBlock expected, MatrixBlock ret) {
+		MatrixBlock act = ret instanceof CompressedMatrixBlock ? ((CompressedMatrixBlock) ret).decompress() : ret;
+		assertEquals(expected.getNumRows(), act.getNumRows());
+		assertEquals(expected.getNumColumns(), act.getNumColumns());
+		for(int i = 0; i < expected.getNumRows(); i++)
+			for(int j = 0; j < expected.getNumColumns(); j++)
+				assertEquals(expected.get(i, j), act.get(i, j), 0);
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress.lib;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.OffsetFactory;
+import org.apache.sysds.runtime.functionobjects.Divide;
+import org.apache.sysds.runtime.functionobjects.GreaterThan;
+import org.apache.sysds.runtime.functionobjects.Minus;
+import org.apache.sysds.runtime.functionobjects.Multiply;
+import org.apache.sysds.runtime.functionobjects.Plus;
+import org.apache.sysds.runtime.functionobjects.ValueFunction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class CLALibBinaryCellOpCompressedTest {
+	private static final int nRow = 1000;
+
+	private final AMapToData m01 = map(nRow, 4, 1);
+	private final AMapToData m2 = map(nRow, 3, 2);
+
+	@Test
+	public void sameGroups() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		compare(a, a, Multiply.getMultiplyFnObject(), true);
+		compare(a, a, Minus.getMinusFnObject(), true);
+	}
+
+	@Test
+	public void sameMapping() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		CompressedMatrixBlock b = cmb(ddc(0, 1, m01, -1, 0, 2, 2, 3, 0.5, 1, 1), ddc(2, m2, 3, 3, 1));
+		compare(a, b, Plus.getPlusFnObject(), true);
+		compare(a, b, Divide.getDivideFnObject(), true);
+		compare(b, a, GreaterThan.getGreaterThanFnObject(), true);
+	}
+
+	@Test
+	public void differentMapping() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		CompressedMatrixBlock b = cmb(ddc(0, 1, map(nRow, 3, 3), 1, 0, 2, 2, 3, 0), ddc(2, map(nRow, 5, 4), 1, 2, 3,
+			4, 5));
+		compare(a, b, Multiply.getMultiplyFnObject(), true);
+		compare(b, a, Minus.getMinusFnObject(), true);
+	}
+
+	@Test
+	public void differentColumnGroups() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		CompressedMatrixBlock b = cmb(ddc(0, map(nRow, 3, 5), 1, 2, 3), ddc(1, 2, map(nRow, 2, 6), 4, 5, 6, 7));
+		compare(a, b, Plus.getPlusFnObject(), true);
+		compare(b, a, Multiply.getMultiplyFnObject(), true);
+	}
+
+	@Test
+	public void constRow() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		CompressedMatrixBlock b = cmb(ColGroupConst.create(ColIndexFactory.createI(0, 1), new double[] {2, 3}),
+			ColGroupConst.create(ColIndexFactory.createI(2), new double[] {-1}));
+		compare(a, b, Minus.getMinusFnObject(), true);
+		compare(b, a, Minus.getMinusFnObject(), true);
+	}
+
+	@Test
+	public void sdc() {
+		int[] off = new int[] {1, 5, 10, 100, 500, 999};
+		AColGroup sdc = ColGroupSDC.create(ColIndexFactory.createI(2), nRow, Dictionary.create(new double[] {3, 7}),
+			new double[] {1}, OffsetFactory.createOffset(off), map(off.length, 2, 7), null);
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), sdc);
+		CompressedMatrixBlock b = cmb(ddc(0, 1, m01, 1, 1, 1, 1, 2, 2, 2, 2), ddc(2, m2, 0, 1, 2));
+		compare(a, b, Plus.getPlusFnObject(), false);
+		compare(b, a, Multiply.getMultiplyFnObject(), false);
+		compare(a, a, Multiply.getMultiplyFnObject(), true);
+	}
+
+	@Test
+	public void unsupportedFallback() {
+		CompressedMatrixBlock a = cmb(ddc(0, 1, m01, 1, 2, 3, 4, 5, 6, 7, 8), ddc(2, m2, 0, 1, 2));
+		MatrixBlock uc = TestUtils.generateTestMatrixBlock(nRow, 3, 0, 10, 1.0, 3);
+		List<AColGroup> gs = new ArrayList<>();
+		gs.add(ColGroupUncompressed.create(uc));
+		CompressedMatrixBlock b = new CompressedMatrixBlock(nRow, 3, -1, false, gs);
+		b.recomputeNonZeros();
+		compare(a, b, Plus.getPlusFnObject(), false);
+	}
+
+	private static void compare(CompressedMatrixBlock a, CompressedMatrixBlock b, ValueFunction fn,
+		boolean compressed) {
+		BinaryOperator op = new BinaryOperator(fn);
+		MatrixBlock expected = a.decompress().binaryOperations(op, b.decompress(), null);
+		MatrixBlock ret = a.binaryOperations(op, b, null);
+		if(compressed)
+			assertTrue(ret instanceof CompressedMatrixBlock);
+		MatrixBlock act = CompressedMatrixBlock.getUncompressed(ret);
+		assertEquals(expected.getNumRows(), act.getNumRows());
+		assertEquals(expected.getNumColumns(), act.getNumColumns());
+		for(int i = 0; i < nRow; i++)
+			for(int j = 0; j < expected.getNumColumns(); j++)
+				assertEquals(expected.get(i, j), act.get(i, j), 1e-10);
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+
+		MatrixBlock par = a.binaryOperations(new BinaryOperator(fn, 4), b, null);
+		TestUtils.compareMatrices(expected, CompressedMatrixBlock.getUncompressed(par), 1e-10, "parallel");
+	}
+
+	private static CompressedMatrixBlock cmb(AColGroup... groups) {
+		List<AColGroup> gs = new ArrayList<>();
+		for(AColGroup g : groups)
+			gs.add(g);
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(nRow, 3, -1, false, gs);
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private static AColGroup ddc(int c, AMapToData m, double... values) {
+		return ColGroupDDC.create(ColIndexFactory.createI(c), Dictionary.create(values), m, null);
+	}
+
+	private static AColGroup ddc(int c1, int c2, AMapToData m, double... values) {
+		return ColGroupDDC.create(ColIndexFactory.createI(c1, c2), Dictionary.create(values), m, null);
+	}
+
+	private static AMapToData map(int len, int nVal, int seed) {
+		Random r = new Random(seed);
+		AMapToData m = MapToFactory.create(len, nVal);
+		for(int i = 0; i < nVal; i++)
+			m.set(i, i);
+		for(int i = nVal; i < len; i++)
+			m.set(i, r.nextInt(nVal));
+		return m;
+	}
+}
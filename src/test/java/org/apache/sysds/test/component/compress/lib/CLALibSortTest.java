@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress.lib;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.AColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupSDCZeros;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.dictionary.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.indexes.ColIndexFactory;
+import org.apache.sysds.runtime.compress.colgroup.mapping.AMapToData;
+import org.apache.sysds.runtime.compress.colgroup.mapping.MapToFactory;
+import org.apache.sysds.runtime.compress.colgroup.offset.OffsetFactory;
+import org.apache.sysds.runtime.compress.lib.CLALibSort;
+import org.apache.sysds.runtime.functionobjects.SortIndex;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class CLALibSortTest {
+	private static final int nRow = 5000;
+
+	private final CompressedMatrixBlock cmb;
+	private final MatrixBlock mb;
+
+	public CLALibSortTest() {
+		Random r = new Random(13);
+		List<AColGroup> gs = new ArrayList<>();
+		// DDC with duplicate values in the first column across dictionary entries
+		gs.add(ColGroupDDC.create(ColIndexFactory.createI(0, 1),
+			Dictionary.create(new double[] {3, 1, -2, 1, 3, 0, 0.5, 7, 3, -1}), randomMap(r, nRow, 5), null));
+		// SDC with non-zero default
+		int[] off = randomOffsets(r, 0.3);
+		gs.add(ColGroupSDC.create(ColIndexFactory.createI(2), nRow, Dictionary.create(new double[] {1, 5, -4}),
+			new double[] {2}, OffsetFactory.createOffset(off), randomMap(r, off.length, 3), null));
+		// SDC with zero default and NaN values
+		off = randomOffsets(r, 0.1);
+		gs.add(ColGroupSDCZeros.create(ColIndexFactory.createI(3), nRow,
+			Dictionary.create(new double[] {Double.NaN, -1, 4}), OffsetFactory.createOffset(off),
+			randomMap(r, off.length, 3), null));
+		gs.add(ColGroupConst.create(ColIndexFactory.createI(4), new double[] {6}));
+		cmb = new CompressedMatrixBlock(nRow, 5, -1, false, gs);
+		cmb.recomputeNonZeros();
+		mb = cmb.decompress();
+	}
+
+	@Test
+	public void sortIndexDDC() {
+		compareIndex(new int[] {1}, false);
+		compareIndex(new int[] {2}, true);
+	}
+
+	@Test
+	public void sortIndexSDC() {
+		compareIndex(new int[] {3}, false);
+		compareIndex(new int[] {3}, true);
+	}
+
+	@Test
+	public void sortIndexSDCZerosNaN() {
+		compareIndex(new int[] {4}, false);
+		compareIndex(new int[] {4}, true);
+	}
+
+	@Test
+	public void sortIndexMultipleColumns() {
+		compareIndex(new int[] {4, 1, 3}, false);
+		compareIndex(new int[] {5, 3, 1, 2}, true);
+		compareIndex(new int[] {1, 2}, false);
+	}
+
+	@Test
+	public void sortIndexConst() {
+		compareIndex(new int[] {5}, false);
+	}
+
+	@Test
+	public void sortData() {
+		compareData(new int[] {1}, false);
+		compareData(new int[] {3, 4}, true);
+		compareData(new int[] {4, 2}, false);
+	}
+
+	@Test
+	public void sortDataParallel() {
+		MatrixBlock ret = CLALibSort.sort(cmb, new int[] {2, 3}, false, false, 4);
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		compareValues(sortUncompressed(new int[] {2, 3}, false, false), ret);
+	}
+
+	@Test
+	public void sortDataViaReorg() {
+		ReorgOperator op = new ReorgOperator(new SortIndex(new int[] {3, 1}, true, false), 2);
+		MatrixBlock ret = cmb.reorgOperations(op, new MatrixBlock(), 0, 0, 0);
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		compareValues(sortUncompressed(new int[] {3, 1}, true, false), ret);
+	}
+
+	@Test
+	public void unsupportedGroups() {
+		List<AColGroup> gs = new ArrayList<>();
+		gs.add(ColGroupUncompressed.create(TestUtils.generateTestMatrixBlock(100, 2, 0, 10, 1.0, 7)));
+		CompressedMatrixBlock c = new CompressedMatrixBlock(100, 2, -1, false, gs);
+		assertNull(CLALibSort.sort(c, new int[] {1}, false, false, 1));
+		assertNull(CLALibSort.sort(c, new int[] {1}, false, true, 1));
+		assertNull(CLALibSort.sort(cmb, new int[] {6}, false, true, 1));
+	}
+
+	private void compareIndex(int[] by, boolean desc) {
+		MatrixBlock expected = sortUncompressed(by, desc, true);
+		MatrixBlock ret = CLALibSort.sort(cmb, by, desc, true, 1);
+		TestUtils.compareMatrices(expected, ret, 0, "sort index mismatch");
+	}
+
+	private void compareData(int[] by, boolean desc) {
+		MatrixBlock expected = sortUncompressed(by, desc, false);
+		MatrixBlock ret = CLALibSort.sort(cmb, by, desc, false, 1);
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		compareValues(expected, ret);
+	}
+
+	private MatrixBlock sortUncompressed(int[] by, boolean desc, boolean ixret) {
+		MatrixBlock out = new MatrixBlock(nRow, ixret ? 1 : mb.getNumColumns(), false);
+		return LibMatrixReorg.sort(mb, out, by, desc, ixret);
+	}
+
+	private static void compareValues(MatrixBlock expected, MatrixBlock ret) {
+		MatrixBlock act = ((CompressedMatrixBlock) ret).decompress();
+		assertEquals(expected.getNumRows(), act.getNumRows());
+		for(int i = 0; i < expected.getNumRows(); i++)
+			for(int j = 0; j < expected.getNumColumns(); j++)
+				assertEquals(expected.get(i, j), act.get(i, j), 0);
+	}
+
+	private static AMapToData randomMap(Random r, int len, int nVal) {
+		AMapToData m = MapToFactory.create(len, nVal);
+		for(int i = 0; i < nVal; i++)
+			m.set(i, i); // all values used
+		for(int i = nVal; i < len; i++)
+			m.set(i, r.nextInt(nVal));
+		return m;
+	}
+
+	private static int[] randomOffsets(Random r, double sparsity) {
+		int[] tmp = new int[nRow];
+		int n = 0;
+		for(int i = 0; i < nRow; i++)
+			if(r.nextDouble() < sparsity)
+				tmp[n++] = i;
+		int[] ret = new int[n];
+		System.arraycopy(tmp, 0, ret, 0, n);
+		return ret;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.federated.ByteBufDataOutput;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedCodec;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.instructions.cp.BooleanObject;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.apache.sysds.runtime.instructions.cp.StringObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ByteBufferDataInput;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class FederatedCodecTest {
+
+	@Test
+	public void testRequestsScalars() throws Exception {
+		FederatedRequest fr = new FederatedRequest(RequestType.EXEC_INST, 7, "inst", new IntObject(3),
+			new DoubleObject(2.5), new BooleanObject(true), new StringObject("abc"), 42L, null);
+		fr.setTID(11);
+		FederatedRequest[] ret = (FederatedRequest[]) roundTrip(new FederatedRequest[] {fr}, false);
+		assertEquals(1, ret.length);
+		assertEquals(RequestType.EXEC_INST, ret[0].getType());
+		assertEquals(7, ret[0].getID());
+		assertEquals(11, ret[0].getTID());
+		assertEquals(fr.getPID(), ret[0].getPID());
+		assertEquals(fr.getNumParams(), ret[0].getNumParams());
+		assertEquals("inst", ret[0].getParam(0));
+		assertEquals(3, ((IntObject) ret[0].getParam(1)).getLongValue());
+		assertEquals(2.5, ((DoubleObject) ret[0].getParam(2)).getDoubleValue(), 0);
+		assertTrue(((BooleanObject) ret[0].getParam(3)).getBooleanValue());
+		assertEquals("abc", ((StringObject) ret[0].getParam(4)).getStringValue());
+		assertEquals(42L, ret[0].getParam(5));
+		assertNull(ret[0].getParam(6));
+		assertNull(ret[0].getLineageTrace());
+	}
+
+	@Test
+	public void testRequestsDenseMatrix() throws Exception {
+		testRequestMatrix(1.0, false);
+	}
+
+	@Test
+	public void testRequestsDenseMatrixDirect() throws Exception {
+		testRequestMatrix(1.0, true);
+	}
+
+	@Test
+	public void testRequestsSparseMatrix() throws Exception {
+		testRequestMatrix(0.05, false);
+	}
+
+	@Test
+	public void testRequestsSparseMatrixDirect() throws Exception {
+		testRequestMatrix(0.05, true);
+	}
+
+	@Test
+	public void testRequestsEmptyMatrix() throws Exception {
+		testRequestMatrix(0.0, false);
+	}
+
+	@Test
+	public void testResponseFrame() throws Exception {
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(100,
+			new ValueType[] {ValueType.FP64, ValueType.STRING, ValueType.INT64, ValueType.BOOLEAN}, 7);
+		FederatedResponse ret = (FederatedResponse) roundTrip(new FederatedResponse(ResponseType.SUCCESS, fb), false);
+		assertTrue(ret.isSuccessful());
+		TestUtils.compareFrames(fb, (FrameBlock) ret.getData()[0], true);
+	}
+
+	@Test
+	public void testResponseEmpty() throws Exception {
+		FederatedResponse ret = (FederatedResponse) roundTrip(new FederatedResponse(ResponseType.SUCCESS_EMPTY), false);
+		assertTrue(ret.isSuccessful());
+		assertNull(ret.getData());
+	}
+
+	@Test
+	public void testResponseError() throws Exception {
+		FederatedResponse resp = new FederatedResponse(ResponseType.ERROR, new RuntimeException("failed request"));
+		FederatedResponse ret = (FederatedResponse) roundTrip(resp, false);
+		assertFalse(ret.isSuccessful());
+		assertTrue(ret.getErrorMessage().contains("failed request"));
+	}
+
+	@Test
+	public void testMultipleMessagesBuffer() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(50, 30, -1, 1, 0.3, 3);
+		ByteBuf buff = Unpooled.buffer(16);
+		ByteBufDataOutput out = new ByteBufDataOutput(buff);
+		FederatedCodec.writeMessage(new FederatedResponse(ResponseType.SUCCESS, mb), out);
+		FederatedCodec.writeMessage(new FederatedResponse(ResponseType.SUCCESS, new IntObject(5)), out);
+		ByteBufferDataInput in = new ByteBufferDataInput(buff.nioBuffer());
+		FederatedResponse ret1 = (FederatedResponse) FederatedCodec.readMessage(in);
+		FederatedResponse ret2 = (FederatedResponse) FederatedCodec.readMessage(in);
+		TestUtils.compareMatrices(mb, (MatrixBlock) ret1.getData()[0], 0);
+		assertEquals(5, ((IntObject) ret2.getData()[0]).getLongValue());
+		assertEquals(0, in.available());
+		buff.release();
+	}
+
+	private static void testRequestMatrix(double sparsity, boolean direct) throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(200, 70, -3, 3, sparsity, 13);
+		FederatedRequest fr1 = new FederatedRequest(RequestType.PUT_VAR, 1, mb);
+		FederatedRequest fr2 = new FederatedRequest(RequestType.EXEC_INST, 2, "inst");
+		FederatedRequest[] ret = (FederatedRequest[]) roundTrip(new FederatedRequest[] {fr1, fr2}, direct);
+		assertEquals(2, ret.length);
+		MatrixBlock mb2 = (MatrixBlock) ret[0].getParam(0);
+		assertEquals(mb.getNonZeros(), mb2.getNonZeros());
+		assertEquals(mb.isInSparseFormat(), mb2.isInSparseFormat());
+		TestUtils.compareMatrices(mb, mb2, 0);
+		assertEquals(fr1.getChecksum(0), ret[0].getChecksum(0));
+		assertEquals("inst", ret[1].getParam(0));
+	}
+
+	private static Object roundTrip(Object msg, boolean direct) throws Exception {
+		ByteBuf buff = direct ? Unpooled.directBuffer(64) : Unpooled.buffer(64);
+		try {
+			FederatedCodec.writeMessage(msg, new ByteBufDataOutput(buff));
+			ByteBufferDataInput in = new ByteBufferDataInput(buff.nioBuffer());
+			Object ret = FederatedCodec.readMessage(in);
+			assertEquals(0, in.available());
+			return ret;
+		}
+		finally {
+			buff.release();
+		}
+	}
+}
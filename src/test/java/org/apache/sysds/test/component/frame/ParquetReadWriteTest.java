@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.frame;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderParquet;
+import org.apache.sysds.runtime.io.FrameReaderParquetParallel;
+import org.apache.sysds.runtime.io.FrameWriterParquet;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.ReaderParquet;
+import org.apache.sysds.runtime.io.ReaderParquetParallel;
+import org.apache.sysds.runtime.io.WriterParquet;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParquetReadWriteTest {
+	private static final String DIR = "target/testTemp/component/ParquetReadWriteTest/";
+	private static final ValueType[] SCHEMA = new ValueType[] {ValueType.FP64, ValueType.FP32, ValueType.INT64,
+		ValueType.INT32, ValueType.BOOLEAN, ValueType.STRING};
+
+	@After
+	public void cleanup() throws Exception {
+		HDFSTool.deleteFileIfExistOnHDFS(DIR);
+	}
+
+	@Test
+	public void testFrame() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(1000, SCHEMA, 7), false);
+	}
+
+	@Test
+	public void testFrameParallel() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(1000, SCHEMA, 7), true);
+	}
+
+	@Test
+	public void testFrameNulls() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(1000, SCHEMA, 13, 0.2), false);
+	}
+
+	@Test
+	public void testFrameNullsParallel() throws Exception {
+		runFrameTest(TestUtils.generateRandomFrameBlock(1000, SCHEMA, 13, 0.2), true);
+	}
+
+	@Test
+	public void testFrameMultipleFiles() throws Exception {
+		FrameBlock fb1 = TestUtils.generateRandomFrameBlock(700, SCHEMA, 3, 0.1);
+		FrameBlock fb2 = TestUtils.generateRandomFrameBlock(300, SCHEMA, 4, 0.1);
+		fb1.setColumnNames(FrameBlock.createColNames(SCHEMA.length));
+		fb2.setColumnNames(FrameBlock.createColNames(SCHEMA.length));
+		new FrameWriterParquet(null).writeFrameToHDFS(fb1, DIR + "F/part-0.parquet", 700, SCHEMA.length);
+		new FrameWriterParquet(null).writeFrameToHDFS(fb2, DIR + "F/part-1.parquet", 300, SCHEMA.length);
+		FrameBlock expected = fb1.append(fb2, false);
+		for(boolean par : new boolean[] {false, true}) {
+			FrameReader reader = par ? new FrameReaderParquetParallel(null) : new FrameReaderParquet(null);
+			FrameBlock ret = reader.readFrameFromHDFS(DIR + "F", 1000, SCHEMA.length);
+			assertArrayEquals(SCHEMA, ret.getSchema());
+			TestUtils.compareFrames(expected, ret, false);
+		}
+	}
+
+	@Test
+	public void testFrameProjection() throws Exception {
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(500, SCHEMA, 11, 0.1);
+		fb.setColumnNames(FrameBlock.createColNames(SCHEMA.length));
+		new FrameWriterParquet(null).writeFrameToHDFS(fb, DIR + "F", 500, SCHEMA.length);
+		FileFormatPropertiesParquet props = new FileFormatPropertiesParquet(new String[] {"C6", "C1"}, "uncompressed");
+		FrameBlock ret = new FrameReaderParquet(props).readFrameFromHDFS(DIR + "F", 500, 2);
+		assertArrayEquals(new String[] {"C6", "C1"}, ret.getColumnNames());
+		FrameBlock expected = new FrameBlock(new Array<?>[] {fb.getColumn(5), fb.getColumn(0)});
+		TestUtils.compareFrames(expected, ret, false);
+	}
+
+	@Test
+	public void testMatrixDense() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(1234, 17, -1, 1, 0.9, 7), false);
+	}
+
+	@Test
+	public void testMatrixDenseParallel() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(1234, 17, -1, 1, 0.9, 7), true);
+	}
+
+	@Test
+	public void testMatrixSparse() throws Exception {
+		runMatrixTest(TestUtils.generateTestMatrixBlock(1234, 170, -1, 1, 0.05, 9), false);
+	}
+
+	@Test
+	public void testMatrixFromFrame() throws Exception {
+		ValueType[] schema = new ValueType[] {ValueType.FP64, ValueType.INT64, ValueType.BOOLEAN};
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(100, schema, 5);
+		fb.setColumnNames(FrameBlock.createColNames(schema.length));
+		new FrameWriterParquet(null).writeFrameToHDFS(fb, DIR + "F", 100, schema.length);
+		MatrixBlock ret = new ReaderParquet(null).readMatrixFromHDFS(DIR + "F", 100, schema.length, -1, -1);
+		for(int i = 0; i < 100; i++)
+			for(int j = 0; j < schema.length; j++)
+				assertEquals(fb.getColumn(j).getAsDouble(i), ret.get(i, j), 0);
+	}
+
+	private static void runFrameTest(FrameBlock fb, boolean par) throws Exception {
+		fb.setColumnNames(FrameBlock.createColNames(SCHEMA.length));
+		new FrameWriterParquet(new FileFormatPropertiesParquet(null, "snappy"))
+			.writeFrameToHDFS(fb, DIR + "F", fb.getNumRows(), SCHEMA.length);
+		FrameReader reader = par ? new FrameReaderParquetParallel(null) : new FrameReaderParquet(null);
+		FrameBlock ret = reader.readFrameFromHDFS(DIR + "F", fb.getNumRows(), SCHEMA.length);
+		assertArrayEquals(SCHEMA, ret.getSchema());
+		assertArrayEquals(fb.getColumnNames(), ret.getColumnNames());
+		TestUtils.compareFrames(fb, ret, false);
+	}
+
+	private static void runMatrixTest(MatrixBlock mb, boolean par) throws Exception {
+		new WriterParquet(null).writeMatrixToHDFS(mb, DIR + "M", mb.getNumRows(), mb.getNumColumns(), -1,
+			mb.getNonZeros());
+		MatrixReader reader = par ? new ReaderParquetParallel(null) : new ReaderParquet(null);
+		MatrixBlock ret = reader.readMatrixFromHDFS(DIR + "M", mb.getNumRows(), mb.getNumColumns(), -1, -1);
+		TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "parquet read mismatch");
+		assertEquals(mb.getNonZeros(), ret.getNonZeros());
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.frame.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Random;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.frame.data.columns.Array;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory;
+import org.apache.sysds.runtime.frame.data.columns.ArrayFactory.FrameArrayType;
+import org.apache.sysds.runtime.frame.data.columns.DeltaArray;
+import org.apache.sysds.runtime.frame.data.columns.FORArray;
+import org.apache.sysds.runtime.frame.data.columns.IntegerArray;
+import org.apache.sysds.runtime.frame.data.columns.LongArray;
+import org.apache.sysds.runtime.frame.data.compress.ArrayCompressionStatistics;
+import org.apache.sysds.runtime.frame.data.lib.FrameLibCompress;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class FrameCompressBitPackedTest {
+
+	@Test
+	public void testFORLongNarrowRange() {
+		Array<Long> a = ids(1000, 1L << 40, 5000, 7);
+		Array<Long> b = FORArray.compressToFOR(a);
+		assertTrue(b instanceof FORArray);
+		compare(a, b);
+		assertTrue(b.getInMemorySize() < a.getInMemorySize());
+	}
+
+	@Test
+	public void testFORInteger() {
+		int[] d = new int[500];
+		Random r = new Random(13);
+		for(int i = 0; i < d.length; i++)
+			d[i] = -1000 + r.nextInt(300);
+		Array<Integer> a = new IntegerArray(d);
+		Array<Integer> b = FORArray.compressToFOR(a);
+		assertTrue(b instanceof FORArray);
+		compare(a, b);
+	}
+
+	@Test
+	public void testFORFullRangeAbort() {
+		long[] d = new long[100];
+		Random r = new Random(3);
+		for(int i = 0; i < d.length; i++)
+			d[i] = r.nextLong();
+		Array<Long> a = new LongArray(d);
+		assertTrue(FORArray.compressToFOR(a) == a);
+	}
+
+	@Test
+	public void testFORConstant() {
+		long[] d = new long[200];
+		for(int i = 0; i < d.length; i++)
+			d[i] = 42;
+		Array<Long> a = new LongArray(d);
+		Array<Long> b = FORArray.compressToFOR(a);
+		assertEquals(0, ((FORArray<Long>) b).getBits());
+		compare(a, b);
+	}
+
+	@Test
+	public void testDeltaTimestamps() {
+		Array<Long> a = timestamps(1000, 1_700_000_000_000L, 9);
+		Array<Long> b = DeltaArray.compressToDelta(a);
+		assertTrue(b instanceof DeltaArray);
+		compare(a, b);
+		assertTrue(b.getInMemorySize() * 4 < a.getInMemorySize());
+	}
+
+	@Test
+	public void testDeltaNegativeSteps() {
+		long[] d = new long[300];
+		Random r = new Random(5);
+		d[0] = 100;
+		for(int i = 1; i < d.length; i++)
+			d[i] = d[i - 1] + r.nextInt(7) - 3;
+		Array<Long> a = new LongArray(d);
+		Array<Long> b = DeltaArray.compressToDelta(a);
+		assertTrue(b instanceof DeltaArray);
+		compare(a, b);
+	}
+
+	@Test
+	public void testDeltaOverflowingSteps() {
+		long[] d = new long[64 * 3 + 5];
+		for(int i = 0; i < d.length; i++)
+			d[i] = Long.MAX_VALUE - 50 + i; // wraps around to negative values
+		Array<Long> a = new LongArray(d);
+		Array<Long> b = DeltaArray.compressToDelta(a);
+		assertTrue(b instanceof DeltaArray);
+		compare(a, b);
+	}
+
+	@Test
+	public void testDeltaIntegerMultipleDecodeBlocks() {
+		int[] d = new int[2500];
+		Random r = new Random(17);
+		d[0] = -40000;
+		for(int i = 1; i < d.length; i++)
+			d[i] = d[i - 1] + 3 + r.nextInt(5);
+		Array<Integer> a = new IntegerArray(d);
+		Array<Integer> b = DeltaArray.compressToDelta(a);
+		assertTrue(b instanceof DeltaArray);
+		compare(a, b);
+	}
+
+	@Test
+	public void testDeltaRandomAbort() {
+		long[] d = new long[200];
+		Random r = new Random(3);
+		for(int i = 0; i < d.length; i++)
+			d[i] = r.nextLong();
+		Array<Long> a = new LongArray(d);
+		assertTrue(DeltaArray.compressToDelta(a) == a);
+	}
+
+	@Test
+	public void testStatisticsChooseDelta() {
+		Array<Long> a = timestamps(1000, 1_700_000_000_000L, 2);
+		ArrayCompressionStatistics s = a.statistics(1000);
+		assertEquals(FrameArrayType.DELTA, s.bestType);
+	}
+
+	@Test
+	public void testStatisticsChooseFOR() {
+		Array<Long> a = ids(1000, 1L << 40, 1 << 16, 21);
+		ArrayCompressionStatistics s = a.statistics(1000);
+		assertEquals(FrameArrayType.FOR, s.bestType);
+	}
+
+	@Test
+	public void testStatisticsChooseDDCLowCardinality() {
+		final long[] vals = {-5, 1L << 40, 1L << 50, 3};
+		final long[] d = new long[1000];
+		Random r = new Random(21);
+		for(int i = 0; i < d.length; i++)
+			d[i] = vals[r.nextInt(vals.length)];
+		Array<Long> a = new LongArray(d);
+		ArrayCompressionStatistics s = a.statistics(1000);
+		assertEquals(FrameArrayType.DDC, s.bestType);
+	}
+
+	@Test
+	public void testCompressFrame() {
+		FrameBlock a = new FrameBlock(new Array<?>[] {timestamps(1000, 1_700_000_000_000L, 3), ids(1000, 12345, 1 << 12, 4),
+			FrameCompressTestUtils.generateArray(1000, 3, 5, ValueType.STRING)});
+		FrameBlock b = FrameLibCompress.compress(a, 1);
+		assertTrue(b.getColumn(0) instanceof DeltaArray);
+		assertTrue(b.getColumn(1) instanceof FORArray);
+		TestUtils.compareFrames(a, b, true);
+		assertTrue(b.getInMemorySize() < a.getInMemorySize());
+	}
+
+	@Test
+	public void testCompressedTransformEncode() {
+		FrameBlock a = new FrameBlock(new Array<?>[] {timestamps(3000, 1_700_000_000_000L, 5), ids(3000, 1L << 40, 50, 6)});
+		FrameBlock b = new FrameBlock(new Array<?>[] {DeltaArray.compressToDelta(a.getColumn(0)),
+			FORArray.compressToFOR(a.getColumn(1))});
+		assertTrue(b.getColumn(0) instanceof DeltaArray);
+		assertTrue(b.getColumn(1) instanceof FORArray);
+		String[] specs = {"{recode:[C1,C2]}", "{dummycode:[C2]}", "{ids:true}",
+			"{ids:true, bin:[{id:1, method:equi-width, numbins:10}, {id:2, method:equi-height, numbins:4}]}",
+			"{ids:true, bin:[{id:2, method:equi-width, numbins:5}], dummycode:[2]}"};
+		for(String spec : specs) {
+			MatrixBlock expected = EncoderFactory.createEncoder(spec, a.getColumnNames(), 2, null).encode(a, 1);
+			MatrixBlock ret = EncoderFactory.createEncoder(spec, b.getColumnNames(), 2, null).encode(b, 1, true);
+			TestUtils.compareMatrices(expected, ret, 0, "Not equal after encode: " + spec);
+		}
+	}
+
+	private static void compare(Array<?> a, Array<?> b) {
+		final int s = a.size();
+		assertEquals(s, b.size());
+		assertEquals(a.getValueType(), b.getValueType());
+		for(int i = 0; i < s; i++)
+			assertEquals(a.get(i), b.get(i));
+		assertArrayEquals(a.extractDouble(new double[s], 0, s), b.extractDouble(new double[s], 0, s), 0);
+
+		// slices over anchor boundaries
+		final int[][] ranges = {{0, s}, {1, 64}, {63, 130}, {s / 2, s}, {s - 3, s}};
+		for(int[] r : ranges) {
+			Array<?> as = a.slice(r[0], r[1]);
+			Array<?> bs = b.slice(r[0], r[1]);
+			for(int i = 0; i < as.size(); i++)
+				assertEquals(as.get(i), bs.get(i));
+			final int l = r[1] - r[0];
+			assertArrayEquals(a.extractDouble(new double[l], r[0], r[1]), b.extractDouble(new double[l], r[0], r[1]), 0);
+			assertArrayEquals(a.hashDouble(new double[l], r[0], r[1]), b.hashDouble(new double[l], r[0], r[1]), 0);
+			compareSet(a, b, r[0], r[1]);
+		}
+		assertEquals(a.getRecodeMap(), b.getRecodeMap());
+
+		final int[] idx = {s - 1, 0, s / 3, 65};
+		Array<?> sel = b.select(idx);
+		for(int i = 0; i < idx.length; i++)
+			assertEquals(a.get(idx[i]), sel.get(i));
+
+		final boolean[] bsel = new boolean[s];
+		int nTrue = 0;
+		for(int i = 0; i < s; i += 3, nTrue++)
+			bsel[i] = true;
+		Array<?> bs = b.select(bsel, nTrue);
+		for(int i = 0, j = 0; i < s; i += 3, j++)
+			assertEquals(a.get(i), bs.get(j));
+
+		Array<?> ser = serializeAndBack(b);
+		assertTrue(b.equals(ser));
+		for(int i = 0; i < s; i++)
+			assertEquals(a.get(i), ser.get(i));
+		assertEquals(a.changeType(ValueType.FP64),
+			b.changeType(ValueType.FP64));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void compareSet(Array<T> a, Array<?> b, int rl, int ru) {
+		// bulk set from a compressed source range into an offset of a plain array
+		final int l = ru - rl;
+		Array<T> ret = (Array<T>) ArrayFactory.allocate(a.getValueType(), l + 2);
+		ret.set(1, l, (Array<T>) b, rl);
+		for(int i = 0; i < l; i++)
+			assertEquals(a.get(rl + i), ret.get(i + 1));
+	}
+
+	private static Array<?> serializeAndBack(Array<?> a) {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			DataOutputStream fos = new DataOutputStream(bos);
+			a.write(fos);
+			assertEquals(a.getExactSerializedSize(), fos.size());
+			DataInputStream fis = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+			return ArrayFactory.read(fis, a.size());
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+			return null;
+		}
+	}
+
+	private static Array<Long> ids(int n, long base, int range, int seed) {
+		long[] d = new long[n];
+		Random r = new Random(seed);
+		for(int i = 0; i < n; i++)
+			d[i] = base + r.nextInt(range);
+		return new LongArray(d);
+	}
+
+	private static Array<Long> timestamps(int n, long start, int seed) {
+		long[] d = new long[n];
+		Random r = new Random(seed);
+		d[0] = start;
+		for(int i = 1; i < n; i++)
+			d[i] = d[i - 1] + 1000 + r.nextInt(16);
+		return new LongArray(d);
+	}
+}
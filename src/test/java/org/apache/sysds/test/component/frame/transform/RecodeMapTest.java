@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.frame.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.transform.encode.RecodeMap;
+import org.apache.sysds.runtime.transform.encode.RecodeMapNumeric;
+import org.apache.sysds.runtime.transform.encode.RecodeMapString;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class RecodeMapTest {
+
+	@Test
+	public void testStringMapAgainstHashMap() {
+		RecodeMap map = new RecodeMapString();
+		Map<Object, Long> exp = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			String key = "t" + (i * 7 % 3001);
+			map.addKey(key);
+			exp.putIfAbsent(key, (long) exp.size() + 1);
+		}
+		assertEquals(exp.size(), map.size());
+		assertEquals(exp, map);
+		assertEquals(-1, map.getCode("t3001"));
+		assertEquals(null, map.get("not existing"));
+	}
+
+	@Test
+	public void testNumericMapAgainstHashMap() {
+		RecodeMapNumeric map = new RecodeMapNumeric(true);
+		Map<Object, Long> exp = new HashMap<>();
+		for(int i = 0; i < 10000; i++) {
+			double key = (i % 1013) * 0.5 - 3;
+			map.addKey(key);
+			exp.putIfAbsent(Double.toString(key), (long) exp.size() + 1);
+		}
+		assertEquals(exp, map);
+		assertEquals(exp.get("2.5"), map.get(2.5));
+		assertEquals(exp.get("2.5").longValue(), map.getCode(Double.doubleToLongBits(2.5)));
+		assertEquals(-1, map.getCode("abc"));
+	}
+
+	@Test
+	public void testMergeMixedMaps() {
+		RecodeMap map = new RecodeMapNumeric(false);
+		RecodeMap other = new RecodeMapString();
+		for(int i = 0; i < 100; i++) {
+			map.addKey((long) i);
+			other.addKey(Long.toString(i + 50));
+		}
+		map.addKeys(other);
+		assertEquals(150, map.size());
+		for(int i = 0; i < 100; i++)
+			assertEquals(i + 1, map.getCode(Long.toString(i)));
+		for(int i = 100; i < 150; i++)
+			assertTrue(map.getCode(Long.toString(i)) > 100);
+	}
+
+	@Test
+	public void testPutAndClear() {
+		RecodeMap map = RecodeMap.create(new HashMap<>(Map.of("a", 3L, "b", 1L, "c", 2L)));
+		assertEquals(3, map.getCode("a"));
+		map.put("a", 7L);
+		assertEquals(7, map.getCode("a"));
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.getCode("a"));
+	}
+
+	@Test
+	public void testBuildAndLookupFrameColumns() {
+		ValueType[] schema = new ValueType[] {ValueType.STRING, ValueType.FP64, ValueType.INT64, ValueType.INT32};
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(1000, schema, 7);
+		for(int c = 0; c < schema.length; c++) {
+			RecodeMap map = RecodeMap.create(fb, c);
+			assertEquals(c > 0, map instanceof RecodeMapNumeric);
+			map.build(fb, c, 0, 500);
+			map.build(fb, c, 500, 1000);
+			double[] codes = new double[1000];
+			map.lookup(fb, c, 0, 1000, codes);
+			for(int i = 0; i < 1000; i++) {
+				String key = fb.getString(i, c);
+				if(key == null)
+					assertTrue(Double.isNaN(codes[i]));
+				else
+					assertEquals(map.get(key).doubleValue(), codes[i], 0.0);
+			}
+		}
+	}
+}
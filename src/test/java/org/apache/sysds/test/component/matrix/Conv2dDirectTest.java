@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.matrix.data.DnnParameters;
+import org.apache.sysds.runtime.matrix.data.LibMatrixDNN;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class Conv2dDirectTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		// N, C, H, W, K, R, S, stride, pad
+		int[][] shapes = new int[][] {
+			{4, 3, 10, 12, 5, 1, 1, 1, 0}, // pointwise
+			{4, 9, 10, 12, 5, 1, 1, 1, 0}, // pointwise, channel blocks
+			{2, 3, 128, 64, 4, 3, 3, 1, 1}, // direct
+			{2, 6, 92, 93, 2, 2, 2, 1, 0}, // direct, channel blocks
+			{2, 2, 100, 90, 1, 3, 3, 1, 2}, // direct, large padding
+			{4, 3, 10, 12, 5, 3, 3, 1, 1}, // im2col, small output
+			{2, 3, 128, 64, 8, 3, 3, 1, 1}, // im2col, many filters
+			{4, 3, 11, 9, 5, 3, 3, 2, 1}, // im2col, strided
+			{4, 2, 8, 8, 3, 2, 2, 2, 0}, // im2col, strided
+			{4, 3, 10, 12, 5, 5, 5, 1, 2}, // im2col
+		};
+		for(int[] s : shapes)
+			for(int k : new int[] {1, 4}) {
+				tests.add(new Object[] {s, k, false, false});
+				tests.add(new Object[] {s, k, true, false});
+				tests.add(new Object[] {s, k, true, true});
+			}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public int[] shape;
+	@Parameterized.Parameter(1)
+	public int k;
+	@Parameterized.Parameter(2)
+	public boolean bias;
+	@Parameterized.Parameter(3)
+	public boolean relu;
+
+	@Test
+	public void testConv2d() {
+		int N = shape[0], C = shape[1], H = shape[2], W = shape[3];
+		int K = shape[4], R = shape[5], S = shape[6], stride = shape[7], pad = shape[8];
+		DnnParameters params = new DnnParameters(N, C, H, W, K, R, S, stride, stride, pad, pad, k);
+		MatrixBlock in = TestUtils.generateTestMatrixBlock(N, C * H * W, -1, 1, 1.0, 7);
+		MatrixBlock filter = TestUtils.generateTestMatrixBlock(K, C * R * S, -1, 1, 1.0, 3);
+		MatrixBlock b = bias ? TestUtils.generateTestMatrixBlock(K, 1, -1, 1, 1.0, 5) : null;
+		params.bias = b;
+		params.fuseReLU = relu;
+
+		MatrixBlock out = new MatrixBlock(N, K * params.P * params.Q, false).allocateBlock();
+		LibMatrixDNN.conv2d(in, filter, out, params);
+
+		double[][] expected = conv2d(in, filter, b, N, C, H, W, K, R, S, stride, pad, params.P, params.Q);
+		TestUtils.compareMatrices(out, expected, 1e-10, "conv2d result mismatch");
+	}
+
+	private double[][] conv2d(MatrixBlock in, MatrixBlock filter, MatrixBlock b, int N, int C, int H, int W, int K,
+		int R, int S, int stride, int pad, int P, int Q) {
+		double[][] ret = new double[N][K * P * Q];
+		for(int n = 0; n < N; n++)
+			for(int k = 0; k < K; k++)
+				for(int p = 0; p < P; p++)
+					for(int q = 0; q < Q; q++) {
+						double v = (b != null) ? b.get(k, 0) : 0;
+						for(int c = 0; c < C; c++)
+							for(int r = 0; r < R; r++)
+								for(int s = 0; s < S; s++) {
+									int h = p * stride - pad + r, w = q * stride - pad + s;
+									if(h >= 0 && h < H && w >= 0 && w < W)
+										v += filter.get(k, c * R * S + r * S + s)
+											* in.get(n, c * H * W + h * W + w);
+								}
+						ret[n][k * P * Q + p * Q + q] = relu ? Math.max(v, 0) : v;
+					}
+		return ret;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.functionobjects.ReduceAll;
+import org.apache.sysds.runtime.functionobjects.ReduceCol;
+import org.apache.sysds.runtime.functionobjects.ReduceRow;
+import org.apache.sysds.runtime.instructions.cp.AggregateUnaryCPInstruction.AUType;
+import org.apache.sysds.runtime.matrix.data.LibMatrixCountDistinct;
+import org.apache.sysds.runtime.matrix.data.LibMatrixSketch;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.CountDistinctOperator;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class CountDistinctExactTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(double sp : new double[] {1.0, 0.4, 0.01}) {
+			for(int k : new int[] {1, 4}) {
+				tests.add(new Object[] {gen(10, 10, 5, sp), k});
+				tests.add(new Object[] {gen(1000, 300, 100, sp), k});
+				tests.add(new Object[] {gen(300, 1000, 10000, sp), k});
+				tests.add(new Object[] {gen(5000, 1, 3000, sp), k});
+			}
+		}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public MatrixBlock in;
+	@Parameterized.Parameter(1)
+	public int k;
+
+	@Test
+	public void testRowCol() {
+		MatrixBlock ret = LibMatrixCountDistinct.estimateDistinctValues(in,
+			new CountDistinctOperator(AUType.COUNT_DISTINCT, Types.Direction.RowCol, ReduceAll.getReduceAllFnObject(), k));
+		assertEquals(countDistinct(in, 0, in.getNumRows(), 0, in.getNumColumns()), (long) ret.get(0, 0));
+	}
+
+	@Test
+	public void testRow() {
+		MatrixBlock ret = LibMatrixCountDistinct.estimateDistinctValues(in,
+			new CountDistinctOperator(AUType.COUNT_DISTINCT, Types.Direction.Row, ReduceCol.getReduceColFnObject(), k));
+		for(int i = 0; i < in.getNumRows(); i++)
+			assertEquals(countDistinct(in, i, i + 1, 0, in.getNumColumns()), (long) ret.get(i, 0));
+	}
+
+	@Test
+	public void testCol() {
+		MatrixBlock ret = LibMatrixCountDistinct.estimateDistinctValues(in,
+			new CountDistinctOperator(AUType.COUNT_DISTINCT, Types.Direction.Col, ReduceRow.getReduceRowFnObject(), k));
+		for(int j = 0; j < in.getNumColumns(); j++)
+			assertEquals(countDistinct(in, 0, in.getNumRows(), j, j + 1), (long) ret.get(0, j));
+	}
+
+	@Test
+	public void testUnique() {
+		if(in.getNumColumns() != 1)
+			return;
+		MatrixBlock ret = LibMatrixSketch.getUniqueValues(in, Types.Direction.RowCol, k);
+		HashSet<Double> distinct = new HashSet<>();
+		for(int i = 0; i < ret.getNumRows(); i++)
+			distinct.add(ret.get(i, 0));
+		assertEquals(ret.getNumRows(), distinct.size());
+		assertEquals(countDistinct(in, 0, in.getNumRows(), 0, 1), distinct.size());
+	}
+
+	private static long countDistinct(MatrixBlock mb, int rl, int ru, int cl, int cu) {
+		HashSet<Double> distinct = new HashSet<>();
+		for(int i = rl; i < ru; i++)
+			for(int j = cl; j < cu; j++)
+				distinct.add(mb.get(i, j));
+		return distinct.size();
+	}
+
+	private static MatrixBlock gen(int rows, int cols, int max, double sp) {
+		return TestUtils.round(TestUtils.generateTestMatrixBlock(rows, cols, 1, max, sp, 7));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.functionobjects.IndexFunction;
+import org.apache.sysds.runtime.functionobjects.ReduceAll;
+import org.apache.sysds.runtime.functionobjects.ReduceCol;
+import org.apache.sysds.runtime.functionobjects.ReduceRow;
+import org.apache.sysds.runtime.instructions.spark.data.CorrMatrixBlock;
+import org.apache.sysds.runtime.matrix.data.LibMatrixCountDistinct;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.sketch.MatrixSketch;
+import org.apache.sysds.runtime.matrix.data.sketch.MatrixSketchFactory;
+import org.apache.sysds.runtime.matrix.operators.CountDistinctOperator;
+import org.apache.sysds.runtime.matrix.operators.CountDistinctOperatorTypes;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.utils.Hash.HashType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class HLLSketchTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(double sp : new double[] {1.0, 0.2}) {
+			tests.add(new Object[] {Types.Direction.RowCol, gen(2000, 100, 50000, sp)});
+			tests.add(new Object[] {Types.Direction.Row, gen(200, 3000, 2000, sp)});
+			tests.add(new Object[] {Types.Direction.Col, gen(3000, 200, 2000, sp)});
+			// more row/column sketches than fit into a single block of registers
+			tests.add(new Object[] {Types.Direction.Row, gen(2500, 20, 100, sp)});
+			tests.add(new Object[] {Types.Direction.Col, gen(20, 2500, 100, sp)});
+		}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public Types.Direction dir;
+	@Parameterized.Parameter(1)
+	public MatrixBlock in;
+
+	@Test
+	public void testEstimate() {
+		MatrixBlock ret = getSketch().getValue(in);
+		MatrixBlock exact = getExact();
+		for(int i = 0; i < ret.getNumRows(); i++)
+			for(int j = 0; j < ret.getNumColumns(); j++) {
+				double e = exact.get(i, j);
+				assertTrue(ret.get(i, j) + " vs " + e, Math.abs(ret.get(i, j) - e) <= 0.15 * e);
+			}
+	}
+
+	@Test
+	public void testSketchValue() {
+		MatrixSketch sketch = getSketch();
+		TestUtils.compareMatrices(sketch.getValue(in), sketch.getValueFromSketch(sketch.create(in)), 0);
+	}
+
+	@Test
+	public void testUnion() {
+		// union of the sketches of two halves equals the sketch of the entire input
+		MatrixSketch sketch = getSketch();
+		MatrixBlock in1, in2;
+		if(dir.isCol()) {
+			in1 = in.slice(0, in.getNumRows() / 2 - 1);
+			in2 = in.slice(in.getNumRows() / 2, in.getNumRows() - 1);
+		}
+		else {
+			in1 = in.slice(0, in.getNumRows() - 1, 0, in.getNumColumns() / 2 - 1);
+			in2 = in.slice(0, in.getNumRows() - 1, in.getNumColumns() / 2, in.getNumColumns() - 1);
+		}
+		CorrMatrixBlock union = sketch.union(sketch.create(in1), sketch.create(in2));
+		MatrixBlock ret = sketch.getValueFromSketch(union);
+		TestUtils.compareMatrices(sketch.getValue(in), ret, 0);
+		assertEquals(sketch.create(in).getValue().getNonZeros(), union.getValue().getNonZeros());
+	}
+
+	private MatrixSketch getSketch() {
+		IndexFunction fn = dir.isRowCol() ? ReduceAll.getReduceAllFnObject() :
+			dir.isRow() ? ReduceCol.getReduceColFnObject() : ReduceRow.getReduceRowFnObject();
+		return MatrixSketchFactory.get(
+			new CountDistinctOperator(CountDistinctOperatorTypes.HLL, dir, fn, HashType.LinearHash));
+	}
+
+	private MatrixBlock getExact() {
+		IndexFunction fn = dir.isRowCol() ? ReduceAll.getReduceAllFnObject() :
+			dir.isRow() ? ReduceCol.getReduceColFnObject() : ReduceRow.getReduceRowFnObject();
+		return LibMatrixCountDistinct.estimateDistinctValues(in,
+			new CountDistinctOperator(CountDistinctOperatorTypes.COUNT, dir, fn, HashType.LinearHash));
+	}
+
+	private static MatrixBlock gen(int rows, int cols, int max, double sp) {
+		return TestUtils.round(TestUtils.generateTestMatrixBlock(rows, cols, 1, max, sp, 7));
+	}
+}
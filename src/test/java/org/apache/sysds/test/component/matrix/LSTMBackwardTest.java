@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.matrix.data.DnnParameters;
+import org.apache.sysds.runtime.matrix.data.LibMatrixDNN;
+import org.apache.sysds.runtime.matrix.data.LibMatrixDNNLSTM;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class LSTMBackwardTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(boolean rs : new boolean[] {false, true})
+			for(int k : new int[] {1, 4}) {
+				tests.add(new Object[] {3, 4, 1, 5, rs, k});
+				tests.add(new Object[] {17, 6, 5, 8, rs, k});
+				tests.add(new Object[] {32, 10, 7, 16, rs, k});
+			}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public int N;
+	@Parameterized.Parameter(1)
+	public int D;
+	@Parameterized.Parameter(2)
+	public int T;
+	@Parameterized.Parameter(3)
+	public int M;
+	@Parameterized.Parameter(4)
+	public boolean returnSequences;
+	@Parameterized.Parameter(5)
+	public int k;
+
+	@Test
+	public void testLSTMBackward() {
+		MatrixBlock x = TestUtils.generateTestMatrixBlock(N, T * D, -1, 1, 1.0, 7);
+		MatrixBlock w = TestUtils.generateTestMatrixBlock(D + M, 4 * M, -0.5, 0.5, 1.0, 3);
+		MatrixBlock bias = TestUtils.generateTestMatrixBlock(1, 4 * M, -0.5, 0.5, 1.0, 5);
+		MatrixBlock out0 = TestUtils.generateTestMatrixBlock(N, M, -1, 1, 1.0, 11);
+		MatrixBlock c0 = TestUtils.generateTestMatrixBlock(N, M, -1, 1, 1.0, 13);
+		MatrixBlock dout = TestUtils.generateTestMatrixBlock(N, returnSequences ? T * M : M, -1, 1, 1.0, 17);
+		MatrixBlock dc = TestUtils.generateTestMatrixBlock(N, M, -1, 1, 1.0, 19);
+
+		// forward pass to obtain the caches
+		MatrixBlock[] fwd = new MatrixBlock[] {new MatrixBlock(N, returnSequences ? T * M : M, false),
+			new MatrixBlock(N, M, false), new MatrixBlock(T, N * M, false), new MatrixBlock(T, N * M, false),
+			new MatrixBlock(T, N * 4 * M, false)};
+		LibMatrixDNN.lstm(new DnnParameters(N, D, T, M, x, w, bias, out0, c0, null, null, null, returnSequences,
+			null, null, fwd[0], fwd[1], fwd[2], fwd[3], fwd[4], k));
+
+		// backward pass: optimized vs generic
+		assertTrue(LibMatrixDNNLSTM.checkLSTMBackwardInputForOptimisation(createParams(x, w, bias, out0, c0, fwd, dout, dc)));
+		DnnParameters p1 = createParams(x, w, bias, out0, c0, fwd, dout, dc);
+		LibMatrixDNN.lstmBackward(p1);
+		DnnParameters p2 = createParams(x, w, bias, out0, c0, fwd, dout, dc);
+		LibMatrixDNNLSTM.lstmBackwardGeneric(p2);
+
+		TestUtils.compareMatrices(p2.output, p1.output, 1e-10, "dX mismatch");
+		TestUtils.compareMatrices(p2.output2, p1.output2, 1e-10, "dW mismatch");
+		TestUtils.compareMatrices(p2.output3, p1.output3, 1e-10, "db mismatch");
+		TestUtils.compareMatrices(p2.output4, p1.output4, 1e-10, "dout0 mismatch");
+		TestUtils.compareMatrices(p2.output5, p1.output5, 1e-10, "dc0 mismatch");
+	}
+
+	private DnnParameters createParams(MatrixBlock x, MatrixBlock w, MatrixBlock bias, MatrixBlock out0,
+		MatrixBlock c0, MatrixBlock[] fwd, MatrixBlock dout, MatrixBlock dc) {
+		return new DnnParameters(N, D, T, M, x, w, bias, out0, c0, fwd[2], fwd[3], fwd[4], returnSequences, dout, dc,
+			new MatrixBlock(N, T * D, false), new MatrixBlock(D + M, 4 * M, false), new MatrixBlock(1, 4 * M, false),
+			new MatrixBlock(N, M, false), new MatrixBlock(N, M, false), k);
+	}
+}
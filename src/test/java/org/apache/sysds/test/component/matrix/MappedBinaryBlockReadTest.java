@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.ReaderBinaryBlock;
+import org.apache.sysds.runtime.io.ReaderBinaryBlockParallel;
+import org.apache.sysds.runtime.io.WriterBinaryBlock;
+import org.apache.sysds.runtime.io.WriterBinaryBlockParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class MappedBinaryBlockReadTest {
+	private static final String DIR = "target/testTemp/component/MappedBinaryBlockReadTest/";
+
+	@After
+	public void cleanup() throws Exception {
+		ConfigurationManager.clearLocalConfigs();
+		HDFSTool.deleteFileIfExistOnHDFS(DIR);
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		Assert.assertFalse(ConfigurationManager.isMappedReadEnabled());
+	}
+
+	@Test
+	public void testDense() throws Exception {
+		runTest(1234, 567, 100, 0.9, false, false);
+	}
+
+	@Test
+	public void testDenseParallel() throws Exception {
+		runTest(1234, 567, 100, 0.9, true, true);
+	}
+
+	@Test
+	public void testDenseSingleBlock() throws Exception {
+		runTest(1000, 1000, 1000, 1.0, false, true);
+	}
+
+	@Test
+	public void testDenseSmallWindows() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1234, 567, -1, 1, 0.9, 42);
+		runWindowTest(mb, 100, 64 * 1024, true);
+	}
+
+	@Test
+	public void testMixedBlockTypes() throws Exception {
+		//dense rows on top, sparse and empty blocks below
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1200, 450, -1, 1, 0.9, 7);
+		mb = mb.append(TestUtils.generateTestMatrixBlock(1200, 300, -1, 1, 0.02, 3), new MatrixBlock(), false);
+		mb = mb.append(new MatrixBlock(300, 750, true), new MatrixBlock(), false);
+		runTest(mb, 100, true, true);
+		runTest(mb, 100, false, false);
+		runWindowTest(mb, 100, 128 * 1024, true);
+		runWindowTest(mb, 100, 128 * 1024, false);
+	}
+
+	private static void runTest(int rows, int cols, int blen, double sparsity, boolean parWrite, boolean parRead)
+		throws Exception
+	{
+		runTest(TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, 42), blen, parWrite, parRead);
+	}
+
+	private static void runTest(MatrixBlock mb, int blen, boolean parWrite, boolean parRead) throws Exception {
+		String fname = write(mb, blen, parWrite);
+		MatrixBlock ret1 = read(fname, mb, blen, parRead, true);
+		MatrixBlock ret2 = read(fname, mb, blen, parRead, false);
+		TestUtils.compareMatricesBitAvgDistance(mb, ret1, 0, 0, "mapped read mismatch");
+		TestUtils.compareMatricesBitAvgDistance(ret2, ret1, 0, 0, "mapped vs regular read mismatch");
+		Assert.assertEquals(mb.getNonZeros(), ret1.getNonZeros());
+	}
+
+	private static void runWindowTest(MatrixBlock mb, int blen, int wlen, boolean parWrite) throws Exception {
+		//mapped reads of all part files w/ small windows (records crossing window boundaries)
+		String fname = write(mb, blen, parWrite);
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, new JobConf(ConfigurationManager.getCachedJobConf()));
+		MatrixBlock ret = new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), false);
+		ret.allocateDenseBlock();
+		long nnz = 0;
+		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) {
+			long tmp = ReaderBinaryBlock.readMappedBinaryBlockFile(lpath, (LocalFileSystem)fs,
+				ret, mb.getNumRows(), mb.getNumColumns(), blen, wlen);
+			Assert.assertTrue("file not eligible for mapped read: "+lpath, tmp >= 0);
+			nnz += tmp;
+		}
+		ret.setNonZeros(nnz);
+		TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0, "mapped window read mismatch");
+		Assert.assertEquals(mb.getNonZeros(), nnz);
+	}
+
+	private static String write(MatrixBlock mb, int blen, boolean par) throws Exception {
+		String fname = DIR + "X";
+		MatrixWriter writer = par ? new WriterBinaryBlockParallel(1) : new WriterBinaryBlock(1);
+		writer.writeMatrixToHDFS(mb, fname, mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+		return fname;
+	}
+
+	private static MatrixBlock read(String fname, MatrixBlock mb, int blen, boolean par, boolean mmap)
+		throws Exception
+	{
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.CP_MMAP_READ, String.valueOf(mmap));
+		ConfigurationManager.setLocalConfig(conf);
+		MatrixReader reader = par ? new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false);
+		return reader.readMatrixFromHDFS(fname, mb.getNumRows(), mb.getNumColumns(), blen, mb.getNonZeros());
+	}
+}
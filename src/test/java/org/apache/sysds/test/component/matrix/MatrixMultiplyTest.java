@@ -101,6 +101,11 @@ public class MatrixMultiplyTest {
 			tests.add(new Object[]{1000, 100, 1000, 0.6, 0.0005, 6});
 			tests.add(new Object[]{1000, 100, 1000, 0.005, 0.6, 6});
 
+			// large dense-dense (packed panels, incl. partial micro panels)
+			tests.add(new Object[]{300, 513, 1030, 1.0, 1.0, 1});
+			tests.add(new Object[]{1027, 258, 261, 1.0, 0.95, 4});
+			tests.add(new Object[]{257, 1100, 300, 0.95, 1.0, 6});
+
 		}
 		catch(Exception e) {
 			e.printStackTrace();
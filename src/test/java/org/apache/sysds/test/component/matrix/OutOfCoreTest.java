@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixOOC;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class OutOfCoreTest {
+	private static final String DIR = "target/testTemp/component/OutOfCoreTest/";
+	private static final int BLEN = 100;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		tests.add(new Object[] {450, 330, 0.7});
+		tests.add(new Object[] {450, 330, 0.01});
+		tests.add(new Object[] {100, 100, 0.5});
+		tests.add(new Object[] {1234, 7, 0.3});
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public int rows;
+	@Parameterized.Parameter(1)
+	public int cols;
+	@Parameterized.Parameter(2)
+	public double sparsity;
+
+	@After
+	public void cleanup() throws Exception {
+		HDFSTool.deleteFileIfExistOnHDFS(DIR);
+	}
+
+	@Test
+	public void testUnary() throws Exception {
+		MatrixBlock mb = generate(7);
+		MatrixObject out = createOutput("unary");
+		LibMatrixOOC.unaryOperations(createInput("in", mb), InstructionUtils.parseUnaryOperator("exp", 1), out);
+		compare(mb.unaryOperations(InstructionUtils.parseUnaryOperator("exp", 1), new MatrixBlock()), out);
+	}
+
+	@Test
+	public void testScalar() throws Exception {
+		MatrixBlock mb = generate(3);
+		MatrixObject out = createOutput("scalar");
+		LibMatrixOOC.scalarOperations(createInput("in", mb),
+			InstructionUtils.parseScalarBinaryOperator("*", false, 7, 1), out);
+		compare(mb.scalarOperations(InstructionUtils.parseScalarBinaryOperator("*", false, 7, 1), new MatrixBlock()), out);
+	}
+
+	@Test
+	public void testBinaryMatrix() throws Exception {
+		MatrixBlock mb = generate(5);
+		MatrixBlock rhs = TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, 0.5, 11);
+		MatrixObject out = createOutput("binary");
+		LibMatrixOOC.binaryOperations(createInput("in", mb), rhs, InstructionUtils.parseBinaryOperator("+", 1), out);
+		compare(mb.binaryOperations(InstructionUtils.parseBinaryOperator("+", 1), rhs, new MatrixBlock()), out);
+	}
+
+	@Test
+	public void testBinaryColVector() throws Exception {
+		MatrixBlock mb = generate(5);
+		MatrixBlock rhs = TestUtils.generateTestMatrixBlock(rows, 1, -1, 1, 1.0, 13);
+		MatrixObject out = createOutput("binary");
+		LibMatrixOOC.binaryOperations(createInput("in", mb), rhs, InstructionUtils.parseBinaryOperator("*", 1), out);
+		compare(mb.binaryOperations(InstructionUtils.parseBinaryOperator("*", 1), rhs, new MatrixBlock()), out);
+	}
+
+	@Test
+	public void testBinaryRowVector() throws Exception {
+		MatrixBlock mb = generate(5);
+		MatrixBlock rhs = TestUtils.generateTestMatrixBlock(1, cols, -1, 1, 1.0, 17);
+		MatrixObject out = createOutput("binary");
+		LibMatrixOOC.binaryOperations(createInput("in", mb), rhs, InstructionUtils.parseBinaryOperator("-", 1), out);
+		compare(mb.binaryOperations(InstructionUtils.parseBinaryOperator("-", 1), rhs, new MatrixBlock()), out);
+	}
+
+	@Test
+	public void testAggregates() throws Exception {
+		MatrixBlock mb = generate(9);
+		MatrixObject in = createInput("in", mb);
+		for(String opcode : new String[] {"uak+", "uark+", "uack+", "uamax", "uarmin", "uacmax", "uamean", "uarmean",
+			"uasqk+"}) {
+			AggregateUnaryOperator op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, 1);
+			MatrixBlock expected = mb.aggregateUnaryOperations(op, new MatrixBlock(), rows, new MatrixIndexes(1, 1), true);
+			TestUtils.compareMatrices(expected, LibMatrixOOC.aggregateUnary(in, op), 1e-8, opcode);
+		}
+	}
+
+	private MatrixBlock generate(long seed) {
+		return TestUtils.generateTestMatrixBlock(rows, cols, -1, 1, sparsity, seed);
+	}
+
+	private MatrixObject createInput(String name, MatrixBlock mb) throws Exception {
+		MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, BLEN, mb.getNonZeros());
+		DataConverter.writeMatrixToHDFS(mb, DIR + name, FileFormat.BINARY, mc);
+		return new MatrixObject(ValueType.FP64, DIR + name, new MetaDataFormat(mc, FileFormat.BINARY));
+	}
+
+	private MatrixObject createOutput(String name) {
+		return new MatrixObject(ValueType.FP64, DIR + name,
+			new MetaDataFormat(new MatrixCharacteristics(rows, cols, BLEN, -1), FileFormat.BINARY));
+	}
+
+	private void compare(MatrixBlock expected, MatrixObject out) throws Exception {
+		MatrixBlock ret = DataConverter.readMatrixFromHDFS(out.getFileName(), FileFormat.BINARY, rows, cols, BLEN);
+		TestUtils.compareMatrices(expected, ret, 1e-10, "out-of-core result mismatch");
+		org.junit.Assert.assertEquals(expected.getNonZeros(), out.getDataCharacteristics().getNonZeros());
+	}
+}
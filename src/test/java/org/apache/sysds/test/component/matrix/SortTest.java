@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class SortTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(double sp : new double[] {1.0, 0.3, 0.05}) {
+			for(int k : new int[] {1, 4}) {
+				tests.add(new Object[] {gen(100, 3, sp, 7), new int[] {1}, k});
+				tests.add(new Object[] {gen(5000, 1, sp, 7), new int[] {1}, k});
+				tests.add(new Object[] {gen(5000, 4, sp, 3), new int[] {2}, k});
+				tests.add(new Object[] {gen(5000, 4, sp, 3), new int[] {1, 3}, k});
+				tests.add(new Object[] {gen(7000, 5, sp, 11), new int[] {4, 1, 2}, k});
+			}
+		}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public MatrixBlock in;
+	@Parameterized.Parameter(1)
+	public int[] by;
+	@Parameterized.Parameter(2)
+	public int k;
+
+	@Test
+	public void testSortAsc() {
+		compare(false, false);
+	}
+
+	@Test
+	public void testSortDesc() {
+		compare(true, false);
+	}
+
+	@Test
+	public void testSortIndexAsc() {
+		compare(false, true);
+	}
+
+	@Test
+	public void testSortIndexDesc() {
+		compare(true, true);
+	}
+
+	private void compare(boolean desc, boolean ixret) {
+		MatrixBlock expected = LibMatrixReorg.sort(in, allocOut(ixret), by, desc, ixret, k, false);
+		MatrixBlock actual = LibMatrixReorg.sort(in, allocOut(ixret), by, desc, ixret, k, true);
+		assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		TestUtils.compareMatrices(expected, actual, 0);
+	}
+
+	private MatrixBlock allocOut(boolean ixret) {
+		// output meta data as prepared by reorgOperations
+		return new MatrixBlock(in.getNumRows(), ixret ? 1 : in.getNumColumns(), false);
+	}
+
+	private static MatrixBlock gen(int rows, int cols, double sp, long seed) {
+		// rounded values in a small range to obtain many ties across sort columns
+		double[][] data = TestUtils.round(TestUtils.generateTestMatrix(rows, cols, -10, 10, sp, seed));
+		MatrixBlock mb = DataConverter.convertToMatrixBlock(data);
+		mb.examSparsity();
+		return mb;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * SpGEMM with hash accumulation over strided column patterns (e.g., power-of-two
+ * strides), which collide in the low bits of multiplicative hashes.
+ */
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class SpGEMMStridedTest {
+	private static final int ROWS = 50;
+	private static final int CD = 200;
+	private static final int DISTINCT = 64;
+	private static final int NNZ_ROW = 32;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(int k : new int[] {1, 4})
+			for(int stride : new int[] {64, 1024, 1000})
+				tests.add(new Object[] {stride, k});
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public int stride;
+	@Parameterized.Parameter(1)
+	public int k;
+
+	@Test
+	public void testSpGEMMStrided() {
+		//> 256 partial products per row (hash accumulation)
+		MatrixBlock m1 = TestUtils.generateTestMatrixBlock(ROWS, CD, -1, 1, 0.1, 7);
+		MatrixBlock m2 = createStrided(CD, DISTINCT * stride, stride);
+		assertTrue(m1.isInSparseFormat() && m2.isInSparseFormat());
+		assertTrue(LibMatrixMult.isSpGEMMMatrixMult(m1, m2));
+
+		MatrixBlock ret = LibMatrixMult.matrixMult(m1, m2, k);
+		MatrixBlock expected = LibMatrixMult.matrixMult(dense(m1), dense(m2), k);
+
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(expected, ret, 1e-10, "SpGEMM result mismatch");
+	}
+
+	private static MatrixBlock createStrided(int rows, int cols, int stride) {
+		MatrixBlock ret = new MatrixBlock(rows, cols, true);
+		for(int i = 0; i < rows; i++)
+			for(int t = 0; t < NNZ_ROW; t++)
+				ret.set(i, ((i + 3 * t) % DISTINCT) * stride, 1 + (i + t) % 7);
+		ret.recomputeNonZeros();
+		return ret;
+	}
+
+	private static MatrixBlock dense(MatrixBlock mb) {
+		MatrixBlock ret = new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), false);
+		ret.copy(mb, false);
+		return ret;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.runtime.data.SparseBlockCSR;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class SpGEMMTest {
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		for(int k : new int[] {1, 4}) {
+			// few partial products per row (sort-based accumulation)
+			tests.add(new Object[] {200, 300, 5000, 0.02, 0.002, k});
+			// many partial products per row (hash accumulation)
+			tests.add(new Object[] {200, 300, 5000, 0.02, 0.01, k});
+			// mixed rows, incl. empty rows
+			tests.add(new Object[] {500, 1000, 8000, 0.005, 0.005, k});
+		}
+		return tests;
+	}
+
+	@Parameterized.Parameter
+	public int m;
+	@Parameterized.Parameter(1)
+	public int cd;
+	@Parameterized.Parameter(2)
+	public int n;
+	@Parameterized.Parameter(3)
+	public double sp1;
+	@Parameterized.Parameter(4)
+	public double sp2;
+	@Parameterized.Parameter(5)
+	public int k;
+
+	@Test
+	public void testSpGEMM() {
+		MatrixBlock m1 = TestUtils.generateTestMatrixBlock(m, cd, -1, 1, sp1, 7);
+		MatrixBlock m2 = TestUtils.generateTestMatrixBlock(cd, n, -1, 1, sp2, 3);
+		assertTrue(m1.isInSparseFormat() && m2.isInSparseFormat());
+		assertTrue(LibMatrixMult.isSpGEMMMatrixMult(m1, m2));
+
+		MatrixBlock ret = LibMatrixMult.matrixMult(m1, m2, k);
+		MatrixBlock expected = LibMatrixMult.matrixMult(dense(m1), dense(m2), k);
+
+		assertEquals(expected.getNonZeros(), ret.getNonZeros());
+		if(ret.isInSparseFormat())
+			assertTrue(ret.getSparseBlock() instanceof SparseBlockCSR);
+		TestUtils.compareMatrices(expected, ret, 1e-10, "SpGEMM result mismatch");
+	}
+
+	private static MatrixBlock dense(MatrixBlock mb) {
+		MatrixBlock ret = new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), false);
+		ret.copy(mb, false);
+		return ret;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.matrix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMultSIMD;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the dense vector primitives of LibMatrixMult, which are either the scalar
+ * unrolled loops or (on JDK 17+ with jdk.incubator.vector) the SIMD kernels.
+ */
+@RunWith(value = Parameterized.class)
+public class VectorPrimitivesTest {
+	private static final double EPS = 1e-9;
+
+	private final int len;
+	private final int off;
+	private final double[] a;
+	private final double[] b;
+
+	public VectorPrimitivesTest(int len, int off) {
+		this.len = len;
+		this.off = off;
+		this.a = TestUtils.generateTestMatrix(1, len + 2 * off + 1, -1, 1, 1.0, 7)[0];
+		this.b = TestUtils.generateTestMatrix(1, len + 2 * off + 1, -1, 1, 1.0, 8)[0];
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		List<Object[]> tests = new ArrayList<>();
+		for(int len : new int[] {0, 1, 7, 8, 9, 31, 32, 33, 100, 1027})
+			for(int off : new int[] {0, 3})
+				tests.add(new Object[] {len, off});
+		return tests;
+	}
+
+	@Test
+	public void testDotProduct() {
+		double exp = 0;
+		for(int j = 0; j < len; j++)
+			exp += a[off + j] * b[j];
+		assertEquals(exp, LibMatrixMult.dotProduct(a, b, off, 0, len), EPS);
+	}
+
+	@Test
+	public void testVectMultiplyAdd() {
+		double[] c = b.clone();
+		double[] exp = b.clone();
+		for(int j = 0; j < len; j++)
+			exp[off + j] += 0.7 * a[j];
+		LibMatrixMult.vectMultiplyAdd(0.7, a, c, 0, off, len);
+		TestUtils.compareMatrices(exp, c, EPS);
+	}
+
+	@Test
+	public void testVectMultiplyWriteScalar() {
+		double[] c = new double[a.length];
+		double[] exp = new double[a.length];
+		for(int j = 0; j < len; j++)
+			exp[j] = -3 * a[off + j];
+		LibMatrixMult.vectMultiplyWrite(-3, a, c, off, 0, len);
+		TestUtils.compareMatrices(exp, c, EPS);
+	}
+
+	@Test
+	public void testVectMultiplyWrite() {
+		double[] c = new double[a.length];
+		double[] exp = new double[a.length];
+		for(int j = 0; j < len; j++)
+			exp[off + j] = a[j] * b[off + j];
+		LibMatrixMult.vectMultiplyWrite(a, b, c, 0, off, off, len);
+		TestUtils.compareMatrices(exp, c, EPS);
+	}
+
+	@Test
+	public void testVectAdd() {
+		double[] c = b.clone();
+		double[] exp = b.clone();
+		for(int j = 0; j < len; j++)
+			exp[j] += a[off + j];
+		LibMatrixMult.vectAdd(a, c, off, 0, len);
+		TestUtils.compareMatrices(exp, c, EPS);
+	}
+
+	@Test
+	public void testSIMDConsistentWithScalar() {
+		// the SIMD kernels are expected whenever the incubator module is resolved
+		// (JDK 17+ builds add it to the surefire argLine), only skip otherwise
+		Assume.assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+		assertTrue("JDK 17 SIMD kernels not loaded", LibMatrixMultSIMD.getNumLanes() > 0);
+
+		double exp = 0;
+		for(int j = 0; j < len; j++)
+			exp += a[off + j] * b[off + j];
+		assertEquals(exp, LibMatrixMultSIMD.dotProduct(a, b, off, off, len), EPS);
+
+		// element-wise kernels are bit-identical to the scalar loops (no fma)
+		double[] c = b.clone();
+		double[] ce = b.clone();
+		LibMatrixMultSIMD.vectMultiplyAdd(0.7, a, c, off, 0, len);
+		for(int j = 0; j < len; j++)
+			ce[j] += 0.7 * a[off + j];
+		assertArrayEquals(ce, c, 0);
+
+		c = b.clone();
+		ce = b.clone();
+		LibMatrixMultSIMD.vectMultiplyAdd2(0.7, -1.3, a, c, 0, off, off, len);
+		for(int j = 0; j < len; j++)
+			ce[off + j] += 0.7 * a[j] + -1.3 * a[off + j];
+		assertArrayEquals(ce, c, 0);
+
+		c = b.clone();
+		ce = b.clone();
+		LibMatrixMultSIMD.vectMultiplyAdd4(0.7, -1.3, 2.1, 0.3, a, c, 0, off, 1, off + 1, 0, len);
+		for(int j = 0; j < len; j++)
+			ce[j] += 0.7 * a[j] + -1.3 * a[off + j] + 2.1 * a[1 + j] + 0.3 * a[off + 1 + j];
+		assertArrayEquals(ce, c, 0);
+
+		c = new double[a.length];
+		ce = new double[a.length];
+		LibMatrixMultSIMD.vectMultiplyWrite(a, b, c, off, 0, off, len);
+		for(int j = 0; j < len; j++)
+			ce[off + j] = a[off + j] * b[j];
+		assertArrayEquals(ce, c, 0);
+
+		c = b.clone();
+		ce = b.clone();
+		LibMatrixMultSIMD.vectAdd(a, c, off, 0, len);
+		for(int j = 0; j < len; j++)
+			ce[j] += a[off + j];
+		assertArrayEquals(ce, c, 0);
+	}
+}
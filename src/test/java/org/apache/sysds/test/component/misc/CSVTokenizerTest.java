@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.CSVTokenizer;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.ReaderTextCSV;
+import org.apache.sysds.runtime.io.ReaderTextCSVParallel;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Test;
+
+public class CSVTokenizerTest {
+	private static final String DIR = "target/testTemp/component/CSVTokenizerTest/";
+
+	@After
+	public void cleanup() throws IOException {
+		FileUtils.deleteDirectory(new File(DIR));
+	}
+
+	@Test
+	public void parseDoubleRandomBits() {
+		Random rand = new Random(7);
+		for(int i = 0; i < 100000; i++) {
+			double d = Double.longBitsToDouble(rand.nextLong());
+			if(!Double.isNaN(d) && !Double.isInfinite(d))
+				checkParse(Double.toString(d));
+		}
+	}
+
+	@Test
+	public void parseDoubleRandomDigits() {
+		Random rand = new Random(11);
+		for(int i = 0; i < 100000; i++) {
+			StringBuilder sb = new StringBuilder();
+			if(rand.nextBoolean())
+				sb.append('-');
+			int ndigits = 1 + rand.nextInt(19);
+			for(int j = 0; j < ndigits; j++)
+				sb.append((char) ('0' + rand.nextInt(10)));
+			if(rand.nextBoolean())
+				sb.insert(sb.length() - rand.nextInt(ndigits), '.');
+			if(rand.nextBoolean())
+				sb.append('E').append(rand.nextInt(700) - 350);
+			checkParse(sb.toString());
+		}
+	}
+
+	@Test
+	public void parseDoubleSpecial() {
+		for(String s : new String[] {"0", "-0", "+0.0", ".5", "1.", "1e22", "1e23", "9007199254740993",
+			"2.2250738585072014E-308", "1.7976931348623157E308", "4.9e-324", "1e-400", "1e400",
+			"12345678901234567890", "7.2057594037927933e16", "-1.5E+10"})
+			checkParse(s);
+		for(String s : new String[] {"", "-", "e5", "1e", "1.2.3", "1,5", "NaN", "Infinity", "0x1p3", "1d"}) {
+			byte[] b = s.getBytes(StandardCharsets.UTF_8);
+			assertTrue(s, Double.isNaN(CSVTokenizer.parseDouble(b, 0, b.length)));
+		}
+	}
+
+	@Test
+	public void tokenize() {
+		CSVTokenizer tok = new CSVTokenizer(",", null);
+		for(String line : new String[] {"1,2,3", " 1 , 2 ,,3\t", ",,", "a,bb,ccc,dddd,eeeee,ffffff,ggggggg,hhhhhhhh,i",
+			"1", "1,", ",1", "123456789,123456789012345678901234567890"}) {
+			assertArrayEquals(line, split(line, ","), tokenize(tok, line));
+		}
+		CSVTokenizer tok2 = new CSVTokenizer("\t", null);
+		assertArrayEquals(split("1\t\t 3.5", "\t"), tokenize(tok2, "1\t\t 3.5"));
+	}
+
+	@Test
+	public void tokenizeFallback() {
+		CSVTokenizer tok = new CSVTokenizer(",", null);
+		assertFalse(reset(tok, ""));
+		assertFalse(reset(tok, "   "));
+		assertFalse(reset(tok, "1,\"2,3\",4"));
+		assertFalse(reset(tok, "1,2,3,4,5,6,7,8,9,\"10\""));
+		assertTrue(reset(tok, "1,2,3,4,5,6,7,8,9,10"));
+		assertFalse(CSVTokenizer.isApplicable("\""));
+		assertFalse(CSVTokenizer.isApplicable("::"));
+		assertTrue(CSVTokenizer.isApplicable(";"));
+	}
+
+	@Test
+	public void tokenizeNAStrings() {
+		CSVTokenizer tok = new CSVTokenizer(",", new HashSet<>(Arrays.asList("NA", "-999")));
+		assertTrue(reset(tok, "NA,-999,-998,NaN,1e3"));
+		double[] ret = new double[5];
+		for(int j = 0; tok.next(); j++)
+			ret[j] = tok.getDouble();
+		assertArrayEquals(new double[] {Double.NaN, Double.NaN, -998, Double.NaN, 1000}, ret, 0);
+	}
+
+	@Test
+	public void readDenseMatrix() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(false, ",", false, 0, ""), 300, 17, 1.0, false);
+	}
+
+	@Test
+	public void readSparseMatrix() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(false, ",", false, 0, ""), 300, 170, 0.05, false);
+	}
+
+	@Test
+	public void readDenseMatrixFill() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(true, ";", true, 7, ""), 300, 17, 1.0, true);
+	}
+
+	@Test
+	public void readSparseMatrixFillZero() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(false, ",", true, 0, ""), 300, 170, 0.05, true);
+	}
+
+	@Test
+	public void readDenseMatrixNAStrings() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(false, ",", true, 3, "NA"), 300, 17, 1.0, true);
+	}
+
+	@Test
+	public void readSparseMatrixNAStrings() throws IOException {
+		readAndCompare(new FileFormatPropertiesCSV(false, ",", true, 0, "NA"), 300, 170, 0.05, true);
+	}
+
+	@Test(expected = IOException.class)
+	public void readMatrixInvalidColumns() throws IOException {
+		String fname = DIR + "invalid.csv";
+		write(fname, Arrays.asList("1,2,3", "4,5", "6,7,8"));
+		new ReaderTextCSVParallel(new FileFormatPropertiesCSV(false, ",", false))
+			.readMatrixFromHDFS(fname, 3, 3, 1000, -1);
+	}
+
+	@Test(expected = IOException.class)
+	public void readMatrixEmptyNoFill() throws IOException {
+		String fname = DIR + "empty.csv";
+		write(fname, Arrays.asList("1,2,3", "4,,6", "6,7,8"));
+		new ReaderTextCSVParallel(new FileFormatPropertiesCSV(false, ",", false, 0, ""))
+			.readMatrixFromHDFS(fname, 3, 3, 1000, -1);
+	}
+
+	@Test
+	public void readFrame() throws IOException {
+		String fname = DIR + "frame.csv";
+		write(fname, Arrays.asList("1.5,a,1", " -2e3 ,b b,2", "2.5,\"c,d\",3", "Inf,e,4"));
+		ValueType[] schema = new ValueType[] {ValueType.FP64, ValueType.STRING, ValueType.INT64};
+		FrameBlock fb = new FrameReaderTextCSV(new FileFormatPropertiesCSV(false, ",", false))
+			.readFrameFromHDFS(fname, schema, 4, 3);
+		assertEquals(1.5, (Double) fb.get(0, 0), 0);
+		assertEquals(-2000, (Double) fb.get(1, 0), 0);
+		assertEquals(2.5, (Double) fb.get(2, 0), 0);
+		assertEquals(Double.POSITIVE_INFINITY, (Double) fb.get(3, 0), 0);
+		assertEquals("a", fb.get(0, 1));
+		assertEquals("b b", fb.get(1, 1));
+		assertEquals(4L, fb.get(3, 2));
+	}
+
+	private void readAndCompare(FileFormatPropertiesCSV props, int rows, int cols, double sparsity, boolean empty)
+		throws IOException {
+		String fname = DIR + "in.csv";
+		Random rand = new Random(42);
+		String delim = props.getDelim();
+		List<String> lines = new ArrayList<>();
+		if(props.hasHeader()) {
+			String[] names = new String[cols];
+			for(int j = 0; j < cols; j++)
+				names[j] = "C" + (j + 1);
+			lines.add(String.join(delim, names));
+		}
+		for(int i = 0; i < rows; i++) {
+			StringBuilder sb = new StringBuilder();
+			for(int j = 0; j < cols; j++) {
+				if(j > 0)
+					sb.append(rand.nextBoolean() ? delim : " " + delim + " ");
+				double r = rand.nextDouble();
+				if(empty && r < 0.05)
+					sb.append(props.getNAStrings() != null && rand.nextBoolean() ? "NA" : "");
+				else if(r < sparsity)
+					sb.append(rand.nextBoolean() ? Double.toString(rand.nextGaussian() * 1e4) : //
+						Integer.toString(rand.nextInt(1000) - 500));
+				else
+					sb.append(rand.nextBoolean() ? "0" : "0.0");
+			}
+			lines.add(sb.toString());
+		}
+		write(fname, lines);
+
+		MatrixBlock expected = new ReaderTextCSV(props).readMatrixFromHDFS(fname, rows, cols, 1000, -1);
+		MatrixBlock actual = new ReaderTextCSVParallel(props).readMatrixFromHDFS(fname, rows, cols, 1000, -1);
+		assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		TestUtils.compareMatrices(expected, actual, 0, "parallel csv read mismatch");
+	}
+
+	private static void checkParse(String s) {
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		double d = CSVTokenizer.parseDouble(b, 0, b.length);
+		if(!Double.isNaN(d)) // NaN indicates fallback
+			assertEquals(s, Double.doubleToRawLongBits(Double.parseDouble(s)), Double.doubleToRawLongBits(d));
+	}
+
+	private static boolean reset(CSVTokenizer tok, String line) {
+		byte[] b = line.getBytes(StandardCharsets.UTF_8);
+		return tok.reset(b, b.length);
+	}
+
+	private static String[] tokenize(CSVTokenizer tok, String line) {
+		assertTrue(reset(tok, line));
+		List<String> ret = new ArrayList<>();
+		while(tok.next())
+			ret.add(tok.getString());
+		return ret.toArray(new String[0]);
+	}
+
+	private static String[] split(String line, String delim) {
+		String[] parts = IOUtilFunctions.split(line.trim(), delim);
+		for(int i = 0; i < parts.length; i++)
+			parts[i] = parts[i].trim();
+		return parts;
+	}
+
+	private static void write(String fname, List<String> lines) throws IOException {
+		new File(DIR).mkdirs();
+		try(FileWriter w = new FileWriter(fname)) {
+			for(String line : lines)
+				w.write(line + "\n");
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.controlprogram.LocalVariableMap;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.CPInstructionParser;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class CachePrefetchTest {
+	private boolean _stats;
+	private boolean _prefetch;
+
+	@Before
+	public void setUp() {
+		_stats = DMLScript.STATISTICS;
+		_prefetch = CacheableData.CACHING_ASYNC_PREFETCH;
+		CacheableData.initCaching("tmp_cache_prefetch_test");
+		CacheableData.CACHING_ASYNC_PREFETCH = true;
+		DMLScript.STATISTICS = true;
+		CacheStatistics.reset();
+	}
+
+	@After
+	public void tearDown() {
+		DMLScript.STATISTICS = _stats;
+		CacheableData.CACHING_ASYNC_PREFETCH = _prefetch;
+	}
+
+	@Test
+	public void testPrefetchEvicted() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixObject mo = createEvicted("A", mb);
+		assertTrue(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		assertTrue(mo.isPrefetchPending());
+		//no duplicate restores of pending prefetches
+		assertFalse(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		MatrixBlock ret = mo.acquireRead();
+		mo.release();
+		assertFalse(mo.isPrefetchPending());
+		TestUtils.compareMatrices(mb, ret, 0);
+		assertEquals(1, CacheStatistics.getPrefetches());
+		assertEquals(1, CacheStatistics.getPrefetchHits() + CacheStatistics.getPrefetchStalls());
+		assertEquals(0, CacheStatistics.getPrefetchMisses());
+	}
+
+	@Test
+	public void testPrefetchInMemory() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixObject mo = createObject("A", mb);
+		assertFalse(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		assertEquals(0, CacheStatistics.getPrefetches());
+	}
+
+	@Test
+	public void testSyncRestoreMiss() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 0.1, 7);
+		MatrixObject mo = createEvicted("A", mb);
+		TestUtils.compareMatrices(mb, mo.acquireReadAndRelease(), 0);
+		assertEquals(1, CacheStatistics.getPrefetchMisses());
+	}
+
+	@Test
+	public void testPrefetchDiscardedOnModify() throws Exception {
+		MatrixBlock mb1 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 8);
+		MatrixObject mo = createEvicted("A", mb1);
+		assertTrue(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		mo.acquireModify(mb2);
+		mo.release();
+		assertFalse(mo.isPrefetchPending());
+		evict(mo);
+		TestUtils.compareMatrices(mb2, mo.acquireReadAndRelease(), 0);
+	}
+
+	@Test
+	public void testPrefetchReservation() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixObject mo = createEvicted("A", mb);
+		long size = OptimizerUtils.estimateSize(mo.getDataCharacteristics());
+		assertEquals(0, CachePrefetcher.getReservedMemory());
+		assertTrue(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		assertEquals(size, CachePrefetcher.getReservedMemory());
+		TestUtils.compareMatrices(mb, mo.acquireReadAndRelease(), 0);
+		assertEquals(0, CachePrefetcher.getReservedMemory());
+	}
+
+	@Test
+	public void testPrefetchReservationReleasedOnModify() throws Exception {
+		MatrixBlock mb1 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 8);
+		MatrixObject mo = createEvicted("A", mb1);
+		assertTrue(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+		mo.acquireModify(mb2);
+		mo.release();
+		assertEquals(0, CachePrefetcher.getReservedMemory());
+	}
+
+	@Test
+	public void testPrefetchSkippedWithoutMemory() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixObject mo = createEvicted("A", mb);
+		long avail = CachePrefetcher.getAvailableMemory();
+		assertTrue(CachePrefetcher.reserve(avail));
+		try {
+			assertFalse(mo.prefetchEvicted(CommonThreadPool.getDynamicPool()));
+			assertFalse(mo.isPrefetchPending());
+			assertEquals(0, CacheStatistics.getPrefetches());
+		}
+		finally {
+			CachePrefetcher.release(avail);
+		}
+		//synchronous restore still succeeds
+		TestUtils.compareMatrices(mb, mo.acquireReadAndRelease(), 0);
+		assertEquals(1, CacheStatistics.getPrefetchMisses());
+	}
+
+	@Test
+	public void testLookaheadInstructions() throws Exception {
+		MatrixBlock mb1 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		MatrixBlock mb2 = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 0.1, 8);
+		ExecutionContext ec = new ExecutionContext(new LocalVariableMap());
+		MatrixObject moA = createEvicted("A", mb1);
+		MatrixObject moB = createEvicted("B", mb2);
+		ec.setVariable("A", moA);
+		ec.setVariable("B", moB);
+
+		ArrayList<Instruction> inst = new ArrayList<>();
+		inst.add(createBinary("+", "A", "A", "C"));
+		inst.add(createBinary("*", "B", "C", "D"));
+
+		//only inputs of upcoming instructions
+		assertEquals(1, CachePrefetcher.prefetchInputs(inst, 0, ec));
+		assertTrue(moB.isPrefetchPending());
+		assertFalse(moA.isPrefetchPending());
+		assertEquals(1, CachePrefetcher.prefetchInputs(inst, -1, ec));
+		assertTrue(moA.isPrefetchPending());
+		assertEquals(0, CachePrefetcher.prefetchInputs(inst, -1, ec));
+
+		TestUtils.compareMatrices(mb1, moA.acquireReadAndRelease(), 0);
+		TestUtils.compareMatrices(mb2, moB.acquireReadAndRelease(), 0);
+		assertEquals(2, CacheStatistics.getPrefetchHits() + CacheStatistics.getPrefetchStalls());
+	}
+
+	@Test
+	public void testNoPrefetchForVariableOps() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(500, 100, -1, 1, 1.0, 7);
+		ExecutionContext ec = new ExecutionContext(new LocalVariableMap());
+		MatrixObject moA = createEvicted("A", mb);
+		ec.setVariable("A", moA);
+
+		//rmvar, cpvar never read the data
+		ArrayList<Instruction> inst = new ArrayList<>();
+		inst.add(VariableCPInstruction.prepareCopyInstruction("A", "B"));
+		inst.add(VariableCPInstruction.prepareRemoveInstruction("A"));
+		assertEquals(0, CachePrefetcher.prefetchInputs(inst, -1, ec));
+		assertFalse(moA.isPrefetchPending());
+
+		//castdts reads the data
+		inst.add(CPInstructionParser.parseSingleInstruction(InstructionUtils.concatOperands("CP", "castdts",
+			InstructionUtils.createOperand(new CPOperand("A", ValueType.FP64, DataType.MATRIX)),
+			InstructionUtils.createOperand(new CPOperand("s", ValueType.FP64, DataType.SCALAR)), "1")));
+		assertEquals(1, CachePrefetcher.prefetchInputs(inst, -1, ec));
+		assertTrue(moA.isPrefetchPending());
+		TestUtils.compareMatrices(mb, moA.acquireReadAndRelease(), 0);
+	}
+
+	private static Instruction createBinary(String opcode, String in1, String in2, String out) {
+		return CPInstructionParser.parseSingleInstruction(InstructionUtils.concatOperands("CP", opcode,
+			InstructionUtils.createOperand(new CPOperand(in1, ValueType.FP64, DataType.MATRIX)),
+			InstructionUtils.createOperand(new CPOperand(in2, ValueType.FP64, DataType.MATRIX)),
+			InstructionUtils.createOperand(new CPOperand(out, ValueType.FP64, DataType.MATRIX))));
+	}
+
+	private static MatrixObject createObject(String name, MatrixBlock mb) {
+		MatrixCharacteristics mc = new MatrixCharacteristics(mb.getNumRows(), mb.getNumColumns(), -1, -1);
+		MatrixObject mo = new MatrixObject(ValueType.FP64, name, new MetaDataFormat(mc, FileFormat.BINARY));
+		mo.acquireModify(mb);
+		mo.release();
+		return mo;
+	}
+
+	private static MatrixObject createEvicted(String name, MatrixBlock mb) throws Exception {
+		MatrixObject mo = createObject(name, mb);
+		evict(mo);
+		return mo;
+	}
+
+	private static void evict(MatrixObject mo) throws Exception {
+		LazyWriteBuffer.forceEviction();
+		Method clear = CacheableData.class.getDeclaredMethod("clearCache");
+		clear.setAccessible(true);
+		clear.invoke(mo);
+	}
+}
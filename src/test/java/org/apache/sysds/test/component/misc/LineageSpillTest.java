@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.lineage.LineageCache;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig;
+import org.apache.sysds.runtime.lineage.LineageCacheEviction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class LineageSpillTest {
+	@Before
+	public void setUp() {
+		LineageCache.resetCache();
+		LineageCacheConfig.setSpillCompression(true);
+	}
+
+	@After
+	public void tearDown() {
+		LineageCache.resetCache();
+	}
+
+	@Test
+	public void testSpillPlain() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 0.3, 7);
+		runSpillRestore(mb, false, LineageCacheEviction.SPILL_PLAIN);
+	}
+
+	@Test
+	public void testSpillCLA() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5000, 50, 1, 3, 1.0, 7));
+		runSpillRestore(mb, true, LineageCacheEviction.SPILL_CLA);
+	}
+
+	@Test
+	public void testSpillDeflate() throws Exception {
+		//not compressible via CLA (distinct values), fallback to deflate
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(5000, 50, -1, 1, 1.0, 7);
+		runSpillRestore(mb, true, LineageCacheEviction.SPILL_DEFLATE);
+	}
+
+	@Test
+	public void testSpillDeflateSparse() throws Exception {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(5000, 500, -1, 1, 0.05, 7);
+		runSpillRestore(mb, true, LineageCacheEviction.SPILL_DEFLATE);
+	}
+
+	@Test
+	public void testProbeCompression() {
+		//default estimates favor plain I/O, compression is only probed
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(2000, 200, -1, 1, 1.0, 7);
+		int probes = 0;
+		for(int i = 1; i <= 2 * LineageCacheEviction.SPILL_COMPRESSION_PROBE; i++) {
+			boolean ret = LineageCacheEviction.isCompressionBeneficial(mb, 3);
+			assertEquals(i % LineageCacheEviction.SPILL_COMPRESSION_PROBE == 0, ret);
+			probes += ret ? 1 : 0;
+		}
+		assertEquals(2, probes);
+	}
+
+	@Test
+	public void testCompressionBeneficialSlowDisk() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(2000, 200, -1, 1, 1.0, 7);
+		double read = LineageCacheConfig.FSREAD_DENSE;
+		double write = LineageCacheConfig.FSWRITE_DENSE;
+		try {
+			LineageCacheConfig.FSREAD_DENSE = 10;
+			LineageCacheConfig.FSWRITE_DENSE = 10;
+			for(int i = 0; i < LineageCacheEviction.SPILL_COMPRESSION_PROBE; i++)
+				assertTrue(LineageCacheEviction.isCompressionBeneficial(mb, 3));
+		}
+		finally {
+			LineageCacheConfig.FSREAD_DENSE = read;
+			LineageCacheConfig.FSWRITE_DENSE = write;
+		}
+	}
+
+	@Test
+	public void testNoCompressionCandidate() {
+		MatrixBlock mb = TestUtils.generateTestMatrixBlock(2000, 200, -1, 1, 1.0, 7);
+		//below minimum spill size
+		for(int i = 0; i < 2 * LineageCacheEviction.SPILL_COMPRESSION_PROBE; i++)
+			assertFalse(LineageCacheEviction.isCompressionBeneficial(mb, 1));
+		//disabled spill compression
+		LineageCacheConfig.setSpillCompression(false);
+		for(int i = 0; i < 2 * LineageCacheEviction.SPILL_COMPRESSION_PROBE; i++)
+			assertFalse(LineageCacheEviction.isCompressionBeneficial(mb, 3));
+	}
+
+	@Test
+	public void testBoundedAsyncSpills() throws Exception {
+		MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(5000, 50, 1, 3, 1.0, 7));
+		int n = LineageCacheConfig.MAX_PENDING_SPILLS + 2;
+		File[] files = new File[n];
+		try {
+			//submit more spills than permitted, rejected spills are written plain
+			for(int i = 0; i < n; i++) {
+				files[i] = File.createTempFile("lineage_spill", ".dat");
+				if(!LineageCacheEviction.spillAsync(files[i].getPath(), mb))
+					LineageCacheEviction.writeSpillFile(files[i].getPath(), mb, false);
+			}
+			for(int i = 0; i < n; i++)
+				TestUtils.compareMatricesBitAvgDistance(mb,
+					LineageCacheEviction.readSpillFile(files[i].getPath()), 0, 0);
+			//all permits released after the pending writes completed
+			for(int i = 0; i < LineageCacheConfig.MAX_PENDING_SPILLS; i++)
+				assertTrue(LineageCacheEviction.spillAsync(files[i].getPath(), mb));
+			for(int i = 0; i < LineageCacheConfig.MAX_PENDING_SPILLS; i++)
+				TestUtils.compareMatricesBitAvgDistance(mb,
+					LineageCacheEviction.readSpillFile(files[i].getPath()), 0, 0);
+		}
+		finally {
+			for(File f : files)
+				if(f != null)
+					f.delete();
+		}
+	}
+
+	private static void runSpillRestore(MatrixBlock mb, boolean compress, byte format) throws Exception {
+		File f = File.createTempFile("lineage_spill", ".dat");
+		try {
+			assertEquals(format, LineageCacheEviction.writeSpillFile(f.getPath(), mb, compress));
+			MatrixBlock ret = LineageCacheEviction.readSpillFile(f.getPath());
+			assertFalse(ret instanceof CompressedMatrixBlock);
+			assertEquals(mb.getNonZeros(), ret.getNonZeros());
+			TestUtils.compareMatricesBitAvgDistance(mb, ret, 0, 0);
+		}
+		finally {
+			f.delete();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.ByteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+@net.jcip.annotations.NotThreadSafe
+public class OffHeapCacheTest {
+	private final CacheBlock<?> _cb;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ArrayList<Object[]> tests = new ArrayList<>();
+		tests.add(new Object[] {TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 1.0, 7)});
+		tests.add(new Object[] {TestUtils.generateTestMatrixBlock(1, 1000, -1, 1, 0.7, 7)});
+		tests.add(new Object[] {TestUtils.generateTestMatrixBlock(1000, 100, -1, 1, 0.01, 7)});
+		tests.add(new Object[] {new MatrixBlock(100, 100, true)});
+		tests.add(new Object[] {TestUtils.generateRandomFrameBlock(100,
+			new ValueType[] {ValueType.FP64, ValueType.STRING, ValueType.INT64, ValueType.BOOLEAN}, 7)});
+		return tests;
+	}
+
+	public OffHeapCacheTest(CacheBlock<?> cb) {
+		_cb = cb;
+	}
+
+	@Test
+	public void testMappedLocalFile() throws Exception {
+		File f = File.createTempFile("offheap", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(f.getPath(), _cb, true);
+			if(LocalFileUtils.isMappedFormat(_cb))
+				assertEquals(LocalFileUtils.getMappedSize((MatrixBlock) _cb), f.length());
+			compare(_cb, LocalFileUtils.readCacheBlockFromLocal(f.getPath(), isMatrix(), true));
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testOffHeapBuffer() throws Exception {
+		boolean flag = CacheableData.CACHING_BUFFER_OFFHEAP;
+		File f = File.createTempFile("offheap", ".dat");
+		try {
+			CacheableData.CACHING_BUFFER_OFFHEAP = true;
+			long size = ByteBuffer.getOffHeapSize(_cb);
+			assertTrue(ByteBuffer.isValidCapacity(size, _cb));
+			ByteBuffer bb = new ByteBuffer(size);
+			bb.serializeBlock(_cb);
+			assertTrue(!bb.isShallow());
+			//restore from off-heap buffer (repeatedly)
+			compare(_cb, bb.deserializeBlock());
+			compare(_cb, bb.deserializeBlock());
+			//evict to and restore from local file
+			bb.evictBuffer(f.getPath());
+			bb.freeMemory();
+			assertEquals(size, f.length());
+			//direct memory is released explicitly
+			try {
+				bb.deserializeBlock();
+				fail("Expected exception on access of a released off-heap buffer");
+			}
+			catch(IOException ex) {
+				//expected
+			}
+			compare(_cb, LocalFileUtils.readCacheBlockFromLocal(f.getPath(), isMatrix(), true));
+		}
+		finally {
+			CacheableData.CACHING_BUFFER_OFFHEAP = flag;
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testWritableLocalFileNoProbe() throws Exception {
+		File f = File.createTempFile("offheap", ".dat");
+		try {
+			LocalFileUtils.writeCacheBlockToLocal(f.getPath(), _cb, false);
+			compare(_cb, LocalFileUtils.readCacheBlockFromLocal(f.getPath(), isMatrix()));
+			compare(_cb, LocalFileUtils.readCacheBlockFromLocal(f.getPath(), isMatrix(), true));
+		}
+		finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void testFreeDirectBuffer() {
+		java.nio.ByteBuffer direct = java.nio.ByteBuffer.allocateDirect(1024);
+		//views and heap buffers are ignored, release of the buffer itself
+		LocalFileUtils.freeDirectBuffer(direct.duplicate());
+		LocalFileUtils.freeDirectBuffer(java.nio.ByteBuffer.allocate(16));
+		LocalFileUtils.freeDirectBuffer(direct);
+		LocalFileUtils.freeDirectBuffer(null);
+	}
+
+	private boolean isMatrix() {
+		return _cb instanceof MatrixBlock;
+	}
+
+	private static void compare(CacheBlock<?> expected, CacheBlock<?> actual) {
+		if(expected instanceof MatrixBlock) {
+			MatrixBlock mb = (MatrixBlock) actual;
+			assertEquals(((MatrixBlock) expected).getNonZeros(), mb.getNonZeros());
+			TestUtils.compareMatrices((MatrixBlock) expected, mb, 0);
+		}
+		else
+			TestUtils.compareFrames((FrameBlock) expected, (FrameBlock) actual, true);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.parfor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueStealing;
+import org.apache.sysds.runtime.controlprogram.parfor.Task;
+import org.apache.sysds.runtime.controlprogram.parfor.Task.TaskType;
+import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitioner;
+import org.apache.sysds.runtime.controlprogram.parfor.TaskPartitionerStealing;
+import org.apache.sysds.runtime.instructions.cp.IntObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class LocalTaskQueueStealingTest {
+	private final int _numWorkers;
+	private final long _from;
+	private final long _to;
+	private final long _incr;
+	private final boolean _skewed;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {
+			{1, 1, 100, 1, false}, {4, 1, 1000, 1, false}, {4, 1, 1000, 1, true},
+			{8, 3, 2000, 7, true}, {8, 500, 1, -3, false}, {16, 1, 10, 1, true},
+			{4, 1, 0, 1, false}, {32, 1, 50000, 1, false}});
+	}
+
+	public LocalTaskQueueStealingTest(int numWorkers, long from, long to, long incr, boolean skewed) {
+		_numWorkers = numWorkers;
+		_from = from;
+		_to = to;
+		_incr = incr;
+		_skewed = skewed;
+	}
+
+	@Test
+	public void testExactlyOnceExecution() throws Exception {
+		final LocalTaskQueueStealing queue = new LocalTaskQueueStealing(_numWorkers);
+		final TaskPartitioner tp = new TaskPartitionerStealing(1, _numWorkers, "i",
+			new IntObject(_from), new IntObject(_to), new IntObject(_incr));
+		final long lo = Math.min(_from, _to);
+		final int n = (int) Math.max(tp.getNumIterations(), 0);
+		final AtomicIntegerArray executed = new AtomicIntegerArray((int) Math.abs(_to - _from) + 1);
+		ExecutorService pool = Executors.newFixedThreadPool(_numWorkers);
+		try {
+			//start workers before task creation (as in local parfor)
+			List<Future<long[]>> workers = new ArrayList<>();
+			for(int i = 0; i < _numWorkers; i++)
+				workers.add(pool.submit(() -> {
+					long numTasks = 0, numIters = 0;
+					Task t = null;
+					while((t = queue.dequeueTask()) != LocalTaskQueue.NO_MORE_TASKS) {
+						numTasks++;
+						for(long v : getIterations(t)) {
+							executed.incrementAndGet((int) (v - lo));
+							numIters++;
+							//skewed iteration costs, expensive in the first part
+							if(_skewed && v - lo < n / 8)
+								Thread.sleep(1);
+						}
+					}
+					return new long[] {numTasks, numIters};
+				}));
+			tp.createTasks(queue);
+
+			long numTasks = 0, numIters = 0;
+			for(Future<long[]> f : workers) {
+				numTasks += f.get()[0];
+				numIters += f.get()[1];
+			}
+			assertEquals(n, numIters);
+			assertEquals(queue.getNumCreatedTasks(), numTasks);
+			for(long v = lo; v <= Math.max(_from, _to); v++) {
+				boolean expected = n > 0 && (v - _from) % Math.abs(_incr) == 0;
+				assertEquals("Iteration " + v, expected ? 1 : 0, executed.get((int) (v - lo)));
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static long[] getIterations(Task t) {
+		List<IntObject> it = t.getIterations();
+		if(t.getType() == TaskType.SET)
+			return it.stream().mapToLong(IntObject::getLongValue).toArray();
+		long from = it.get(0).getLongValue();
+		long to = it.get(1).getLongValue();
+		long incr = it.get(2).getLongValue();
+		long[] ret = new long[(int) ((to - from) / incr + 1)];
+		for(int i = 0; i < ret.length; i++)
+			ret[i] = from + i * incr;
+		return ret;
+	}
+}
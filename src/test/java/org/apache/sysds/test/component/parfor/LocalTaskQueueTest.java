@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.test.component.parfor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueue;
+import org.apache.sysds.runtime.controlprogram.parfor.LocalTaskQueueLockFree;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(value = Parameterized.class)
+public class LocalTaskQueueTest {
+	private final boolean _lockFree;
+	private final int _numReaders;
+	private final int _numWriters;
+	private final int _numTasks;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] {
+			{false, 1, 1, 1000}, {false, 8, 1, 20000}, {false, 8, 4, 20000},
+			{true, 1, 1, 1000}, {true, 8, 1, 20000}, {true, 8, 4, 20000}, {true, 32, 2, 50000},
+			{true, 4, 1, 3 * LocalTaskQueue.MAX_SIZE}});
+	}
+
+	public LocalTaskQueueTest(boolean lockFree, int numReaders, int numWriters, int numTasks) {
+		_lockFree = lockFree;
+		_numReaders = numReaders;
+		_numWriters = numWriters;
+		_numTasks = numTasks;
+	}
+
+	@Test
+	public void testExactlyOnceConsumption() throws Exception {
+		final LocalTaskQueue<Integer> queue = _lockFree ? new LocalTaskQueueLockFree<>() : new LocalTaskQueue<>();
+		final AtomicIntegerArray consumed = new AtomicIntegerArray(_numTasks);
+		ExecutorService pool = Executors.newFixedThreadPool(_numReaders + _numWriters);
+		try {
+			List<Future<Integer>> readers = new ArrayList<>();
+			for(int i = 0; i < _numReaders; i++)
+				readers.add(pool.submit(() -> {
+					int count = 0;
+					Integer t = null;
+					while((t = queue.dequeueTask()) != LocalTaskQueue.NO_MORE_TASKS) {
+						consumed.incrementAndGet(t);
+						count++;
+					}
+					return count;
+				}));
+			List<Future<?>> writers = new ArrayList<>();
+			for(int i = 0; i < _numWriters; i++) {
+				final int pos = i;
+				writers.add(pool.submit(() -> {
+					for(int j = pos; j < _numTasks; j += _numWriters)
+						queue.enqueueTask(j);
+					return null;
+				}));
+			}
+			for(Future<?> f : writers)
+				f.get();
+			queue.closeInput();
+
+			int total = 0;
+			for(Future<Integer> f : readers)
+				total += f.get();
+			assertEquals(_numTasks, total);
+			for(int i = 0; i < _numTasks; i++)
+				assertEquals("Task " + i + " not consumed exactly once.", 1, consumed.get(i));
+			assertNull(queue.dequeueTask());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+	}
+}
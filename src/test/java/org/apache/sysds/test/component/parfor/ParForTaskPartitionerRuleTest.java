@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.parfor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.runtime.controlprogram.parfor.opt.OptNode;
+import org.apache.sysds.runtime.controlprogram.parfor.opt.OptNode.ExecType;
+import org.apache.sysds.runtime.controlprogram.parfor.opt.OptNode.NodeType;
+import org.apache.sysds.runtime.controlprogram.parfor.opt.OptimizerRuleBased;
+import org.junit.Test;
+
+public class ParForTaskPartitionerRuleTest {
+	private static final int K = 8;
+	private static final long N = 1000;
+
+	@Test
+	public void testSimpleBody() {
+		OptNode pn = createParFor(ExecType.CP, createGeneric(node(NodeType.HOP)));
+		assertFalse(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testBranchesOfSimpleStatements() {
+		OptNode pn = createParFor(ExecType.CP,
+			createChild(NodeType.IF, createGeneric(node(NodeType.HOP)), createGeneric(node(NodeType.HOP))));
+		assertFalse(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testNestedForLoop() {
+		OptNode pn = createParFor(ExecType.CP, createGeneric(node(NodeType.HOP)),
+			createChild(NodeType.FOR, createGeneric(node(NodeType.HOP))));
+		assertTrue(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testWhileLoopInBranch() {
+		OptNode pn = createParFor(ExecType.CP,
+			createChild(NodeType.IF, createChild(NodeType.WHILE, createGeneric(node(NodeType.HOP)))));
+		assertTrue(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testFunctionCall() {
+		OptNode pn = createParFor(ExecType.CP, createGeneric(node(NodeType.FUNCCALL)));
+		assertTrue(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testRemoteParFor() {
+		OptNode pn = createParFor(ExecType.SPARK, createGeneric(node(NodeType.FUNCCALL)));
+		assertFalse(OptimizerRuleBased.isWorkStealingCandidate(pn, N));
+	}
+
+	@Test
+	public void testFewIterations() {
+		OptNode pn = createParFor(ExecType.CP, createGeneric(node(NodeType.FUNCCALL)));
+		assertFalse(OptimizerRuleBased.isWorkStealingCandidate(pn, 4 * K - 1));
+		assertTrue(OptimizerRuleBased.isWorkStealingCandidate(pn, 4 * K));
+	}
+
+	private static OptNode createParFor(ExecType et, OptNode... childs) {
+		OptNode pn = new OptNode(NodeType.PARFOR, et);
+		pn.setK(K);
+		for(OptNode c : childs)
+			pn.addChild(c);
+		return pn;
+	}
+
+	private static OptNode createGeneric(OptNode... childs) {
+		return createChild(NodeType.GENERIC, childs);
+	}
+
+	private static OptNode createChild(NodeType type, OptNode... childs) {
+		OptNode n = node(type);
+		for(OptNode c : childs)
+			n.addChild(c);
+		return n;
+	}
+
+	private static OptNode node(NodeType type) {
+		return new OptNode(type, ExecType.CP);
+	}
+}
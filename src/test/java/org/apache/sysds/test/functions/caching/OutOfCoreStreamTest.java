@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.caching;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OutOfCoreStreamTest extends AutomatedTestBase {
+
+	protected static final String TEST_DIR = "functions/caching/";
+	protected static final String TEST_NAME = "OutOfCoreStream";
+	protected static final String TEST_CLASS_DIR = TEST_DIR + OutOfCoreStreamTest.class.getSimpleName() + "/";
+	protected static final String TEST_CONF = "SystemDS-config-ooc.xml";
+
+	private static final int rows = 1500;
+	private static final int cols = 200;
+	private static final int blen = 500;
+	private static final long bufferPool = 1024 * 1024; //< 2.4MB input
+
+	private static final String[] OUTPUTS = {"R1", "R2", "R3", "R4", "R5"};
+
+	private boolean _ooc = false;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, OUTPUTS));
+	}
+
+	@Test
+	public void testStreamedOpsDense() {
+		runOutOfCoreTest(1.0);
+	}
+
+	@Test
+	public void testStreamedOpsSparse() {
+		runOutOfCoreTest(0.05);
+	}
+
+	private void runOutOfCoreTest(double sparsity) {
+		ExecMode platformOld = setExecMode(ExecMode.SINGLE_NODE);
+		long bufferPoolOld = OptimizerUtils.BUFFER_POOL_SIZE;
+		try {
+			//in-memory baseline (input fits into buffer pool)
+			HashMap<CellIndex, Double>[] expected = runTest(sparsity, false);
+			Assert.assertEquals(0, CacheStatistics.getOOCOps());
+
+			//out-of-core streaming (input exceeds buffer pool)
+			OptimizerUtils.BUFFER_POOL_SIZE = bufferPool;
+			HashMap<CellIndex, Double>[] actual = runTest(sparsity, true);
+			//exp, *, +, rowSums, colMaxs, sum
+			Assert.assertEquals(6, CacheStatistics.getOOCOps());
+
+			for( int i = 0; i < expected.length; i++ )
+				TestUtils.compareMatrices(expected[i], actual[i], 1e-10, "in-memory", "out-of-core");
+		}
+		catch(IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			OptimizerUtils.BUFFER_POOL_SIZE = bufferPoolOld;
+			resetExecMode(platformOld);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private HashMap<CellIndex, Double>[] runTest(double sparsity, boolean ooc) throws IOException {
+		_ooc = ooc; //config file written on load
+		getAndLoadTestConfiguration(TEST_NAME);
+		fullDMLScriptName = getScript();
+		double[][] X = getRandomMatrix(rows, cols, -1, 1, sparsity, 7);
+		double[][] v = getRandomMatrix(rows, 1, -1, 1, 1.0, 3);
+		writeInputBinaryMatrixWithMTD("X", X, blen, blen, false,
+			new MatrixCharacteristics(rows, cols, blen, -1));
+		writeInputMatrixWithMTD("v", v, false);
+		programArgs = new String[] {"-stats", "-args", input("X"), input("v"),
+			output("R1"), output("R2"), output("R3"), output("R4"), output("R5"), output("s")};
+		runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+
+		HashMap<CellIndex, Double>[] ret = new HashMap[OUTPUTS.length + 1];
+		for( int i = 0; i < OUTPUTS.length; i++ )
+			ret[i] = readDMLMatrixFromOutputDir(OUTPUTS[i]);
+		ret[OUTPUTS.length] = readDMLScalarFromOutputDir("s");
+		return ret;
+	}
+
+	@Override
+	protected File getConfigTemplateFile() {
+		return !_ooc ? super.getConfigTemplateFile() :
+			new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.dnn;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.Test;
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class Conv2DBiasReLUTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME = "Conv2DBiasReLUTest";
+	private final static String TEST_DIR = "functions/tensor/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + Conv2DBiasReLUTest.class.getSimpleName() + "/";
+	private final static double epsilon=0.0000000001;
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"B"}));
+	}
+	
+	@Test
+	public void testConv2DBiasReLUDense() {
+		runConv2DBiasReLUTest(10, 5, 3, 4, 3, 1, 1, 1.0);
+	}
+	
+	@Test
+	public void testConv2DBiasReLUDenseStrided() {
+		runConv2DBiasReLUTest(12, 3, 2, 6, 2, 2, 0, 1.0);
+	}
+	
+	@Test
+	public void testConv2DBiasReLUPointwise() {
+		runConv2DBiasReLUTest(8, 4, 6, 5, 1, 1, 0, 1.0);
+	}
+	
+	@Test
+	public void testConv2DBiasReLUSparse() {
+		runConv2DBiasReLUTest(10, 5, 3, 4, 3, 1, 1, 0.1);
+	}
+	
+	@Test
+	public void testConv2DBiasReLUEmpty() {
+		runConv2DBiasReLUTest(10, 5, 3, 4, 3, 1, 1, 0.0);
+	}
+	
+	public void runConv2DBiasReLUTest(int imgSize, int numImg, int numChannels, int numFilters,
+		int filterSize, int stride, int pad, double sparsity)
+	{
+		ExecMode oldRTP = setExecMode(ExecMode.SINGLE_NODE);
+		try
+		{
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			String RI_HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = RI_HOME + TEST_NAME + ".dml";
+			programArgs = new String[]{"-stats", "-args", String.valueOf(imgSize), String.valueOf(numImg),
+				String.valueOf(numChannels), String.valueOf(numFilters), String.valueOf(filterSize),
+				String.valueOf(stride), String.valueOf(pad), String.valueOf(sparsity), output("B")};
+			
+			//fused conv2d, bias_add and relu
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> fused = readDMLMatrixFromOutputDir("B");
+			assertTrue(heavyHittersContainsString("conv2d_bias_add_relu"));
+			
+			//unfused reference
+			OptimizerUtils.ALLOW_OPERATOR_FUSION = false;
+			runTest(true, false, null, -1);
+			HashMap<CellIndex, Double> ref = readDMLMatrixFromOutputDir("B");
+			assertFalse(heavyHittersContainsString("conv2d_bias_add_relu"));
+			
+			TestUtils.compareMatrices(ref, fused, epsilon, "B-ref", "B-fused");
+		}
+		finally {
+			resetExecMode(oldRTP);
+			OptimizerUtils.ALLOW_OPERATOR_FUSION = true;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.io.parquet;
+
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.frame.data.FrameBlock;
+import org.apache.sysds.runtime.io.FrameWriterParquet;
+import org.apache.sysds.runtime.io.WriterParquet;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+public class ReadParquetTest extends AutomatedTestBase {
+	private final static String TEST_NAME = "ReadParquetTest";
+	private final static String TEST_DIR = "functions/io/parquet/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + ReadParquetTest.class.getSimpleName() + "/";
+
+	private final static int rows = 1234;
+	private final static int cols = 13;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"Y"}));
+	}
+
+	@Test
+	public void testReadMatrixDense() {
+		runReadParquetTest(false, 0.9);
+	}
+
+	@Test
+	public void testReadMatrixSparse() {
+		runReadParquetTest(false, 0.05);
+	}
+
+	@Test
+	public void testReadFrame() {
+		runReadParquetTest(true, 1.0);
+	}
+
+	private void runReadParquetTest(boolean frame, double sparsity) {
+		try {
+			loadTestConfiguration(getTestConfiguration(TEST_NAME));
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME + "_" + (frame ? 2 : 1) + ".dml";
+			programArgs = new String[] {"-args", input("X"), output("Y")};
+
+			//write parquet input without metadata file
+			MatrixBlock mb = TestUtils.round(TestUtils.generateTestMatrixBlock(rows, cols, -10, 10, sparsity, 7));
+			if(frame) {
+				FrameBlock fb = DataConverter.convertToFrameBlock(mb, ValueType.FP64);
+				fb.setColumnNames(FrameBlock.createColNames(cols));
+				new FrameWriterParquet(null).writeFrameToHDFS(fb, input("X"), rows, cols);
+			}
+			else
+				new WriterParquet(null).writeMatrixToHDFS(mb, input("X"), rows, cols, -1, mb.getNonZeros());
+			assertFalse(new File(input("X.mtd")).exists());
+
+			runTest(true, false, null, -1);
+			TestUtils.compareMatrices(readDMLMatrixFromOutputDir("Y"), mb, 0);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}